@@ -0,0 +1,31 @@
+package com.team11.hrbank.module.common.pagination;
+
+import java.util.Locale;
+
+/**
+ * 커서 페이지 totalElements 계산 방식
+ * - EXACT    : 필터 조건 COUNT(*) (필터별로 짧은 시간 캐시)
+ * - ESTIMATED: 캐시된 count 또는 planner 통계(pg_class.reltuples)
+ * - NONE     : count 생략 (totalElements = null)
+ */
+public enum CountMode {
+  EXACT, ESTIMATED, NONE;
+
+  /**
+   * 요청 파라미터 변환 (미지정 시 EXACT)
+   */
+  public static CountMode from(String value) {
+    if (value == null || value.isBlank()) {
+      return EXACT;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("countMode는 exact, estimated, none 중 하나여야 합니다: " + value);
+    }
+  }
+
+  public String value() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
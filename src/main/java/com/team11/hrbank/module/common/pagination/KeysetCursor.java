@@ -0,0 +1,78 @@
+package com.team11.hrbank.module.common.pagination;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * keyset 페이지네이션 위치 (이전 페이지 마지막 요소의 정렬 키 + ID)
+ * @param sortField 커서를 발급한 정렬 필드 (다른 정렬로 재사용 방지)
+ * @param ascending 커서를 발급한 정렬 방향
+ * @param value     마지막 요소의 정렬 키 (문자열 표현, null 허용)
+ * @param tieValue  마지막 요소의 보조 정렬 키 (정렬 키가 2개인 경우만, 없으면 null)
+ * @param id        마지막 요소의 ID (동일 정렬 키 구분용)
+ */
+public record KeysetCursor(
+    String sortField,
+    boolean ascending,
+    String value,
+    String tieValue,
+    long id
+) {
+
+  /**
+   * 정렬 키를 타입에 맞게 변환
+   */
+  public <V> V value(Class<V> type) {
+    return parse(value, type);
+  }
+
+  /**
+   * 보조 정렬 키를 타입에 맞게 변환
+   */
+  public <V> V tieValue(Class<V> type) {
+    return parse(tieValue, type);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <V> V parse(String value, Class<V> type) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      if (type == String.class) {
+        return (V) value;
+      }
+      if (type == Instant.class) {
+        return (V) Instant.parse(value);
+      }
+      if (type == LocalDate.class) {
+        return (V) LocalDate.parse(value);
+      }
+      if (type == Long.class) {
+        return (V) Long.valueOf(value);
+      }
+      if (type == Integer.class) {
+        return (V) Integer.valueOf(value);
+      }
+      if (type.isEnum()) {
+        return (V) Enum.valueOf((Class<? extends Enum>) type, value);
+      }
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+    throw new IllegalArgumentException("지원하지 않는 정렬 키 타입: " + type.getSimpleName());
+  }
+
+  /**
+   * 정렬 키를 커서용 문자열로 변환
+   */
+  public static String format(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Enum<?> enumValue) {
+      return enumValue.name();
+    }
+    return value.toString();
+  }
+}
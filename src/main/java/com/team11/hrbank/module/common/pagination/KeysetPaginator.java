@@ -0,0 +1,202 @@
+package com.team11.hrbank.module.common.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지네이션 공통 처리
+ * - 커서: base64url(JSON{sortField, ascending, value, tieValue, id}) + "." + base64url(HMAC-SHA256 앞 16바이트)
+ * - 서명으로 클라이언트가 커서를 조작하거나 다른 정렬 조건에 재사용하는 것을 막음
+ * - 커서에 정렬 키가 들어 있으므로 이전 페이지 마지막 요소를 다시 조회할 필요 없음
+ *   (cursor 없이 idAfter 만 전달한 기존 클라이언트는 해당 요소를 한 번 조회해 위치를 계산)
+ * - 서명 키 미설정 시 개발 프로필(dev, local, test)에서만 임시 키로 시작, 그 외에는 시작 실패
+ */
+@Slf4j
+@Component
+public class KeysetPaginator {
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  private static final int SIGNATURE_BYTES = 16;
+  private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("dev", "local", "test");
+
+  private final ObjectMapper objectMapper;
+  private final SecretKeySpec signingKey;
+
+  public KeysetPaginator(ObjectMapper objectMapper,
+      @Value("${pagination.cursor.secret:}") String secret,
+      Environment environment) {
+    this.objectMapper = objectMapper;
+    byte[] keyBytes;
+    if (secret == null || secret.isBlank()) {
+      // 인스턴스마다 키가 달라지면 다른 인스턴스/재시작 후 커서가 모두 400 이 됨
+      if (!environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+        throw new IllegalStateException(
+            "pagination.cursor.secret(PAGINATION_CURSOR_SECRET)을 설정해야 합니다.");
+      }
+      keyBytes = new byte[32];
+      new SecureRandom().nextBytes(keyBytes);
+      log.warn("pagination.cursor.secret 미설정 - 임시 키 사용 (재시작 시 기존 커서 무효)");
+    } else {
+      keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+    }
+    this.signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+  }
+
+  /**
+   * 요청 커서 해석
+   * @param cursor    이전 응답의 nextCursor (없으면 첫 페이지)
+   * @param idAfter   이전 응답의 nextIdAfter (cursor 와 함께 전달된 경우 일치 여부만 확인,
+   *                  단독으로 전달된 경우 해당 요소를 조회해 위치 계산)
+   * @param sortField 현재 요청의 정렬 필드
+   * @param ascending 현재 요청의 정렬 방향
+   * @param findById  idAfter 단독 요청 시 요소 조회
+   * @param sortValue 요소의 정렬 키 추출
+   * @param tieValue  요소의 보조 정렬 키 추출 (없으면 null 반환)
+   * @return 커서 위치, 첫 페이지면 null
+   */
+  public <T> KeysetCursor decode(String cursor, Long idAfter, String sortField, boolean ascending,
+      Function<Long, Optional<T>> findById, Function<T, ?> sortValue, Function<T, ?> tieValue) {
+    if (cursor == null || cursor.isEmpty()) {
+      if (idAfter == null) {
+        return null;
+      }
+      T row = findById.apply(idAfter)
+          .orElseThrow(() -> new IllegalArgumentException("idAfter에 해당하는 요소가 없습니다."));
+      return new KeysetCursor(sortField, ascending, KeysetCursor.format(sortValue.apply(row)),
+          KeysetCursor.format(tieValue.apply(row)), idAfter);
+    }
+
+    int separator = cursor.indexOf('.');
+    if (separator <= 0) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+    }
+
+    KeysetCursor keysetCursor;
+    try {
+      byte[] payload = Base64.getUrlDecoder().decode(cursor.substring(0, separator));
+      byte[] signature = Base64.getUrlDecoder().decode(cursor.substring(separator + 1));
+      if (!MessageDigest.isEqual(sign(payload), signature)) {
+        throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+      }
+      keysetCursor = objectMapper.readValue(payload, KeysetCursor.class);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+    }
+
+    if (!keysetCursor.sortField().equals(sortField) || keysetCursor.ascending() != ascending) {
+      throw new IllegalArgumentException("정렬 조건이 커서와 일치하지 않습니다.");
+    }
+    if (idAfter != null && idAfter != keysetCursor.id()) {
+      throw new IllegalArgumentException("idAfter가 커서와 일치하지 않습니다.");
+    }
+    return keysetCursor;
+  }
+
+  public String encode(String sortField, boolean ascending, Object sortValue, long id) {
+    return encode(sortField, ascending, sortValue, null, id);
+  }
+
+  public String encode(String sortField, boolean ascending, Object sortValue, Object tieValue,
+      long id) {
+    KeysetCursor keysetCursor = new KeysetCursor(sortField, ascending,
+        KeysetCursor.format(sortValue), KeysetCursor.format(tieValue), id);
+    try {
+      byte[] payload = objectMapper.writeValueAsBytes(keysetCursor);
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(payload)
+          + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("커서 생성 실패", e);
+    }
+  }
+
+  /**
+   * size + 1 건으로 조회한 결과를 커서 페이지 응답으로 변환
+   * @param rows          size + 1 건까지 조회한 결과
+   * @param size          페이지 크기
+   * @param sortField     정렬 필드
+   * @param ascending     정렬 방향
+   * @param sortValue     요소의 정렬 키 추출
+   * @param idOf          요소의 ID 추출
+   * @param mapper        DTO 변환
+   * @param total         총 요소 수 (PageCountService)
+   */
+  public <T, D> CursorPageResponse<D> toResponse(
+      List<T> rows,
+      int size,
+      String sortField,
+      boolean ascending,
+      Function<T, ?> sortValue,
+      Function<T, Long> idOf,
+      Function<List<T>, List<D>> mapper,
+      PageTotal total) {
+    return toResponse(rows, size, sortField, ascending, sortValue, row -> null, idOf, mapper,
+        total);
+  }
+
+  /**
+   * 정렬 키가 2개인 경우 (정렬 키, 보조 정렬 키, ID)
+   * @param tieValue 요소의 보조 정렬 키 추출
+   */
+  public <T, D> CursorPageResponse<D> toResponse(
+      List<T> rows,
+      int size,
+      String sortField,
+      boolean ascending,
+      Function<T, ?> sortValue,
+      Function<T, ?> tieValue,
+      Function<T, Long> idOf,
+      Function<List<T>, List<D>> mapper,
+      PageTotal total) {
+
+    boolean hasNext = rows.size() > size;
+    List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+    if (content.isEmpty()) {
+      return CursorPageResponse.of(List.of(), null, null, size, total, false);
+    }
+
+    T last = content.get(content.size() - 1);
+    Long lastId = idOf.apply(last);
+    String nextCursor = hasNext
+        ? encode(sortField, ascending, sortValue.apply(last), tieValue.apply(last), lastId)
+        : null;
+
+    return CursorPageResponse.of(
+        mapper.apply(content),
+        nextCursor,
+        lastId,
+        size,
+        total,
+        hasNext
+    );
+  }
+
+  private byte[] sign(byte[] payload) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_BYTES);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("커서 서명 실패", e);
+    }
+  }
+}
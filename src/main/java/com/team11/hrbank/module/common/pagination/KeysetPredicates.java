@@ -0,0 +1,137 @@
+package com.team11.hrbank.module.common.pagination;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * keyset 조건 생성
+ * 정렬 (a, id) 기준 커서 (x, y) 다음 요소:
+ *   오름차순 - (a > x) OR (a = x AND id > y)
+ *   내림차순 - (a < x) OR (a = x AND id < y)
+ * 정렬 (a, b, id) 는 같은 방식으로 (a > x) OR (a = x AND ((b, id) 다음 요소))
+ * null 정렬 키는 PostgreSQL 기본 규칙(ASC NULLS LAST, DESC NULLS FIRST)을 따름
+ */
+public final class KeysetPredicates {
+
+  private KeysetPredicates() {
+  }
+
+  /**
+   * QueryDSL 조건 (정렬 키 not null)
+   */
+  public static <V extends Comparable<?>> BooleanExpression after(
+      ComparableExpression<V> sortPath, NumberPath<Long> idPath,
+      V value, long id, boolean ascending) {
+    if (ascending) {
+      return sortPath.gt(value).or(sortPath.eq(value).and(idPath.gt(id)));
+    }
+    return sortPath.lt(value).or(sortPath.eq(value).and(idPath.lt(id)));
+  }
+
+  /**
+   * QueryDSL 정렬 (정렬 키 + ID)
+   */
+  public static <V extends Comparable<?>> OrderSpecifier<?>[] orderBy(
+      ComparableExpression<V> sortPath, NumberPath<Long> idPath, boolean ascending) {
+    Order order = ascending ? Order.ASC : Order.DESC;
+    return new OrderSpecifier<?>[]{
+        new OrderSpecifier<>(order, sortPath),
+        new OrderSpecifier<>(order, idPath)
+    };
+  }
+
+  /**
+   * JPA Criteria 조건
+   * @param nullable 정렬 키가 null 일 수 있는 경우 true
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Predicate after(CriteriaBuilder cb, Expression<? extends Comparable> sortPath,
+      Expression<Long> idPath, Comparable value, long id, boolean ascending, boolean nullable) {
+    Expression<Comparable> path = (Expression<Comparable>) sortPath;
+    Predicate idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+
+    if (value == null) {
+      // 커서가 null 구간에 있는 경우
+      Predicate sameNullGroup = cb.and(cb.isNull(path), idAfter);
+      // 내림차순은 null 이 앞에 오므로 null 이 아닌 값 전체가 다음 구간
+      return ascending ? sameNullGroup : cb.or(sameNullGroup, cb.isNotNull(path));
+    }
+
+    Predicate beyond = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    Predicate tie = cb.and(cb.equal(path, value), idAfter);
+    Predicate next = cb.or(beyond, tie);
+    // 오름차순은 null 이 뒤에 오므로 null 구간 전체가 다음 구간
+    return nullable && ascending ? cb.or(next, cb.isNull(path)) : next;
+  }
+
+  /**
+   * Specification 용 keyset 조건 (cursor 가 없으면 조건 없음)
+   * @param property 정렬 엔티티 속성명
+   * @param type     정렬 키 타입
+   */
+  @SuppressWarnings("rawtypes")
+  public static <T> Specification<T> after(String property, Class<? extends Comparable> type,
+      KeysetCursor cursor, boolean nullable) {
+    return (root, query, cb) -> {
+      if (cursor == null) {
+        return null;
+      }
+      return after(cb, root.<Comparable>get(property), root.<Long>get("id"),
+          cursor.value(type), cursor.id(),
+          cursor.ascending(), nullable);
+    };
+  }
+
+  /**
+   * JPA Criteria 조건 - 정렬 키 2개 + ID (정렬 키 not null)
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Predicate after(CriteriaBuilder cb, Expression<? extends Comparable> sortPath,
+      Expression<? extends Comparable> tiePath, Expression<Long> idPath,
+      Comparable value, Comparable tieValue, long id, boolean ascending) {
+    Expression<Comparable> path = (Expression<Comparable>) sortPath;
+    Predicate beyond = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    Predicate tieAfter = after(cb, tiePath, idPath, tieValue, id, ascending, false);
+    return cb.or(beyond, cb.and(cb.equal(path, value), tieAfter));
+  }
+
+  /**
+   * Specification 용 keyset 조건 - 정렬 키 2개 + ID (cursor 가 없으면 조건 없음)
+   */
+  @SuppressWarnings("rawtypes")
+  public static <T> Specification<T> after(String property, Class<? extends Comparable> type,
+      String tieProperty, Class<? extends Comparable> tieType, KeysetCursor cursor) {
+    return (root, query, cb) -> {
+      if (cursor == null) {
+        return null;
+      }
+      return after(cb, root.<Comparable>get(property), root.<Comparable>get(tieProperty),
+          root.<Long>get("id"), cursor.value(type), cursor.tieValue(tieType), cursor.id(),
+          cursor.ascending());
+    };
+  }
+
+  /**
+   * Spring Data 정렬 (정렬 키 + ID)
+   */
+  public static Sort sort(String property, boolean ascending) {
+    Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+    return Sort.by(direction, property).and(Sort.by(direction, "id"));
+  }
+
+  /**
+   * Spring Data 정렬 (정렬 키 + 보조 정렬 키 + ID)
+   */
+  public static Sort sort(String property, String tieProperty, boolean ascending) {
+    Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+    return Sort.by(direction, property, tieProperty, "id");
+  }
+}
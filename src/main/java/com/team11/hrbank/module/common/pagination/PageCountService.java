@@ -0,0 +1,112 @@
+package com.team11.hrbank.module.common.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회 totalElements 계산
+ * - EXACT: 필터 시그니처별로 TTL 동안 캐시
+ * - ESTIMATED: 캐시된 값(만료 후 stale 기간까지 허용) → 필터가 없으면 planner 통계 → 그 외 EXACT 와 동일
+ * - NONE: 계산하지 않음
+ */
+@Slf4j
+@Component
+public class PageCountService {
+
+  private static final String ESTIMATE_SQL =
+      "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+  private static final char SEPARATOR = '\u0001';
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long ttlNanos;
+  private final long staleNanos;
+  private final int maxEntries;
+
+  private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+  public PageCountService(JdbcTemplate jdbcTemplate,
+      @Value("${pagination.count.cache-ttl-ms:5000}") long ttlMillis,
+      @Value("${pagination.count.estimate-stale-ms:300000}") long staleMillis,
+      @Value("${pagination.count.cache-max-entries:10000}") int maxEntries) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.ttlNanos = ttlMillis * 1_000_000L;
+    this.staleNanos = staleMillis * 1_000_000L;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * 전체 건수 계산
+   * @param mode      계산 방식
+   * @param table     planner 통계를 조회할 테이블명
+   * @param filtered  필터 조건이 있는지 여부 (없을 때만 테이블 통계 사용 가능)
+   * @param signature 필터 시그니처 ({@link #signature(String, Object...)})
+   * @param exact     정확한 COUNT 쿼리
+   */
+  public PageTotal count(CountMode mode, String table, boolean filtered, String signature,
+      LongSupplier exact) {
+    return switch (mode) {
+      case NONE -> new PageTotal(null, CountMode.NONE);
+      case EXACT -> PageTotal.exact(exactCount(signature, exact));
+      case ESTIMATED -> new PageTotal(estimatedCount(table, filtered, signature, exact),
+          CountMode.ESTIMATED);
+    };
+  }
+
+  /**
+   * 필터 시그니처 (도메인 + 필터 값)
+   */
+  public static String signature(String domain, Object... filters) {
+    StringBuilder stringBuilder = new StringBuilder(domain);
+    for (Object filter : filters) {
+      stringBuilder.append(SEPARATOR).append(filter);
+    }
+    return stringBuilder.toString();
+  }
+
+  private long exactCount(String signature, LongSupplier exact) {
+    long now = System.nanoTime();
+    CachedCount cached = cache.get(signature);
+    if (cached != null && now - cached.countedAt() < ttlNanos) {
+      return cached.value();
+    }
+    long value = exact.getAsLong();
+    put(signature, value, now);
+    return value;
+  }
+
+  private long estimatedCount(String table, boolean filtered, String signature,
+      LongSupplier exact) {
+    CachedCount cached = cache.get(signature);
+    if (cached != null && System.nanoTime() - cached.countedAt() < staleNanos) {
+      return cached.value();
+    }
+    if (!filtered) {
+      Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table);
+      // 한 번도 ANALYZE 되지 않은 테이블은 -1
+      if (estimate != null && estimate >= 0) {
+        return estimate;
+      }
+    }
+    return exactCount(signature, exact);
+  }
+
+  private void put(String signature, long value, long now) {
+    if (cache.size() >= maxEntries) {
+      cache.entrySet().removeIf(entry -> now - entry.getValue().countedAt() >= staleNanos);
+      if (cache.size() >= maxEntries) {
+        log.debug("count 캐시 초기화 - 항목 수: {}", cache.size());
+        cache.clear();
+      }
+    }
+    cache.put(signature, new CachedCount(value, now));
+  }
+
+  private record CachedCount(long value, long countedAt) {
+  }
+}
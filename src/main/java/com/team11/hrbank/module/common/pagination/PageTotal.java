@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.common.pagination;
+
+/**
+ * 커서 페이지 전체 건수
+ * @param value 건수 (NONE 이면 null)
+ * @param mode  계산 방식
+ */
+public record PageTotal(Long value, CountMode mode) {
+
+  public static PageTotal exact(long value) {
+    return new PageTotal(value, CountMode.EXACT);
+  }
+}
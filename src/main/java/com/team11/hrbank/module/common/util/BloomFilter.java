@@ -0,0 +1,106 @@
+package com.team11.hrbank.module.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 전용 Bloom filter (thread-safe)
+ * - mightContain()이 false 이면 "확실히 없음", true 이면 "있을 수도 있음"
+ * - 삭제는 지원하지 않으므로 삭제된 값은 재구축 전까지 false positive 로 남는다
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+
+  private BloomFilter(long bitSize, int hashCount) {
+    this.bitSize = bitSize;
+    this.hashCount = hashCount;
+    this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+  }
+
+  /**
+   * 예상 원소 수와 허용 오탐률로 비트 수(m)와 해시 함수 수(k)를 계산해 생성
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate  허용 오탐률 (0 ~ 1)
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+    }
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    m = Math.max(64, Math.min(m, (long) Integer.MAX_VALUE * 64));
+    int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    return new BloomFilter(m, k);
+  }
+
+  public void put(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      setBit(index(h1 + i * h2));
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = hash64(value);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      if (!getBit(index(h1 + i * h2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long bitSize() {
+    return bitSize;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  private long index(int combinedHash) {
+    // 음수 해시는 비트 반전으로 양수화 (Kirsch-Mitzenmacher double hashing)
+    return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitSize;
+  }
+
+  private void setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+  }
+
+  private boolean getBit(long index) {
+    return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+  }
+
+  /**
+   * UTF-8 바이트 기준 FNV-1a 64bit + murmur3 finalizer
+   */
+  private static long hash64(String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    long h = 0xcbf29ce484222325L;
+    for (byte b : bytes) {
+      h ^= (b & 0xff);
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,61 @@
+package com.team11.hrbank.module.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.UnknownHostException;
+
+/**
+ * 요청자 IP 주소 추출 (프록시 헤더 우선)
+ */
+@Slf4j
+public final class ClientIpResolver {
+
+  //프록시 헤더 확인
+  private static final String[] HEADERS = {
+      "X-Forwarded-For",
+      "Proxy-Client-IP",
+      "WL-Proxy-Client-IP",
+      "HTTP_X_FORWARDED_FOR",
+      "HTTP_X_FORWARDED",
+      "HTTP_X_CLUSTER_CLIENT_IP",
+      "HTTP_CLIENT_IP",
+      "HTTP_FORWARDED_FOR",
+      "HTTP_FORWARDED",
+      "HTTP_VIA",
+      "REMOTE_ADDR"
+  };
+
+  private ClientIpResolver() {
+  }
+
+  public static String getIpAddress(HttpServletRequest request) throws UnknownHostException {
+    String ipAddress = null;
+
+    for (String header : HEADERS) {
+      ipAddress = request.getHeader(header);
+      if (ipAddress != null && !ipAddress.isEmpty() && !"unknown".equalsIgnoreCase(ipAddress)) {
+        break;
+      }
+    }
+
+    // 모든 헤더에서 실패하면 직접 IP 가져오기
+    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
+      ipAddress = request.getRemoteAddr();
+    }
+
+    // 로컬호스트 주소 처리
+    if (ipAddress == null || ipAddress.isEmpty() || "0:0:0:0:0:0:0:1".equals(ipAddress)) {
+      ipAddress = "127.0.0.1";
+    }
+
+    // 쉼표로 구분된 여러 IP 주소가 있는 경우 첫 번째 주소만 사용
+    if (ipAddress != null && ipAddress.contains(",")) {
+      ipAddress = ipAddress.split(",")[0].trim();
+    }
+
+    log.info("추출된 클라이언트 IP 주소: {}", ipAddress);
+
+    return ipAddress;
+  }
+}
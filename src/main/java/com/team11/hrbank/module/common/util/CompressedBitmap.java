@@ -0,0 +1,350 @@
+package com.team11.hrbank.module.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 집합용 압축 비트맵 (Roaring bitmap 방식, thread-safe 아님)
+ * - 상위 16비트별 구간(chunk)으로 나누고, 구간 안 원소가 적으면 정렬 배열, 많으면 비트 배열로 보관
+ * - 교집합 개수(andCardinality)는 새 비트맵을 만들지 않고 계산
+ */
+public class CompressedBitmap {
+
+  // 배열 -> 비트 배열 전환 기준 (4096 x 2byte = 비트 배열 8KB 와 같은 크기)
+  private static final int ARRAY_MAX = 4096;
+  private static final int BITMAP_WORDS = 1 << 10;
+
+  private char[] keys = new char[0];
+  private Container[] containers = new Container[0];
+  private int size;
+
+  public void add(int value) {
+    checkValue(value);
+    char key = (char) (value >>> 16);
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index < 0) {
+      index = -index - 1;
+      insertContainer(index, key, new ArrayContainer());
+    }
+    containers[index] = containers[index].add((char) value);
+  }
+
+  public void remove(int value) {
+    checkValue(value);
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    if (index < 0) {
+      return;
+    }
+    Container container = containers[index].remove((char) value);
+    if (container.cardinality() == 0) {
+      removeContainer(index);
+    } else {
+      containers[index] = container;
+    }
+  }
+
+  public boolean contains(int value) {
+    if (value < 0) {
+      return false;
+    }
+    int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    return index >= 0 && containers[index].contains((char) value);
+  }
+
+  public long cardinality() {
+    long cardinality = 0;
+    for (int i = 0; i < size; i++) {
+      cardinality += containers[i].cardinality();
+    }
+    return cardinality;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * 교집합 (새 비트맵)
+   */
+  public CompressedBitmap and(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        Container container = containers[i].and(other.containers[j]);
+        if (container.cardinality() > 0) {
+          result.insertContainer(result.size, keys[i], container);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 교집합 원소 수
+   */
+  public long andCardinality(CompressedBitmap other) {
+    long cardinality = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        cardinality += containers[i].andCardinality(other.containers[j]);
+        i++;
+        j++;
+      }
+    }
+    return cardinality;
+  }
+
+  private static void checkValue(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("비트맵 값은 0 이상이어야 합니다: " + value);
+    }
+  }
+
+  private void insertContainer(int index, char key, Container container) {
+    if (size == keys.length) {
+      int capacity = Math.max(4, size * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      containers = Arrays.copyOf(containers, capacity);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  private void removeContainer(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    size--;
+    containers[size] = null;
+  }
+
+  private interface Container {
+
+    Container add(char value);
+
+    Container remove(char value);
+
+    boolean contains(char value);
+
+    int cardinality();
+
+    Container and(Container other);
+
+    int andCardinality(Container other);
+  }
+
+  // 정렬된 하위 16비트 배열 (원소 ARRAY_MAX 개 이하)
+  private static final class ArrayContainer implements Container {
+
+    private char[] values;
+    private int cardinality;
+
+    private ArrayContainer() {
+      this(new char[4], 0);
+    }
+
+    private ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    public Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_MAX) {
+        return toBitmap().add(value);
+      }
+      index = -index - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+      }
+      System.arraycopy(values, index, values, index + 1, cardinality - index);
+      values[index] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    public Container remove(char value) {
+      int index = Arrays.binarySearch(values, 0, cardinality, value);
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public Container and(Container other) {
+      char[] result = new char[cardinality];
+      int count = 0;
+      if (other instanceof ArrayContainer array) {
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+          if (values[i] < array.values[j]) {
+            i++;
+          } else if (values[i] > array.values[j]) {
+            j++;
+          } else {
+            result[count++] = values[i];
+            i++;
+            j++;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            result[count++] = values[i];
+          }
+        }
+      }
+      return new ArrayContainer(result, count);
+    }
+
+    @Override
+    public int andCardinality(Container other) {
+      int count = 0;
+      if (other instanceof ArrayContainer array) {
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+          if (values[i] < array.values[j]) {
+            i++;
+          } else if (values[i] > array.values[j]) {
+            j++;
+          } else {
+            count++;
+            i++;
+            j++;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            count++;
+          }
+        }
+      }
+      return count;
+    }
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  // 65536 비트 배열 (원소 ARRAY_MAX 개 초과)
+  private static final class BitmapContainer implements Container {
+
+    private final long[] words = new long[BITMAP_WORDS];
+    private int cardinality;
+
+    @Override
+    public Container add(char value) {
+      long bit = 1L << value;
+      int index = value >>> 6;
+      if ((words[index] & bit) == 0) {
+        words[index] |= bit;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    public Container remove(char value) {
+      long bit = 1L << value;
+      int index = value >>> 6;
+      if ((words[index] & bit) != 0) {
+        words[index] &= ~bit;
+        cardinality--;
+        if (cardinality <= ARRAY_MAX) {
+          return toArray();
+        }
+      }
+      return this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public Container and(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.and(this);
+      }
+      BitmapContainer bitmap = (BitmapContainer) other;
+      BitmapContainer result = new BitmapContainer();
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        result.words[i] = words[i] & bitmap.words[i];
+        result.cardinality += Long.bitCount(result.words[i]);
+      }
+      return result.cardinality <= ARRAY_MAX ? result.toArray() : result;
+    }
+
+    @Override
+    public int andCardinality(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.andCardinality(this);
+      }
+      BitmapContainer bitmap = (BitmapContainer) other;
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        count += Long.bitCount(words[i] & bitmap.words[i]);
+      }
+      return count;
+    }
+
+    private ArrayContainer toArray() {
+      char[] values = new char[cardinality];
+      int count = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        long word = words[i];
+        while (word != 0) {
+          values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return new ArrayContainer(values, count);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.team11.hrbank.module.common.util;
+
+/**
+ * 한글 초성 검색 키
+ * - 완성형 음절(가~힣)은 초성 자모(ㄱ~ㅎ)로, 그 외 문자는 그대로 둠 ("김태희" -> "ㄱㅌㅎ")
+ * - DB 의 hangul_initials() 함수(schema.sql)와 같은 규칙이어야 함
+ */
+public final class HangulInitials {
+
+  private static final String INITIAL_CONSONANTS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final char SYLLABLE_FIRST = '가';
+  private static final char SYLLABLE_LAST = '힣';
+  // 초성 하나당 중성(21) x 종성(28) 음절
+  private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+  private HangulInitials() {
+  }
+
+  public static String initials(String value) {
+    StringBuilder initials = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      initials.append(initial(value.charAt(i)));
+    }
+    return initials.toString();
+  }
+
+  public static char initial(char c) {
+    if (c < SYLLABLE_FIRST || c > SYLLABLE_LAST) {
+      return c;
+    }
+    return INITIAL_CONSONANTS.charAt((c - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL);
+  }
+
+  public static boolean isInitialConsonant(char c) {
+    return INITIAL_CONSONANTS.indexOf(c) >= 0;
+  }
+
+  public static boolean containsInitialConsonant(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (isInitialConsonant(value.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 이름 LIKE 패턴 (앞부분 일치, 초성 자리는 '_')
+   * - "김ㅌ" -> "김_%" : 초성 키 prefix 조건과 함께 써서 완성형 글자 자리를 재확인
+   */
+  public static String namePattern(String query) {
+    StringBuilder pattern = new StringBuilder(query.length() + 1);
+    for (int i = 0; i < query.length(); i++) {
+      char c = query.charAt(i);
+      pattern.append(isInitialConsonant(c) ? "_" : LikePatterns.escape(String.valueOf(c)));
+    }
+    return pattern.append('%').toString();
+  }
+
+  /**
+   * 이름이 검색어로 시작하는지 (검색어의 초성 자모는 해당 위치 글자의 초성과 비교)
+   */
+  public static boolean matchesPrefix(String name, String query) {
+    if (name == null || name.length() < query.length()) {
+      return false;
+    }
+    for (int i = 0; i < query.length(); i++) {
+      char q = query.charAt(i);
+      char c = name.charAt(i);
+      if (isInitialConsonant(q) ? initial(c) != q : c != q) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
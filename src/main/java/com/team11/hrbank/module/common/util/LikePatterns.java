@@ -0,0 +1,30 @@
+package com.team11.hrbank.module.common.util;
+
+/**
+ * LIKE 부분 일치 패턴 생성
+ * - 검색어의 %, _, \ 를 이스케이프 (ESCAPE '\')
+ * - '%검색어%' 형태는 pg_trgm GIN 인덱스로 처리 (schema.sql 참고)
+ */
+public final class LikePatterns {
+
+  public static final char ESCAPE = '\\';
+
+  private LikePatterns() {
+  }
+
+  public static String contains(String keyword) {
+    return "%" + escape(keyword) + "%";
+  }
+
+  public static String escape(String keyword) {
+    StringBuilder escaped = new StringBuilder(keyword.length() + 8);
+    for (int i = 0; i < keyword.length(); i++) {
+      char c = keyword.charAt(i);
+      if (c == '%' || c == '_' || c == ESCAPE) {
+        escaped.append(ESCAPE);
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+}
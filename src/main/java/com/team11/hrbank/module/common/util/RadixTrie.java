@@ -0,0 +1,330 @@
+package com.team11.hrbank.module.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 radix trie (thread-safe, 조회는 read lock)
+ * - 한 간선에 여러 글자를 담아 노드 수를 줄이고, 자식은 첫 글자 기준 정렬 배열로 보관
+ * - 각 노드는 하위 전체 단어 중 count 상위 k 개를 들고 있어 prefix 조회는 노드 탐색 + 복사만 수행
+ * - 키는 소문자 기준 (대소문자 무시), 결과에는 처음 추가된 원래 표기를 사용
+ */
+public class RadixTrie {
+
+  private static final Entry[] EMPTY = new Entry[0];
+  private static final Node[] NO_CHILDREN = new Node[0];
+  private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::count)
+      .reversed()
+      .thenComparing(Entry::term);
+
+  private final int topK;
+  private final Node root = new Node("");
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private int size;
+
+  public RadixTrie(int topK) {
+    if (topK <= 0) {
+      throw new IllegalArgumentException("topK는 1 이상이어야 합니다: " + topK);
+    }
+    this.topK = topK;
+  }
+
+  /**
+   * 자동완성 후보
+   * @param term  원래 표기
+   * @param count 같은 값을 가진 항목 수
+   */
+  public record Entry(String term, long count) {
+  }
+
+  public void increment(String term) {
+    add(term, 1);
+  }
+
+  public void decrement(String term) {
+    add(term, -1);
+  }
+
+  /**
+   * 단어 count 증감 (0 이하가 되면 제거)
+   */
+  public void add(String term, long delta) {
+    if (term == null || term.isEmpty() || delta == 0) {
+      return;
+    }
+    String key = key(term);
+    lock.writeLock().lock();
+    try {
+      List<Node> path = new ArrayList<>();
+      Node node = delta > 0 ? insertPath(key, path) : findPath(key, path);
+      if (node == null || (node.term == null && delta < 0)) {
+        return;
+      }
+
+      long previous = node.count;
+      long updated = Math.max(0, previous + delta);
+      if (node.term == null) {
+        node.term = term;
+        size++;
+      }
+      node.count = updated;
+      Entry changed = new Entry(node.term, updated);
+      if (updated == 0) {
+        node.term = null;
+        size--;
+      }
+
+      // 아래에서 위로 상위 k 갱신
+      for (int i = path.size() - 1; i >= 0; i--) {
+        updateTop(path.get(i), key, changed, previous);
+      }
+      if (updated == 0) {
+        prune(path);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * prefix 로 시작하는 단어 중 count 상위 limit 개 (limit 은 topK 이하로 제한)
+   */
+  public List<Entry> suggest(String prefix, int limit) {
+    String key = key(prefix == null ? "" : prefix);
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      int offset = 0;
+      while (offset < key.length()) {
+        Node child = node.child(key.charAt(offset));
+        if (child == null) {
+          return List.of();
+        }
+        int matched = commonPrefix(child.label, key, offset);
+        if (offset + matched == key.length()) {
+          // prefix 가 간선 중간에서 끝남 -> 해당 자식 하위 전체가 후보
+          node = child;
+          break;
+        }
+        if (matched < child.label.length()) {
+          return List.of();
+        }
+        offset += matched;
+        node = child;
+      }
+      Entry[] top = node.top;
+      return List.of(Arrays.copyOf(top, Math.min(top.length, Math.min(limit, topK))));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static String key(String term) {
+    return term.toLowerCase(Locale.ROOT);
+  }
+
+  // 단어 노드까지 내려가며 필요한 노드 생성/간선 분할, path 에는 root 부터 단어 노드까지 담김
+  private Node insertPath(String key, List<Node> path) {
+    Node node = root;
+    path.add(node);
+    int offset = 0;
+    while (offset < key.length()) {
+      Node child = node.child(key.charAt(offset));
+      if (child == null) {
+        child = new Node(key.substring(offset));
+        node.addChild(child);
+        path.add(child);
+        return child;
+      }
+      int matched = commonPrefix(child.label, key, offset);
+      if (matched < child.label.length()) {
+        child = split(node, child, matched);
+      }
+      offset += matched;
+      node = child;
+      path.add(node);
+    }
+    return node;
+  }
+
+  private Node findPath(String key, List<Node> path) {
+    Node node = root;
+    path.add(node);
+    int offset = 0;
+    while (offset < key.length()) {
+      Node child = node.child(key.charAt(offset));
+      if (child == null || !key.startsWith(child.label, offset)) {
+        return null;
+      }
+      offset += child.label.length();
+      node = child;
+      path.add(node);
+    }
+    return node;
+  }
+
+  // child 간선을 length 위치에서 나눔 (나뉜 위쪽 노드는 아래 노드와 같은 상위 k 를 가짐)
+  private static Node split(Node parent, Node child, int length) {
+    Node middle = new Node(child.label.substring(0, length));
+    middle.top = child.top;
+    parent.replaceChild(middle);
+    child.label = child.label.substring(length);
+    middle.addChild(child);
+    return middle;
+  }
+
+  private void updateTop(Node node, String key, Entry changed, long previous) {
+    Entry[] top = node.top;
+    int index = indexOf(top, key);
+    if (index >= 0) {
+      if (changed.count() < previous && top.length == topK) {
+        // 순위가 내려가면 밖에 있던 단어가 올라올 수 있으므로 자식 기준으로 다시 계산
+        recompute(node);
+        return;
+      }
+      Entry[] updated = changed.count() == 0 ? remove(top, index) : top.clone();
+      if (changed.count() > 0) {
+        updated[index] = changed;
+      }
+      Arrays.sort(updated, RANKING);
+      node.top = updated;
+    } else if (changed.count() > 0
+        && (top.length < topK || RANKING.compare(changed, top[top.length - 1]) < 0)) {
+      Entry[] updated = Arrays.copyOf(top, top.length + 1);
+      updated[top.length] = changed;
+      Arrays.sort(updated, RANKING);
+      node.top = updated.length > topK ? Arrays.copyOf(updated, topK) : updated;
+    }
+  }
+
+  private void recompute(Node node) {
+    List<Entry> candidates = new ArrayList<>();
+    if (node.term != null) {
+      candidates.add(new Entry(node.term, node.count));
+    }
+    for (Node child : node.children) {
+      candidates.addAll(Arrays.asList(child.top));
+    }
+    candidates.sort(RANKING);
+    node.top = candidates.subList(0, Math.min(topK, candidates.size())).toArray(EMPTY);
+  }
+
+  // 단어가 빠진 노드 정리: 빈 잎 노드 삭제, 자식 하나만 남은 중간 노드는 자식과 합침
+  private static void prune(List<Node> path) {
+    int last = path.size() - 1;
+    Node node = path.get(last);
+    if (last == 0) {
+      return;
+    }
+    Node parent = path.get(last - 1);
+    if (node.term == null && node.children.length == 0) {
+      parent.removeChild(node);
+      node = parent;
+      last--;
+      if (last == 0) {
+        return;
+      }
+      parent = path.get(last - 1);
+    }
+    if (node.term == null && node.children.length == 1) {
+      Node only = node.children[0];
+      only.label = node.label + only.label;
+      parent.replaceChild(only);
+    }
+  }
+
+  private static int indexOf(Entry[] top, String key) {
+    for (int i = 0; i < top.length; i++) {
+      if (key(top[i].term()).equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static Entry[] remove(Entry[] top, int index) {
+    Entry[] removed = new Entry[top.length - 1];
+    System.arraycopy(top, 0, removed, 0, index);
+    System.arraycopy(top, index + 1, removed, index, top.length - index - 1);
+    return removed;
+  }
+
+  private static int commonPrefix(String label, String key, int offset) {
+    int max = Math.min(label.length(), key.length() - offset);
+    int i = 0;
+    while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  private static final class Node {
+
+    private String label;
+    private Node[] children = NO_CHILDREN;
+    private String term;
+    private long count;
+    private Entry[] top = EMPTY;
+
+    private Node(String label) {
+      this.label = label;
+    }
+
+    private Node child(char first) {
+      int index = search(first);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private void addChild(Node child) {
+      int index = -search(child.label.charAt(0)) - 1;
+      Node[] updated = new Node[children.length + 1];
+      System.arraycopy(children, 0, updated, 0, index);
+      updated[index] = child;
+      System.arraycopy(children, index, updated, index + 1, children.length - index);
+      children = updated;
+    }
+
+    // 첫 글자가 같은 자식을 교체
+    private void replaceChild(Node child) {
+      children[search(child.label.charAt(0))] = child;
+    }
+
+    private void removeChild(Node child) {
+      int index = search(child.label.charAt(0));
+      Node[] updated = new Node[children.length - 1];
+      System.arraycopy(children, 0, updated, 0, index);
+      System.arraycopy(children, index + 1, updated, index, children.length - index - 1);
+      children = updated;
+    }
+
+    private int search(char first) {
+      int low = 0;
+      int high = children.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        char c = children[mid].label.charAt(0);
+        if (c < first) {
+          low = mid + 1;
+        } else if (c > first) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -(low + 1);
+    }
+  }
+}
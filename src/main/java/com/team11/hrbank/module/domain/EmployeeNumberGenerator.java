@@ -1,24 +1,90 @@
 package com.team11.hrbank.module.domain;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.security.SecureRandom;
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 사원 번호 생성기 (hi-lo 블록 할당)
+ * - hi: DB 시퀀스(employee_number_block_seq)의 nextval 이 블록 시작 번호, INCREMENT BY 가 블록 크기
+ *   (블록 크기를 노드 설정이 아니라 DB 에서 읽으므로 노드/배포마다 달라도 범위가 겹치지 않음)
+ * - lo: 블록 내 번호는 메모리에서 AtomicLong 으로 lock-free 발급
+ * - 블록 소진 시에만 동기화 후 시퀀스 조회
+ * 형식: EMP-{year}-{14자리 번호}
+ */
 @Component
 public class EmployeeNumberGenerator {
 
-  private final SecureRandom secureRandom = new SecureRandom();
+  private static final String NEXT_BLOCK_SQL = """
+      SELECT nextval(s.seqrelid) AS block_start, s.seqincrement AS block_size
+      FROM pg_sequence s
+      WHERE s.seqrelid = 'employee_number_block_seq'::regclass
+      """;
+  private static final int DIGITS = 14;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile Block block = Block.EMPTY;
+
+  public EmployeeNumberGenerator(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
 
   public String generateEmployeeNumber() {
-    int year = LocalDate.now().getYear();
-    StringBuilder stringBuilder = new StringBuilder();
+    return format(LocalDate.now().getYear(), nextNumber());
+  }
 
-    for (int i = 0; i < 14; i++) {
-      stringBuilder.append(secureRandom.nextInt(10));
+  private long nextNumber() {
+    while (true) {
+      Block current = block;
+      long number = current.next.getAndIncrement();
+      if (number < current.end) {
+        return number;
+      }
+      refill(current);
     }
+  }
 
-    return String.format("EMP-%d-%s", year, stringBuilder);
+  private synchronized void refill(Block exhausted) {
+    // 다른 스레드가 이미 새 블록을 받아온 경우
+    if (block != exhausted) {
+      return;
+    }
+    Map<String, Object> next = jdbcTemplate.queryForMap(NEXT_BLOCK_SQL);
+    long start = ((Number) next.get("block_start")).longValue();
+    long size = ((Number) next.get("block_size")).longValue();
+    if (size <= 0) {
+      throw new IllegalStateException("employee_number_block_seq 의 INCREMENT BY 는 1 이상이어야 합니다: " + size);
+    }
+    block = new Block(start, start + size);
+  }
 
+  private static String format(int year, long number) {
+    String digits = Long.toString(number);
+    if (digits.length() > DIGITS) {
+      throw new IllegalStateException("사원 번호 범위를 초과했습니다: " + number);
+    }
+    StringBuilder stringBuilder = new StringBuilder(9 + DIGITS);
+    stringBuilder.append("EMP-").append(year).append('-');
+    for (int i = digits.length(); i < DIGITS; i++) {
+      stringBuilder.append('0');
+    }
+    return stringBuilder.append(digits).toString();
+  }
+
+  private static final class Block {
+
+    private static final Block EMPTY = new Block(0, 0);
+
+    private final AtomicLong next;
+    private final long end;
+
+    private Block(long start, long end) {
+      this.next = new AtomicLong(start);
+      this.end = end;
+    }
   }
 }
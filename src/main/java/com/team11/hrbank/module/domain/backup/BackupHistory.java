@@ -44,4 +44,28 @@ public class BackupHistory {
     @Column(nullable = false)
     private BackupStatus status;
 
+    /** 백업 유형 (전체, 증분) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "backup_type", nullable = false)
+    private BackupType type = BackupType.FULL;
+
+    /** 증분 백업 체인의 기준 전체 백업 ID (전체 백업은 null) */
+    private Long baseBackupId;
+
+    /** 증분 백업이 이어서 기록하는 바로 앞 백업 ID (전체 백업은 null) */
+    private Long previousBackupId;
+
+    /** 체인 내 순서 (전체 백업 0, 이후 증분 백업 1, 2, ...) */
+    @Column(nullable = false)
+    private int chainSequence;
+
+    /** 백업에 반영된 변경의 기준 시각 (다음 증분 백업은 이 시각 이후 변경분을 기록) */
+    private Instant watermark;
+
+    /** 압축 전 백업 데이터 크기 (bytes, 저장된 크기는 file.size) */
+    private Long originalSize;
+
+    /** 백업 파일 쓰기 시간 (ms, DB 조회 포함) */
+    private Long writeDurationMs;
+
 }
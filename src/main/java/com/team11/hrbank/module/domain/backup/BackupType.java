@@ -0,0 +1,8 @@
+package com.team11.hrbank.module.domain.backup;
+
+/**
+ * 백업 유형 ENUM (전체, 이전 백업 이후 변경분만 기록하는 증분)
+ */
+public enum BackupType {
+    FULL, INCREMENTAL
+}
@@ -3,7 +3,9 @@ package com.team11.hrbank.module.domain.backup.controller;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +13,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -49,6 +52,19 @@ public interface BackupApi {
   @PostMapping
   ResponseEntity<BackupDto> createBackup(HttpServletRequest request);
 
+  @Operation(
+      summary = "데이터 백업 복원",
+      description = "백업 시점 데이터를 전체 백업 형식 파일로 복원합니다. 증분 백업은 기준 전체 백업부터 해당 백업까지 순서대로 합칩니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "복원 성공"),
+          @ApiResponse(responseCode = "400", description = "완료되지 않은 백업"),
+          @ApiResponse(responseCode = "404", description = "백업을 찾을 수 없음"),
+          @ApiResponse(responseCode = "500", description = "서버 오류 또는 백업 파일 누락")
+      }
+  )
+  @PostMapping("/{id}/restore")
+  ResponseEntity<BackupRestoreDto> restoreBackup(@PathVariable("id") Long id);
+
   @Operation(
       summary = "데이터 백업 목록 조회",
       description = "백업 이력을 필터링 조건과 커서 기반으로 조회합니다.",
@@ -68,6 +84,8 @@ public interface BackupApi {
       @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "10") int size,
       @RequestParam(defaultValue = "startedAt") String sortField,
-      @RequestParam(defaultValue = "DESC") String sortDirection
+      @RequestParam(defaultValue = "DESC") String sortDirection,
+      @Parameter(description = "전체 건수 계산 방식 (exact, estimated, none, 기본값: exact). none 이면 응답의 totalElements 는 null")
+      @RequestParam(required = false) String countMode
   );
 }
\ No newline at end of file
@@ -1,11 +1,14 @@
 package com.team11.hrbank.module.domain.backup.controller;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
 import com.team11.hrbank.module.domain.backup.mapper.BackupMapper;
 import com.team11.hrbank.module.domain.backup.service.BackupService;
+import com.team11.hrbank.module.domain.backup.service.restore.BackupRestoreService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +26,7 @@ import java.time.Instant;
 public class BackupController implements BackupApi {
 
     private final BackupService backupService;
+    private final BackupRestoreService backupRestoreService;
     private final BackupMapper backupMapper;
 
     /**
@@ -36,7 +40,7 @@ public class BackupController implements BackupApi {
         if (latestBackup == null) {
             // 백업 기록이 없는 경우 빈 객체와 메시지를 반환
             BackupDto emptyResponse = new BackupDto(
-                null, null, null, null, BackupStatus.SKIPPED, null
+                null, null, null, null, BackupStatus.SKIPPED, null, null, null, null, 0, null, null, null
             );
 
             log.info("백업 기록 없음 - 상태: {}", status);
@@ -54,6 +58,15 @@ public class BackupController implements BackupApi {
         return ResponseEntity.ok(backupMapper.toDto(backupHistory));
     }
 
+    /**
+     * 백업 복원 (증분 백업은 기준 전체 백업부터 합친 파일 생성)
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<BackupRestoreDto> restoreBackup(@PathVariable("id") Long id) {
+        log.info("백업 복원 요청: 백업 ID = {}", id);
+        return ResponseEntity.ok(backupRestoreService.restore(id));
+    }
+
     /**
      * 백업 이력 조회 API
      * @param worker 작업자 (부분 일치)
@@ -64,6 +77,7 @@ public class BackupController implements BackupApi {
      * @param size 페이지 크기 (기본값: 10)
      * @param sortField 정렬 필드 (기본값: startAt)
      * @param sortDirection 정렬 방향 (DESC 또는 ASC, 기본값: DESC)
+     * @param countMode 전체 건수 계산 방식 (exact, estimated, none, 기본값: exact)
      * @return 조건에 맞게 필터링된 백업 이력 목록을 BackupDto로 변환하여 반환
      */
     @GetMapping
@@ -76,11 +90,13 @@ public class BackupController implements BackupApi {
         @RequestParam(required = false) String cursor,//커서 (이전 페이지 마지막 id)
         @RequestParam(required = false, defaultValue = "10") int size,
         @RequestParam(required = false, defaultValue = "startAt") String sortField,//startedAt,endedAt,status
-        @RequestParam(required = false, defaultValue = "DESC") String sortDirection
+        @RequestParam(required = false, defaultValue = "DESC") String sortDirection,
+        @RequestParam(required = false) String countMode
     ) {
 
         CursorPageResponse<BackupDto> response = backupService.getBackupHistoriesWithCursor(
-            worker, status, startedAtFrom, startedAtTo, idAfter, cursor, size, sortField, sortDirection);
+            worker, status, startedAtFrom, startedAtTo, idAfter, cursor, size, sortField, sortDirection,
+            CountMode.from(countMode));
 
         return ResponseEntity.ok(response);
     }
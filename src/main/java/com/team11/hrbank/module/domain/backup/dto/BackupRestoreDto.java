@@ -0,0 +1,14 @@
+package com.team11.hrbank.module.domain.backup.dto;
+
+import java.util.List;
+
+/**
+ * 백업 복원 결과 DTO
+ * @param chainBackupIds 복원에 사용한 백업 ID (전체 백업부터 순서대로)
+ * @param fileId 복원된 전체 백업 형식 파일 ID
+ */
+public record BackupRestoreDto(
+    Long backupId,
+    List<Long> chainBackupIds,
+    Long fileId
+) {}
@@ -15,6 +15,8 @@ public interface BackupMapper {
 
   @Mapping(source = "startAt", target = "startedAt")
   @Mapping(source = "file.id", target = "fileId", qualifiedByName = "extractFileId")
+  @Mapping(target = "compressionRatio", expression = "java(compressionRatio(backupHistory))")
+  @Mapping(target = "writeBytesPerSecond", expression = "java(writeBytesPerSecond(backupHistory))")
   BackupDto toDto(BackupHistory backupHistory);
 
   List<BackupDto> toDtoList(List<BackupHistory> backupHistories);
@@ -36,4 +38,25 @@ public interface BackupMapper {
     return null;
   }
 
+  /**
+   * 압축률 (압축 전 크기 / 저장된 크기, 소수 둘째 자리)
+   */
+  default Double compressionRatio(BackupHistory backupHistory) {
+    File file = backupHistory.getFile();
+    if (backupHistory.getOriginalSize() == null || file == null || file.getSize() == null || file.getSize() == 0) {
+      return null;
+    }
+    return Math.round(backupHistory.getOriginalSize() * 100.0 / file.getSize()) / 100.0;
+  }
+
+  /**
+   * 쓰기 처리량 (압축 전 bytes / 초)
+   */
+  default Long writeBytesPerSecond(BackupHistory backupHistory) {
+    if (backupHistory.getOriginalSize() == null || backupHistory.getWriteDurationMs() == null) {
+      return null;
+    }
+    return backupHistory.getOriginalSize() * 1000 / Math.max(backupHistory.getWriteDurationMs(), 1);
+  }
+
 }
@@ -0,0 +1,49 @@
+package com.team11.hrbank.module.domain.backup.service;
+
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체/증분 백업 결정
+ * - 마지막 완료 백업에 이어서 증분 백업, 체인에 증분 백업이 full-every 개 쌓이면 다시 전체 백업
+ * - 증분 백업은 이전 백업 watermark 에서 overlap 만큼 앞선 시각부터 기록
+ *   (watermark 직전에 시작해 늦게 커밋된 트랜잭션, 서버 간 시각 차이 보정, 중복은 복원 시 덮어씀)
+ * - watermark 가 없는 이전 방식 백업 뒤에는 전체 백업
+ */
+@Component
+public class BackupChainPolicy {
+
+  private final boolean enabled;
+  private final int fullEvery;
+  private final long overlapMs;
+
+  public BackupChainPolicy(
+      @Value("${backup.incremental.enabled:true}") boolean enabled,
+      @Value("${backup.incremental.full-every:24}") int fullEvery,
+      @Value("${backup.incremental.overlap-ms:60000}") long overlapMs) {
+    if (fullEvery < 0 || overlapMs < 0) {
+      throw new IllegalArgumentException(
+          "backup.incremental.full-every, overlap-ms 는 0 이상이어야 합니다: " + fullEvery + ", " + overlapMs);
+    }
+    this.enabled = enabled;
+    this.fullEvery = fullEvery;
+    this.overlapMs = overlapMs;
+  }
+
+  /**
+   * @param lastCompleted 마지막 완료 백업 (없으면 null)
+   */
+  public BackupPlan next(BackupHistory lastCompleted) {
+    if (!enabled || lastCompleted == null || lastCompleted.getWatermark() == null
+        || lastCompleted.getChainSequence() >= fullEvery) {
+      return BackupPlan.full();
+    }
+    Long baseBackupId = lastCompleted.getType() == BackupType.FULL
+        ? lastCompleted.getId()
+        : lastCompleted.getBaseBackupId();
+    return new BackupPlan(BackupType.INCREMENTAL, baseBackupId, lastCompleted.getId(),
+        lastCompleted.getChainSequence() + 1, lastCompleted.getWatermark().minusMillis(overlapMs));
+  }
+}
@@ -0,0 +1,22 @@
+package com.team11.hrbank.module.domain.backup.service;
+
+import com.team11.hrbank.module.domain.backup.BackupType;
+
+import java.time.Instant;
+
+/**
+ * 이번에 실행할 백업 (유형과 증분 백업 체인 위치)
+ * @param since 증분 백업이 기록할 변경의 시작 시각 (전체 백업은 null)
+ */
+public record BackupPlan(
+    BackupType type,
+    Long baseBackupId,
+    Long previousBackupId,
+    int chainSequence,
+    Instant since
+) {
+
+  public static BackupPlan full() {
+    return new BackupPlan(BackupType.FULL, null, null, 0, null);
+  }
+}
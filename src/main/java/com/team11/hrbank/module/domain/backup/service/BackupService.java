@@ -1,28 +1,31 @@
 package com.team11.hrbank.module.domain.backup.service;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.pagination.KeysetPaginator;
+import com.team11.hrbank.module.common.pagination.KeysetPredicates;
+import com.team11.hrbank.module.common.pagination.PageCountService;
+import com.team11.hrbank.module.common.pagination.PageTotal;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
 import com.team11.hrbank.module.domain.backup.dto.BackupDto;
 import com.team11.hrbank.module.domain.backup.mapper.BackupMapper;
 import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
 import com.team11.hrbank.module.domain.backup.repository.BackupSpecifications;
-import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileInfo;
 import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -32,10 +35,12 @@ public class BackupService {
 
     private final BackupHistoryRepository backupHistoryRepository;
     private final BackupFileStorageService fileStorageService;
-    private final BackupDataService backupDataService;
     private final FileService fileService;
     private final BackupMapper backupMapper;
     private final BackupTransactionService backupTxService; //트랜잭션 관련 로직
+    private final BackupChainPolicy backupChainPolicy;
+    private final KeysetPaginator keysetPaginator;
+    private final PageCountService pageCountService;
 
     /**
      * 백업을 실행하고 결과를 반환
@@ -61,23 +66,30 @@ public class BackupService {
             return skippedHistory;
         }
 
-        // 4. 백업 시작
-        BackupHistory backupHistory = backupTxService.saveBackupHistory(workerIp, BackupStatus.IN_PROGRESS, null);
-        log.info("백업 시작 - 이력 ID: {}", backupHistory.getId());
+        // 4. 백업 시작 (마지막 완료 백업에 이어 증분 백업, 체인이 길면 전체 백업)
+        BackupPlan plan = backupChainPolicy.next(backupTxService.findLatestCompletedBackup());
+        BackupHistory backupHistory = backupTxService.startBackupHistory(workerIp, plan);
+        log.info("백업 시작 - 이력 ID: {}, 유형: {}, 체인 순서: {}",
+            backupHistory.getId(), plan.type(), plan.chainSequence());
 
         File backupFile = null;
         String backupFilePath = null;
         try {
-            // 5. 백업 파일 생성 (트랜잭션 외부 작업)
-            backupFilePath = fileStorageService.saveBackupToCsv(backupDataService.getAllDataForBackup());
+            // 5. 백업 파일 생성 (DB 에서 바로 파일에 기록, 읽기 전용 트랜잭션)
+            //    watermark 는 조회 시작 전 시각이라 이후 커밋된 변경은 다음 증분 백업에 포함됨
+            Instant watermark = Instant.now();
+            BackupFileInfo savedFile = plan.type() == BackupType.FULL
+                ? fileStorageService.saveBackup()
+                : fileStorageService.saveIncrementalBackup(plan.since());
+            backupFilePath = savedFile.path();
             log.info("백업 파일 생성 완료: {}", backupFilePath);
 
-            // 6. 파일 엔티티 생성
-            backupFile = backupTxService.createFileEntity(backupFilePath);
+            // 6. 파일 엔티티 생성 (쓰는 동안 계산한 SHA-256 함께 저장)
+            backupFile = backupTxService.createFileEntity(backupFilePath, savedFile.sha256());
 
-            // 7. 백업 완료 처리
-            BackupHistory updatedHistory = backupTxService.updateBackupStatus(
-                backupHistory.getId(), BackupStatus.COMPLETED, backupFile);
+            // 7. 백업 완료 처리 (압축 전 크기, 쓰기 시간 기록)
+            BackupHistory updatedHistory = backupTxService.completeBackup(
+                backupHistory.getId(), backupFile, watermark, savedFile);
             log.info("백업 완료 - 저장된 파일: {}", backupFilePath);
 
             return updatedHistory;
@@ -148,144 +160,89 @@ public class BackupService {
     }
 
     /**
-     * 커서기반 페이징으로 백업 이력 조회
+     * 커서기반 페이징으로 백업 이력 조회 (keyset: 정렬 필드 + id)
      */
     @Transactional(readOnly = true)
     public CursorPageResponse<BackupDto> getBackupHistoriesWithCursor(
         String worker, BackupStatus status,
         Instant startedAtFrom, Instant startedAtTo,
         Long idAfter, String cursor, int size,
-        String sortField, String sortDirection) {
+        String sortField, String sortDirection, CountMode countMode) {
 
         // 정렬 필드 매핑
         String entitySortField = mapSortField(sortField);
-
-        //커서 값 처리
-        Instant cursorTimeStamp = null;
-
-        if (cursor != null && !cursor.isEmpty()) {
-            if ("startedAt".equals(sortField) || "startAt".equals(sortField) ||
-                    "endedAt".equals(sortField) || "endAt".equals(sortField)) {
-                try {
-                    // 타임스탬프 커서
-                    cursorTimeStamp = Instant.parse(cursor);
-                } catch (Exception e) {
-                    // 타임스탬프 파싱 실패 시 ID로 시도
-                    try {
-                        idAfter = Long.parseLong(cursor);
-                    } catch (NumberFormatException ex) {
-                        // 모두 실패 시 Base64 디코딩 시도
-                        idAfter = CursorPageResponse.extractIdFromCursor(cursor);
-                    }
-                }
-            } else {
-                // ID 기반 커서로 시도
-                try {
-                    idAfter = Long.parseLong(cursor);
-                } catch (NumberFormatException ex) {
-                    // 파싱 실패 시 Base64 디코딩
-                    idAfter = CursorPageResponse.extractIdFromCursor(cursor);
-                }
-            }
-        }
-
-        // 정렬 방향 설정
-        Sort sort = "DESC".equalsIgnoreCase(sortDirection) ?
-            Sort.by(entitySortField).descending() :
-            Sort.by(entitySortField).ascending();
-
-        // 페이징 설정
-        Pageable pageable = PageRequest.of(0, size + 1, sort);
+        boolean ascending = !"DESC".equalsIgnoreCase(sortDirection);
+        KeysetCursor keysetCursor = keysetPaginator.decode(cursor, idAfter, entitySortField, ascending,
+                backupHistoryRepository::findById,
+                backupHistory -> sortValue(backupHistory, entitySortField),
+                backupHistory -> null);
 
         // 전체 개수 계산 (커서 조건 제외)
-        long totalElements = backupHistoryRepository.count(
-                BackupSpecifications.withCriteria(
-                        worker, status, startedAtFrom, startedAtTo, null, null, entitySortField, sortDirection));
-        log.debug("전체 데이터 수: {}", totalElements);
-
-        // 백업 이력 조회
-        Page<BackupHistory> backupHistoriesPage = backupHistoryRepository.findAll(
-                BackupSpecifications.withCriteria(worker,status, startedAtFrom, startedAtTo, idAfter,
-                        cursorTimeStamp, entitySortField, sortDirection), pageable);
-
-        // 데이터 리스트로 변환
-        List<BackupHistory> backupHistories = new ArrayList<>(backupHistoriesPage.getContent());
-
-        // 다음 페이지 존재 여부 확인
-        boolean hasNext = backupHistories.size() > size;
-        if (hasNext && !backupHistories.isEmpty()) {
-            backupHistories.remove(size);
-        }
-
-        // 빈 결과 처리
-        if (backupHistories.isEmpty()) {
-            return CursorPageResponse.of(
-                    List.of(),
-                    null,
-                    null,
-                    size,
-                    totalElements,
-                    false
-            );
-        }
-
-
-        // DTO 변환
-        List<BackupDto> backupDtos = backupMapper.toDtoList(backupHistories);
-
-        // 마지막 ID 추출
-        BackupHistory lastItem = backupHistories.get(backupHistories.size() - 1);
-        Long lastId = lastItem.getId();
-
-
-        // 정렬 필드에 따라 커서 값 설정
-        String nextCursor;
-        if ("startAt".equals(entitySortField)) {
-            // Base64 인코딩 사용
-            nextCursor = java.util.Base64.getEncoder()
-                    .encodeToString(("{\"id\":" + lastId + "}").getBytes());
-            log.debug("시작 시간 기준 Base64 커서 생성: {}", nextCursor);
-        } else if ("endedAt".equals(entitySortField)) {
-            if (lastItem.getEndedAt() != null) {
-                nextCursor = java.util.Base64.getEncoder()
-                        .encodeToString(("{\"id\":" + lastId + "}").getBytes());
-                log.debug("종료 시간 기준 Base64 커서 생성: {}", nextCursor);
-            } else {
-                nextCursor = lastId.toString();
-                log.debug("종료 시간 없음, ID 커서 사용: {}", nextCursor);
-            }
-        } else {
-            nextCursor = lastId.toString();
-            log.debug("기본 ID 커서 사용: {}", nextCursor);
-        }
-
-        // 커서 페이지 응답 생성
-        return CursorPageResponse.of(
-                backupDtos,
-                hasNext ? nextCursor : null,
-                hasNext ? lastId : null,
+        Specification<BackupHistory> filterSpec = BackupSpecifications.withCriteria(
+                worker, status, startedAtFrom, startedAtTo);
+        boolean filtered = (worker != null && !worker.isEmpty()) || status != null
+                || startedAtFrom != null || startedAtTo != null;
+        PageTotal total = pageCountService.count(countMode, "backup_histories", filtered,
+                PageCountService.signature("backups", worker, status, startedAtFrom, startedAtTo),
+                () -> backupHistoryRepository.count(filterSpec));
+        log.debug("전체 데이터 수: {} ({})", total.value(), total.mode());
+
+        // 백업 이력 조회 (endedAt 은 진행 중인 백업이 null)
+        Specification<BackupHistory> spec = filterSpec.and(KeysetPredicates.after(
+                entitySortField, sortKeyType(entitySortField), keysetCursor, "endedAt".equals(entitySortField)));
+        List<BackupHistory> backupHistories = backupHistoryRepository.findBy(spec, query -> query
+                .sortBy(KeysetPredicates.sort(entitySortField, ascending))
+                .limit(size + 1)
+                .all());
+
+        return keysetPaginator.toResponse(
+                backupHistories,
                 size,
-                totalElements,
-                hasNext
-        );
+                entitySortField,
+                ascending,
+                backupHistory -> sortValue(backupHistory, entitySortField),
+                BackupHistory::getId,
+                backupMapper::toDtoList,
+                total);
     }
 
     private String mapSortField(String sortField) {
-        if (sortField == null || sortField.equals("startedAt")) {
+        if (sortField == null) {
             return "startAt";
         }
         switch (sortField) {
-            case "startedAt":
-                return "startAt";
             case "endedAt":
-                return "endedAt";
-            case "startAt":
             case "endAt":
+                return "endedAt";
             case "status":
             case "worker":
                 return sortField;
             default:
-                return "startAt"; // 기본값
+                return "startAt"; // 기본값 (startedAt, startAt)
+        }
+    }
+
+    private static Class<? extends Comparable<?>> sortKeyType(String entitySortField) {
+        switch (entitySortField) {
+            case "status":
+                return BackupStatus.class;
+            case "worker":
+                return String.class;
+            default:
+                return Instant.class;
+        }
+    }
+
+    private static Object sortValue(BackupHistory backupHistory, String entitySortField) {
+        switch (entitySortField) {
+            case "endedAt":
+                return backupHistory.getEndedAt();
+            case "status":
+                return backupHistory.getStatus();
+            case "worker":
+                return backupHistory.getWorker();
+            default:
+                return backupHistory.getStartAt();
         }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
 import com.team11.hrbank.module.domain.backup.BackupHistory;
 import com.team11.hrbank.module.domain.backup.BackupStatus;
 import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileInfo;
 import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
@@ -57,6 +58,47 @@ public class BackupTransactionService {
     return backupHistoryRepository.save(backupHistory);
   }
 
+  /**
+   * 마지막 완료 백업 (증분 백업 체인 결정용)
+   */
+  @Transactional(readOnly = true)
+  public BackupHistory findLatestCompletedBackup() {
+    return backupHistoryRepository.findTopByStatusOrderByStartAtDesc(BackupStatus.COMPLETED)
+        .orElse(null);
+  }
+
+  /**
+   * 진행 중 백업 이력 저장 (유형과 체인 위치 기록)
+   */
+  public BackupHistory startBackupHistory(String worker, BackupPlan plan) {
+    BackupHistory backupHistory = new BackupHistory();
+    backupHistory.setWorker(worker);
+    backupHistory.setStartAt(Instant.now());
+    backupHistory.setStatus(BackupStatus.IN_PROGRESS);
+    backupHistory.setType(plan.type());
+    backupHistory.setBaseBackupId(plan.baseBackupId());
+    backupHistory.setPreviousBackupId(plan.previousBackupId());
+    backupHistory.setChainSequence(plan.chainSequence());
+    return backupHistoryRepository.save(backupHistory);
+  }
+
+  /**
+   * 백업 완료 처리 (다음 증분 백업 기준 시각, 압축 전 크기와 쓰기 시간 기록)
+   */
+  public BackupHistory completeBackup(Long backupId, File file, Instant watermark, BackupFileInfo fileInfo) {
+    BackupHistory backupHistory = backupHistoryRepository.findById(backupId)
+        .orElseThrow(() -> ResourceNotFoundException.of("BackupHistory", "id", backupId));
+
+    backupHistory.setStatus(BackupStatus.COMPLETED);
+    backupHistory.setEndedAt(Instant.now());
+    backupHistory.setFile(file);
+    backupHistory.setWatermark(watermark);
+    backupHistory.setOriginalSize(fileInfo.originalSize());
+    backupHistory.setWriteDurationMs(fileInfo.writeDurationMs());
+
+    return backupHistoryRepository.save(backupHistory);
+  }
+
   public BackupHistory updateBackupStatus(Long backupId, BackupStatus status, File file) {
     BackupHistory backupHistory = backupHistoryRepository.findById(backupId)
         .orElseThrow(() -> ResourceNotFoundException.of("BackupHistory", "id", backupId));
@@ -85,6 +127,13 @@ public class BackupTransactionService {
   }
 
   public File createFileEntity(String filePath) throws IOException {
+    return createFileEntity(filePath, null);
+  }
+
+  /**
+   * @param checksum 파일 내용의 SHA-256 (hex, 없으면 null)
+   */
+  public File createFileEntity(String filePath, String checksum) throws IOException {
     if (filePath == null || filePath.isEmpty()) {
       throw new IllegalArgumentException("파일 경로가 유효하지 않습니다.");
     }
@@ -104,6 +153,7 @@ public class BackupTransactionService {
     file.setFormat(format);
 
     file.setSize(actualFile.length());
+    file.setChecksum(checksum);
     return fileService.saveFile(file);
   }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import java.util.Arrays;
+
+/**
+ * 백업 CSV 형식 (섹션 구분 행, 값 이스케이프)
+ * - 전체 백업: EMPLOYEES, DEPARTMENTS 섹션 (ID 오름차순)
+ * - 증분 백업: 위 섹션에 변경된 행만, *_DELETED 섹션에 삭제된 ID (ID 오름차순)
+ * - 병렬 백업 아카이브: 섹션 대신 테이블(ID 구간)별 항목, 항목마다 헤더 + 행 (이름순이 ID 순서)
+ */
+public final class BackupCsv {
+
+  public static final String EMPLOYEES = "## EMPLOYEES ##";
+  public static final String EMPLOYEES_DELETED = "## EMPLOYEES DELETED ##";
+  public static final String DEPARTMENTS = "## DEPARTMENTS ##";
+  public static final String DEPARTMENTS_DELETED = "## DEPARTMENTS DELETED ##";
+  public static final String SECTION_PREFIX = "## ";
+  public static final String DELETED_HEADER = "ID";
+  public static final String ARCHIVE_MANIFEST = "manifest.csv";
+
+  private BackupCsv() {
+  }
+
+  /**
+   * 섹션에 해당하는 병렬 백업 아카이브 항목 이름 접두사 (아카이브에 없는 섹션이면 null)
+   */
+  public static String archiveEntryPrefix(String section) {
+    return switch (section) {
+      case EMPLOYEES -> "employees_";
+      case DEPARTMENTS -> "departments_";
+      default -> null;
+    };
+  }
+
+  /**
+   * 값 배열을 CSV 한 줄로 변환
+   */
+  public static String toLine(String[] values) {
+    return String.join(",", Arrays.stream(values)
+        .map(BackupCsv::escape)
+        .toArray(String[]::new));
+  }
+
+  /**
+   *  쉼표, 쌍따옴표, 줄바꿈(\n, \r) 이스케이프 처리 (PostgreSQL COPY csv 출력과 같은 규칙, 빈 값과 null 은 빈 칸)
+   */
+  public static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+
+    boolean needsQuotes = value.contains(",") || value.contains("\"") || value.contains("\n")
+        || value.contains("\r");
+
+    if (needsQuotes) {
+      String escaped = value.replace("\"", "\"\"");
+      return "\"" + escaped + "\"";
+    }
+
+    return value;
+  }
+}
@@ -1,95 +1,269 @@
 package com.team11.hrbank.module.domain.backup.service.data;
 
-import com.team11.hrbank.module.domain.department.Department;
-import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
-import com.team11.hrbank.module.domain.employee.Employee;
-import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 백업을 위한 데이터 추출
+ * - 엔티티 대신 필요한 컬럼만 조회하고 서버 측 커서로 fetch-size 행씩 읽어 바로 흘려보냄
+ * - 전체 행을 메모리에 올리지 않으므로 테이블 크기와 관계없이 힙 사용량이 일정
+ * - 직원/부서는 같은 읽기 전용 트랜잭션(REPEATABLE READ)에서 읽어 같은 시점 데이터로 백업
+ * - COPY 방식은 같은 조회를 COPY ... TO STDOUT 으로 실행해 DB 가 만든 CSV 를 그대로 기록
+ *   (값 형식은 커서 방식과 같도록 SQL 에서 맞춤)
+ * - 증분 백업은 기준 시각 이후 변경된 행(수정 시각, 변경 이력, 부서명 변경)과 삭제된 ID 만 기록
+ * - 병렬 백업은 한 트랜잭션에서 스냅샷을 내보내고(pg_export_snapshot), 작업자 트랜잭션마다 그 스냅샷을 가져와
+ *   테이블/ID 구간을 나눠 읽음 (모든 작업자가 같은 시점 데이터)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BackupDataService {
 
-  private final EmployeeRepository employeeRepository;
-  private final DepartmentRepository departmentRepository;
+  private static final String SELECT_EMPLOYEES_SQL = """
+      SELECT e.id, e.name, e.email, e.employee_number, d.name AS department_name, e.position,
+             e.hire_date, e.status, e.created_at
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      ORDER BY e.id
+      """;
+  private static final String SELECT_DEPARTMENTS_SQL = """
+      SELECT id, name, description, established_date, created_at
+      FROM departments
+      ORDER BY id
+      """;
 
-  private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(
-      ZoneOffset.UTC);
+  private static final String SELECT_EMPLOYEE_RANGE_SQL = """
+      SELECT e.id, e.name, e.email, e.employee_number, d.name AS department_name, e.position,
+             e.hire_date, e.status, e.created_at
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      WHERE e.id BETWEEN ? AND ?
+      ORDER BY e.id
+      """;
+  private static final String SELECT_EMPLOYEE_ID_RANGE_SQL =
+      "SELECT MIN(id) AS min_id, MAX(id) AS max_id, COUNT(*) AS total FROM employees";
+  // pg_export_snapshot() 결과 형식 (SET TRANSACTION SNAPSHOT 에 문자열로 넣으므로 검증)
+  private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f]+(-[0-9A-Fa-f]+)+");
+
+  // 수정/생성 시각 또는 변경 이력이 기준 시각 이후이거나, 소속 부서가 바뀐(부서명 반영) 직원
+  private static final String SELECT_CHANGED_EMPLOYEES_SQL = """
+      SELECT e.id, e.name, e.email, e.employee_number, d.name AS department_name, e.position,
+             e.hire_date, e.status, e.created_at
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      WHERE e.id IN (
+          SELECT id FROM employees WHERE COALESCE(updated_at, created_at) > ?
+          UNION
+          SELECT employee_id FROM change_logs WHERE created_at > ? AND type <> 'DELETED'
+          UNION
+          SELECT e2.id FROM employees e2
+          JOIN departments d2 ON d2.id = e2.department_id
+          WHERE COALESCE(d2.updated_at, d2.created_at) > ?)
+      ORDER BY e.id
+      """;
+  private static final String SELECT_CHANGED_DEPARTMENTS_SQL = """
+      SELECT id, name, description, established_date, created_at
+      FROM departments
+      WHERE COALESCE(updated_at, created_at) > ?
+      ORDER BY id
+      """;
+  // 기준 시각 이후 삭제되어 지금 없는 ID
+  private static final String SELECT_DELETED_EMPLOYEE_IDS_SQL = """
+      SELECT ed.employee_id AS id
+      FROM employee_deletions ed
+      WHERE ed.deleted_at > ?
+        AND NOT EXISTS (SELECT 1 FROM employees e WHERE e.id = ed.employee_id)
+      ORDER BY id
+      """;
+  private static final String SELECT_DELETED_DEPARTMENT_IDS_SQL = """
+      SELECT dd.department_id AS id
+      FROM department_deletions dd
+      WHERE dd.deleted_at > ?
+        AND NOT EXISTS (SELECT 1 FROM departments d WHERE d.id = dd.department_id)
+      ORDER BY id
+      """;
+
+  // COPY 는 빈 문자열을 NULL 과 구분해 "" 로 출력하므로 문자열 컬럼은 NULL 로 바꿔 커서 방식처럼 빈 칸으로 기록
+  private static final String COPY_EMPLOYEES_SQL = """
+      COPY (
+        SELECT e.id, NULLIF(e.name, ''), NULLIF(e.email, ''), NULLIF(e.employee_number, ''),
+               NULLIF(d.name, ''), NULLIF(e.position, ''),
+               to_char(e.hire_date, 'YYYY-MM-DD'), e.status, %s
+        FROM employees e
+        LEFT JOIN departments d ON d.id = e.department_id
+        ORDER BY e.id
+      ) TO STDOUT WITH (FORMAT csv)
+      """.formatted(instantText("e.created_at"));
+  private static final String COPY_DEPARTMENTS_SQL = """
+      COPY (
+        SELECT id, NULLIF(name, ''), NULLIF(description, ''), to_char(established_date, 'YYYY-MM-DD'), %s
+        FROM departments
+        ORDER BY id
+      ) TO STDOUT WITH (FORMAT csv)
+      """.formatted(instantText("created_at"));
+
+  private static final RowMapper<String[]> EMPLOYEE_ROW_MAPPER = (rs, rowNum) -> new String[] {
+      String.valueOf(rs.getLong("id")),
+      rs.getString("name"),
+      rs.getString("email"),
+      rs.getString("employee_number"),
+      nullToEmpty(rs.getString("department_name")),
+      rs.getString("position"),
+      format(rs.getObject("hire_date", LocalDate.class)),
+      nullToEmpty(rs.getString("status")),
+      format(rs.getTimestamp("created_at"))
+  };
+
+  private static final RowMapper<String[]> DEPARTMENT_ROW_MAPPER = (rs, rowNum) -> new String[] {
+      String.valueOf(rs.getLong("id")),
+      rs.getString("name"),
+      nullToEmpty(rs.getString("description")),
+      format(rs.getObject("established_date", LocalDate.class)),
+      format(rs.getTimestamp("created_at"))
+  };
+
+  private static final RowMapper<String[]> ID_ROW_MAPPER = (rs, rowNum) -> new String[] {
+      String.valueOf(rs.getLong("id"))
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int fetchSize;
+
+  public BackupDataService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+      @Value("${backup.fetch-size:1000}") int fetchSize) {
+    if (fetchSize < 1) {
+      throw new IllegalArgumentException("backup.fetch-size 는 1 이상이어야 합니다: " + fetchSize);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.fetchSize = fetchSize;
+  }
 
   /**
-   * 직원 데이터를 CSV 포맷 문자열 스트림으로 추출
-   * @return 각 라인이 CSV 형식으로 포맷된 문자열 스트림
+   * 모든 백업 데이터를 헤더 정보와 함께 스트림으로 넘겨 처리
+   * - PostgreSQL 은 트랜잭션 안에서만 커서로 나눠 읽으므로 consumer 는 트랜잭션 안에서 호출됨
+   * - 스트림은 consumer 가 반환되면 닫힘 (밖으로 넘기지 말 것)
+   * @return consumer 의 반환값
    */
-  @Transactional(readOnly = true)
-  public Stream<String[]> getEmployeeDataForBackup() {
-    log.info("직원 데이터 백업 추출 시작");
-
-    // 부서 ID를 부서명에 매핑 (N+1 문제 방지)
-    Map<Long, String> departmentMap =
-        departmentRepository.findAll().stream()
-        .collect(Collectors.toMap(Department::getId, Department::getName));
-
-    List<Employee> employees = employeeRepository.findAll();
-    log.info("총 직원 수: {}", employees.size());
-
-    return employees.stream()
-        .map(employee -> new String[] {
-            String.valueOf(employee.getId()),
-            employee.getName(),
-            employee.getEmail(),
-            employee.getEmployeeNumber(),
-            employee.getDepartment() != null ? departmentMap.get(employee.getDepartment().getId()) : "",
-            employee.getPosition(),
-            employee.getHireDate() != null ? DATE_FORMATTER.format(employee.getHireDate()) : "",
-            employee.getStatus() != null ? employee.getStatus().name() : "",
-            employee.getCreatedAt() != null ? employee.getCreatedAt().toString() : ""
-        });
+  public <T> T streamAllDataForBackup(BackupStreamConsumer<T> consumer) throws IOException {
+    return streamInTransaction(this::getAllDataForBackup, consumer);
   }
 
   /**
-   * 직원 데이터 CSV 헤더 반환
-   * @return 직원 CSV 헤더 배열
+   * since 이후 변경된 데이터만 증분 백업 형식 스트림으로 넘겨 처리 (트랜잭션/스트림 규칙은 전체 백업과 동일)
+   * @param since 이전 백업의 기준 시각 (중복 포함은 복원 시 최신 값으로 덮어쓰므로 무해)
+   * @return consumer 의 반환값
    */
-  public String[] getEmployeeHeaders() {
-    return new String[] {
-        "ID", "이름", "이메일", "사원번호", "부서", "직위", "입사일", "상태", "생성일"
-    };
+  public <T> T streamIncrementalDataForBackup(Instant since, BackupStreamConsumer<T> consumer)
+      throws IOException {
+    Timestamp from = Timestamp.from(since);
+    return streamInTransaction(() -> getIncrementalDataForBackup(from), consumer);
   }
 
   /**
-   * 부서 데이터를 CSV 포맷 문자열 스트림으로 추출
-   * @return 각 라인이 CSV 형식으로 포맷된 문자열 스트림
+   * 스냅샷을 내보낸 트랜잭션 안에서 병렬 백업 작업을 나누고 callback 실행
+   * - 작업자가 스냅샷을 가져오려면 내보낸 트랜잭션이 열려 있어야 하므로 callback 은 작업이 끝날 때까지 반환하지 않아야 함
+   * @param maxEmployeeParts 직원 테이블을 나눌 최대 ID 구간 수
+   * @param minRowsPerPart ID 구간 하나의 최소 행 수 (작은 테이블은 나누지 않음)
+   * @return callback 의 반환값
    */
-  @Transactional(readOnly = true)
-  public Stream<String[]> getDepartmentDataForBackup() {
-    log.info("부서 데이터 백업 추출 시작");
+  public <T> T runInExportedSnapshot(int maxEmployeeParts, long minRowsPerPart, BackupSnapshotCallback<T> callback)
+      throws IOException {
+    try {
+      return transactionTemplate.execute(status -> {
+        String snapshotId = jdbcTemplate.queryForObject("SELECT pg_export_snapshot()", String.class);
+        List<BackupPart> parts = planParts(maxEmployeeParts, minRowsPerPart);
+        log.info("병렬 백업 스냅샷: {}, 작업 {}개", snapshotId, parts.size());
+        try {
+          return callback.run(snapshotId, parts);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
 
-    List<Department> departments = departmentRepository.findAll();
-    log.info("총 부서 수: {}", departments.size());
+  /**
+   * 내보낸 스냅샷을 가져와 작업 하나의 데이터(헤더 + 행)를 스트림으로 넘겨 처리
+   * - 작업자 스레드에서 호출 (스레드마다 새 트랜잭션이어야 스냅샷을 가져올 수 있음)
+   * @return consumer 의 반환값
+   */
+  public <T> T streamPartForBackup(String snapshotId, BackupPart part, BackupStreamConsumer<T> consumer)
+      throws IOException {
+    if (snapshotId == null || !SNAPSHOT_ID.matcher(snapshotId).matches()) {
+      throw new IllegalArgumentException("잘못된 스냅샷 ID: " + snapshotId);
+    }
+    return streamInTransaction(() -> {
+      // 트랜잭션의 첫 문장이어야 함
+      jdbcTemplate.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+      return getPartDataForBackup(part);
+    }, consumer);
+  }
 
-    return departments.stream()
-        .map(dept -> new String[] {
-            String.valueOf(dept.getId()),
-            dept.getName(),
-            dept.getDescription() != null ? dept.getDescription() : "",
-            dept.getEstablishedDate() != null ? DATE_FORMATTER.format(dept.getEstablishedDate()) : "",
-            dept.getCreatedAt() != null ? dept.getCreatedAt().toString() : ""
-        });
+  /**
+   * 모든 백업 데이터를 COPY 로 out 에 기록 (섹션 구분 행/헤더는 커서 방식과 동일)
+   * - 트랜잭션 하나에서 실행되므로 직원/부서가 같은 시점 데이터
+   * - out 은 닫지 않음
+   */
+  public void copyAllDataForBackup(OutputStream out) throws IOException {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        try {
+          writeLine(out, BackupCsv.EMPLOYEES);
+          writeLine(out, String.join(",", getEmployeeHeaders()));
+          copyOut(COPY_EMPLOYEES_SQL, out, "직원");
+          writeLine(out, BackupCsv.DEPARTMENTS);
+          writeLine(out, String.join(",", getDepartmentHeaders()));
+          copyOut(COPY_DEPARTMENTS_SQL, out, "부서");
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * 직원 데이터 CSV 헤더 반환
+   * @return 직원 CSV 헤더 배열
+   */
+  public String[] getEmployeeHeaders() {
+    return new String[] {
+        "ID", "이름", "이메일", "사원번호", "부서", "직위", "입사일", "상태", "생성일"
+    };
   }
 
   /**
@@ -102,55 +276,169 @@ public class BackupDataService {
     };
   }
 
-  /**
-   * 모든 백업 데이터를 헤더 정보와 함께 스트림으로 반환
-   * @return 모든 엔티티의 데이터를 포함하는 문자열 스트림
-   */
-  @Transactional(readOnly = true)
-  public Stream<String> getAllDataForBackup() {
-    // 헤더와 데이터를 직접 CSV 문자열로 변환
-    Stream<String> employeeStream = Stream.concat(
-        Stream.of(String.join(",", getEmployeeHeaders())),
-        getEmployeeDataForBackup().map(row -> String.join(",", Arrays.stream(row)
-            .map(BackupDataService::escapeCsvValue)
-            .toArray(String[]::new)))
-    );
-
-    Stream<String> departmentStream = Stream.concat(
-        Stream.of(String.join(",", getDepartmentHeaders())),
-        getDepartmentDataForBackup().map(row -> String.join(",", Arrays.stream(row)
-            .map(BackupDataService::escapeCsvValue)
-            .toArray(String[]::new)))
-    );
-
-    // 엔티티 구분을 위한 헤더 + CSV 데이터 스트림
-    return Stream.concat(
-        Stream.of("## EMPLOYEES ##"),
-        Stream.concat(
-            employeeStream,
-            Stream.concat(
-                Stream.of("## DEPARTMENTS ##"),
-                departmentStream
-            )
-        )
-    );
+  private <T> T streamInTransaction(Supplier<Stream<String>> source, BackupStreamConsumer<T> consumer)
+      throws IOException {
+    try {
+      return transactionTemplate.execute(status -> {
+        try (Stream<String> lines = source.get()) {
+          return consumer.accept(lines);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
   }
 
-  /**
-   *  쉼표, 쌍따옴표 등 이스케이프 처리
-   */
-  private static String escapeCsvValue(String value) {
-    if (value == null) {
-      return "";
+  // 섹션 구분 행 + 헤더 + CSV 데이터 (각 커서는 앞 섹션을 다 읽은 뒤 열림)
+  private Stream<String> getAllDataForBackup() {
+    return concatSections(List.of(
+        () -> Stream.of(BackupCsv.EMPLOYEES, String.join(",", getEmployeeHeaders())),
+        () -> query(SELECT_EMPLOYEES_SQL, EMPLOYEE_ROW_MAPPER, "직원"),
+        () -> Stream.of(BackupCsv.DEPARTMENTS, String.join(",", getDepartmentHeaders())),
+        () -> query(SELECT_DEPARTMENTS_SQL, DEPARTMENT_ROW_MAPPER, "부서")));
+  }
+
+  private Stream<String> getIncrementalDataForBackup(Timestamp since) {
+    return concatSections(List.of(
+        () -> Stream.of(BackupCsv.EMPLOYEES, String.join(",", getEmployeeHeaders())),
+        () -> query(SELECT_CHANGED_EMPLOYEES_SQL, EMPLOYEE_ROW_MAPPER, "변경된 직원", since, since, since),
+        () -> Stream.of(BackupCsv.EMPLOYEES_DELETED, BackupCsv.DELETED_HEADER),
+        () -> query(SELECT_DELETED_EMPLOYEE_IDS_SQL, ID_ROW_MAPPER, "삭제된 직원", since),
+        () -> Stream.of(BackupCsv.DEPARTMENTS, String.join(",", getDepartmentHeaders())),
+        () -> query(SELECT_CHANGED_DEPARTMENTS_SQL, DEPARTMENT_ROW_MAPPER, "변경된 부서", since),
+        () -> Stream.of(BackupCsv.DEPARTMENTS_DELETED, BackupCsv.DELETED_HEADER),
+        () -> query(SELECT_DELETED_DEPARTMENT_IDS_SQL, ID_ROW_MAPPER, "삭제된 부서", since)));
+  }
+
+  // 직원 ID 범위와 행 수로 작업 나누기 (ID 는 대체로 연속이라 균등 분할)
+  private List<BackupPart> planParts(int maxEmployeeParts, long minRowsPerPart) {
+    return jdbcTemplate.queryForObject(SELECT_EMPLOYEE_ID_RANGE_SQL, (rs, rowNum) -> BackupPartPlanner.plan(
+        rs.getLong("min_id"), rs.getLong("max_id"), rs.getLong("total"), maxEmployeeParts, minRowsPerPart));
+  }
+
+  private Stream<String> getPartDataForBackup(BackupPart part) {
+    String target = part.entryName();
+    return switch (part.section()) {
+      case BackupCsv.EMPLOYEES -> Stream.concat(
+          Stream.of(String.join(",", getEmployeeHeaders())),
+          part.fromId() == null
+              ? query(SELECT_EMPLOYEES_SQL, EMPLOYEE_ROW_MAPPER, target)
+              : query(SELECT_EMPLOYEE_RANGE_SQL, EMPLOYEE_ROW_MAPPER, target, part.fromId(), part.toId()));
+      case BackupCsv.DEPARTMENTS -> Stream.concat(
+          Stream.of(String.join(",", getDepartmentHeaders())),
+          query(SELECT_DEPARTMENTS_SQL, DEPARTMENT_ROW_MAPPER, target));
+      default -> throw new IllegalArgumentException("병렬 백업을 지원하지 않는 섹션: " + part.section());
+    };
+  }
+
+  // 섹션 스트림을 차례로 열어 이어 붙임 (앞 섹션을 끝까지 읽고 닫은 뒤 다음 섹션을 엶)
+  // - flatMap 으로 이으면 consumer 가 iterator() 로 읽을 때 JDK 가 안쪽 스트림(섹션 전체 행)을 버퍼에 모으므로 사용하지 않음
+  private static Stream<String> concatSections(List<Supplier<Stream<String>>> sections) {
+    SectionIterator iterator = new SectionIterator(sections.iterator());
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  private Stream<String> query(String sql, RowMapper<String[]> rowMapper, String target, Object... args) {
+    log.info("{} 데이터 백업 추출 시작 (fetch size: {})", target, fetchSize);
+    long[] rows = new long[1];
+    return jdbcTemplate.queryForStream(connection -> {
+          PreparedStatement ps = connection.prepareStatement(sql);
+          ps.setFetchSize(fetchSize);
+          return ps;
+        }, new ArgumentPreparedStatementSetter(args), rowMapper)
+        .map(row -> {
+          rows[0]++;
+          return BackupCsv.toLine(row);
+        })
+        .onClose(() -> log.info("{} 데이터 백업 추출 완료: {}건", target, rows[0]));
+  }
+
+  // 트랜잭션에 묶인 커넥션으로 COPY 실행 (드라이버가 받은 바이트를 그대로 out 에 씀)
+  private void copyOut(String sql, OutputStream out, String target) throws IOException {
+    log.info("{} 데이터 COPY 백업 시작", target);
+    try {
+      Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+        try {
+          return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      log.info("{} 데이터 COPY 백업 완료: {}건", target, rows);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
     }
+  }
 
-    boolean needsQuotes = value.contains(",") || value.contains("\"") || value.contains("\n");
+  private static void writeLine(OutputStream out, String line) throws IOException {
+    out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+  }
 
-    if (needsQuotes) {
-      String escaped = value.replace("\"", "\"\"");
-      return "\"" + escaped + "\"";
+  // Instant.toString() 과 같은 UTC ISO-8601 문자열 (소수 초는 0/3/6자리)
+  private static String instantText(String column) {
+    String utc = column + " AT TIME ZONE 'UTC'";
+    String micros = "(date_part('microseconds', " + column + ")::bigint % 1000000)";
+    return "to_char(" + utc + ", 'YYYY-MM-DD\"T\"HH24:MI:SS')"
+        + " || CASE WHEN " + micros + " = 0 THEN ''"
+        + " WHEN " + micros + " % 1000 = 0 THEN to_char(" + utc + ", '.MS')"
+        + " ELSE to_char(" + utc + ", '.US') END || 'Z'";
+  }
+
+  private static String format(LocalDate date) {
+    return date != null ? date.toString() : "";
+  }
+
+  private static String format(Timestamp timestamp) {
+    return timestamp != null ? timestamp.toInstant().toString() : "";
+  }
+
+  private static String nullToEmpty(String value) {
+    return value != null ? value : "";
+  }
+
+  private static final class SectionIterator implements Iterator<String> {
+
+    private final Iterator<Supplier<Stream<String>>> sections;
+    private Stream<String> current;
+    private Iterator<String> lines = Collections.emptyIterator();
+
+    private SectionIterator(Iterator<Supplier<Stream<String>>> sections) {
+      this.sections = sections;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!lines.hasNext()) {
+        close();
+        if (!sections.hasNext()) {
+          return false;
+        }
+        current = sections.next().get();
+        lines = current.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public String next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return lines.next();
     }
 
-    return value;
+    // 읽던 섹션 스트림(커서) 닫기
+    private void close() {
+      if (current != null) {
+        Stream<String> closing = current;
+        current = null;
+        lines = Collections.emptyIterator();
+        closing.close();
+      }
+    }
   }
-}
\ No newline at end of file
+}
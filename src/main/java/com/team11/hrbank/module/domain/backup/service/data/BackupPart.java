@@ -0,0 +1,23 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+/**
+ * 병렬 백업 작업 단위 (테이블 하나 또는 테이블의 ID 구간 하나, 아카이브 항목 하나로 기록)
+ * @param section 테이블 섹션 (BackupCsv.EMPLOYEES, BackupCsv.DEPARTMENTS)
+ * @param index 테이블 안에서의 순서 (1부터, ID 구간 순서와 같음)
+ * @param fromId 구간 시작 ID (포함, 테이블 전체면 null)
+ * @param toId 구간 끝 ID (포함, 테이블 전체면 null)
+ */
+public record BackupPart(
+    String section,
+    int index,
+    Long fromId,
+    Long toId
+) {
+
+  /**
+   * 아카이브 항목 이름 (employees_001.csv 등, 이름순이 ID 순서)
+   */
+  public String entryName() {
+    return BackupCsv.archiveEntryPrefix(section) + String.format("%03d", index) + ".csv";
+  }
+}
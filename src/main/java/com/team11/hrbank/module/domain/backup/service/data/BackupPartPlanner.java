@@ -0,0 +1,40 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 병렬 백업 작업 나누기 (직원 ID 범위와 행 수만 받아 계산)
+ * - 직원은 최대 maxEmployeeParts 개의 연속된 ID 구간, 구간마다 평균 minRowsPerPart 행 이상
+ * - 부서는 작으므로 항상 하나
+ */
+final class BackupPartPlanner {
+
+  private BackupPartPlanner() {
+  }
+
+  /**
+   * @param minId 직원 최소 ID (total 이 0 이면 무시)
+   * @param maxId 직원 최대 ID (total 이 0 이면 무시)
+   * @param total 직원 수
+   * @return 직원 구간들(ID 순서) + 부서
+   */
+  static List<BackupPart> plan(long minId, long maxId, long total, int maxEmployeeParts, long minRowsPerPart) {
+    List<BackupPart> parts = new ArrayList<>();
+    if (total == 0) {
+      parts.add(new BackupPart(BackupCsv.EMPLOYEES, 1, null, null));
+    } else {
+      int count = (int) Math.max(1, Math.min(maxEmployeeParts, total / Math.max(minRowsPerPart, 1)));
+      long step = (maxId - minId) / count + 1;
+      for (int i = 0; i < count; i++) {
+        long fromId = minId + i * step;
+        if (fromId > maxId) {
+          break;
+        }
+        parts.add(new BackupPart(BackupCsv.EMPLOYEES, i + 1, fromId, Math.min(maxId, fromId + step - 1)));
+      }
+    }
+    parts.add(new BackupPart(BackupCsv.DEPARTMENTS, 1, null, null));
+    return parts;
+  }
+}
@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 내보낸 스냅샷이 유지되는 동안 실행할 병렬 백업 작업
+ */
+@FunctionalInterface
+public interface BackupSnapshotCallback<T> {
+
+  T run(String snapshotId, List<BackupPart> parts) throws IOException;
+}
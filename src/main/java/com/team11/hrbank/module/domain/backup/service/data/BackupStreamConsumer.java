@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+/**
+ * 백업 데이터 스트림 소비 (DB 커서가 열려 있는 동안 호출됨)
+ */
+@FunctionalInterface
+public interface BackupStreamConsumer<T> {
+
+  T accept(Stream<String> lines) throws IOException;
+}
@@ -0,0 +1,71 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 백업 파일 압축 방식 (backup.compression.codec)
+ */
+public enum BackupCompression {
+  NONE("") {
+    @Override
+    OutputStream compress(OutputStream out, int level) {
+      return out;
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) {
+      return in;
+    }
+  },
+  // level 1 이 가장 빠르고 9 가 가장 작음
+  GZIP(".gz") {
+    @Override
+    OutputStream compress(OutputStream out, int level) throws IOException {
+      return new GZIPOutputStream(out, BUFFER_SIZE) {
+        {
+          def.setLevel(level);
+        }
+      };
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+      return new GZIPInputStream(in, BUFFER_SIZE);
+    }
+  };
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private final String extension;
+
+  BackupCompression(String extension) {
+    this.extension = extension;
+  }
+
+  /**
+   * 압축 파일 확장자 (.csv 뒤에 붙음)
+   */
+  public String extension() {
+    return extension;
+  }
+
+  abstract OutputStream compress(OutputStream out, int level) throws IOException;
+
+  public abstract InputStream decompress(InputStream in) throws IOException;
+
+  /**
+   * 파일명 확장자로 압축 방식 판단 (압축 설정 변경 전에 만든 파일도 읽을 수 있도록)
+   */
+  public static BackupCompression fromFileName(String fileName) {
+    for (BackupCompression compression : values()) {
+      if (!compression.extension.isEmpty() && fileName.endsWith(compression.extension)) {
+        return compression;
+      }
+    }
+    return NONE;
+  }
+}
@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+/**
+ * 백업 파일 생성 방식 (backup.engine)
+ */
+public enum BackupEngine {
+  // JDBC 커서로 행을 읽어 애플리케이션에서 CSV 변환
+  CURSOR,
+  // PostgreSQL COPY ... TO STDOUT (CSV) 출력을 파일에 그대로 기록
+  COPY,
+  // 내보낸 스냅샷을 공유하는 작업자들이 테이블/ID 구간별로 동시에 읽어 zip 아카이브 항목으로 기록
+  PARALLEL
+}
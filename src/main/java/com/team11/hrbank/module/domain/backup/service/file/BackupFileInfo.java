@@ -0,0 +1,16 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+/**
+ * 저장된 백업 파일 정보
+ * @param originalSize 압축 전 크기 (bytes)
+ * @param storedSize 실제 저장된 크기 (bytes)
+ * @param sha256 저장된 파일 내용의 SHA-256 (hex)
+ * @param writeDurationMs 파일 쓰기 시간 (DB 조회 포함)
+ */
+public record BackupFileInfo(
+    String path,
+    long originalSize,
+    long storedSize,
+    String sha256,
+    long writeDurationMs
+) {}
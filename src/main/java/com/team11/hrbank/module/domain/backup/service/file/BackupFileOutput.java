@@ -0,0 +1,77 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import org.apache.commons.io.output.CountingOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 백업 파일 출력 스트림 (압축하면서 저장되는 바이트의 SHA-256 과 압축 전/후 크기 계산)
+ * - 호출자 -> 버퍼 -> 압축 전 크기 -> 압축 -> 저장 크기 -> SHA-256 -> 파일
+ * - 파일을 다시 읽지 않고 쓰는 동안 해시를 계산
+ */
+class BackupFileOutput implements Closeable {
+
+  private final Path path;
+  private final MessageDigest digest;
+  private final CountingOutputStream storedCounter;
+  private final CountingOutputStream originalCounter;
+  private final OutputStream out;
+  private final long startNanos = System.nanoTime();
+  private long writeDurationMs = -1;
+  private String sha256;
+
+  BackupFileOutput(Path path, BackupCompression compression, int level) throws IOException {
+    this.path = path;
+    try {
+      this.digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+    }
+    OutputStream file = Files.newOutputStream(path);
+    try {
+      this.storedCounter = new CountingOutputStream(new DigestOutputStream(file, digest));
+      this.originalCounter = new CountingOutputStream(compression.compress(storedCounter, level));
+      this.out = new BufferedOutputStream(originalCounter, BackupCompression.BUFFER_SIZE);
+    } catch (IOException | RuntimeException e) {
+      file.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 압축 전 내용을 쓰는 스트림 (닫으면 압축 마무리 후 파일까지 닫힘)
+   */
+  OutputStream stream() {
+    return out;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (writeDurationMs < 0) {
+      out.close();
+      writeDurationMs = (System.nanoTime() - startNanos) / 1_000_000;
+      // digest() 는 한 번만 (호출하면 초기화됨)
+      sha256 = HexFormat.of().formatHex(digest.digest());
+    }
+  }
+
+  /**
+   * 저장된 파일 정보 (close 후 호출)
+   */
+  BackupFileInfo info() {
+    if (writeDurationMs < 0) {
+      throw new IllegalStateException("백업 파일이 아직 닫히지 않았습니다: " + path);
+    }
+    return new BackupFileInfo(path.toString(), originalCounter.getByteCount(), storedCounter.getByteCount(),
+        sha256, writeDurationMs);
+  }
+}
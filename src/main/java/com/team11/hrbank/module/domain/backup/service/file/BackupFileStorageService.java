@@ -1,14 +1,22 @@
 package com.team11.hrbank.module.domain.backup.service.file;
 
 import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.data.BackupPart;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.io.FileUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -16,7 +24,17 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * 백업 데이터를 CSV 파일로 저장하는 서비스 (OOM 방지 적용)
@@ -26,11 +44,62 @@ import java.util.stream.Stream;
 public class BackupFileStorageService {
     private final Path backupDir;
     private final Path errorLogDir;
+    private final BackupDataService backupDataService;
+    private final BackupEngine engine;
+    private final BackupCompression compression;
+    private final int compressionLevel;
+    private final int parallelWorkers;
+    private final long minRowsPerPart;
+    private final int connectionPoolSize;
+    // 병렬 백업 작업자 (백업마다 새로 만들지 않고 공유, 스레드는 작업이 들어올 때 생성)
+    private final ExecutorService parallelExecutor;
     private static DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss").withZone(ZoneId.systemDefault());
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
 
-    public BackupFileStorageService(FileStorageProperties properties){
+    public BackupFileStorageService(FileStorageProperties properties, BackupDataService backupDataService,
+                                    @Value("${backup.engine:CURSOR}") BackupEngine engine,
+                                    @Value("${backup.compression.codec:NONE}") BackupCompression compression,
+                                    @Value("${backup.compression.level:6}") int compressionLevel,
+                                    @Value("${backup.parallel.workers:4}") int parallelWorkers,
+                                    @Value("${backup.parallel.min-rows-per-part:100000}") long minRowsPerPart,
+                                    @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize){
+        if (compressionLevel < 1 || compressionLevel > 9) {
+            throw new IllegalArgumentException("backup.compression.level 은 1~9 사이여야 합니다: " + compressionLevel);
+        }
+        if (parallelWorkers < 1) {
+            throw new IllegalArgumentException("backup.parallel.workers 는 1 이상이어야 합니다: " + parallelWorkers);
+        }
         this.backupDir = createDirectoryIfNotExists(Paths.get(properties.getBackupFiles()));
         this.errorLogDir = createDirectoryIfNotExists(Paths.get(properties.getErrorLogs()));
+        this.backupDataService = backupDataService;
+        this.engine = engine;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.parallelWorkers = parallelWorkers;
+        this.minRowsPerPart = minRowsPerPart;
+        this.connectionPoolSize = connectionPoolSize;
+        if (engine == BackupEngine.PARALLEL) {
+            checkConnectionPool();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.parallelExecutor = Executors.newFixedThreadPool(parallelWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "backup-parallel-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parallelExecutor.shutdownNow();
+    }
+
+    // 스냅샷을 내보낸 트랜잭션 1개 + 작업자마다 1개의 커넥션을 동시에 사용
+    private void checkConnectionPool() {
+        if (connectionPoolSize < parallelWorkers + 1) {
+            throw new IllegalStateException("병렬 백업에는 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)가 "
+                + "backup.parallel.workers + 1 이상이어야 합니다: 풀 " + connectionPoolSize + ", 작업자 " + parallelWorkers);
+        }
     }
 
     private Path createDirectoryIfNotExists(Path directory) {
@@ -47,17 +116,165 @@ public class BackupFileStorageService {
     }
 
 
+    /**
+     * 설정된 백업 엔진(backup.engine)으로 전체 데이터를 csv 파일로 저장
+     * @return 저장된 파일 정보
+     */
+    public BackupFileInfo saveBackup() throws IOException {
+        return saveBackup(engine);
+    }
+
+    /**
+     * 지정한 백업 엔진으로 전체 데이터를 저장 (CURSOR, COPY 는 같은 csv 형식, PARALLEL 은 zip 아카이브)
+     * @return 저장된 파일 정보
+     */
+    public BackupFileInfo saveBackup(BackupEngine engine) throws IOException {
+        return switch (engine) {
+            case CURSOR -> backupDataService.streamAllDataForBackup(this::saveBackupToCsv);
+            case COPY -> copyBackupToCsv();
+            case PARALLEL -> saveParallelBackupToZip();
+        };
+    }
+
+    /**
+     * since 이후 변경분만 증분 백업 csv 파일로 저장 (변경분은 작으므로 엔진 설정과 관계없이 커서 방식)
+     * @return 저장된 파일 정보
+     */
+    public BackupFileInfo saveIncrementalBackup(Instant since) throws IOException {
+        return backupDataService.streamIncrementalDataForBackup(since,
+            lines -> saveLinesToCsv("backup_delta_", lines));
+    }
+
+    /**
+     * 증분 백업 체인을 합쳐 복원한 데이터를 전체 백업 형식 csv 파일로 저장
+     * @return 저장된 파일 정보
+     */
+    public BackupFileInfo saveRestoredBackupToCsv(Long backupId, Stream<String> backupDataStream) throws IOException {
+        return saveLinesToCsv("backup_restored_" + backupId + "_", backupDataStream);
+    }
+
+    /**
+     * PostgreSQL COPY 출력을 그대로 csv 파일로 저장 (행 단위 변환 없이 바이트 복사)
+     * @return 저장된 파일 정보
+     */
+    private BackupFileInfo copyBackupToCsv() throws IOException {
+        BackupFileOutput output = openBackupFile("backup_");
+        try (output) {
+            output.stream().write(UTF8_BOM); //BOM 추가 (excel 한글 인코딩 인식)
+            backupDataService.copyAllDataForBackup(output.stream());
+        }
+        return logSaved(output.info());
+    }
+
+    /**
+     * 같은 스냅샷을 가져온 작업자들이 테이블/ID 구간별 csv 를 동시에 만든 뒤 하나의 zip 아카이브로 묶음
+     * - 읽기, csv 변환, 압축은 작업자마다 병렬로 처리하고 묶는 단계는 압축 없이 바이트 복사만 함
+     * - 모든 작업자가 끝날 때까지 스냅샷을 내보낸 트랜잭션을 유지
+     * @return 저장된 아카이브 정보 (원본 크기는 항목 원본 크기 합)
+     */
+    private BackupFileInfo saveParallelBackupToZip() throws IOException {
+        checkConnectionPool();
+        long startNanos = System.nanoTime();
+        Path workDir = Files.createTempDirectory(backupDir, ".parallel_");
+        try {
+            return backupDataService.runInExportedSnapshot(parallelWorkers, minRowsPerPart, (snapshotId, parts) -> {
+                List<BackupFileInfo> entries = writeParts(snapshotId, parts, workDir);
+                return writeArchive(parts, entries, startNanos);
+            });
+        } finally {
+            FileUtils.deleteQuietly(workDir.toFile());
+        }
+    }
+
+    // 작업마다 공유 작업자 스레드에서 별도 트랜잭션 (결과는 작업 순서대로)
+    private List<BackupFileInfo> writeParts(String snapshotId, List<BackupPart> parts, Path workDir) throws IOException {
+        List<Future<BackupFileInfo>> futures = new ArrayList<>();
+        try {
+            for (BackupPart part : parts) {
+                Path partPath = workDir.resolve(part.entryName() + compression.extension());
+                futures.add(parallelExecutor.submit(() -> backupDataService.streamPartForBackup(snapshotId, part,
+                    lines -> writeLinesToCsv(new BackupFileOutput(partPath, compression, compressionLevel), lines))));
+            }
+
+            List<BackupFileInfo> entries = new ArrayList<>();
+            for (Future<BackupFileInfo> future : futures) {
+                entries.add(future.get());
+            }
+            return entries;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("병렬 백업 작업 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("병렬 백업 중단", e);
+        } finally {
+            // 실패 시 남은 작업 취소 (끝난 작업에는 영향 없음)
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    // 항목은 이미 압축되어 있으므로 zip 은 무압축으로 묶고, 항목별 구간/크기/해시는 manifest.csv 에 기록
+    private BackupFileInfo writeArchive(List<BackupPart> parts, List<BackupFileInfo> entries, long startNanos)
+        throws IOException {
+        Path archivePath = backupDir.resolve("backup_" + FILE_TIMESTAMP_FORMAT.format(Instant.now()) + ".zip");
+        BackupFileOutput output = new BackupFileOutput(archivePath, BackupCompression.NONE, compressionLevel);
+        try (output; ZipOutputStream zip = new ZipOutputStream(output.stream(), StandardCharsets.UTF_8)) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            for (BackupFileInfo entry : entries) {
+                Path entryPath = Paths.get(entry.path());
+                zip.putNextEntry(new ZipEntry(entryPath.getFileName().toString()));
+                Files.copy(entryPath, zip);
+                zip.closeEntry();
+            }
+
+            zip.putNextEntry(new ZipEntry(BackupCsv.ARCHIVE_MANIFEST));
+            Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            writer.write("\uFEFF");
+            writer.write(BackupCsv.toLine(new String[] {"항목", "시작 ID", "끝 ID", "원본 크기", "저장 크기", "SHA-256"}));
+            writer.write("\n");
+            for (int i = 0; i < parts.size(); i++) {
+                BackupPart part = parts.get(i);
+                BackupFileInfo entry = entries.get(i);
+                writer.write(BackupCsv.toLine(new String[] {
+                    Paths.get(entry.path()).getFileName().toString(),
+                    part.fromId() != null ? part.fromId().toString() : null,
+                    part.toId() != null ? part.toId().toString() : null,
+                    String.valueOf(entry.originalSize()),
+                    String.valueOf(entry.storedSize()),
+                    entry.sha256()}));
+                writer.write("\n");
+            }
+            writer.flush();
+            zip.closeEntry();
+        }
+
+        BackupFileInfo archive = output.info();
+        long originalSize = entries.stream().mapToLong(BackupFileInfo::originalSize).sum();
+        return logSaved(new BackupFileInfo(archive.path(), originalSize, archive.storedSize(), archive.sha256(),
+            (System.nanoTime() - startNanos) / 1_000_000));
+    }
+
     /**
      * 백업 데이터 csv 파일로 저장
      * @param backupDataStream 각행의 데이터가 csv 형식으로 포멧된 문자열 스트림
-     * @return 저장된 파일 경로
+     * @return 저장된 파일 정보
      */
-    public String saveBackupToCsv(Stream<String> backupDataStream) throws IOException {
-        String filename = "backup_" + FILE_TIMESTAMP_FORMAT.format(Instant.now()) + ".csv";
-        Path filePath = backupDir.resolve(filename);
+    public BackupFileInfo saveBackupToCsv(Stream<String> backupDataStream) throws IOException {
+        return saveLinesToCsv("backup_", backupDataStream);
+    }
 
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
-            CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT)){
+    private BackupFileInfo saveLinesToCsv(String filenamePrefix, Stream<String> backupDataStream) throws IOException {
+        return logSaved(writeLinesToCsv(openBackupFile(filenamePrefix), backupDataStream));
+    }
+
+    private BackupFileInfo writeLinesToCsv(BackupFileOutput output, Stream<String> backupDataStream) throws IOException {
+        try (output;
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output.stream(), StandardCharsets.UTF_8))){
 
             writer.write("\uFEFF"); //BOM 추가 (excel 한글 인코딩 인식)
 
@@ -66,7 +283,7 @@ public class BackupFileStorageService {
                 backupDataStream.forEach(line -> {
                     try {
                         writer.write(line);
-                        writer.newLine();
+                        writer.write('\n'); //COPY 출력과 같은 줄바꿈 (운영체제와 무관)
                     } catch (IOException e) {
                         throw new UncheckedIOException("csv 쓰기 실패", e);
                     }
@@ -75,8 +292,19 @@ public class BackupFileStorageService {
                 throw e.getCause();//원래 ioexception로 재변환뒤 위로 던짐
             }
         }
-        log.info("백업 파일 저장 완료: {}", filePath);
-        return filePath.toString();
+        return output.info();
+    }
+
+    // 압축 설정(backup.compression)에 따라 .csv 또는 .csv.gz
+    private BackupFileOutput openBackupFile(String filenamePrefix) throws IOException {
+        String filename = filenamePrefix + FILE_TIMESTAMP_FORMAT.format(Instant.now()) + ".csv" + compression.extension();
+        return new BackupFileOutput(backupDir.resolve(filename), compression, compressionLevel);
+    }
+
+    private BackupFileInfo logSaved(BackupFileInfo info) {
+        log.info("백업 파일 저장 완료: {} (원본 {} bytes, 저장 {} bytes, {} ms, sha256 {})",
+            info.path(), info.originalSize(), info.storedSize(), info.writeDurationMs(), info.sha256());
+        return info;
     }
 
     /**
@@ -0,0 +1,141 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import com.team11.hrbank.module.domain.backup.dto.BackupRestoreDto;
+import com.team11.hrbank.module.domain.backup.exception.BackupFailedException;
+import com.team11.hrbank.module.domain.backup.repository.BackupHistoryRepository;
+import com.team11.hrbank.module.domain.backup.service.BackupTransactionService;
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileInfo;
+import com.team11.hrbank.module.domain.backup.service.file.BackupFileStorageService;
+import com.team11.hrbank.module.domain.file.File;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 백업 복원 (전체 백업 + 증분 백업 체인 합성)
+ * - 전체 백업은 그 파일 그대로, 증분 백업은 기준 전체 백업부터 해당 백업까지 순서대로 적용한 전체 백업 형식 파일 생성
+ * - 모든 파일을 ID 순서로 동시에 읽으며 합치므로 데이터 크기와 관계없이 메모리 사용량 일정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackupRestoreService {
+
+  private final BackupHistoryRepository backupHistoryRepository;
+  private final BackupTransactionService backupTxService;
+  private final BackupFileStorageService fileStorageService;
+  private final BackupDataService backupDataService;
+
+  /**
+   * 백업 시점 데이터 복원
+   * @return 복원에 사용한 체인과 복원된 파일
+   */
+  public BackupRestoreDto restore(Long backupId) {
+    List<BackupHistory> chain = findChain(backupId);
+    List<Long> chainIds = chain.stream().map(BackupHistory::getId).toList();
+    BackupHistory target = chain.get(chain.size() - 1);
+    if (target.getType() == BackupType.FULL) {
+      return new BackupRestoreDto(backupId, chainIds, target.getFile().getId());
+    }
+
+    List<Path> files = chain.stream().map(backup -> Path.of(backup.getFile().getFilePath())).toList();
+    String restoredPath = null;
+    try {
+      BackupFileInfo restored;
+      try (Stream<String> lines = compose(files)) {
+        restored = fileStorageService.saveRestoredBackupToCsv(backupId, lines);
+      }
+      restoredPath = restored.path();
+      File restoredFile = backupTxService.createFileEntity(restoredPath, restored.sha256());
+      log.info("백업 복원 완료 - 백업 ID: {}, 체인: {}, 파일: {}", backupId, chainIds, restoredPath);
+      return new BackupRestoreDto(backupId, chainIds, restoredFile.getId());
+    } catch (IOException | UncheckedIOException e) {
+      log.error("백업 복원 실패 - 백업 ID: {}", backupId, e);
+      if (restoredPath != null) {
+        fileStorageService.deleteFile(restoredPath);
+      }
+      throw new BackupFailedException("백업 복원 실패: " + e.getMessage(), e);
+    }
+  }
+
+  // 기준 전체 백업부터 대상 백업까지 (이전 백업 링크를 따라감)
+  private List<BackupHistory> findChain(Long backupId) {
+    Deque<BackupHistory> chain = new ArrayDeque<>();
+    Long id = backupId;
+    while (true) {
+      Long currentId = id;
+      BackupHistory backup = backupHistoryRepository.findById(currentId)
+          .orElseThrow(() -> ResourceNotFoundException.of("BackupHistory", "id", currentId));
+      if (backup.getStatus() != BackupStatus.COMPLETED || backup.getFile() == null) {
+        throw new IllegalArgumentException("완료된 백업만 복원할 수 있습니다: " + currentId);
+      }
+      if (!Files.exists(Path.of(backup.getFile().getFilePath()))) {
+        throw new IllegalStateException("백업 파일이 없습니다: " + backup.getFile().getFilePath());
+      }
+      chain.addFirst(backup);
+      if (backup.getType() == BackupType.FULL) {
+        return new ArrayList<>(chain);
+      }
+      if (backup.getPreviousBackupId() == null) {
+        throw new IllegalStateException("증분 백업 체인이 끊어졌습니다: " + currentId);
+      }
+      id = backup.getPreviousBackupId();
+    }
+  }
+
+  // 전체 백업과 같은 섹션 구성 (섹션별로 파일을 열고, 다 읽으면 닫음)
+  private Stream<String> compose(List<Path> files) {
+    return Stream.<Supplier<Stream<String>>>of(
+            () -> Stream.of(BackupCsv.EMPLOYEES, String.join(",", backupDataService.getEmployeeHeaders())),
+            () -> merge(files, BackupCsv.EMPLOYEES, BackupCsv.EMPLOYEES_DELETED),
+            () -> Stream.of(BackupCsv.DEPARTMENTS, String.join(",", backupDataService.getDepartmentHeaders())),
+            () -> merge(files, BackupCsv.DEPARTMENTS, BackupCsv.DEPARTMENTS_DELETED))
+        .flatMap(Supplier::get);
+  }
+
+  private Stream<String> merge(List<Path> files, String section, String deletedSection) {
+    List<BackupSectionReader> readers = new ArrayList<>();
+    try {
+      for (int i = 0; i < files.size(); i++) {
+        readers.add(BackupSectionReader.open(files.get(i), section, i, false));
+        if (i > 0) {
+          readers.add(BackupSectionReader.open(files.get(i), deletedSection, i, true));
+        }
+      }
+    } catch (IOException e) {
+      readers.forEach(reader -> {
+        try {
+          reader.close();
+        } catch (IOException ignored) {
+          // 원래 오류 전달
+        }
+      });
+      throw new UncheckedIOException(e);
+    }
+
+    BackupSectionMerger merger = new BackupSectionMerger(readers);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merger, Spliterator.ORDERED), false)
+        .map(BackupCsv::toLine)
+        .onClose(merger::close);
+  }
+}
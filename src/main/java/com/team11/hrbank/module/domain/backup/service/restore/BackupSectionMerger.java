@@ -0,0 +1,85 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 전체 백업과 이후 증분 백업들의 같은 섹션을 ID 순서로 합침
+ * - ID 마다 가장 최신 백업의 행을 사용하고, 가장 최신이 삭제 표시면 제외
+ * - 파일마다 현재 행 하나만 들고 있으므로 메모리 사용량은 체인 길이에만 비례
+ */
+class BackupSectionMerger implements Iterator<String[]> {
+
+  private final List<BackupSectionReader> readers;
+  // ID 오름차순, 같은 ID 는 최신 백업 먼저
+  private final PriorityQueue<BackupSectionReader> queue = new PriorityQueue<>(
+      Comparator.comparingLong(BackupSectionReader::id)
+          .thenComparing(Comparator.comparingInt(BackupSectionReader::order).reversed()));
+  private String[] next;
+
+  BackupSectionMerger(List<BackupSectionReader> readers) {
+    this.readers = readers;
+    readers.forEach(this::requeue);
+    next = findNext();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return next != null;
+  }
+
+  @Override
+  public String[] next() {
+    if (next == null) {
+      throw new NoSuchElementException();
+    }
+    String[] values = next;
+    next = findNext();
+    return values;
+  }
+
+  /**
+   * 모든 파일 닫기
+   */
+  void close() {
+    IOException failure = null;
+    for (BackupSectionReader reader : readers) {
+      try {
+        reader.close();
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+    if (failure != null) {
+      throw new UncheckedIOException(failure);
+    }
+  }
+
+  private String[] findNext() {
+    while (!queue.isEmpty()) {
+      BackupSectionReader latest = queue.poll();
+      long id = latest.id();
+      String[] values = latest.isDeleted() ? null : latest.values();
+      requeue(latest);
+      // 같은 ID 의 이전 백업 행은 버림
+      while (!queue.isEmpty() && queue.peek().id() == id) {
+        requeue(queue.poll());
+      }
+      if (values != null) {
+        return values;
+      }
+    }
+    return null;
+  }
+
+  private void requeue(BackupSectionReader reader) {
+    if (reader.advance()) {
+      queue.add(reader);
+    }
+  }
+}
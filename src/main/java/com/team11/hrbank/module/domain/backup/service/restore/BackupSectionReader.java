@@ -0,0 +1,208 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import com.team11.hrbank.module.domain.backup.service.file.BackupCompression;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.input.BOMInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 백업 파일의 한 섹션을 한 행씩 읽음 (섹션 행은 ID 오름차순으로 기록됨)
+ * - 병렬 백업 zip 아카이브는 섹션에 해당하는 항목들을 이름순으로 이어 읽음
+ */
+class BackupSectionReader implements Closeable {
+
+  private static final String ARCHIVE_EXTENSION = ".zip";
+
+  private final Path file;
+  private final Closeable source;
+  private final Iterator<CSVRecord> records;
+  private final int order;
+  private final boolean deleted;
+  private boolean inSection;
+  private CSVRecord current;
+  private long id = Long.MIN_VALUE;
+
+  private BackupSectionReader(Path file, Closeable source, Iterator<CSVRecord> records, int order, boolean deleted) {
+    this.file = file;
+    this.source = source;
+    this.records = records;
+    this.order = order;
+    this.deleted = deleted;
+  }
+
+  /**
+   * section 헤더 다음 행 앞에 위치한 reader (섹션이 없으면 빈 reader, 압축 파일은 확장자로 판단해 풀면서 읽음)
+   * @param order 체인 내 순서 (클수록 최신)
+   * @param deleted 삭제된 ID 섹션 여부
+   */
+  static BackupSectionReader open(Path file, String section, int order, boolean deleted) throws IOException {
+    String fileName = file.getFileName().toString();
+    if (fileName.endsWith(ARCHIVE_EXTENSION)) {
+      return openArchive(file, section, order, deleted);
+    }
+    CSVParser parser = parse(fileName, Files.newInputStream(file));
+    BackupSectionReader reader = new BackupSectionReader(file, parser, parser.iterator(), order, deleted);
+    reader.skipTo(section);
+    return reader;
+  }
+
+  // 아카이브는 전체 백업만 있으므로 삭제 섹션은 항상 비어 있음
+  private static BackupSectionReader openArchive(Path file, String section, int order, boolean deleted)
+      throws IOException {
+    ZipFile zip = new ZipFile(file.toFile());
+    String prefix = BackupCsv.archiveEntryPrefix(section);
+    List<? extends ZipEntry> entries = prefix == null ? List.of() : zip.stream()
+        .filter(entry -> entry.getName().startsWith(prefix))
+        .sorted(Comparator.comparing(ZipEntry::getName))
+        .toList();
+    ArchiveRecords records = new ArchiveRecords(zip, entries);
+    BackupSectionReader reader = new BackupSectionReader(file, records, records, order, deleted);
+    reader.inSection = true;
+    return reader;
+  }
+
+  private static CSVParser parse(String fileName, InputStream in) throws IOException {
+    BackupCompression compression = BackupCompression.fromFileName(fileName);
+    return CSVFormat.DEFAULT.parse(new InputStreamReader(
+        BOMInputStream.builder().setInputStream(compression.decompress(in)).get(),
+        StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 다음 행으로 이동
+   * @return 섹션 안의 행이 있으면 true
+   */
+  boolean advance() {
+    current = null;
+    if (!inSection || !records.hasNext()) {
+      inSection = false;
+      return false;
+    }
+    CSVRecord record = records.next();
+    if (isSectionMarker(record)) {
+      inSection = false;
+      return false;
+    }
+    long nextId = Long.parseLong(record.get(0));
+    if (nextId <= id) {
+      throw new IllegalStateException("백업 파일 ID 순서가 올바르지 않습니다: " + file + " (" + nextId + ")");
+    }
+    current = record;
+    id = nextId;
+    return true;
+  }
+
+  long id() {
+    return id;
+  }
+
+  int order() {
+    return order;
+  }
+
+  boolean isDeleted() {
+    return deleted;
+  }
+
+  String[] values() {
+    return current.values();
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+
+  private void skipTo(String section) {
+    while (records.hasNext()) {
+      CSVRecord record = records.next();
+      if (isSectionMarker(record) && section.equals(record.get(0))) {
+        // 헤더 행
+        if (records.hasNext()) {
+          records.next();
+          inSection = true;
+        }
+        return;
+      }
+    }
+  }
+
+  private static boolean isSectionMarker(CSVRecord record) {
+    return record.size() == 1 && record.get(0).startsWith(BackupCsv.SECTION_PREFIX);
+  }
+
+  /**
+   * 아카이브 항목들의 행을 이어서 반환 (항목마다 헤더 행을 건너뜀, 한 번에 항목 하나만 열어 둠)
+   */
+  private static class ArchiveRecords implements Iterator<CSVRecord>, Closeable {
+
+    private final ZipFile zip;
+    private final Iterator<? extends ZipEntry> entries;
+    private CSVParser parser;
+    private Iterator<CSVRecord> records;
+
+    ArchiveRecords(ZipFile zip, List<? extends ZipEntry> entries) {
+      this.zip = zip;
+      this.entries = entries.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        while (records == null || !records.hasNext()) {
+          if (parser != null) {
+            parser.close();
+            parser = null;
+          }
+          if (!entries.hasNext()) {
+            return false;
+          }
+          ZipEntry entry = entries.next();
+          parser = parse(entry.getName(), zip.getInputStream(entry));
+          records = parser.iterator();
+          // 헤더 행
+          if (records.hasNext()) {
+            records.next();
+          }
+        }
+        return true;
+      } catch (IOException e) {
+        throw new UncheckedIOException("백업 아카이브 읽기 실패: " + zip.getName(), e);
+      }
+    }
+
+    @Override
+    public CSVRecord next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return records.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (zip) {
+        if (parser != null) {
+          parser.close();
+        }
+      }
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.team11.hrbank.module.domain.changelog.controller;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
 import com.team11.hrbank.module.domain.changelog.dto.ChangeLogDto;
+import com.team11.hrbank.module.domain.changelog.dto.ChangeLogWriteBehindStatsDto;
 import com.team11.hrbank.module.domain.changelog.dto.DiffDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,7 +46,8 @@ public interface ChangeLogApi {
       @Parameter(description = "커서 (이전 페이지의 마지막 ID)") @RequestParam(required = false) String cursor,
       @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
       @Parameter(description = "정렬 필드 (ipAddress, at)") @RequestParam(defaultValue = "at") String sortField,
-      @Parameter(description = "정렬 방향 (asc, desc)") @RequestParam(defaultValue = "desc") String sortDirection
+      @Parameter(description = "정렬 방향 (asc, desc)") @RequestParam(defaultValue = "desc") String sortDirection,
+      @Parameter(description = "전체 건수 계산 방식 (exact, estimated, none, 기본값: exact). none 이면 응답의 totalElements 는 null") @RequestParam(required = false) String countMode
   ) throws UnknownHostException;
 
   @Operation(
@@ -76,4 +78,15 @@ public interface ChangeLogApi {
       @Parameter(description = "시작 일시") @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant fromDate,
       @Parameter(description = "종료 일시") @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant toDate
   );
-}
\ No newline at end of file
+
+  @Operation(
+      summary = "수정 이력 write-behind 상태 조회",
+      description = "비동기 수정 이력 저장 큐 길이, 미반영 건수, flush 지연 시간, 저널 크기를 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      }
+  )
+  @GetMapping("/write-behind/stats")
+  ResponseEntity<ChangeLogWriteBehindStatsDto> getWriteBehindStats();
+}
@@ -1,9 +1,12 @@
 package com.team11.hrbank.module.domain.changelog.controller;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
 import com.team11.hrbank.module.domain.changelog.dto.ChangeLogDto;
+import com.team11.hrbank.module.domain.changelog.dto.ChangeLogWriteBehindStatsDto;
 import com.team11.hrbank.module.domain.changelog.dto.DiffDto;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogRecorder;
 import com.team11.hrbank.module.domain.changelog.service.ChangeLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -21,6 +24,7 @@ import java.util.List;
 public class ChangeLogController implements ChangeLogApi {
 
   private final ChangeLogService changeLogService;
+  private final ChangeLogRecorder changeLogRecorder;
 
   @GetMapping//직원 정보 수정 이력 목록 조회. 상세 변경 내용은 포함 x
   public ResponseEntity<CursorPageResponse<ChangeLogDto>> getAllChangeLogs(
@@ -34,14 +38,15 @@ public class ChangeLogController implements ChangeLogApi {
       @RequestParam(required = false) String cursor, // 이전 페이지의 마지막 id
       @RequestParam(defaultValue = "30") int size, //페이지 크기
       @RequestParam(defaultValue = "at") String sortField, //정렬 필드(ipAddress, at)
-      @RequestParam(defaultValue = "desc") String sortDirection) //정렬 방향 (asc, desc)
+      @RequestParam(defaultValue = "desc") String sortDirection, //정렬 방향 (asc, desc)
+      @RequestParam(required = false) String countMode) //전체 건수 계산 방식 (exact, estimated, none)
   {
 
 
     CursorPageResponse<ChangeLogDto> response = changeLogService.getAllChangeLogs(
         employeeNumber,
         type, memo, ipAddress, atFrom, atTo,
-        idAfter, cursor, size, sortField, sortDirection);
+        idAfter, cursor, size, sortField, sortDirection, CountMode.from(countMode));
 
     return ResponseEntity.ok(response);
   }
@@ -61,4 +66,9 @@ public class ChangeLogController implements ChangeLogApi {
     long changeLogsCount = changeLogService.getChangeLogsCount(fromDate, toDate);
     return ResponseEntity.ok(changeLogsCount);
   }
+
+  @GetMapping("/write-behind/stats") // 비동기 수정 이력 저장 상태
+  public ResponseEntity<ChangeLogWriteBehindStatsDto> getWriteBehindStats() {
+    return ResponseEntity.ok(changeLogRecorder.getWriteBehindStats());
+  }
 }
\ No newline at end of file
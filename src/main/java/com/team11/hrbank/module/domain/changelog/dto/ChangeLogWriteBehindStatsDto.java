@@ -0,0 +1,20 @@
+package com.team11.hrbank.module.domain.changelog.dto;
+
+public record ChangeLogWriteBehindStatsDto(
+    boolean enabled,
+    int queueDepth,
+    int pendingCount,
+    long flushedTotal,
+    long flushCount,
+    long failedFlushCount,
+    double lastFlushMillis,
+    double avgFlushMillis,
+    double maxFlushMillis,
+    double lastFsyncMillis,
+    long journalSizeBytes
+) {
+
+  public static ChangeLogWriteBehindStatsDto disabled() {
+    return new ChangeLogWriteBehindStatsDto(false, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+  }
+}
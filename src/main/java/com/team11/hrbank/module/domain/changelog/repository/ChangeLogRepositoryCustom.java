@@ -0,0 +1,23 @@
+package com.team11.hrbank.module.domain.changelog.repository;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.domain.changelog.ChangeLog;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ChangeLogRepositoryCustom {
+
+  // IP 주소 정렬 (inet 비교) - 값이 있는 필터만 조건으로 추가 (ChangeLogSpecification 과 같은 규칙)
+  List<ChangeLog> findByIpAddressWithCursor(
+      String employeeNumber,
+      HistoryType type,
+      String memo,
+      String ipAddress,
+      Instant atFrom,
+      Instant atTo,
+      KeysetCursor cursor,
+      int limit,
+      boolean ascending);
+}
@@ -0,0 +1,88 @@
+package com.team11.hrbank.module.domain.changelog.repository;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.util.LikePatterns;
+import com.team11.hrbank.module.domain.changelog.ChangeLog;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class ChangeLogRepositoryCustomImpl implements ChangeLogRepositoryCustom {
+
+  private final EntityManager entityManager;
+
+  public ChangeLogRepositoryCustomImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  // (ip_address, id) 행 비교로 keyset 조건 적용
+  // 없는 필터는 "(:x IS NULL OR ...)" 로 남기지 않고 아예 빼서 플래너가 필터별 인덱스를 고르게 함
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<ChangeLog> findByIpAddressWithCursor(String employeeNumber, HistoryType type,
+      String memo, String ipAddress, Instant atFrom, Instant atTo, KeysetCursor cursor,
+      int limit, boolean ascending) {
+    List<String> conditions = new ArrayList<>();
+    Map<String, Object> parameters = new LinkedHashMap<>();
+
+    if (employeeNumber != null && !employeeNumber.isEmpty()) {
+      conditions.add("c.employee_number LIKE :employeeNumberPattern");
+      parameters.put("employeeNumberPattern", LikePatterns.contains(employeeNumber));
+    }
+
+    if (type != null) {
+      conditions.add("c.type = :type");
+      parameters.put("type", type.name());
+    }
+
+    if (memo != null && !memo.isEmpty()) {
+      conditions.add("c.memo LIKE :memoPattern");
+      parameters.put("memoPattern", LikePatterns.contains(memo));
+    }
+
+    if (ipAddress != null && !ipAddress.isEmpty()) {
+      // host(ip_address) trigram 인덱스
+      conditions.add("host(c.ip_address) LIKE :ipAddressPattern");
+      parameters.put("ipAddressPattern", LikePatterns.contains(ipAddress));
+    }
+
+    if (atFrom != null) {
+      conditions.add("c.created_at >= :atFrom");
+      parameters.put("atFrom", atFrom);
+    }
+
+    if (atTo != null) {
+      conditions.add("c.created_at <= :atTo");
+      parameters.put("atTo", atTo);
+    }
+
+    if (cursor != null) {
+      conditions.add("(c.ip_address, c.id) " + (ascending ? ">" : "<")
+          + " (CAST(:cursorIpAddress AS inet), :cursorId)");
+      parameters.put("cursorIpAddress", cursor.value(String.class));
+      parameters.put("cursorId", cursor.id());
+    }
+
+    String direction = ascending ? "ASC" : "DESC";
+    StringBuilder sql = new StringBuilder("SELECT * FROM change_logs c");
+    if (!conditions.isEmpty()) {
+      sql.append(" WHERE ").append(String.join(" AND ", conditions));
+    }
+    sql.append(" ORDER BY c.ip_address ").append(direction)
+        .append(", c.id ").append(direction)
+        .append(" LIMIT :limit");
+    parameters.put("limit", limit);
+
+    Query query = entityManager.createNativeQuery(sql.toString(), ChangeLog.class);
+    parameters.forEach(query::setParameter);
+    return query.getResultList();
+  }
+}
@@ -0,0 +1,37 @@
+package com.team11.hrbank.module.domain.changelog.service;
+
+import com.team11.hrbank.module.domain.changelog.ChangeLog;
+import com.team11.hrbank.module.domain.changelog.dto.ChangeLogWriteBehindStatsDto;
+import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import com.team11.hrbank.module.domain.changelog.service.journal.ChangeLogEvent;
+import com.team11.hrbank.module.domain.changelog.service.journal.ChangeLogWriteBehindService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 이력 기록
+ * - write-behind 활성화 시 저널 + 비동기 batch insert
+ * - 비활성화 시 기존처럼 요청 트랜잭션 안에서 바로 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogRecorder {
+
+  private final ChangeLogRepository changeLogRepository;
+  private final ObjectProvider<ChangeLogWriteBehindService> writeBehindService;
+
+  public void record(ChangeLog changeLog) {
+    ChangeLogWriteBehindService service = writeBehindService.getIfAvailable();
+    if (service == null) {
+      changeLogRepository.save(changeLog);
+      return;
+    }
+    service.enqueue(ChangeLogEvent.from(changeLog));
+  }
+
+  public ChangeLogWriteBehindStatsDto getWriteBehindStats() {
+    ChangeLogWriteBehindService service = writeBehindService.getIfAvailable();
+    return service == null ? ChangeLogWriteBehindStatsDto.disabled() : service.getStats();
+  }
+}
@@ -1,6 +1,7 @@
 package com.team11.hrbank.module.domain.changelog.service;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
 import com.team11.hrbank.module.domain.changelog.dto.ChangeLogDto;
 import com.team11.hrbank.module.domain.changelog.dto.DiffDto;
@@ -13,7 +14,7 @@ public interface ChangeLogService {
       String employeeNumber, HistoryType type, String memo,
       String ipAddress, Instant atFrom, Instant atTo,
       Long idAfter, String cursor, int size,
-      String sortField, String sortDirection);
+      String sortField, String sortDirection, CountMode countMode);
 
   List<DiffDto> getChangeLogDiffs(Long id);
 
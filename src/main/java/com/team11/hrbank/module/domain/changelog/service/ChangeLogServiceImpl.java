@@ -2,6 +2,12 @@ package com.team11.hrbank.module.domain.changelog.service;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.pagination.KeysetPaginator;
+import com.team11.hrbank.module.common.pagination.KeysetPredicates;
+import com.team11.hrbank.module.common.pagination.PageCountService;
+import com.team11.hrbank.module.common.pagination.PageTotal;
 import com.team11.hrbank.module.domain.changelog.ChangeLog;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
 import com.team11.hrbank.module.domain.changelog.dto.ChangeLogDto;
@@ -12,18 +18,12 @@ import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
 import com.team11.hrbank.module.domain.changelog.repository.ChangeLogSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 
 @Slf4j
@@ -35,173 +35,66 @@ public class ChangeLogServiceImpl implements ChangeLogService{
   private final ChangeLogRepository changeLogRepository;
   private final ChangeLogMapper changeLogMapper;
   private final DiffMapper diffMapper;
+  private final KeysetPaginator keysetPaginator;
+  private final PageCountService pageCountService;
 
   public CursorPageResponse<ChangeLogDto> getAllChangeLogs(String employeeNumber, HistoryType type, String memo, String ipAddress, Instant atFrom, Instant atTo, Long idAfter,
-                                                           String cursor, int size, String sortField, String sortDirection) {
+                                                           String cursor, int size, String sortField, String sortDirection,
+                                                           CountMode countMode) {
 
-    try {
-      log.debug("변경 로그 조회 요청 - employeeNumber: {}, type: {}, sortField: {}, sortDirection: {}, cursor: {}, idAfter: {}",
-              employeeNumber, type, sortField, sortDirection, cursor, idAfter);
+    log.debug("변경 로그 조회 요청 - employeeNumber: {}, type: {}, sortField: {}, sortDirection: {}, cursor: {}, idAfter: {}",
+            employeeNumber, type, sortField, sortDirection, cursor, idAfter);
 
-      // 커서 디코딩
-      if (cursor != null && !cursor.isEmpty() && idAfter == null) {
-        try {
-          // 숫자로 된 커서라면 바로 ID로 처리
-          if (cursor.matches("\\d+")) {
-            idAfter = Long.parseLong(cursor);
-            log.debug("숫자 커서: {} -> ID: {}", cursor, idAfter);
-          }
-          // Base64 인코딩된 형식인지 확인
-          else if (cursor.matches("^[A-Za-z0-9+/=]+$")) {
-            try {
-              String decoded = new String(Base64.getDecoder().decode(cursor));
-              idAfter = Long.parseLong(decoded.replace("{\"id\":", "").replace("}", ""));
-              log.debug("Base64 커서 디코딩: {} -> ID: {}", cursor, idAfter);
-            } catch (Exception e) {
-              log.warn("Base64 커서 디코딩 실패: {}", cursor);
-            }
-          }
-        } catch (Exception e) {
-          log.warn("커서 디코딩 실패: {}", cursor);
-        }
-      }
-
-      // 정렬 필드 유효성 검사
-      if (!isValidSortField(sortField)) {
-        throw new IllegalArgumentException("유효하지 않은 정렬 필드: " + sortField);
-      }
-
-      // IP 주소 정렬인 경우 네이티브 쿼리 사용
-      if ("ipAddress".equals(sortField)) {
-        return getChangeLogsByIpAddress(
-                employeeNumber, type, memo, ipAddress,
-                atFrom, atTo, idAfter, size, sortDirection);
-      }
-
-      String dbField = convertToDbField(sortField);
-
-      // 정렬 방향 설정
-      Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection)
-              ? Direction.DESC : Direction.ASC;
-
-      // 페이징 및 정렬 설정
-      PageRequest pageRequest = PageRequest.of(0, size+1, Sort.by(direction, dbField));
-
-      Instant cursorAt = null;
-      String cursorIpAddress = null;
-
-      if (cursor != null && !cursor.isEmpty()) {
-        if ("at".equals(sortField)) {
-          try {
-            // at 필드 기준 커서인 경우
-            cursorAt = Instant.parse(cursor);
-            log.debug("at 필드 커서 파싱 성공: {}", cursorAt);
-          } catch (Exception e) {
-            log.warn("at 필드 커서 파싱 실패: {}", cursor);
-          }
-        } else if ("ipAddress".equals(sortField)) {
-          if (!cursor.matches("\\d+")) {
-            cursorIpAddress = cursor;
-            log.debug("ipAddress 커서 사용: {}", cursorIpAddress);
-          }
-        }
-      }
-
-      // 전체 개수 먼저 계산 (커서 필터링 없이)
-      Specification<ChangeLog> countSpec = ChangeLogSpecification.withFilters(
-              employeeNumber, type, memo, ipAddress, atFrom, atTo,
-              null, null, null, sortField, sortDirection);
-
-      long totalElements = changeLogRepository.count(countSpec);
-      log.debug("전체 데이터 수: {}", totalElements);
-
-      // 조회 Specification 생성
-      Specification<ChangeLog> spec;
-      boolean isAscending = "asc".equalsIgnoreCase(sortDirection);
-
-      // 페이지를 가져오는 방식 간소화 - Department 서비스의 패턴을 따라서
-      if (idAfter != null) {
-        // ID 기준 필터링
-        spec = ChangeLogSpecification.withFilters(
-                employeeNumber, type, memo, ipAddress, atFrom, atTo, idAfter,
-                cursorAt, cursorIpAddress, sortField, sortDirection);
-        log.debug("ID 기준 필터링으로 조회 - idAfter: {}", idAfter);
-      } else {
-        // 처음부터 조회 (첫 페이지)
-        spec = ChangeLogSpecification.withFilters(
-                employeeNumber, type, memo, ipAddress, atFrom, atTo,
-                null, null, null, sortField, sortDirection);
-        log.debug("첫 페이지 조회 - 필터링 없음");
-      }
-
-      // 데이터 조회
-      Page<ChangeLog> page = changeLogRepository.findAll(spec, pageRequest);
-      List<ChangeLog> content = new ArrayList<>(page.getContent());
-      log.debug("조회된 데이터 수: {}", content.size());
-
-      boolean hasNext = content.size() > size;
-
-      // 다음 페이지 있으면 마지막 항목 제거
-      if (hasNext && content.size() > 0) {
-        content.remove(content.size() - 1);
-        log.debug("다음 페이지 존재 - 마지막 항목 제거 후 데이터 수: {}", content.size());
-      }
-
-      // 빈 결과 처리
-      if (content.isEmpty()) {
-        log.debug("조회 결과 없음");
-        return CursorPageResponse.of(
-                List.of(),
-                null,
-                null,
-                size,
-                totalElements,
-                false
-        );
-      }
-
-      List<ChangeLogDto> dtoList = changeLogMapper.toDtoList(content);
-
-      // 커서 값과 nextIdAfter 설정
-      String nextCursor = null;
-      Long nextIdAfter = null;
-
-      if (!content.isEmpty()) {
-        ChangeLog lastItem = content.get(content.size() - 1);
-        nextIdAfter = lastItem.getId();
-        log.debug("마지막 항목 ID: {}", nextIdAfter);
-
-        // 정렬 필드에 따라 커서 값 설정
-        if("at".equals(sortField)){
-          if (lastItem.getCreatedAt() != null) {
-            nextCursor = lastItem.getCreatedAt().toString();
-            log.debug("다음 at 커서: {}", nextCursor);
-          } else {
-            nextCursor = lastItem.getId().toString();
-            log.debug("다음 ID 커서(at null): {}", nextCursor);
-          }
-        } else if("ipAddress".equals(sortField)){
-          // IP 주소 정렬 시에는 항상 ID를 커서로 사용
-          nextCursor = lastItem.getId().toString();
-          log.debug("다음 ID 커서(ipAddress 정렬): {}", nextCursor);
-        } else {
-          nextCursor = lastItem.getId().toString();
-          log.debug("다음 ID 커서(기본): {}", nextCursor);
-        }
-      }
+    // 정렬 필드 유효성 검사
+    if (!isValidSortField(sortField)) {
+      throw new IllegalArgumentException("유효하지 않은 정렬 필드: " + sortField);
+    }
 
-      return CursorPageResponse.of(
-              dtoList,
-              nextCursor,
-              nextIdAfter,
-              size,
-              totalElements,
-              hasNext
-      );
-    } catch (Exception e) {
-      log.error("변경 로그 조회 중 오류 발생", e);
-      throw e;
+    boolean ascending = !"desc".equalsIgnoreCase(sortDirection);
+    boolean byIpAddress = "ipAddress".equals(sortField);
+    KeysetCursor keysetCursor = keysetPaginator.decode(cursor, idAfter, sortField, ascending,
+            changeLogRepository::findById,
+            changeLog -> byIpAddress ? changeLog.getIpAddress() : changeLog.getCreatedAt(),
+            changeLog -> null);
+
+    boolean filtered = employeeNumber != null || type != null || memo != null || ipAddress != null
+            || atFrom != null || atTo != null;
+    String countSignature = PageCountService.signature("change_logs",
+            employeeNumber, type, memo, ipAddress, atFrom, atTo);
+
+    // IP 주소 정렬인 경우 네이티브 쿼리 사용 (inet 비교)
+    if (byIpAddress) {
+      return getChangeLogsByIpAddress(
+              employeeNumber, type, memo, ipAddress,
+              atFrom, atTo, keysetCursor, size, ascending,
+              countMode, filtered, countSignature);
     }
+
+    // 전체 개수 (커서 조건 제외)
+    Specification<ChangeLog> filterSpec = ChangeLogSpecification.withFilters(
+            employeeNumber, type, memo, ipAddress, atFrom, atTo);
+    PageTotal total = pageCountService.count(countMode, "change_logs", filtered, countSignature,
+            () -> changeLogRepository.count(filterSpec));
+    log.debug("전체 데이터 수: {} ({})", total.value(), total.mode());
+
+    // 데이터 조회 (createdAt, id) keyset
+    Specification<ChangeLog> spec = filterSpec.and(
+            KeysetPredicates.after("createdAt", Instant.class, keysetCursor, false));
+    List<ChangeLog> content = changeLogRepository.findBy(spec, query -> query
+            .sortBy(KeysetPredicates.sort("createdAt", ascending))
+            .limit(size + 1)
+            .all());
+    log.debug("조회된 데이터 수: {}", content.size());
+
+    return keysetPaginator.toResponse(
+            content,
+            size,
+            sortField,
+            ascending,
+            ChangeLog::getCreatedAt,
+            ChangeLog::getId,
+            changeLogMapper::toDtoList,
+            total);
   }
 
   /**
@@ -209,81 +102,29 @@ public class ChangeLogServiceImpl implements ChangeLogService{
    */
   private CursorPageResponse<ChangeLogDto> getChangeLogsByIpAddress(
           String employeeNumber, HistoryType type, String memo, String ipAddress,
-          Instant atFrom, Instant atTo, Long idAfter, int size, String sortDirection) {
-
-    // HistoryType enum을 String으로 변환
-    String typeStr = type != null ? type.name() : null;
-
-    // 패턴 문자열 구성
-    String employeeNumberPattern = employeeNumber != null ? "%" + employeeNumber + "%" : "%";
-    String memoPattern = memo != null ? "%" + memo + "%" : "%";
-    String ipAddressPattern = ipAddress != null ? "%" + ipAddress + "%" : "%";
-
-    // 총 개수 계산
-    long totalElements = changeLogRepository.countByFilters(
-            typeStr, atFrom, atTo,
-            employeeNumber, employeeNumberPattern,
-            memo, memoPattern,
-            ipAddress ,ipAddressPattern);
-
-    // 데이터 조회
-    List<ChangeLog> content;
-    if ("desc".equalsIgnoreCase(sortDirection)) {
-      content = changeLogRepository.findByIpAddressDescWithCursor(
-              typeStr, atFrom, atTo, idAfter,
-              employeeNumber, employeeNumberPattern,
-              memo, memoPattern,
-              ipAddress, ipAddressPattern,
-              size + 1);
-    } else {
-      content = changeLogRepository.findByIpAddressAscWithCursor(
-              typeStr, atFrom, atTo, idAfter,
-              employeeNumber, employeeNumberPattern,
-              memo, memoPattern,
-              ipAddress, ipAddressPattern,
-              size + 1);
-    }
-
-
-    boolean hasNext = content.size() > size;
-
-    // 다음 페이지 있으면 마지막 항목 제거
-    if (hasNext && !content.isEmpty()) {
-      content.remove(content.size() - 1);
-    }
-
-    // 빈 결과 처리
-    if (content.isEmpty()) {
-      return CursorPageResponse.of(
-              List.of(),
-              null,
-              null,
-              size,
-              totalElements,
-              false
-      );
-    }
-
-    List<ChangeLogDto> dtoList = changeLogMapper.toDtoList(content);
-
-    // 커서 값 설정
-    String nextCursor = null;
-    Long nextIdAfter = null;
-
-    if (!content.isEmpty()) {
-      ChangeLog lastItem = content.get(content.size() - 1);
-      nextIdAfter = lastItem.getId();
-      nextCursor = lastItem.getId().toString();
-    }
-
-    return CursorPageResponse.of(
-            dtoList,
-            nextCursor,
-            nextIdAfter,
+          Instant atFrom, Instant atTo, KeysetCursor keysetCursor, int size, boolean ascending,
+          CountMode countMode, boolean filtered, String countSignature) {
+
+    // 총 개수 계산 (커서 조건 제외, 필터는 Specification 과 동일)
+    Specification<ChangeLog> filterSpec = ChangeLogSpecification.withFilters(
+            employeeNumber, type, memo, ipAddress, atFrom, atTo);
+    PageTotal total = pageCountService.count(countMode, "change_logs", filtered, countSignature,
+            () -> changeLogRepository.count(filterSpec));
+
+    // 데이터 조회 (값이 있는 필터만 조건으로 추가)
+    List<ChangeLog> content = changeLogRepository.findByIpAddressWithCursor(
+            employeeNumber, type, memo, ipAddress, atFrom, atTo,
+            keysetCursor, size + 1, ascending);
+
+    return keysetPaginator.toResponse(
+            content,
             size,
-            totalElements,
-            hasNext
-    );
+            "ipAddress",
+            ascending,
+            ChangeLog::getIpAddress,
+            ChangeLog::getId,
+            changeLogMapper::toDtoList,
+            total);
   }
 
   public List<DiffDto> getChangeLogDiffs(Long id) {
@@ -323,11 +164,4 @@ public class ChangeLogServiceImpl implements ChangeLogService{
     return field != null && (field.equals("ipAddress") || field.equals("at"));
   }
 
-  private String convertToDbField(String sortField) {
-    if ("at".equals(sortField)) {
-      return "createdAt";
-    }
-
-    return sortField;
-  }
 }
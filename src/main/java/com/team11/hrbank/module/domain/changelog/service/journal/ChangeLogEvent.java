@@ -0,0 +1,34 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+import com.team11.hrbank.module.domain.changelog.ChangeLog;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 저널에 기록되는 변경 이력 이벤트 (change_logs + change_log_diffs 한 행)
+ */
+public record ChangeLogEvent(
+    HistoryType type,
+    Long employeeId,
+    String employeeNumber,
+    String memo,
+    String ipAddress,
+    Instant createdAt,
+    List<DiffEntry> changes
+) {
+
+  public static ChangeLogEvent from(ChangeLog changeLog) {
+    return new ChangeLogEvent(
+        changeLog.getType(),
+        changeLog.getEmployee() != null ? changeLog.getEmployee().getId() : null,
+        changeLog.getEmployeeNumber(),
+        changeLog.getMemo(),
+        changeLog.getIpAddress(),
+        Instant.now(),
+        changeLog.getChangeLogDiff() != null ? changeLog.getChangeLogDiff().getChanges() : null
+    );
+  }
+}
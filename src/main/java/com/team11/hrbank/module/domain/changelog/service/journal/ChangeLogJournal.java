@@ -0,0 +1,300 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 변경 이력 append-only 파일 저널
+ * - 한 줄당 JournalRecord 하나 (NDJSON)
+ * - group fsync: 여러 스레드의 append 를 한 번의 force() 로 묶어서 디스크에 반영
+ * - checkpoint 파일에 DB 반영이 끝난 마지막 seq(watermark)를 기록
+ */
+@Slf4j
+public class ChangeLogJournal implements Closeable {
+
+  private static final String JOURNAL_FILE = "changelog.journal";
+  private static final String CHECKPOINT_FILE = "changelog.checkpoint";
+
+  private final Path journalPath;
+  private final Path checkpointPath;
+  private final ObjectMapper objectMapper;
+  private final FileChannel channel;
+
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final Object syncMonitor = new Object();
+
+  private long nextSeq;                  // appendLock
+  private volatile long appendedBytes;   // 논리 위치 (truncate 후에도 계속 증가)
+  private long syncedBytes;              // syncMonitor
+  private volatile long lastSyncNanos;
+
+  private final List<JournalRecord> recovered;
+  private final long recoveredWatermark;
+
+  public ChangeLogJournal(Path directory, ObjectMapper objectMapper) throws IOException {
+    Files.createDirectories(directory);
+    this.journalPath = directory.resolve(JOURNAL_FILE);
+    this.checkpointPath = directory.resolve(CHECKPOINT_FILE);
+    this.objectMapper = objectMapper;
+
+    this.recoveredWatermark = readCheckpoint();
+    this.recovered = readAll();
+    truncateIncompleteTail();
+    long maxSeq = recovered.stream().mapToLong(JournalRecord::seq).max().orElse(0L);
+    this.nextSeq = Math.max(recoveredWatermark, maxSeq) + 1;
+
+    this.channel = FileChannel.open(journalPath,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  /**
+   * 재시작 시 읽어들인 저널 레코드 (watermark 이후만)
+   */
+  public List<JournalRecord> recoveredRecords() {
+    return recovered.stream().filter(record -> record.seq() > recoveredWatermark).toList();
+  }
+
+  /**
+   * ENTRY 기록 후 fsync 까지 대기
+   * @param onSequence seq 할당 직후(lock 안에서) 호출 - 미반영 seq 추적용
+   */
+  public JournalRecord appendEntry(ChangeLogEvent event, LongConsumer onSequence) {
+    JournalRecord record;
+    long position;
+    appendLock.lock();
+    try {
+      record = JournalRecord.entry(nextSeq++, event);
+      onSequence.accept(record.seq());
+      position = write(record);
+    } finally {
+      appendLock.unlock();
+    }
+    sync(position);
+    return record;
+  }
+
+  /**
+   * COMMIT 기록 후 fsync 까지 대기 (재처리 대상 확정)
+   */
+  public void appendCommit(long seq) {
+    long position;
+    appendLock.lock();
+    try {
+      position = write(JournalRecord.commit(seq));
+    } finally {
+      appendLock.unlock();
+    }
+    sync(position);
+  }
+
+  /**
+   * ABORT 기록 (fsync 하지 않음 - COMMIT 이 없는 ENTRY 는 어차피 재처리되지 않으므로 참고용)
+   */
+  public void appendAbort(long seq) {
+    appendLock.lock();
+    try {
+      write(JournalRecord.abort(seq));
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * ASSIGN 기록 후 fsync
+   */
+  public void appendAssignments(Collection<JournalRecord> assignments) {
+    long position = appendedBytes;
+    appendLock.lock();
+    try {
+      for (JournalRecord assignment : assignments) {
+        position = write(assignment);
+      }
+    } finally {
+      appendLock.unlock();
+    }
+    sync(position);
+  }
+
+  /**
+   * DB 반영 완료 위치 기록
+   * @param unresolved 아직 DB 에 반영되지 않은 seq 집합
+   */
+  public void checkpoint(SortedSet<Long> unresolved) {
+    appendLock.lock();
+    try {
+      writeCheckpoint(currentWatermark(unresolved));
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * 미반영 항목이 없고 파일이 임계치보다 크면 저널 비우기
+   */
+  public boolean compactIfIdle(SortedSet<Long> unresolved, long thresholdBytes) {
+    appendLock.lock();
+    try {
+      if (!unresolved.isEmpty() || channel.size() < thresholdBytes) {
+        return false;
+      }
+      writeCheckpoint(nextSeq - 1);
+      channel.truncate(0);
+      channel.force(true);
+      log.info("변경 이력 저널 정리 완료 - watermark: {}", nextSeq - 1);
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException("변경 이력 저널 정리 실패", e);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  public long sizeBytes() {
+    try {
+      return channel.size();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  public long lastSyncNanos() {
+    return lastSyncNanos;
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (syncMonitor) {
+      channel.force(false);
+    }
+    channel.close();
+  }
+
+  private long currentWatermark(SortedSet<Long> unresolved) {
+    return unresolved.isEmpty() ? nextSeq - 1 : unresolved.first() - 1;
+  }
+
+  // appendLock 보유 상태에서 호출
+  private long write(JournalRecord record) {
+    try {
+      byte[] line = (objectMapper.writeValueAsString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+      ByteBuffer buffer = ByteBuffer.wrap(line);
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      appendedBytes += line.length;
+      return appendedBytes;
+    } catch (IOException e) {
+      throw new UncheckedIOException("변경 이력 저널 쓰기 실패", e);
+    }
+  }
+
+  /**
+   * group fsync - 먼저 들어온 스레드가 그 시점까지의 쓰기를 한 번에 force()
+   */
+  private void sync(long position) {
+    synchronized (syncMonitor) {
+      if (syncedBytes >= position) {
+        return;
+      }
+      long target = appendedBytes;
+      long started = System.nanoTime();
+      try {
+        channel.force(false);
+      } catch (IOException e) {
+        throw new UncheckedIOException("변경 이력 저널 fsync 실패", e);
+      }
+      lastSyncNanos = System.nanoTime() - started;
+      syncedBytes = target;
+    }
+  }
+
+  private List<JournalRecord> readAll() throws IOException {
+    List<JournalRecord> records = new ArrayList<>();
+    if (!Files.exists(journalPath)) {
+      return records;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          records.add(objectMapper.readValue(line, JournalRecord.class));
+        } catch (JsonProcessingException e) {
+          // 비정상 종료로 마지막 줄이 잘린 경우
+          log.warn("손상된 저널 레코드 무시: {}", e.getOriginalMessage());
+        }
+      }
+    }
+    return records;
+  }
+
+  /**
+   * 비정상 종료로 잘린 마지막 줄 제거
+   * 남겨두면 다음 append 가 그 줄 뒤에 붙어 새 레코드까지 파싱되지 않는다.
+   */
+  private void truncateIncompleteTail() throws IOException {
+    if (!Files.exists(journalPath)) {
+      return;
+    }
+    try (FileChannel file = FileChannel.open(journalPath, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long end = file.size();
+      ByteBuffer one = ByteBuffer.allocate(1);
+      while (end > 0) {
+        one.clear();
+        file.read(one, end - 1);
+        if (one.get(0) == '\n') {
+          break;
+        }
+        end--;
+      }
+      if (end < file.size()) {
+        log.warn("잘린 저널 레코드 제거 - {} bytes", file.size() - end);
+        file.truncate(end);
+        file.force(true);
+      }
+    }
+  }
+
+  private long readCheckpoint() throws IOException {
+    if (!Files.exists(checkpointPath)) {
+      return 0L;
+    }
+    String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+    return value.isEmpty() ? 0L : Long.parseLong(value);
+  }
+
+  private void writeCheckpoint(long watermark) {
+    Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+    try {
+      Files.writeString(tmp, Long.toString(watermark), StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+      Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("변경 이력 checkpoint 저장 실패", e);
+    }
+  }
+}
@@ -0,0 +1,379 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.changelog.dto.ChangeLogWriteBehindStatsDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변경 이력 write-behind 처리 (changelog.write-behind.enabled=true 인 경우에만 활성화)
+ * 1. 요청 트랜잭션 안에서 ENTRY 를 저널에 기록하고 group fsync (커밋 전에 디스크에 남음)
+ *    같은 트랜잭션에서 change_log_journal_commits 에 seq 를 기록 (DB 커밋 여부 표시)
+ * 2. 커밋되면 COMMIT 을 기록(fsync)한 뒤 메모리 큐에 넣고, 롤백되면 ABORT 기록
+ *    (COMMIT 기록이 실패해도 DB 커밋 표시가 있으므로 큐에 넣어 반영)
+ * 3. 백그라운드 writer 가 큐를 모아 change_logs / change_log_diffs 에 batch insert 하고 커밋 표시 삭제
+ * 4. 재시작 시 checkpoint 이후 COMMIT 이 기록됐거나 DB 커밋 표시가 남은 ENTRY 만 다시 반영
+ *    (ASSIGN 으로 미리 기록한 ID 를 재사용하므로 중복 insert 되지 않음)
+ * 트랜잭션 도중 비정상 종료되거나 롤백된 요청은 커밋 표시도 없으므로 재처리되지 않는다
+ * 저널 seq 는 인스턴스별 저널 기준이므로 인스턴스 하나가 저널 디렉터리 하나를 사용한다고 가정
+ * (재처리가 끝나면 남은 커밋 표시는 모두 반영된 것이므로 비움)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "changelog.write-behind", name = "enabled", havingValue = "true")
+public class ChangeLogWriteBehindService {
+
+  private static final String INSERT_CHANGE_LOG_SQL =
+      "INSERT INTO change_logs (id, type, employee_id, employee_number, memo, ip_address, created_at) "
+          + "VALUES (?, ?, (SELECT e.id FROM employees e WHERE e.id = ?), ?, ?, CAST(? AS inet), ?) "
+          + "ON CONFLICT (id) DO NOTHING";
+
+  private static final String INSERT_CHANGE_LOG_DIFF_SQL =
+      "INSERT INTO change_log_diffs (change_log_id, changes) VALUES (?, CAST(? AS jsonb)) "
+          + "ON CONFLICT (change_log_id) DO NOTHING";
+
+  private static final String INSERT_COMMIT_MARKER_SQL =
+      "INSERT INTO change_log_journal_commits (seq) VALUES (?)";
+
+  private static final String SELECT_COMMIT_MARKERS_SQL =
+      "SELECT seq FROM change_log_journal_commits WHERE seq = ANY (?)";
+
+  private static final String DELETE_COMMIT_MARKERS_SQL =
+      "DELETE FROM change_log_journal_commits WHERE seq = ANY (?)";
+
+  private static final String CLEAR_COMMIT_MARKERS_SQL =
+      "DELETE FROM change_log_journal_commits";
+
+  private static final String ALLOCATE_IDS_SQL =
+      "SELECT nextval(pg_get_serial_sequence('change_logs', 'id')) FROM generate_series(1, ?)";
+
+  private final FileStorageProperties fileStorageProperties;
+  private final ObjectMapper objectMapper;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final long compactThresholdBytes;
+
+  private ChangeLogJournal journal;
+  private Thread writerThread;
+  private volatile boolean running;
+  // writer 종료 신호 (interrupt 하면 FileChannel 이 닫히므로 사용하지 않음)
+  private final CountDownLatch stopSignal = new CountDownLatch(1);
+
+  private final BlockingQueue<JournalRecord> ready = new LinkedBlockingQueue<>();
+  private final ConcurrentSkipListSet<Long> unresolved = new ConcurrentSkipListSet<>();
+
+  // 지표
+  private final AtomicLong flushedTotal = new AtomicLong();
+  private final AtomicLong flushCount = new AtomicLong();
+  private final AtomicLong totalFlushNanos = new AtomicLong();
+  private final AtomicLong maxFlushNanos = new AtomicLong();
+  private final AtomicLong lastFlushNanos = new AtomicLong();
+  private final AtomicLong failedFlushCount = new AtomicLong();
+
+  public ChangeLogWriteBehindService(FileStorageProperties fileStorageProperties,
+      ObjectMapper objectMapper,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${changelog.write-behind.batch-size:500}") int batchSize,
+      @Value("${changelog.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+      @Value("${changelog.write-behind.compact-threshold-bytes:67108864}") long compactThresholdBytes) {
+    this.fileStorageProperties = fileStorageProperties;
+    this.objectMapper = objectMapper;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.compactThresholdBytes = compactThresholdBytes;
+  }
+
+  @PostConstruct
+  public void start() throws IOException {
+    journal = new ChangeLogJournal(
+        Paths.get(fileStorageProperties.getRootPath(), "changelog-journal"), objectMapper);
+    replay();
+
+    running = true;
+    writerThread = new Thread(this::runWriter, "changelog-write-behind");
+    writerThread.setDaemon(true);
+    writerThread.start();
+    log.info("변경 이력 write-behind 시작 - batchSize: {}, flushInterval: {}ms",
+        batchSize, flushIntervalMillis);
+  }
+
+  @PreDestroy
+  public void stop() throws IOException, InterruptedException {
+    running = false;
+    stopSignal.countDown();
+    if (writerThread != null) {
+      writerThread.join(TimeUnit.SECONDS.toMillis(30));
+    }
+    // 남은 항목 반영 (실패해도 저널에 남아 재시작 시 재처리됨)
+    List<JournalRecord> remaining = new ArrayList<>();
+    ready.drainTo(remaining);
+    for (int from = 0; from < remaining.size(); from += batchSize) {
+      flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+    }
+    journal.close();
+  }
+
+  /**
+   * 변경 이력 이벤트 등록
+   * 현재 트랜잭션이 있으면 커밋 후 큐에 반영, 없으면 즉시 반영
+   */
+  public void enqueue(ChangeLogEvent event) {
+    JournalRecord entry = journal.appendEntry(event, unresolved::add);
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      journal.appendCommit(entry.seq());
+      ready.add(entry);
+      return;
+    }
+
+    // 요청 트랜잭션과 함께 커밋/롤백되는 커밋 표시
+    jdbcTemplate.update(INSERT_COMMIT_MARKER_SQL, entry.seq());
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          try {
+            journal.appendCommit(entry.seq());
+          } catch (RuntimeException e) {
+            // DB 커밋 표시가 있으므로 그대로 반영 (반영 전 종료되어도 재시작 시 재처리)
+            log.warn("변경 이력 저널 COMMIT 기록 실패 - seq: {}, {}", entry.seq(), e.getMessage());
+          }
+          ready.add(entry);
+        } else {
+          try {
+            journal.appendAbort(entry.seq());
+          } finally {
+            unresolved.remove(entry.seq());
+          }
+        }
+      }
+    });
+  }
+
+  public ChangeLogWriteBehindStatsDto getStats() {
+    long count = flushCount.get();
+    return new ChangeLogWriteBehindStatsDto(
+        true,
+        ready.size(),
+        unresolved.size(),
+        flushedTotal.get(),
+        count,
+        failedFlushCount.get(),
+        toMillis(lastFlushNanos.get()),
+        count > 0 ? toMillis(totalFlushNanos.get() / count) : 0.0,
+        toMillis(maxFlushNanos.get()),
+        toMillis(journal.lastSyncNanos()),
+        journal.sizeBytes()
+    );
+  }
+
+  private void runWriter() {
+    while (running) {
+      try {
+        JournalRecord first = ready.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          journal.compactIfIdle(unresolved, compactThresholdBytes);
+          continue;
+        }
+        List<JournalRecord> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        ready.drainTo(batch, batchSize - 1);
+
+        // DB 장애 시 같은 배치를 재시도 (종료되면 저널에 남은 항목을 재시작 시 재처리)
+        while (!flush(batch)) {
+          if (stopSignal.await(Math.max(1000, flushIntervalMillis), TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("변경 이력 write-behind 처리 중 오류: {}", e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * 배치 반영
+   * @return 성공 여부
+   */
+  private boolean flush(List<JournalRecord> batch) {
+    long started = System.nanoTime();
+    try {
+      List<JournalRecord> assigned = assignIds(batch);
+
+      List<Object[]> changeLogArgs = new ArrayList<>(assigned.size());
+      List<Object[]> diffArgs = new ArrayList<>(assigned.size());
+      for (JournalRecord record : assigned) {
+        ChangeLogEvent event = record.event();
+        changeLogArgs.add(new Object[]{
+            record.changeLogId(),
+            event.type().name(),
+            event.employeeId(),
+            event.employeeNumber(),
+            event.memo(),
+            event.ipAddress(),
+            Timestamp.from(event.createdAt())
+        });
+        if (event.changes() != null) {
+          diffArgs.add(new Object[]{record.changeLogId(), toJson(event)});
+        }
+      }
+
+      Long[] seqs = batch.stream().map(JournalRecord::seq).toArray(Long[]::new);
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG_SQL, changeLogArgs);
+        if (!diffArgs.isEmpty()) {
+          jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG_DIFF_SQL, diffArgs);
+        }
+        jdbcTemplate.update(DELETE_COMMIT_MARKERS_SQL, (Object) seqs);
+      });
+
+      batch.forEach(record -> unresolved.remove(record.seq()));
+      journal.checkpoint(unresolved);
+
+      long elapsed = System.nanoTime() - started;
+      flushedTotal.addAndGet(batch.size());
+      flushCount.incrementAndGet();
+      totalFlushNanos.addAndGet(elapsed);
+      lastFlushNanos.set(elapsed);
+      maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+      return true;
+    } catch (RuntimeException e) {
+      failedFlushCount.incrementAndGet();
+      log.error("변경 이력 batch 반영 실패 ({}건): {}", batch.size(), e.getMessage(), e);
+      return false;
+    }
+  }
+
+  /**
+   * ID 가 없는 레코드에 change_logs.id 를 할당하고 ASSIGN 을 저널에 기록
+   */
+  private List<JournalRecord> assignIds(List<JournalRecord> batch) {
+    List<JournalRecord> withoutId = batch.stream()
+        .filter(record -> record.changeLogId() == null)
+        .toList();
+    if (withoutId.isEmpty()) {
+      return batch;
+    }
+
+    List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, withoutId.size());
+    Map<Long, Long> idBySeq = new LinkedHashMap<>();
+    List<JournalRecord> assignments = new ArrayList<>(withoutId.size());
+    for (int i = 0; i < withoutId.size(); i++) {
+      idBySeq.put(withoutId.get(i).seq(), ids.get(i));
+      assignments.add(JournalRecord.assign(withoutId.get(i).seq(), ids.get(i)));
+    }
+    journal.appendAssignments(assignments);
+
+    List<JournalRecord> result = new ArrayList<>(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      JournalRecord record = batch.get(i);
+      JournalRecord updated = record.changeLogId() != null ? record
+          : record.withChangeLogId(idBySeq.get(record.seq()));
+      // 재시도 시 같은 ID 를 쓰도록 원본 배치도 갱신
+      batch.set(i, updated);
+      result.add(updated);
+    }
+    return result;
+  }
+
+  /**
+   * 재시작 시 미반영 항목 재처리
+   */
+  private void replay() {
+    Map<Long, JournalRecord> entries = new LinkedHashMap<>();
+    Map<Long, Long> assignedIds = new LinkedHashMap<>();
+    Set<Long> committed = new HashSet<>();
+
+    for (JournalRecord record : journal.recoveredRecords()) {
+      switch (record.kind()) {
+        case ENTRY -> entries.put(record.seq(), record);
+        case COMMIT -> committed.add(record.seq());
+        case ASSIGN -> assignedIds.put(record.seq(), record.changeLogId());
+        case ABORT -> { }
+      }
+    }
+    // COMMIT 이 없는 ENTRY 는 DB 커밋 표시로 확인 (COMMIT fsync 전 종료)
+    Long[] undecided = entries.keySet().stream()
+        .filter(seq -> !committed.contains(seq))
+        .toArray(Long[]::new);
+    if (undecided.length > 0) {
+      committed.addAll(jdbcTemplate.queryForList(SELECT_COMMIT_MARKERS_SQL, Long.class, (Object) undecided));
+    }
+    // 커밋이 확인되지 않은 ENTRY (롤백 또는 트랜잭션 도중 종료) 는 버림
+    entries.keySet().retainAll(committed);
+
+    if (entries.isEmpty()) {
+      jdbcTemplate.update(CLEAR_COMMIT_MARKERS_SQL);
+      journal.checkpoint(unresolved);
+      journal.compactIfIdle(unresolved, 0);
+      return;
+    }
+
+    List<JournalRecord> pending = entries.values().stream()
+        .sorted(Comparator.comparingLong(JournalRecord::seq))
+        .map(record -> record.withChangeLogId(assignedIds.get(record.seq())))
+        .toList();
+    pending.forEach(record -> unresolved.add(record.seq()));
+    log.info("변경 이력 저널 재처리 시작 - {}건", pending.size());
+
+    for (int from = 0; from < pending.size(); from += batchSize) {
+      List<JournalRecord> batch = new ArrayList<>(
+          pending.subList(from, Math.min(from + batchSize, pending.size())));
+      if (!flush(batch)) {
+        throw new IllegalStateException("변경 이력 저널 재처리 실패 - DB 상태를 확인하세요.");
+      }
+    }
+    jdbcTemplate.update(CLEAR_COMMIT_MARKERS_SQL);
+    journal.compactIfIdle(unresolved, 0);
+    log.info("변경 이력 저널 재처리 완료 - {}건", pending.size());
+  }
+
+  private String toJson(ChangeLogEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event.changes());
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException("변경 상세 내용 직렬화 실패", e);
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
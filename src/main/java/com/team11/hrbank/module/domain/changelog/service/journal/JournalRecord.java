@@ -0,0 +1,40 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+/**
+ * 저널 한 줄 (NDJSON)
+ * - ENTRY : 변경 이력 이벤트 (요청 트랜잭션 커밋 전에 fsync)
+ * - COMMIT: 요청 트랜잭션이 커밋된 ENTRY (재처리 대상은 COMMIT 이 있는 ENTRY 뿐)
+ * - ABORT : 요청 트랜잭션 롤백으로 버려진 ENTRY
+ * - ASSIGN: DB 반영 직전 할당된 change_logs.id (재처리 시 같은 ID 로 멱등 insert)
+ */
+public record JournalRecord(
+    long seq,
+    Kind kind,
+    ChangeLogEvent event,
+    Long changeLogId
+) {
+
+  public enum Kind {
+    ENTRY, COMMIT, ABORT, ASSIGN
+  }
+
+  public static JournalRecord entry(long seq, ChangeLogEvent event) {
+    return new JournalRecord(seq, Kind.ENTRY, event, null);
+  }
+
+  public static JournalRecord commit(long seq) {
+    return new JournalRecord(seq, Kind.COMMIT, null, null);
+  }
+
+  public static JournalRecord abort(long seq) {
+    return new JournalRecord(seq, Kind.ABORT, null, null);
+  }
+
+  public static JournalRecord assign(long seq, long changeLogId) {
+    return new JournalRecord(seq, Kind.ASSIGN, null, changeLogId);
+  }
+
+  public JournalRecord withChangeLogId(Long changeLogId) {
+    return new JournalRecord(seq, kind, event, changeLogId);
+  }
+}
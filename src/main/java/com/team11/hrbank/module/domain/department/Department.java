@@ -3,13 +3,18 @@ package com.team11.hrbank.module.domain.department;
 import com.team11.hrbank.module.domain.UpdatableEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Getter
 @Setter
@@ -17,17 +22,42 @@ import java.time.LocalDate;
 @Table(name = "departments")
 public class Department extends UpdatableEntity {
 
+  // Unicode White_Space (schema.sql 의 normalized_name 백필과 같은 목록, DB 로캘과 무관)
+  private static final Pattern WHITESPACE = Pattern.compile(
+      "[\\t\\n\\x0B\\f\\r \\u0085\\u00A0\\u1680\\u2000-\\u200A\\u2028\\u2029\\u202F\\u205F\\u3000]+");
+
   @NotNull
   @Column(name = "name", nullable = false, length = 100)
   private String name;
 
+  // 중복 검사 키 (공백 제거 + 소문자), name 저장 시 자동 갱신
+  @Setter(AccessLevel.NONE)
+  @Column(name = "normalized_name", nullable = false, length = 100)
+  private String normalizedName;
+
   @Column(name = "description", length = Integer.MAX_VALUE)
   private String description;
 
   @Column(name = "established_date", nullable = false) //columnDefinition = "DATE")
   private LocalDate establishedDate;
 
+  // 소속 직원 수 카운터 (DepartmentEmployeeCountService 에서 SQL 로만 갱신)
+  @Setter(AccessLevel.NONE)
+  @Column(name = "employee_count", nullable = false, insertable = false, updatable = false)
+  private long employeeCount;
+
   public void setCreatedAt(Instant createdAt) {
     this.createdAt = createdAt;
   }
+
+  // 부서명 정규화 (모든 공백 제거 + 대소문자 통일)
+  public static String normalizeName(String name) {
+    return name == null ? null : WHITESPACE.matcher(name).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  @PrePersist
+  @PreUpdate
+  void syncNormalizedName() {
+    this.normalizedName = normalizeName(name);
+  }
 }
\ No newline at end of file
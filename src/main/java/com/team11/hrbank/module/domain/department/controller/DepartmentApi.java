@@ -95,5 +95,8 @@ public interface DepartmentApi {
       @RequestParam(required = false, defaultValue = "establishedDate") String sortField,
 
       @Parameter(description = "정렬 방향 (asc 또는 desc, 기본값: asc)")
-      @RequestParam(required = false, defaultValue = "asc") String sortDirection);
+      @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+
+      @Parameter(description = "전체 건수 계산 방식 (exact, estimated, none, 기본값: exact). none 이면 응답의 totalElements 는 null")
+      @RequestParam(required = false) String countMode);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.team11.hrbank.module.domain.department.controller;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
 import com.team11.hrbank.module.domain.department.dto.DepartmentCreateRequest;
 import com.team11.hrbank.module.domain.department.dto.DepartmentDto;
 import com.team11.hrbank.module.domain.department.dto.DepartmentUpdateRequest;
@@ -49,10 +50,12 @@ public class DepartmentController implements DepartmentApi {
       @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "10") int size,
       @RequestParam(required = false, defaultValue = "establishedDate") String sortField,
-      @RequestParam(required = false, defaultValue = "asc") String sortDirection) {
+      @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+      @RequestParam(required = false) String countMode) {
 
     CursorPageResponse<DepartmentDto> result = departmentService.getAllDepartments(
-        nameOrDescription, idAfter, cursor, size, sortField, sortDirection);
+        nameOrDescription, idAfter, cursor, size, sortField, sortDirection,
+        CountMode.from(countMode));
 
     return ResponseEntity.ok(result);
   }
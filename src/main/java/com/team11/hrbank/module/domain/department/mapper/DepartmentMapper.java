@@ -14,14 +14,9 @@ public interface DepartmentMapper {
 
   Department toDepartment(DepartmentCreateRequest request);
 
-  // 엔티티를 DTO로 변환 (employeeCount는 별도로 처리)
-  @Mapping(target = "employeeCount", ignore = true)
+  // 엔티티를 DTO로 변환 (employeeCount는 departments.employee_count 카운터 사용)
   DepartmentDto toDepartmentDto(Department department);
 
-  // DTO로 변환하면서 employeeCount 설정 (수동으로 호출할 메서드)
-  @Mapping(target = "employeeCount", source = "employeeCount")
-  DepartmentDto toDepartmentDtoWithEmployeeCount(Department department, Long employeeCount);
-
   // 업데이트 요청으로 엔티티 업데이트
   Department updateDepartmentFromRequest(@MappingTarget Department department, DepartmentUpdateRequest request);
 }
\ No newline at end of file
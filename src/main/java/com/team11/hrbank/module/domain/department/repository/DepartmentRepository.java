@@ -1,57 +1,23 @@
 package com.team11.hrbank.module.domain.department.repository;
 
 import com.team11.hrbank.module.domain.department.Department;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>,
+    JpaSpecificationExecutor<Department> {
 
-  // 커서 기반 페이지네이션 (ID 이후) - 오름차순
-  @Query("SELECT d FROM Department d WHERE d.id > :id ORDER BY d.establishedDate ASC, d.name ASC")
-  Page<Department> findAllWithCursorAsc(@Param("id") Long id, Pageable pageable);
+  // 부서 ID 목록 (대량 등록 시 부서 검증용)
+  @Query("SELECT d.id FROM Department d")
+  List<Long> findAllIds();
 
-  // 커서 기반 페이지네이션 (ID 이전) - 내림차순
-  @Query("SELECT d FROM Department d WHERE d.id < :id ORDER BY d.establishedDate DESC, d.name DESC")
-  Page<Department> findAllWithCursorDesc(@Param("id") Long id, Pageable pageable);
+  // 정규화 이름 중복 검사 (normalized_name 유니크 인덱스 조회)
+  boolean existsByNormalizedName(String normalizedName);
 
-  // 이름 또는 설명으로 검색 + 페이지네이션 지원
-  @Query("SELECT d FROM Department d WHERE " +
-      "(LOWER(d.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-      "LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-  Page<Department> searchByNameOrDescription(
-      @Param("search") String search, Pageable pageable);
-
-  @Query("SELECT COUNT(d) FROM Department d WHERE " +
-          "(LOWER(d.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-          "LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-  long countByNameOrDescriptionContaining(@Param("search") String search);
-
-  // 오름차순 + 커서 + 검색어 (이름 또는 설명)
-  @Query("SELECT d FROM Department d WHERE " +
-      "d.id > :id AND (LOWER(d.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-      "LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-      "ORDER BY d.establishedDate ASC, d.name ASC")
-  Page<Department> searchWithCursorAsc(
-      @Param("id") Long id, @Param("search") String search, Pageable pageable);
-
-  // 내림차순 + 커서 + 검색어 (이름 또는 설명)
-  @Query("SELECT d FROM Department d WHERE " +
-      "d.id < :id AND (LOWER(d.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-      "LOWER(d.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-      "ORDER BY d.establishedDate DESC, d.name DESC")
-  Page<Department> searchWithCursorDesc(
-      @Param("id") Long id, @Param("search") String search, Pageable pageable);
-
-  @Query("SELECT d FROM Department d WHERE d.establishedDate = :date")
-  List<Department> findByEstablishedDate(@Param("date") LocalDate date);
-
-  List<Department> findByName(String cursor);
+  boolean existsByNormalizedNameAndIdNot(String normalizedName, Long id);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.team11.hrbank.module.domain.department.repository;
+
+import com.team11.hrbank.module.common.util.LikePatterns;
+import com.team11.hrbank.module.domain.department.Department;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 부서 목록 조회용
+ */
+public class DepartmentSpecification {
+
+  // 이름 또는 설명 부분 일치 (대소문자 무시, lower() trigram 인덱스 사용)
+  public static Specification<Department> nameOrDescriptionContains(String search) {
+    return (root, query, criteriaBuilder) -> {
+      if (search == null || search.isEmpty()) {
+        return null;
+      }
+      String pattern = LikePatterns.contains(search.toLowerCase());
+      return criteriaBuilder.or(
+          criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), pattern,
+              LikePatterns.ESCAPE),
+          criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern,
+              LikePatterns.ESCAPE)
+      );
+    };
+  }
+}
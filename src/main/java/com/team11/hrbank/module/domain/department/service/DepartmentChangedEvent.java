@@ -0,0 +1,8 @@
+package com.team11.hrbank.module.domain.department.service;
+
+/**
+ * 부서 생성/이름 변경/삭제 이벤트 (부서명을 들고 있는 인메모리 인덱스 갱신용)
+ * @param departmentId 변경된 부서 ID (삭제된 부서 포함)
+ */
+public record DepartmentChangedEvent(Long departmentId) {
+}
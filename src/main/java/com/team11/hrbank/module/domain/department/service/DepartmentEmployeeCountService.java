@@ -0,0 +1,127 @@
+package com.team11.hrbank.module.domain.department.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부서별 직원 수 카운터 (departments.employee_count)
+ * - 직원 생성/삭제/부서 이동 시 같은 트랜잭션 안에서 원자적으로 증감 (UPDATE ... SET employee_count = employee_count + ?)
+ * - 부서 조회 시에는 엔티티에 함께 로딩된 카운터를 그대로 사용 (행마다 COUNT 쿼리 없음)
+ * - 실제 집계는 GROUP BY 한 번으로 조회하며, 시작 시/주기적으로 카운터를 실제 값과 맞춤
+ *   (보정은 같은 스냅샷에서 본 실제 수와 카운터의 차이를 더하므로, 보정 중 커밋된 증감도 유지됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DepartmentEmployeeCountService {
+
+  private static final String ADJUST_SQL =
+      "UPDATE departments SET employee_count = employee_count + ? WHERE id = ?";
+
+  private static final String COUNT_BY_DEPARTMENT_SQL = """
+      SELECT department_id, COUNT(*) AS employee_count
+      FROM employees
+      WHERE department_id = ANY (?)
+      GROUP BY department_id
+      """;
+
+  // 값을 덮어쓰면 집계 스냅샷 이후 커밋된 증감(행 잠금 대기 후 다시 읽은 카운터)이 사라지므로 차이만 더함
+  private static final String RECONCILE_SQL = """
+      UPDATE departments d
+      SET employee_count = d.employee_count + c.drift
+      FROM (
+        SELECT dept.id, COUNT(e.id) - dept.employee_count AS drift
+        FROM departments dept
+        LEFT JOIN employees e ON e.department_id = dept.id
+        GROUP BY dept.id
+      ) c
+      WHERE d.id = c.id AND c.drift <> 0
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void increment(Long departmentId) {
+    adjust(departmentId, 1);
+  }
+
+  public void decrement(Long departmentId) {
+    adjust(departmentId, -1);
+  }
+
+  // 부서 이동 (이전 부서 -1, 새 부서 +1)
+  // 서로 반대 방향 이동이 동시에 일어나도 교착되지 않도록 adjustAll 과 같이 부서 ID 순서로 갱신
+  public void transfer(Long fromDepartmentId, Long toDepartmentId) {
+    if (fromDepartmentId != null && fromDepartmentId.equals(toDepartmentId)) {
+      return;
+    }
+    if (fromDepartmentId != null && toDepartmentId != null && toDepartmentId < fromDepartmentId) {
+      adjust(toDepartmentId, 1);
+      adjust(fromDepartmentId, -1);
+    } else {
+      adjust(fromDepartmentId, -1);
+      adjust(toDepartmentId, 1);
+    }
+  }
+
+  /**
+   * 여러 부서 카운터를 batch 로 증감 (대량 등록용)
+   * @param deltas 부서 ID -> 증감 값
+   */
+  public void adjustAll(Map<Long, Long> deltas) {
+    List<Object[]> args = deltas.entrySet().stream()
+        .filter(entry -> entry.getKey() != null && entry.getValue() != 0)
+        // 부서 ID 순서로 갱신 (동시 갱신 시 행 잠금 순서 고정)
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+        .toList();
+    if (!args.isEmpty()) {
+      jdbcTemplate.batchUpdate(ADJUST_SQL, args);
+    }
+  }
+
+  /**
+   * 부서별 실제 직원 수 (GROUP BY 한 번, 직원이 없는 부서는 0)
+   */
+  public Map<Long, Long> countByDepartmentIds(Collection<Long> departmentIds) {
+    Map<Long, Long> counts = new HashMap<>();
+    if (departmentIds.isEmpty()) {
+      return counts;
+    }
+    departmentIds.forEach(id -> counts.put(id, 0L));
+    jdbcTemplate.query(COUNT_BY_DEPARTMENT_SQL,
+        rs -> {
+          counts.put(rs.getLong("department_id"), rs.getLong("employee_count"));
+        },
+        (Object) departmentIds.toArray(Long[]::new));
+    return counts;
+  }
+
+  /**
+   * 카운터를 실제 직원 수와 맞춤 (스키마 적용 직후 초기화 포함)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${department.employee-count.reconcile-interval-ms:3600000}",
+      initialDelayString = "${department.employee-count.reconcile-interval-ms:3600000}")
+  public void reconcile() {
+    int corrected = jdbcTemplate.update(RECONCILE_SQL);
+    if (corrected > 0) {
+      log.warn("부서 직원 수 카운터 보정: {}개 부서", corrected);
+    }
+  }
+
+  private void adjust(Long departmentId, long delta) {
+    if (departmentId != null) {
+      jdbcTemplate.update(ADJUST_SQL, delta, departmentId);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.team11.hrbank.module.domain.department.service;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
 import com.team11.hrbank.module.domain.department.dto.DepartmentCreateRequest;
 import com.team11.hrbank.module.domain.department.dto.DepartmentDto;
 import com.team11.hrbank.module.domain.department.dto.DepartmentUpdateRequest;
@@ -29,5 +30,6 @@ public interface DepartmentService {
       String cursor,
       int size,
       String sortField,
-      String sortDirection);
+      String sortDirection,
+      CountMode countMode);
 }
\ No newline at end of file
@@ -18,6 +18,10 @@ public class Employee extends UpdatableEntity {
   @Column(name = "name", nullable = false, length = 100)
   private String name;
 
+  // 이름 초성 키 (DB generated column, hangul_initials(name))
+  @Column(name = "name_initials", columnDefinition = "TEXT", insertable = false, updatable = false)
+  private String nameInitials;
+
   @Column(name = "email", nullable = false)
   private String email;
 
@@ -0,0 +1,28 @@
+package com.team11.hrbank.module.domain.employee;
+
+import com.team11.hrbank.module.common.util.HangulInitials;
+
+import java.util.Locale;
+
+/**
+ * 직원 목록 nameOrEmail 검색 방식
+ * - CONTAINS: 이름 또는 이메일 부분 일치 (pg_trgm GIN 인덱스)
+ * - INITIAL : 이름 앞부분 초성 일치 ("ㄱㅌ", "김ㅌ" -> 김태희, name_initials 인덱스 prefix 조회)
+ */
+public enum NameSearchMode {
+  CONTAINS, INITIAL;
+
+  /**
+   * 요청 파라미터 변환 (미지정 시 검색어에 초성 자모가 있으면 INITIAL, 없으면 CONTAINS)
+   */
+  public static NameSearchMode from(String value, String query) {
+    if (value == null || value.isBlank()) {
+      return query != null && HangulInitials.containsInitialConsonant(query) ? INITIAL : CONTAINS;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("nameSearchMode는 contains, initial 중 하나여야 합니다: " + value);
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
 import com.team11.hrbank.module.domain.employee.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -35,6 +37,22 @@ public interface EmployeeApi {
       HttpServletRequest servletRequest
   ) throws Exception;
 
+  @Operation(
+      summary = "직원 대량 등록",
+      description = "CSV(name,email,departmentId,position,hireDate,memo 헤더) 또는 NDJSON 파일로 직원을 일괄 등록합니다. "
+          + "잘못된 행은 건너뛰고 행별 오류로 반환합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "처리 완료 (행별 오류 포함)"),
+          @ApiResponse(responseCode = "400", description = "지원하지 않는 파일 형식"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @PostMapping(value = "/import", consumes = {"multipart/form-data"})
+  ResponseEntity<EmployeeImportResultDto> importEmployees(
+      @RequestPart("file") MultipartFile file,
+      @RequestParam(required = false) String format,
+      HttpServletRequest servletRequest
+  ) throws IOException;
+
   @Operation(
       summary = "직원 수정",
       description = "직원 정보를 수정합니다.",
@@ -65,14 +83,32 @@ public interface EmployeeApi {
 
   @Operation(
       summary = "직원 상세 조회",
-      description = "직원 상세 정보를 조회합니다.",
+      description = "직원 상세 정보를 조회합니다. asOf 를 지정하면 변경 이력으로 복원한 해당 날짜 종료 시점 정보를 "
+          + "조회합니다 (삭제된 직원 포함, 프로필 이미지 제외).",
       responses = {
           @ApiResponse(responseCode = "200", description = "조회 성공"),
-          @ApiResponse(responseCode = "404", description = "직원을 찾을 수 없음"),
+          @ApiResponse(responseCode = "404", description = "직원을 찾을 수 없음 또는 해당 시점에 존재하지 않음"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
       })
   @GetMapping("/{id}")
-  ResponseEntity<EmployeeDto> getEmployeeDetails(@PathVariable Long id);
+  ResponseEntity<EmployeeDto> getEmployeeDetails(
+      @PathVariable Long id,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+  );
+
+  @Operation(
+      summary = "직원 과거 시점 목록 조회",
+      description = "여러 직원(최대 100명)의 해당 날짜 종료 시점 정보를 조회합니다. 그 시점에 없던 직원은 제외됩니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/as-of")
+  ResponseEntity<List<EmployeeDto>> getEmployeesAsOf(
+      @RequestParam List<Long> ids,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+  );
 
   @Operation(
       summary = "직원 목록 조회",
@@ -85,6 +121,7 @@ public interface EmployeeApi {
   @GetMapping
   ResponseEntity<CursorPageResponse<EmployeeDto>> getListEmployees(
       @RequestParam(required = false) String nameOrEmail,
+      @RequestParam(required = false) String nameSearchMode,
       @RequestParam(required = false) String employeeNumber,
       @RequestParam(required = false) String departmentName,
       @RequestParam(required = false) String position,
@@ -95,7 +132,9 @@ public interface EmployeeApi {
       @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "10") int size,
       @RequestParam(defaultValue = "name") String sortField,
-      @RequestParam(defaultValue = "asc") String sortDirection
+      @RequestParam(defaultValue = "asc") String sortDirection,
+      @Parameter(description = "전체 건수 계산 방식 (exact, estimated, none, 기본값: exact). none 이면 응답의 totalElements 는 null")
+      @RequestParam(required = false) String countMode
   );
 
   @Operation(
@@ -127,6 +166,70 @@ public interface EmployeeApi {
       @RequestParam(required = false, defaultValue = "month") String unit
   );
 
+  @Operation(
+      summary = "인원 조회",
+      description = "변경 이력을 기준으로 지정한 날짜 종료 시점의 인원을 조회합니다. "
+          + "상태를 지정하지 않으면 재직중 + 휴직중 인원입니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/stats/headcount")
+  ResponseEntity<EmployeeHeadcountDto> getEmployeeHeadcount(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) EmployeeStatus status
+  );
+
+  @Operation(
+      summary = "인원 추이 조회",
+      description = "변경 이력을 기준으로 구간 종료 시점 인원과 구간 동안의 순증감을 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 지원하지 않는 시간 단위"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/stats/headcount/trend")
+  ResponseEntity<List<EmployeeTrendDto>> getEmployeeHeadcountTrend(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false, defaultValue = "month") String unit,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) EmployeeStatus status
+  );
+
+  @Operation(
+      summary = "직원 집계 조회",
+      description = "부서/직함/상태/입사 연도/근속 구간(department, position, status, hireYear, tenureBand) 중 "
+          + "지정한 기준 조합별 직원 수를 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 지원하지 않는 집계 기준"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/stats/group-by")
+  ResponseEntity<EmployeeGroupByDto> getEmployeeGroupBy(
+      @RequestParam List<String> dimensions,
+      @RequestParam(required = false) EmployeeStatus status
+  );
+
+  @Operation(
+      summary = "직원 패싯 조회",
+      description = "필터 조건에 해당하는 직원의 상태/부서/직함/입사 연도별 인원을 한 번에 조회합니다.",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping("/stats/facets")
+  ResponseEntity<EmployeeFacetsDto> getEmployeeFacets(
+      @RequestParam(required = false) EmployeeStatus status,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) String position,
+      @RequestParam(required = false) Integer hireYear
+  );
+
   @Operation(
       summary = "직원 수 조회",
       description = "지정된 조건에 맞는 직원 수를 조회합니다.",
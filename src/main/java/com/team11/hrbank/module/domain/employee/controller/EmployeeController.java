@@ -1,9 +1,13 @@
 package com.team11.hrbank.module.domain.employee.controller;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.util.ClientIpResolver;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
 import com.team11.hrbank.module.domain.employee.dto.*;
 import com.team11.hrbank.module.domain.employee.service.EmployeeCommandService;
+import com.team11.hrbank.module.domain.employee.service.EmployeeImportService;
 import com.team11.hrbank.module.domain.employee.service.EmployeeQueryService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +46,7 @@ public class EmployeeController implements EmployeeApi {
 
   private final EmployeeCommandService employeeCommandService;
   private final EmployeeQueryService employeeQueryService;
+  private final EmployeeImportService employeeImportService;
 
   // 직원 생성
   @PostMapping(consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -54,6 +59,24 @@ public class EmployeeController implements EmployeeApi {
         employeeCommandService.createEmployee(employeeCreateRequest, file,request));
   }
 
+  // 직원 대량 등록 (CSV / NDJSON)
+  @PostMapping(value = "/import", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
+  public ResponseEntity<EmployeeImportResultDto> importEmployees(
+      @RequestPart(value = "file") MultipartFile file,
+      @RequestParam(required = false) String format,
+      HttpServletRequest request) throws IOException {
+    String importFormat = format;
+    if (importFormat == null || importFormat.isEmpty()) {
+      String fileName = file.getOriginalFilename();
+      importFormat = fileName != null && (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl"))
+          ? "ndjson" : "csv";
+    }
+    log.info("직원 대량 등록 요청: 파일명={}, 형식={}", file.getOriginalFilename(), importFormat);
+
+    return ResponseEntity.ok(employeeImportService.importEmployees(
+        file.getInputStream(), importFormat, ClientIpResolver.getIpAddress(request)));
+  }
+
   // 직원 수정
   @PatchMapping(value = "/{id}", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
   public ResponseEntity<EmployeeDto> updateEmployee(
@@ -72,12 +95,25 @@ public class EmployeeController implements EmployeeApi {
     return ResponseEntity.noContent().build();
   }
 
-  // 직원 상세 조회
+  // 직원 상세 조회 (asOf 지정 시 해당 날짜 종료 시점 정보)
   @GetMapping("/{id}")
-  public ResponseEntity<EmployeeDto> getEmployeeDetails(@PathVariable Long id) {
+  public ResponseEntity<EmployeeDto> getEmployeeDetails(@PathVariable Long id,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+    if (asOf != null) {
+      return ResponseEntity.ok(employeeQueryService.getEmployeeAsOf(id, asOf));
+    }
     return ResponseEntity.ok(employeeQueryService.getEmployeeDetails(id));
   }
 
+  // 여러 직원의 과거 시점 정보 (그 시점에 없던 직원은 제외)
+  @GetMapping("/as-of")
+  public ResponseEntity<List<EmployeeDto>> getEmployeesAsOf(
+      @RequestParam List<Long> ids,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+    log.info("직원 과거 시점 조회: ids={}, asOf={}", ids, asOf);
+    return ResponseEntity.ok(employeeQueryService.getEmployeesAsOf(ids, asOf));
+  }
+
   /**
    * 추신 : 프로토 타입에는 사원 번호(부분 일치), 입사일(범위 조건)를 통한 "필터 작업"이 없습니다. 강사님께서 말한 API 의 불일치인 건 같습니다. 대신 사원 번호와
    * 입사일은 "정렬 작업"에 필요합니다.
@@ -86,6 +122,7 @@ public class EmployeeController implements EmployeeApi {
   @GetMapping
   public ResponseEntity<CursorPageResponse<EmployeeDto>> getListEmployees(
       @RequestParam(required = false) String nameOrEmail,
+      @RequestParam(required = false) String nameSearchMode, // contains, initial (미지정 시 초성 자모가 있으면 initial)
       @RequestParam(required = false) String employeeNumber,
       @RequestParam(required = false) String departmentName,
       @RequestParam(required = false) String position,
@@ -96,13 +133,15 @@ public class EmployeeController implements EmployeeApi {
       @RequestParam(required = false) String cursor,
       @RequestParam(defaultValue = "10") int size,
       @RequestParam(defaultValue = "name") String sortField,
-      @RequestParam(defaultValue = "asc") String sortDirection
+      @RequestParam(defaultValue = "asc") String sortDirection,
+      @RequestParam(required = false) String countMode // exact(기본), estimated, none
   ) {
     log.info("직원 목록 조회: nameOrEmail={}, sortField={}, sortDirection={}", nameOrEmail, sortField, sortDirection);
 
 
     return ResponseEntity.ok(employeeQueryService.getListEmployees(
         nameOrEmail,
+        NameSearchMode.from(nameSearchMode, nameOrEmail),
         employeeNumber,
         departmentName,
         position,
@@ -113,7 +152,8 @@ public class EmployeeController implements EmployeeApi {
         cursor,
         size,
         sortField,
-        sortDirection));
+        sortDirection,
+        CountMode.from(countMode)));
   }
 
   // 직원 분포 조회
@@ -136,6 +176,52 @@ public class EmployeeController implements EmployeeApi {
     return ResponseEntity.ok(employeeQueryService.getEmployeeTrend(from, to, unit));
   }
 
+  // 특정 날짜 인원 (변경 이력 기반, 상태 미지정 시 재직 + 휴직)
+  @GetMapping("/stats/headcount")
+  public ResponseEntity<EmployeeHeadcountDto> getEmployeeHeadcount(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) EmployeeStatus status) {
+    log.info("인원 조회: date={}, departmentId={}, status={}", date, departmentId, status);
+    return ResponseEntity.ok(employeeQueryService.getEmployeeHeadcount(date, departmentId, status));
+  }
+
+  // 구간별 인원과 순증감 (변경 이력 기반)
+  @GetMapping("/stats/headcount/trend")
+  public ResponseEntity<List<EmployeeTrendDto>> getEmployeeHeadcountTrend(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false, defaultValue = "month") String unit,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) EmployeeStatus status) {
+    log.info("인원 추이 조회: from={}, to={}, unit={}, departmentId={}, status={}",
+        from, to, unit, departmentId, status);
+    return ResponseEntity.ok(
+        employeeQueryService.getEmployeeHeadcountTrend(from, to, unit, departmentId, status));
+  }
+
+  // 임의 기준 조합별 직원 수 (예: dimensions=department,position,tenureBand)
+  @GetMapping("/stats/group-by")
+  public ResponseEntity<EmployeeGroupByDto> getEmployeeGroupBy(
+      @RequestParam List<String> dimensions,
+      @RequestParam(required = false) EmployeeStatus status) {
+    log.info("직원 집계 조회: dimensions={}, status={}", dimensions, status);
+    return ResponseEntity.ok(employeeQueryService.getEmployeeGroupBy(dimensions, status));
+  }
+
+  // 상태/부서/직함/입사 연도별 직원 수 (필터 조건 동시 적용)
+  @GetMapping("/stats/facets")
+  public ResponseEntity<EmployeeFacetsDto> getEmployeeFacets(
+      @RequestParam(required = false) EmployeeStatus status,
+      @RequestParam(required = false) Long departmentId,
+      @RequestParam(required = false) String position,
+      @RequestParam(required = false) Integer hireYear) {
+    log.info("직원 패싯 조회: status={}, departmentId={}, position={}, hireYear={}",
+        status, departmentId, position, hireYear);
+    return ResponseEntity.ok(
+        employeeQueryService.getEmployeeFacets(status, departmentId, position, hireYear));
+  }
+
   // 직원 수 조회
   @GetMapping("/count")
   public ResponseEntity<Long> getEmployeeCount(
@@ -0,0 +1,12 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+public record EmployeeFacetsDto(
+    long total,
+    List<FacetCountDto> status,
+    List<FacetCountDto> department,
+    List<FacetCountDto> position,
+    List<FacetCountDto> hireYear
+) {
+}
@@ -0,0 +1,10 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+public record EmployeeGroupByDto(
+    List<String> dimensions,
+    long total,
+    List<EmployeeGroupDto> groups
+) {
+}
@@ -0,0 +1,10 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+public record EmployeeGroupDto(
+    List<String> keys,
+    long count,
+    double percentage
+) {
+}
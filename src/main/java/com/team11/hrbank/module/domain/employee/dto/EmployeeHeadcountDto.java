@@ -0,0 +1,7 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+public record EmployeeHeadcountDto(
+    String date,
+    long headcount
+) {
+}
@@ -0,0 +1,9 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+public record EmployeeImportErrorDto(
+    long rowNumber,
+    String email,
+    String message
+) {
+
+}
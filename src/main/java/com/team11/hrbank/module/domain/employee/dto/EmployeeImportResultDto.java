@@ -0,0 +1,13 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+import java.util.List;
+
+public record EmployeeImportResultDto(
+    long totalRows,
+    long successCount,
+    long failureCount,
+    long elapsedMillis,
+    List<EmployeeImportErrorDto> errors
+) {
+
+}
@@ -0,0 +1,8 @@
+package com.team11.hrbank.module.domain.employee.dto;
+
+public record FacetCountDto(
+    String value,
+    String label,
+    long count
+) {
+}
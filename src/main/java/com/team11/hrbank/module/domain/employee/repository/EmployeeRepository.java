@@ -3,9 +3,12 @@ package com.team11.hrbank.module.domain.employee.repository;
 import com.team11.hrbank.module.domain.employee.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
@@ -13,11 +16,23 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
   @Query("SELECT e.email FROM Employee e")
   List<String> findAllEmails();
 
+  // 이메일 스트림 (이메일 Bloom filter 재구축용)
+  @Query("SELECT e.email FROM Employee e")
+  Stream<String> streamAllEmails();
+
+  // 이메일 존재 여부 (email 유니크 인덱스 사용)
+  boolean existsByEmail(String email);
+
+  // 이메일 존재 여부 (자기 자신 제외)
+  boolean existsByEmailAndIdNot(String email, Long excludeId);
+
+  // 이미 존재하는 이메일 일괄 조회 (대량 등록용)
+  @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
   // 기본 메서드를 이용하여 입사일과 상태로 직원 조회
   List<Employee> findByHireDateLessThanEqual(LocalDate toDate);
 
-  int countEmployeesByHireDateBetween(LocalDate from, LocalDate to);
-
 
   long countByDepartmentId(Long departmentId);
 }
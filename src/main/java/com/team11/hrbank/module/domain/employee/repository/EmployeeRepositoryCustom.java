@@ -1,8 +1,9 @@
 package com.team11.hrbank.module.domain.employee.repository;
 
-import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
-import com.team11.hrbank.module.domain.employee.dto.EmployeeDistributionDto;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,21 +12,31 @@ import java.util.List;
 public interface EmployeeRepositoryCustom {
 
 
-  List<Employee> findEmployeesByConditions(
+  // 목록 조회는 엔티티 대신 EmployeeDto 컬럼만 조회 (부서/프로필 이미지 지연 로딩 없음)
+  List<EmployeeDto> findEmployeesByConditions(
       String nameOrEmail,
+      NameSearchMode nameSearchMode,
       String employeeNumber,
       String departmentName,
       String position,
       LocalDate hireDateFrom,
       LocalDate hireDateTo,
       EmployeeStatus status,
-      Long idAfter,
-      String cursor,
-      int size,
+      KeysetCursor cursor,
+      int limit,
       String sortField,
-      String sortDirection);
+      boolean ascending);
 
-  List<EmployeeDistributionDto> findEmployeeDistribution(String groupBy, EmployeeStatus status);
+  // findEmployeesByConditions 와 같은 조건의 전체 건수 (커서 조건 제외)
+  long countEmployeesByConditions(
+      String nameOrEmail,
+      NameSearchMode nameSearchMode,
+      String employeeNumber,
+      String departmentName,
+      String position,
+      LocalDate hireDateFrom,
+      LocalDate hireDateTo,
+      EmployeeStatus status);
 
   long countByStatusAndHireDateBetween(
       EmployeeStatus status,
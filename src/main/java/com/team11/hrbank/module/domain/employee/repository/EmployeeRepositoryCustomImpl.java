@@ -1,19 +1,24 @@
 package com.team11.hrbank.module.domain.employee.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.pagination.KeysetPredicates;
+import com.team11.hrbank.module.common.util.HangulInitials;
+import com.team11.hrbank.module.common.util.LikePatterns;
+import com.team11.hrbank.module.domain.department.QDepartment;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
 import com.team11.hrbank.module.domain.employee.QEmployee;
-import com.team11.hrbank.module.domain.employee.dto.EmployeeDistributionDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.file.QFile;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
 
 @Repository
@@ -25,17 +30,77 @@ public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
     this.queryFactory = jpaQueryFactory;
   }
 
-  // 직원 목록 조회
+  // 직원 목록 조회 (keyset: 정렬 필드 + id, DTO projection 으로 한 번에 조회)
   @Override
-  public List<Employee> findEmployeesByConditions(String nameOrEmail, String employeeNumber,
-      String departmentName, String position, LocalDate hireDateFrom, LocalDate hireDateTo,
-      EmployeeStatus status, Long idAfter, String cursor, int size, String sortField,
-      String sortDirection) {
-    BooleanBuilder builder = new BooleanBuilder();
+  public List<EmployeeDto> findEmployeesByConditions(String nameOrEmail,
+      NameSearchMode nameSearchMode, String employeeNumber, String departmentName,
+      String position, LocalDate hireDateFrom, LocalDate hireDateTo, EmployeeStatus status,
+      KeysetCursor cursor, int limit, String sortField, boolean ascending) {
     QEmployee employee = QEmployee.employee;
+    QDepartment department = QDepartment.department;
+    QFile profileImage = QFile.file;
+    BooleanBuilder builder = buildConditions(nameOrEmail, nameSearchMode, employeeNumber,
+        departmentName, position, hireDateFrom, hireDateTo, status, employee, department);
+
+    // 커서 기반 페이지네이션 (커서에 정렬 키가 있으므로 추가 조회 없음)
+    if (cursor != null) {
+      builder.and(buildCursorCondition(cursor, sortField, ascending, employee));
+    }
+
+    // 부서/프로필 이미지가 없는 직원도 포함 (left join)
+    return queryFactory
+        .select(Projections.constructor(EmployeeDto.class,
+            employee.id,
+            employee.name,
+            employee.email,
+            employee.employeeNumber,
+            department.id,
+            department.name,
+            employee.position,
+            employee.hireDate,
+            employee.status,
+            profileImage.id))
+        .from(employee)
+        .leftJoin(employee.department, department)
+        .leftJoin(employee.profileImage, profileImage)
+        .where(builder)
+        .orderBy(createOrderSpecifiers(sortField, ascending, employee))
+        .limit(limit)
+        .fetch();
+  }
 
-    // 조회 조건 적용
-    if (nameOrEmail != null) {
+  // 목록 조회 조건과 동일한 조건으로 직원 수 조회 (totalElements)
+  @Override
+  public long countEmployeesByConditions(String nameOrEmail, NameSearchMode nameSearchMode,
+      String employeeNumber, String departmentName, String position, LocalDate hireDateFrom,
+      LocalDate hireDateTo, EmployeeStatus status) {
+    QEmployee employee = QEmployee.employee;
+    QDepartment department = QDepartment.department;
+    BooleanBuilder builder = buildConditions(nameOrEmail, nameSearchMode, employeeNumber,
+        departmentName, position, hireDateFrom, hireDateTo, status, employee, department);
+
+    JPAQuery<Long> query = queryFactory
+        .select(employee.count())
+        .from(employee);
+    if (departmentName != null) {
+      query.leftJoin(employee.department, department);
+    }
+    Long count = query.where(builder).fetchOne();
+    return count != null ? count : 0L;
+  }
+
+  // 목록/개수 조회 공통 조건
+  private BooleanBuilder buildConditions(String nameOrEmail, NameSearchMode nameSearchMode,
+      String employeeNumber, String departmentName, String position, LocalDate hireDateFrom,
+      LocalDate hireDateTo, EmployeeStatus status, QEmployee employee, QDepartment department) {
+    BooleanBuilder builder = new BooleanBuilder();
+
+    // 조회 조건 적용 (contains 는 LIKE '%검색어%' - pg_trgm GIN 인덱스 사용)
+    if (nameOrEmail != null && nameSearchMode == NameSearchMode.INITIAL) {
+      // 초성 키 prefix 조회 (text_pattern_ops 인덱스) + 완성형 글자 자리 재확인
+      builder.and(employee.nameInitials.startsWith(HangulInitials.initials(nameOrEmail)))
+          .and(employee.name.like(HangulInitials.namePattern(nameOrEmail), LikePatterns.ESCAPE));
+    } else if (nameOrEmail != null) {
       builder.and(employee.name.contains(nameOrEmail))
           .or(employee.email.contains(nameOrEmail));
     }
@@ -43,7 +108,7 @@ public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
       builder.and(employee.employeeNumber.contains(employeeNumber));
     }
     if (departmentName != null) {
-      builder.and(employee.department.name.contains(departmentName));
+      builder.and(department.name.contains(departmentName));
     }
     if (position != null) {
       builder.and(employee.position.contains(position));
@@ -59,150 +124,29 @@ public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
     if (status != null) {
       builder.and(employee.status.eq(status));
     }
-
-    // 커서 기반 페이지네이션
-    builder.and(buildCursorCondition(idAfter, cursor, sortField, sortDirection, employee));
-
-    // 정렬
-    OrderSpecifier<?> orderSpecifier = createOrderSpecifier(sortField, sortDirection, employee);
-
-    return queryFactory
-        .selectFrom(employee)
-        .where(builder)
-        .orderBy(orderSpecifier)
-        .limit(size)
-        .fetch();
+    return builder;
   }
 
   // 커서 기반 조건 생성
-  private BooleanExpression buildCursorCondition(
-      Long idAfter,
-      String cursor,
-      String sortField,
-      String sortDirection,
-      QEmployee employee) {
-
-    boolean isAsc = "asc".equalsIgnoreCase(sortDirection);
-
-    //커서 값이 제공 된 경우
-    if (cursor != null && !cursor.isEmpty()) {
-      switch (sortField) {
-        case "name":
-          return isAsc ? employee.name.gt(cursor) : employee.name.lt(cursor);
-        case "employeeNumber":
-          return isAsc ? employee.employeeNumber.gt(cursor) : employee.employeeNumber.lt(cursor);
-        case "hireDate":
-          try {
-            LocalDate hireDate = LocalDate.parse(cursor);
-            return isAsc ? employee.hireDate.gt(hireDate) : employee.hireDate.lt(hireDate);
-          }catch (Exception e) {
-            return employee.id.gt(0L); // 날짜 파싱 실패
-          }
-        default: //이름 정렬 (기본)
-          return isAsc ? employee.name.gt(cursor) : employee.name.lt(cursor);
-      }
-    }
-
-    // idAfter가 제공된 경우 (id 기반 페이지네이션)
-    if (idAfter != null) {
-      Employee targetEmployee = queryFactory.selectFrom(employee)
-          .where(employee.id.eq(idAfter))
-          .fetchOne();
-
-      if (targetEmployee == null) {
-//        throw new IllegalArgumentException("해당 idAfter에 해당하는 Employee를 찾을 수 없습니다.");
-        return employee.id.gt(0L);
-      }
-
-      // 해당 Employee의 필드를 기준으로 비교
-      switch (sortField) {
-        // idAfter의 Employee의 name을 기준으로 비교
-        case "name":
-          BooleanExpression nameExpr = isAsc ? employee.name.gt(targetEmployee.getName())
-              : employee.name.lt(targetEmployee.getName());
-
-          // 이름이 같은 경우 ID로 구분
-          return nameExpr.or(
-                  employee.name.eq(targetEmployee.getName())
-                          .and(isAsc ? employee.id.gt(idAfter) : employee.id.lt(idAfter))
-          );
-        case "employeeNumber":
-              return isAsc ? employee.employeeNumber.gt(targetEmployee.getEmployeeNumber())
-              : employee.employeeNumber.lt(targetEmployee.getEmployeeNumber());
-        case "hireDate":
-          LocalDate hireDate = targetEmployee.getHireDate();
-          BooleanExpression dateExpr = isAsc ? employee.hireDate.gt(hireDate) : employee.hireDate.lt(hireDate);
-          return dateExpr.or(
-                  employee.hireDate.eq(targetEmployee.getHireDate())
-                          .and(isAsc ? employee.id.gt(idAfter) : employee.id.lt(idAfter))
-          );
-        default:
-          return isAsc ? employee.name.gt(cursor) : employee.name.lt(cursor);
-//          throw new IllegalArgumentException("sortField(" + sortField + ")는 존재하지 않습니다.");
-      }
-
-    }
-
-    return employee.id.gt(0L);
+  private BooleanExpression buildCursorCondition(KeysetCursor cursor, String sortField,
+      boolean ascending, QEmployee employee) {
+    return switch (sortField) {
+      case "employeeNumber" -> KeysetPredicates.after(employee.employeeNumber, employee.id,
+          cursor.value(String.class), cursor.id(), ascending);
+      case "hireDate" -> KeysetPredicates.after(employee.hireDate, employee.id,
+          cursor.value(LocalDate.class), cursor.id(), ascending);
+      default -> KeysetPredicates.after(employee.name, employee.id,
+          cursor.value(String.class), cursor.id(), ascending);
+    };
   }
 
-  private OrderSpecifier<?> createOrderSpecifier(String sortField, String sortDirection,
+  private OrderSpecifier<?>[] createOrderSpecifiers(String sortField, boolean ascending,
       QEmployee employee) {
-    Order direction = "asc".equalsIgnoreCase(sortDirection) ? Order.ASC : Order.DESC;
-
-    switch (sortField) {
-      case "name":
-        // name 필드 기준 정렬
-        return new OrderSpecifier<>(direction, employee.name);
-      case "employeeNumber":
-        // employeeNumber 필드 기준 정렬
-        return new OrderSpecifier<>(direction, employee.employeeNumber);
-      case "hireDate":
-        // name 필드 기준 정렬
-        return new OrderSpecifier<>(direction, employee.hireDate);
-      default:
-        return new OrderSpecifier<>(direction, employee.name);
-    }
-  }
-
-
-  @Override
-  public List<EmployeeDistributionDto> findEmployeeDistribution(String groupBy,
-      EmployeeStatus status) {
-    QEmployee employee = QEmployee.employee;
-
-    // 조건에 따른 필터링
-    BooleanBuilder builder = new BooleanBuilder();
-    if (status != null) {
-      builder.and(employee.status.eq(status));
-    }
-
-    // 전체 직원 수
-    Long totalCount = queryFactory
-        .select(employee.count())
-        .from(employee)
-        .where(builder)
-        .fetchOne();
-
-    if (totalCount == null || totalCount == 0L) {
-      // TODO 총 직원이 0명일 때, 어떤 처리를 할지
-      // 현재는 빈 리스트를 반환하는 것으로 해두었습니다.
-      return Collections.emptyList();
-    }
-
-    // 필터링과 그룹화를 통한 반환
-    // Projections.constructor은 생성자를 통해 DTO로 접근할 수 있습니다.
-    return queryFactory.select(
-            Projections.constructor(EmployeeDistributionDto.class,
-                groupBy.equals("department") ? employee.department.name : employee.position,
-                employee.count(),
-                employee.count().multiply(100.0).divide(totalCount).doubleValue()
-            )
-        )
-        .from(employee)
-        .where(builder)
-        .groupBy(groupBy.equals("department") ? employee.department : employee.position)
-        .fetch();
+    return switch (sortField) {
+      case "employeeNumber" -> KeysetPredicates.orderBy(employee.employeeNumber, employee.id, ascending);
+      case "hireDate" -> KeysetPredicates.orderBy(employee.hireDate, employee.id, ascending);
+      default -> KeysetPredicates.orderBy(employee.name, employee.id, ascending);
+    };
   }
 
   // 직원 수 조회
@@ -0,0 +1,15 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 직원 생성/수정/삭제 이벤트 (트랜잭션 커밋 후 인메모리 인덱스 갱신용)
+ * @param employeeIds 변경된 직원 ID (삭제된 직원 포함)
+ */
+public record EmployeeChangedEvent(Collection<Long> employeeIds) {
+
+  public static EmployeeChangedEvent of(Long employeeId) {
+    return new EmployeeChangedEvent(List.of(employeeId));
+  }
+}
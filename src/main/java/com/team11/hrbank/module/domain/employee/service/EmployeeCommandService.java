@@ -1,14 +1,16 @@
 package com.team11.hrbank.module.domain.employee.service;
 
 import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.common.util.ClientIpResolver;
 import com.team11.hrbank.module.domain.EmployeeNumberGenerator;
 import com.team11.hrbank.module.domain.changelog.ChangeLog;
 import com.team11.hrbank.module.domain.changelog.ChangeLogDiff;
 import com.team11.hrbank.module.domain.changelog.DiffEntry;
 import com.team11.hrbank.module.domain.changelog.HistoryType;
-import com.team11.hrbank.module.domain.changelog.repository.ChangeLogRepository;
+import com.team11.hrbank.module.domain.changelog.service.ChangeLogRecorder;
 import com.team11.hrbank.module.domain.department.Department;
 import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.department.service.DepartmentEmployeeCountService;
 import com.team11.hrbank.module.domain.employee.Employee;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeCreateRequest;
@@ -16,13 +18,17 @@ import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeUpdateRequest;
 import com.team11.hrbank.module.domain.employee.mapper.EmployeeMapper;
 import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import com.team11.hrbank.module.domain.employee.service.history.EmployeeSnapshotService;
 import com.team11.hrbank.module.domain.file.File;
 import com.team11.hrbank.module.domain.file.service.FileService;
+import com.team11.hrbank.module.domain.file.service.StagedFile;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -40,23 +46,41 @@ public class EmployeeCommandService {
   private final DepartmentRepository departmentRepository;
   private final EmployeeMapper employeeMapper;
   private final EmployeeNumberGenerator employeeNumberGenerator;
-  private final ChangeLogRepository changeLogRepository;
-
-  // 직원 생성
-  @Transactional
+  private final ChangeLogRecorder changeLogRecorder;
+  private final EmployeeEmailRegistry employeeEmailRegistry;
+  private final TransactionTemplate transactionTemplate;
+  private final EmployeeTrendService employeeTrendService;
+  private final DepartmentEmployeeCountService departmentEmployeeCountService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EmployeeSnapshotService employeeSnapshotService;
+
+  // 직원 생성 (프로필 이미지는 트랜잭션 시작 전에 디스크에 저장)
   public EmployeeDto createEmployee(EmployeeCreateRequest employeeCreateRequest,
       MultipartFile file, HttpServletRequest request) throws Exception {
 
-    /** 요구 조건 : 이메일 중복 여부 검증 -> 레포지토리 단에서 email 컬럼만 들고올 수 있는 메서드 작성 **/
-    if (employeeRepository.findAllEmails().stream()
-            .anyMatch(email -> email.equals(employeeCreateRequest.email()))) {
+    /** 요구 조건 : 이메일 중복 여부 검증 -> Bloom filter + email 유니크 인덱스 조회 **/
+    if (employeeEmailRegistry.isDuplicate(employeeCreateRequest.email())) {
       throw new IllegalArgumentException("email(" + employeeCreateRequest.email() + ")은 이미 존재합니다.");
     }
 
+    String ipAddress = getIpAddress(request);
+    StagedFile stagedProfileImage = stageProfileImage(file);
+    try {
+      return transactionTemplate.execute(status ->
+          createEmployee(employeeCreateRequest, stagedProfileImage, ipAddress));
+    } catch (RuntimeException e) {
+      fileService.discardStagedFile(stagedProfileImage);
+      throw e;
+    }
+  }
+
+  private EmployeeDto createEmployee(EmployeeCreateRequest employeeCreateRequest,
+      StagedFile stagedProfileImage, String ipAddress) {
+
     File savedProfileImage = null;
-    if (file != null && !file.isEmpty()) {
-      savedProfileImage = fileService.uploadFile(file);
-      log.info("직원 프로필 이미지 업로드 성공: {}", savedProfileImage.getFileName());
+    if (stagedProfileImage != null) {
+      savedProfileImage = fileService.saveStagedFile(stagedProfileImage);
+      log.info("직원 프로필 이미지 저장 성공: {}", savedProfileImage.getFileName());
     }
 
     //부서 검증
@@ -78,33 +102,48 @@ public class EmployeeCommandService {
 
     // 직원 저장
     employeeRepository.save(employee);
+    employeeEmailRegistry.register(employee.getEmail());
+    employeeTrendService.evictAfterCommit(employee.getHireDate());
+    departmentEmployeeCountService.increment(department.getId());
+    eventPublisher.publishEvent(EmployeeChangedEvent.of(employee.getId()));
 
     // 직원 변경 이력 생성
-    String ipAddress = getIpAddress(request);
     ChangeLog changeLog = ChangeLog.create(employee,
         employee.getEmployeeNumber(),
         employeeCreateRequest.memo(),
         ipAddress,
         HistoryType.CREATED);
 
-    changeLogRepository.save(changeLog);
+    changeLogRecorder.record(changeLog);
+    employeeSnapshotService.recordCreated(employee);
 
     return employeeMapper.toDto(employee);
   }
 
-  // 직원 수정
-  @Transactional
+  // 직원 수정 (프로필 이미지는 트랜잭션 시작 전에 디스크에 저장, 트랜잭션에서는 참조만 교체)
   public EmployeeDto updateEmployee(Long id, EmployeeUpdateRequest employeeUpdateRequest,
       MultipartFile file, HttpServletRequest request) throws IOException {
 
+    String ipAddress = getIpAddress(request);
+    StagedFile stagedProfileImage = stageProfileImage(file);
+    try {
+      return transactionTemplate.execute(status ->
+          updateEmployee(id, employeeUpdateRequest, stagedProfileImage, ipAddress));
+    } catch (RuntimeException e) {
+      fileService.discardStagedFile(stagedProfileImage);
+      throw e;
+    }
+  }
+
+  private EmployeeDto updateEmployee(Long id, EmployeeUpdateRequest employeeUpdateRequest,
+      StagedFile stagedProfileImage, String ipAddress) {
+
     Employee employee = employeeRepository.findById(id)
         .orElseThrow(() -> ResourceNotFoundException.of("Employee", "id", id));
 
     List<DiffEntry> changes = new ArrayList<>();
     boolean hasChanges = false;
 
-    String ipAddress = getIpAddress(request);
-
     // 이름 변경
     if (employeeUpdateRequest.name() != null && !employeeUpdateRequest.name()
         .equals(employee.getName())) {
@@ -117,15 +156,15 @@ public class EmployeeCommandService {
     if (employeeUpdateRequest.email() != null && !employeeUpdateRequest.email()
         .equals(employee.getEmail())) {
       // 중복 검사 (자기 자신 제외)
-      if (employeeRepository.findAllEmails().stream()
-          .filter(email -> !email.equals(employee.getEmail()))
-          .anyMatch(email -> email.equals(employeeUpdateRequest.email()))) {
+      if (employeeEmailRegistry.isDuplicate(employeeUpdateRequest.email(), employee.getId())) {
         throw new IllegalArgumentException(
             "email: " + employeeUpdateRequest.email() + " 은 이미 존재합니다.");
       }
 
       changes.add(DiffEntry.of("이메일", employee.getEmail(), employeeUpdateRequest.email()));
+      employeeEmailRegistry.markStale();
       employee.updateEmail(employeeUpdateRequest.email());
+      employeeEmailRegistry.register(employeeUpdateRequest.email());
       hasChanges = true;
     }
 
@@ -138,6 +177,9 @@ public class EmployeeCommandService {
       String oldDeptName =
           employee.getDepartment() != null ? employee.getDepartment().getName() : "";
       changes.add(DiffEntry.of("부서", oldDeptName, newDepartment.getName()));
+      departmentEmployeeCountService.transfer(
+          employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+          newDepartment.getId());
       employee.updateDepartment(newDepartment);
       hasChanges = true;
     }
@@ -155,6 +197,8 @@ public class EmployeeCommandService {
       changes.add(DiffEntry.of("입사일",
           employee.getHireDate() != null ? employee.getHireDate().toString() : "",
           employeeUpdateRequest.hireDate().toString()));
+      employeeTrendService.evictAfterCommit(employee.getHireDate());
+      employeeTrendService.evictAfterCommit(employeeUpdateRequest.hireDate());
       employee.updateHireDate(employeeUpdateRequest.hireDate());
       hasChanges = true;
     }
@@ -169,28 +213,26 @@ public class EmployeeCommandService {
       hasChanges = true;
     }
 
-    // 프로필 이미지 변경
-    if (file != null && !file.isEmpty()) {
-      log.info("파일 업데이트 - 원본 파일명: {}, 크기: {}bytes",
-          file.getOriginalFilename(), file.getSize());
+    // 프로필 이미지 변경 (이전 파일은 커밋 후 정리 큐에서 삭제)
+    if (stagedProfileImage != null) {
+      File oldProfileImage = employee.getProfileImage();
+      File newProfileImage = fileService.saveStagedFile(stagedProfileImage);
 
-      try {
-        // 있으면 업데이트, 없으면 새로 업로드
-        File newProfileImage = fileService.updateFile(employee.getProfileImage(), file);
-
-        log.info("새 프로필 이미지 생성됨: ID={}, 파일명={}",
-            newProfileImage.getId(), newProfileImage.getFileName());
+      log.info("새 프로필 이미지 생성됨: ID={}, 파일명={}",
+          newProfileImage.getId(), newProfileImage.getFileName());
 
-        String oldFileName = employee.getProfileImage() != null ?
-            employee.getProfileImage().getFileName() : "없음";
+      String oldFileName = oldProfileImage != null ? oldProfileImage.getFileName() : "없음";
 
-        changes.add(DiffEntry.of("프로필 이미지", oldFileName, newProfileImage.getFileName()));
-        employee.updateProfileImage(newProfileImage);
-        hasChanges = true;
-      } catch (IOException e) {
-        log.error("프로필 이미지 업데이트 실패: {}", e.getMessage(), e);
-        throw new IOException("프로필 이미지 업데이트 중 오류 발생", e);
+      changes.add(DiffEntry.of("프로필 이미지", oldFileName, newProfileImage.getFileName()));
+      employee.updateProfileImage(newProfileImage);
+      if (oldProfileImage != null) {
+        fileService.deleteFileAfterCommit(oldProfileImage);
       }
+      hasChanges = true;
+    }
+
+    if (hasChanges) {
+      eventPublisher.publishEvent(EmployeeChangedEvent.of(employee.getId()));
     }
 
     //변경 이력 저장
@@ -215,8 +257,10 @@ public class EmployeeCommandService {
       ChangeLogDiff changeLogDiff = ChangeLogDiff.create(changeLog, changes);
       changeLog.setChangeLogDiff(changeLogDiff);
 
-      changeLogRepository.save(changeLog);
-
+      changeLogRecorder.record(changeLog);
+      if (hasChanges) {
+        employeeSnapshotService.recordChanged(employee);
+      }
     }
     return employeeMapper.toDto(employee);
   }
@@ -232,6 +276,7 @@ public class EmployeeCommandService {
     String name = employee.getName();
     String position = employee.getPosition();
     String departmentName = employee.getDepartment() != null ? employee.getDepartment().getName() : "";
+    Long departmentId = employee.getDepartment() != null ? employee.getDepartment().getId() : null;
     String email = employee.getEmail();
     String status = employee.getStatus() != null ? employee.getStatus().toString() : "";
     String hireDate = employee.getHireDate() != null ? employee.getHireDate().toString() : "";
@@ -245,6 +290,11 @@ public class EmployeeCommandService {
 
     // 직원 삭제
     employeeRepository.delete(employee);
+    employeeEmailRegistry.markStale();
+    employeeTrendService.evictAfterCommit(employee.getHireDate());
+    departmentEmployeeCountService.decrement(departmentId);
+    employeeSnapshotService.recordDeleted(employeeNumber);
+    eventPublisher.publishEvent(EmployeeChangedEvent.of(id));
     log.info("직원 id: {} db에서 완전히 삭제", id);
 
     // 삭제 이력 생성 (employee 참조 없이 처리)
@@ -276,67 +326,35 @@ public class EmployeeCommandService {
       ChangeLogDiff changeLogDiff = ChangeLogDiff.create(changeLog, changes);
       changeLog.setChangeLogDiff(changeLogDiff);
 
-      changeLogRepository.save(changeLog);
+      changeLogRecorder.record(changeLog);
       log.info("직원 삭제 이력 생성 완료: {}", employeeNumber);
 
     } catch (Exception e) {
       log.error("직원 삭제 이력 생성 중 오류: {}", e.getMessage(), e);
     }
 
-    // 프로필 이미지 삭제
+    // 프로필 이미지 삭제 (실제 파일은 커밋 후 정리 큐에서 삭제)
     if (profileImage != null) {
       try {
-        fileService.deleteFile(profileImage);
-        log.info("직원 프로필 이미지 삭제 성공: {}", profileImage.getFileName());
+        fileService.deleteFileAfterCommit(profileImage);
+        log.info("직원 프로필 이미지 삭제 예약: {}", profileImage.getFileName());
       } catch (Exception e) {
         log.error("프로필 이미지 삭제 실패: {}", e.getMessage(), e);
       }
     }
   }
 
-  private String getIpAddress(HttpServletRequest request) throws UnknownHostException {
-    String ipAddress = null;
-
-    //프록시 헤더 확인
-    String[] headers = {
-            "X-Forwarded-For",
-            "Proxy-Client-IP",
-            "WL-Proxy-Client-IP",
-            "HTTP_X_FORWARDED_FOR",
-            "HTTP_X_FORWARDED",
-            "HTTP_X_CLUSTER_CLIENT_IP",
-            "HTTP_CLIENT_IP",
-            "HTTP_FORWARDED_FOR",
-            "HTTP_FORWARDED",
-            "HTTP_VIA",
-            "REMOTE_ADDR"
-    };
-
-    for (String header : headers) {
-      ipAddress = request.getHeader(header);
-      if (ipAddress != null && !ipAddress.isEmpty() && !"unknown".equalsIgnoreCase(ipAddress)) {
-        break;
-      }
-    }
-
-    // 모든 헤더에서 실패하면 직접 IP 가져오기
-    if (ipAddress == null || ipAddress.isEmpty() || "unknown".equalsIgnoreCase(ipAddress)) {
-      ipAddress = request.getRemoteAddr();
+  private StagedFile stageProfileImage(MultipartFile file) throws IOException {
+    if (file == null || file.isEmpty()) {
+      return null;
     }
+    log.info("프로필 이미지 저장 - 원본 파일명: {}, 크기: {}bytes",
+        file.getOriginalFilename(), file.getSize());
+    return fileService.stageFile(file);
+  }
 
-    // 로컬호스트 주소 처리
-    if (ipAddress == null || ipAddress.isEmpty() || "0:0:0:0:0:0:0:1".equals(ipAddress)) {
-      ipAddress = "127.0.0.1";
-    }
-
-    // 쉼표로 구분된 여러 IP 주소가 있는 경우 첫 번째 주소만 사용
-    if (ipAddress != null && ipAddress.contains(",")) {
-      ipAddress = ipAddress.split(",")[0].trim();
-    }
-
-    log.info("추출된 클라이언트 IP 주소: {}", ipAddress);
-
-    return ipAddress;
+  private String getIpAddress(HttpServletRequest request) throws UnknownHostException {
+    return ClientIpResolver.getIpAddress(request);
   }
 
 }
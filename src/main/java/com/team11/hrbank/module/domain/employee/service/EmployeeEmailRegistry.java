@@ -0,0 +1,203 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.common.util.BloomFilter;
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 중복 검사
+ * - Bloom filter 로 "확실히 없는" 이메일은 DB 조회 없이 통과
+ * - "있을 수도 있는" 이메일만 email 유니크 인덱스로 존재 여부 조회 (기존과 같이 대소문자 구분)
+ * - 삭제/변경으로 빠진 이메일은 filter 에서 제거할 수 없으므로 일정 수 이상 쌓이면 재구축
+ * - 최종 보장은 DB 유니크 제약조건 (filter 는 조회를 줄이는 용도)
+ */
+@Slf4j
+@Component
+public class EmployeeEmailRegistry {
+
+  private final EmployeeRepository employeeRepository;
+  private final long minExpectedInsertions;
+  private final double falsePositiveRate;
+  private final long staleThreshold;
+
+  private volatile BloomFilter filter;
+  private volatile long capacity;
+  private final AtomicLong insertions = new AtomicLong();
+  private final AtomicLong staleCount = new AtomicLong();
+
+  private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+  // 마지막 재구축 시작 이후 등록된 이메일
+  // - 커밋 전이면 재구축 조회에 보이지 않으므로 다음 재구축에서 새 filter 에 다시 반영
+  // - 재구축 시작 시 통째로 넘겨받고 새 큐로 바꿈 (swapLock write lock 안에서만 교체)
+  // - 등록 수가 설계 용량을 넘으면 재구축 대상이 되므로 큐도 용량 이내로 유지됨
+  private Queue<String> recentRegistrations = new ConcurrentLinkedQueue<>();
+  // register 는 read lock (서로 동시 실행), 큐 교체와 filter 교체는 write lock
+  // -> 어느 시점에 등록된 이메일이든 기존 filter 와 큐 양쪽에 들어가 교체 후에도 빠지지 않음
+  private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+  public EmployeeEmailRegistry(EmployeeRepository employeeRepository,
+      @Value("${employee.email-filter.expected-insertions:100000}") long minExpectedInsertions,
+      @Value("${employee.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${employee.email-filter.stale-threshold:10000}") long staleThreshold) {
+    this.employeeRepository = employeeRepository;
+    this.minExpectedInsertions = minExpectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.staleThreshold = staleThreshold;
+    this.filter = BloomFilter.create(minExpectedInsertions, falsePositiveRate);
+    this.capacity = minExpectedInsertions;
+  }
+
+  /**
+   * 애플리케이션 시작 시 전체 이메일로 filter 구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    // 이번 재구축 조회 전에 등록된 이메일 (아직 커밋되지 않았을 수 있음)
+    Queue<String> carried;
+    swapLock.writeLock().lock();
+    try {
+      carried = recentRegistrations;
+      recentRegistrations = new ConcurrentLinkedQueue<>();
+    } finally {
+      swapLock.writeLock().unlock();
+    }
+    boolean swapped = false;
+    try {
+      long newCapacity = Math.max(minExpectedInsertions, employeeRepository.count() * 2);
+      BloomFilter newFilter = BloomFilter.create(newCapacity, falsePositiveRate);
+
+      AtomicLong loaded = new AtomicLong();
+      try (Stream<String> emails = employeeRepository.streamAllEmails()) {
+        emails.forEach(email -> {
+          newFilter.put(email);
+          loaded.incrementAndGet();
+        });
+      }
+
+      swapLock.writeLock().lock();
+      try {
+        // 조회 전 등록분 + 조회 중 등록분 (후자는 다음 재구축까지 큐에 남김)
+        for (String email : carried) {
+          newFilter.put(email);
+          loaded.incrementAndGet();
+        }
+        for (String email : recentRegistrations) {
+          newFilter.put(email);
+          loaded.incrementAndGet();
+        }
+        filter = newFilter;
+        capacity = newCapacity;
+        insertions.set(loaded.get());
+        staleCount.set(0);
+        swapped = true;
+      } finally {
+        swapLock.writeLock().unlock();
+      }
+      log.info("이메일 Bloom filter 구축 완료: 이메일 수={}, bits={}, hashes={}",
+          loaded.get(), newFilter.bitSize(), newFilter.hashCount());
+    } finally {
+      if (!swapped) {
+        // 실패하면 넘겨받은 이메일을 다음 재구축 대상으로 되돌림
+        swapLock.writeLock().lock();
+        try {
+          recentRegistrations.addAll(carried);
+        } finally {
+          swapLock.writeLock().unlock();
+        }
+      }
+      rebuilding.set(false);
+    }
+  }
+
+  /**
+   * 삭제/변경된 이메일이 임계치를 넘으면 재구축
+   */
+  @Scheduled(fixedDelayString = "${employee.email-filter.rebuild-check-ms:600000}")
+  @Transactional(readOnly = true)
+  public void rebuildIfStale() {
+    if (staleCount.get() >= staleThreshold) {
+      log.info("이메일 Bloom filter 재구축 - 삭제된 이메일 수: {}", staleCount.get());
+      rebuild();
+    }
+  }
+
+  /**
+   * filter 상 존재 가능성 여부 (false 이면 DB 조회 불필요)
+   */
+  public boolean mightContain(String email) {
+    return email != null && filter.mightContain(email);
+  }
+
+  /**
+   * 이메일 중복 여부
+   * @param email 검사할 이메일
+   * @return 이미 존재하면 true
+   */
+  @Transactional(readOnly = true)
+  public boolean isDuplicate(String email) {
+    if (!mightContain(email)) {
+      return false;
+    }
+    return employeeRepository.existsByEmail(email);
+  }
+
+  /**
+   * 이메일 중복 여부 (자기 자신 제외)
+   * @param email     검사할 이메일
+   * @param excludeId 제외할 직원 ID
+   * @return 다른 직원이 사용 중이면 true
+   */
+  @Transactional(readOnly = true)
+  public boolean isDuplicate(String email, Long excludeId) {
+    if (!mightContain(email)) {
+      return false;
+    }
+    return employeeRepository.existsByEmailAndIdNot(email, excludeId);
+  }
+
+  /**
+   * 생성/변경된 이메일 반영 (롤백되더라도 false positive 만 늘어나므로 즉시 반영)
+   */
+  public void register(String email) {
+    if (email == null) {
+      return;
+    }
+    swapLock.readLock().lock();
+    try {
+      filter.put(email);
+      recentRegistrations.add(email);
+    } finally {
+      swapLock.readLock().unlock();
+    }
+    // 설계 용량을 넘으면 오탐률이 올라가므로 재구축 대상으로 표시
+    if (insertions.incrementAndGet() > capacity) {
+      staleCount.set(staleThreshold);
+    }
+  }
+
+  /**
+   * 삭제/변경으로 이메일 하나가 더 이상 사용되지 않음을 반영
+   * - filter 에서는 지울 수 없으므로 재구축 시점 판단용 개수만 셈
+   */
+  public void markStale() {
+    staleCount.incrementAndGet();
+  }
+}
@@ -0,0 +1,392 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.EmployeeNumberGenerator;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.department.service.DepartmentEmployeeCountService;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeCreateRequest;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeImportErrorDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeImportResultDto;
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import com.team11.hrbank.module.domain.employee.service.history.EmployeeSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.input.BOMInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 직원 대량 등록 (CSV / NDJSON 스트리밍)
+ * - 부서 ID 는 작업 시작 시 한 번만 조회
+ * - 이메일 중복은 청크 단위로 Bloom filter + IN 조회로 일괄 검증
+ *   (앞 청크는 이미 저장되어 filter/DB 에서 걸리므로 파일 내 중복은 청크 안에서만 따로 검사)
+ * - employees / change_logs 는 청크 단위 JDBC batch insert (청크별 트랜잭션)
+ *   같은 트랜잭션에서 생성 스냅샷도 저장 (삭제 후 과거 시점 조회용)
+ * - 청크 저장이 실패하면 행 단위로 다시 저장해 문제 행만 실패 처리
+ * - 잘못된 행은 오류 목록에 기록하고 나머지 행은 계속 처리
+ */
+@Slf4j
+@Service
+public class EmployeeImportService {
+
+  private static final String INSERT_EMPLOYEE_SQL =
+      "INSERT INTO employees (id, name, email, employee_number, department_id, \"position\", "
+          + "hire_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_CHANGE_LOG_SQL =
+      "INSERT INTO change_logs (id, type, employee_id, employee_number, memo, ip_address, created_at) "
+          + "VALUES (?, 'CREATED', ?, ?, ?, CAST(? AS inet), ?)";
+
+  private static final String ALLOCATE_IDS_SQL =
+      "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)";
+
+  private final EmployeeRepository employeeRepository;
+  private final DepartmentRepository departmentRepository;
+  private final EmployeeEmailRegistry employeeEmailRegistry;
+  private final EmployeeNumberGenerator employeeNumberGenerator;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final EmployeeTrendService employeeTrendService;
+  private final DepartmentEmployeeCountService departmentEmployeeCountService;
+  private final EmployeeSnapshotService employeeSnapshotService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int batchSize;
+  private final int maxReportedErrors;
+
+  public EmployeeImportService(EmployeeRepository employeeRepository,
+      DepartmentRepository departmentRepository,
+      EmployeeEmailRegistry employeeEmailRegistry,
+      EmployeeNumberGenerator employeeNumberGenerator,
+      JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      EmployeeTrendService employeeTrendService,
+      DepartmentEmployeeCountService departmentEmployeeCountService,
+      EmployeeSnapshotService employeeSnapshotService,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${employee.import.batch-size:1000}") int batchSize,
+      @Value("${employee.import.max-reported-errors:1000}") int maxReportedErrors) {
+    this.employeeRepository = employeeRepository;
+    this.departmentRepository = departmentRepository;
+    this.employeeEmailRegistry = employeeEmailRegistry;
+    this.employeeNumberGenerator = employeeNumberGenerator;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.employeeTrendService = employeeTrendService;
+    this.departmentEmployeeCountService = departmentEmployeeCountService;
+    this.employeeSnapshotService = employeeSnapshotService;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * 대량 등록 실행
+   * @param inputStream 업로드된 파일 스트림
+   * @param format      csv 또는 ndjson
+   * @param ipAddress   요청자 IP (변경 이력 기록용)
+   * @return 처리 결과 (성공/실패 건수, 행별 오류)
+   */
+  public EmployeeImportResultDto importEmployees(InputStream inputStream, String format,
+      String ipAddress) throws IOException {
+    long startedAt = System.currentTimeMillis();
+    ImportJob job = new ImportJob(ipAddress, new HashSet<>(departmentRepository.findAllIds()));
+
+    InputStream bomFree = BOMInputStream.builder().setInputStream(inputStream).get();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(bomFree, StandardCharsets.UTF_8))) {
+      if ("ndjson".equalsIgnoreCase(format)) {
+        readNdjson(reader, job);
+      } else if ("csv".equalsIgnoreCase(format)) {
+        readCsv(reader, job);
+      } else {
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+      }
+    }
+    flush(job);
+
+    long elapsed = System.currentTimeMillis() - startedAt;
+    log.info("직원 대량 등록 완료 - 전체: {}, 성공: {}, 실패: {}, 소요: {}ms",
+        job.totalRows, job.successCount, job.failureCount, elapsed);
+
+    return new EmployeeImportResultDto(job.totalRows, job.successCount, job.failureCount,
+        elapsed, job.errors);
+  }
+
+  private void readCsv(BufferedReader reader, ImportJob job) throws IOException {
+    CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
+        .setHeader()
+        .setSkipHeaderRecord(true)
+        .setIgnoreEmptyLines(true)
+        .setTrim(true)
+        .build();
+
+    try (CSVParser parser = csvFormat.parse(reader)) {
+      for (CSVRecord record : parser) {
+        long rowNumber = record.getRecordNumber();
+        job.totalRows++;
+        EmployeeCreateRequest request;
+        try {
+          request = new EmployeeCreateRequest(
+              value(record, "name"),
+              value(record, "email"),
+              parseLong(value(record, "departmentId")),
+              value(record, "position"),
+              parseDate(value(record, "hireDate")),
+              value(record, "memo"));
+        } catch (RuntimeException e) {
+          job.fail(rowNumber, null, "행 파싱 실패: " + e.getMessage());
+          continue;
+        }
+        add(job, new ImportRow(rowNumber, request));
+      }
+    }
+  }
+
+  private void readNdjson(BufferedReader reader, ImportJob job) throws IOException {
+    String line;
+    long rowNumber = 0;
+    while ((line = reader.readLine()) != null) {
+      rowNumber++;
+      if (line.isBlank()) {
+        continue;
+      }
+      job.totalRows++;
+      EmployeeCreateRequest request;
+      try {
+        request = objectMapper.readValue(line, EmployeeCreateRequest.class);
+      } catch (JsonProcessingException e) {
+        job.fail(rowNumber, null, "행 파싱 실패: " + e.getOriginalMessage());
+        continue;
+      }
+      add(job, new ImportRow(rowNumber, request));
+    }
+  }
+
+  private void add(ImportJob job, ImportRow row) {
+    job.chunk.add(row);
+    if (job.chunk.size() >= batchSize) {
+      flush(job);
+    }
+  }
+
+  /**
+   * 청크 검증 후 batch insert
+   */
+  private void flush(ImportJob job) {
+    if (job.chunk.isEmpty()) {
+      return;
+    }
+    List<ImportRow> rows = new ArrayList<>(job.chunk);
+    job.chunk.clear();
+
+    // 1. 필수값 / 부서 / 청크 내 이메일 중복 검증
+    List<ImportRow> valid = new ArrayList<>(rows.size());
+    Set<String> chunkEmails = new HashSet<>();
+    Set<String> filterHits = new HashSet<>();
+    for (ImportRow row : rows) {
+      String error = validate(row.request(), job.departmentIds);
+      if (error != null) {
+        job.fail(row.rowNumber(), row.request().email(), error);
+        continue;
+      }
+      String email = row.request().email();
+      if (!chunkEmails.add(email)) {
+        job.fail(row.rowNumber(), email, "파일 내 중복된 이메일입니다.");
+        continue;
+      }
+      if (employeeEmailRegistry.mightContain(email)) {
+        filterHits.add(email);
+      }
+      valid.add(row);
+    }
+
+    // 2. DB 이메일 중복 일괄 검증 (filter 에 걸린 이메일만 조회)
+    if (!filterHits.isEmpty()) {
+      Set<String> existing = new HashSet<>(employeeRepository.findExistingEmails(filterHits));
+      if (!existing.isEmpty()) {
+        List<ImportRow> unique = new ArrayList<>(valid.size());
+        for (ImportRow row : valid) {
+          if (existing.contains(row.request().email())) {
+            job.fail(row.rowNumber(), row.request().email(),
+                "email(" + row.request().email() + ")은 이미 존재합니다.");
+          } else {
+            unique.add(row);
+          }
+        }
+        valid = unique;
+      }
+    }
+
+    if (valid.isEmpty()) {
+      return;
+    }
+
+    // 3. batch insert (청크 단위 트랜잭션), 실패하면 행 단위로 재시도
+    try {
+      insert(valid, job);
+    } catch (DataAccessException e) {
+      log.warn("직원 대량 등록 청크 저장 실패 ({}건), 행 단위로 재시도: {}", valid.size(),
+          e.getMostSpecificCause().getMessage());
+      for (ImportRow row : valid) {
+        try {
+          insert(List.of(row), job);
+        } catch (DataAccessException rowError) {
+          job.fail(row.rowNumber(), row.request().email(),
+              "저장 실패: " + rowError.getMostSpecificCause().getMessage());
+        }
+      }
+    }
+  }
+
+  private void insert(List<ImportRow> rows, ImportJob job) {
+    transactionTemplate.executeWithoutResult(status -> insertChunk(rows, job.ipAddress));
+    rows.forEach(row -> employeeEmailRegistry.register(row.request().email()));
+    job.successCount += rows.size();
+  }
+
+  private void insertChunk(List<ImportRow> rows, String ipAddress) {
+    List<Long> employeeIds = allocateIds("employees", rows.size());
+    List<Long> changeLogIds = allocateIds("change_logs", rows.size());
+    Timestamp now = Timestamp.from(Instant.now());
+
+    List<Object[]> employeeArgs = new ArrayList<>(rows.size());
+    List<Object[]> changeLogArgs = new ArrayList<>(rows.size());
+    for (int i = 0; i < rows.size(); i++) {
+      EmployeeCreateRequest request = rows.get(i).request();
+      String employeeNumber = employeeNumberGenerator.generateEmployeeNumber();
+
+      employeeArgs.add(new Object[]{
+          employeeIds.get(i),
+          request.name(),
+          request.email(),
+          employeeNumber,
+          request.departmentId(),
+          request.position(),
+          Date.valueOf(request.hireDate()),
+          EmployeeStatus.ACTIVE.name(),
+          now,
+          now
+      });
+      changeLogArgs.add(new Object[]{
+          changeLogIds.get(i),
+          employeeIds.get(i),
+          employeeNumber,
+          request.memo(),
+          ipAddress,
+          now
+      });
+    }
+
+    jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SQL, employeeArgs);
+    jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG_SQL, changeLogArgs);
+    employeeSnapshotService.recordCreatedAll(employeeIds);
+    eventPublisher.publishEvent(new EmployeeChangedEvent(employeeIds));
+    departmentEmployeeCountService.adjustAll(rows.stream()
+        .collect(Collectors.groupingBy(row -> row.request().departmentId(),
+            Collectors.counting())));
+    rows.stream()
+        .map(row -> row.request().hireDate())
+        .distinct()
+        .forEach(employeeTrendService::evictAfterCommit);
+  }
+
+  // IDENTITY 시퀀스에서 ID 를 미리 할당 (batch insert 후 generated key 조회 불필요)
+  private List<Long> allocateIds(String table, int count) {
+    return jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, table, count);
+  }
+
+  private String validate(EmployeeCreateRequest request, Set<Long> departmentIds) {
+    if (isBlank(request.name())) {
+      return "이름은 필수입니다.";
+    }
+    if (isBlank(request.email())) {
+      return "이메일은 필수입니다.";
+    }
+    if (isBlank(request.position())) {
+      return "직함은 필수입니다.";
+    }
+    if (request.hireDate() == null) {
+      return "입사일은 필수입니다.";
+    }
+    if (request.departmentId() == null || !departmentIds.contains(request.departmentId())) {
+      return "Department not found with departmentId: " + request.departmentId();
+    }
+    return null;
+  }
+
+  private static String value(CSVRecord record, String column) {
+    if (!record.isMapped(column) || !record.isSet(column)) {
+      return null;
+    }
+    String value = record.get(column);
+    return value.isEmpty() ? null : value;
+  }
+
+  private static Long parseLong(String value) {
+    return value == null ? null : Long.parseLong(value);
+  }
+
+  private static LocalDate parseDate(String value) {
+    return value == null ? null : LocalDate.parse(value);
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private record ImportRow(long rowNumber, EmployeeCreateRequest request) {
+
+  }
+
+  /**
+   * 작업 단위 상태 (요청 스레드 내에서만 사용)
+   */
+  private class ImportJob {
+
+    private final String ipAddress;
+    private final Set<Long> departmentIds;
+    private final List<ImportRow> chunk = new ArrayList<>();
+    private final List<EmployeeImportErrorDto> errors = new ArrayList<>();
+    private long totalRows;
+    private long successCount;
+    private long failureCount;
+
+    private ImportJob(String ipAddress, Set<Long> departmentIds) {
+      this.ipAddress = ipAddress;
+      this.departmentIds = departmentIds;
+    }
+
+    private void fail(long rowNumber, String email, String message) {
+      failureCount++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new EmployeeImportErrorDto(rowNumber, email, message));
+      }
+    }
+  }
+}
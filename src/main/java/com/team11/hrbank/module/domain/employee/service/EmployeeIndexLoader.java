@@ -0,0 +1,166 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 직원 테이블 기반 인메모리 인덱스 공통 적재/갱신
+ * - 애플리케이션 시작 시 전체 직원을 fetch size 단위로 읽어 build() 로 인덱스 구축
+ * - 직원 변경 이벤트를 커밋 후 받아 해당 직원만 다시 읽어 upsert/remove (조회되지 않으면 삭제된 것)
+ * - 구축 전에 들어온 변경은 모아 두었다가 구축 직후 반영
+ * - 변경 반영은 writeMonitor 로 직렬화, 조회 측은 current() 로 구축 완료된 인덱스만 받음
+ * @param <R> DB 에서 읽는 직원 행
+ * @param <I> 인덱스
+ */
+@Slf4j
+public abstract class EmployeeIndexLoader<R, I> {
+
+  protected final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final String name;
+  private final String selectSql;
+  private final String idColumn;
+  private final RowMapper<R> rowMapper;
+  private final int fetchSize;
+
+  private volatile I index;
+  // 인덱스 구축 전에 들어온 변경 (writeMonitor)
+  private final Set<Long> pendingIds = new HashSet<>();
+  protected final Object writeMonitor = new Object();
+
+  /**
+   * @param name      로그에 쓰는 인덱스 이름
+   * @param selectSql 전체 직원 조회 SQL (WHERE 없이, 변경 반영 시 idColumn = ANY (?) 를 덧붙임)
+   * @param idColumn  selectSql 에서 직원 ID 컬럼
+   */
+  protected EmployeeIndexLoader(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      String name, String selectSql, String idColumn, RowMapper<R> rowMapper, int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.name = name;
+    this.selectSql = selectSql;
+    this.idColumn = idColumn;
+    this.rowMapper = rowMapper;
+    this.fetchSize = fetchSize;
+  }
+
+  protected abstract I build(List<R> rows);
+
+  protected abstract long idOf(R row);
+
+  protected abstract void upsert(I index, R row);
+
+  protected abstract void remove(I index, long employeeId);
+
+  protected abstract int sizeOf(I index);
+
+  /**
+   * 구축 직후 (writeMonitor 보유, 보류된 직원 변경 반영 후)
+   */
+  protected void onLoaded(I index) {
+  }
+
+  /**
+   * 변경 반영 후 (writeMonitor 보유) - 인덱스를 교체하려면 replace() 호출
+   */
+  protected void afterApply(I index) {
+  }
+
+  /**
+   * 애플리케이션 시작 시 전체 직원으로 인덱스 구축
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    long startedAt = System.currentTimeMillis();
+    // PostgreSQL 은 트랜잭션 안에서만 fetch size 단위로 끊어 읽음
+    List<R> rows = transactionTemplate.execute(status -> jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(selectSql);
+          statement.setFetchSize(fetchSize);
+          return statement;
+        }, rowMapper));
+    I loaded = build(rows);
+
+    synchronized (writeMonitor) {
+      index = loaded;
+      if (!pendingIds.isEmpty()) {
+        apply(new ArrayList<>(pendingIds));
+        pendingIds.clear();
+      }
+      onLoaded(index);
+    }
+    log.info("{} 구축 완료 - 직원 수: {}, 소요: {}ms",
+        name, sizeOf(loaded), System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * 구축 완료된 인덱스 (구축 전이면 null)
+   */
+  public I current() {
+    return index;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChanged(EmployeeChangedEvent event) {
+    synchronized (writeMonitor) {
+      if (index == null) {
+        pendingIds.addAll(event.employeeIds());
+        return;
+      }
+      apply(event.employeeIds());
+    }
+  }
+
+  /**
+   * 이미 읽은 행 반영 (writeMonitor 보유 상태에서 호출, 구축 전이면 해당 직원을 보류 목록에 추가)
+   */
+  protected void upsertAll(List<R> rows) {
+    if (index == null) {
+      rows.forEach(row -> pendingIds.add(idOf(row)));
+      return;
+    }
+    rows.forEach(row -> upsert(index, row));
+    afterApply(index);
+  }
+
+  /**
+   * 인덱스 교체 (writeMonitor 보유 상태에서 호출)
+   */
+  protected void replace(I rebuilt) {
+    index = rebuilt;
+  }
+
+  // writeMonitor 보유 상태에서 호출
+  private void apply(Collection<Long> employeeIds) {
+    if (employeeIds.isEmpty()) {
+      return;
+    }
+    List<R> rows = jdbcTemplate.query(selectSql + " WHERE " + idColumn + " = ANY (?)",
+        rowMapper, (Object) employeeIds.toArray(Long[]::new));
+
+    Set<Long> found = new HashSet<>();
+    for (R row : rows) {
+      upsert(index, row);
+      found.add(idOf(row));
+    }
+    // 조회되지 않은 직원은 삭제된 것
+    for (Long employeeId : employeeIds) {
+      if (!found.contains(employeeId)) {
+        remove(index, employeeId);
+      }
+    }
+    afterApply(index);
+  }
+}
@@ -2,22 +2,37 @@ package com.team11.hrbank.module.domain.employee.service;
 
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.pagination.KeysetPaginator;
+import com.team11.hrbank.module.common.pagination.PageCountService;
 import com.team11.hrbank.module.domain.employee.Employee;
 import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeDistributionDto;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeFacetsDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeGroupByDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeHeadcountDto;
 import com.team11.hrbank.module.domain.employee.dto.EmployeeTrendDto;
 import com.team11.hrbank.module.domain.employee.mapper.EmployeeMapper;
 import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
 import com.team11.hrbank.module.domain.employee.repository.EmployeeRepositoryCustom;
+import com.team11.hrbank.module.domain.employee.service.analytics.EmployeeAnalyticsService;
+import com.team11.hrbank.module.domain.employee.service.analytics.EmployeeDimension;
+import com.team11.hrbank.module.domain.employee.service.facet.EmployeeFacetFilter;
+import com.team11.hrbank.module.domain.employee.service.facet.EmployeeFacetService;
+import com.team11.hrbank.module.domain.employee.service.headcount.HeadcountRollupService;
+import com.team11.hrbank.module.domain.employee.service.history.EmployeeHistoryService;
+import com.team11.hrbank.module.domain.employee.service.search.EmployeeSearchCriteria;
+import com.team11.hrbank.module.domain.employee.service.search.EmployeeSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -29,6 +44,14 @@ public class EmployeeQueryService {
   private final EmployeeRepository employeeRepository;
   private final EmployeeRepositoryCustom employeeRepositoryCustom;
   private final EmployeeMapper employeeMapper;
+  private final KeysetPaginator keysetPaginator;
+  private final PageCountService pageCountService;
+  private final EmployeeTrendService employeeTrendService;
+  private final ObjectProvider<EmployeeSearchService> employeeSearchService;
+  private final EmployeeFacetService employeeFacetService;
+  private final EmployeeAnalyticsService employeeAnalyticsService;
+  private final HeadcountRollupService headcountRollupService;
+  private final EmployeeHistoryService employeeHistoryService;
 
   // 부서 별 직원 수
   public Long countByDepartmentId(Long departmentId) {
@@ -42,9 +65,19 @@ public class EmployeeQueryService {
     return employeeMapper.toDto(employee);
   }
 
+  // 과거 시점 직원 상세 (스냅샷 + 변경 이력으로 복원)
+  public EmployeeDto getEmployeeAsOf(Long id, LocalDate asOf) {
+    return employeeHistoryService.getEmployeeAsOf(id, asOf);
+  }
+
+  public List<EmployeeDto> getEmployeesAsOf(List<Long> ids, LocalDate asOf) {
+    return employeeHistoryService.getEmployeesAsOf(ids, asOf);
+  }
+
   // 직원 목록 조회
   public CursorPageResponse<EmployeeDto> getListEmployees(
       String nameOrEmail,
+      NameSearchMode nameSearchMode,
       String employeeNumber,
       String departmentName,
       String position,
@@ -55,66 +88,73 @@ public class EmployeeQueryService {
       String cursor,
       Integer size,
       String sortField,
-      String sortDirection
+      String sortDirection,
+      CountMode countMode
   ) {
 
-    List<Employee> employees = employeeRepositoryCustom.findEmployeesByConditions(
-        nameOrEmail,
-        employeeNumber,
-        departmentName,
-        position,
-        hireDateFrom,
-        hireDateTo,
-        status,
-        idAfter,
-        cursor,
-        size + 1,
-        sortField,
-        sortDirection);
-
-    // 다음 페이지가 있으면 마지막 아이템 제거
-    boolean hasNext = employees.size() > size;
-    if(hasNext) {
-      employees.remove(size);
-    }
-
-    if (employees.isEmpty()) {
-      return new CursorPageResponse<>(
-              List.of(),
-              null,
-              null,
-              size,
-              getEmployeeCount(status, hireDateFrom, hireDateTo),
-              false
-      );
-    }
-
-
-    //마지막 직원 정보 가져오기
-    Employee lastEmployee = employees.get(employees.size() - 1);
-    Long lastId = lastEmployee.getId();
+    String resolvedSortField = resolveSortField(sortField);
+    boolean ascending = "asc".equalsIgnoreCase(sortDirection);
+    KeysetCursor keysetCursor = keysetPaginator.decode(cursor, idAfter, resolvedSortField, ascending,
+        id -> employeeRepository.findById(id).map(employeeMapper::toDto),
+        employee -> sortValue(employee, resolvedSortField),
+        employee -> null);
+
+    EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(nameOrEmail, nameSearchMode,
+        employeeNumber, departmentName, position, hireDateFrom, hireDateTo, status);
+
+    // 인메모리 검색 인덱스가 준비된 경우 DB 조회 없이 처리 (총 개수 포함)
+    EmployeeSearchService searchService = employeeSearchService.getIfAvailable();
+    boolean inMemory = searchService != null && searchService.isReady();
+
+    List<EmployeeDto> employees = inMemory
+        ? searchService.search(criteria, keysetCursor, size + 1, resolvedSortField, ascending)
+        : employeeRepositoryCustom.findEmployeesByConditions(
+            nameOrEmail,
+            nameSearchMode,
+            employeeNumber,
+            departmentName,
+            position,
+            hireDateFrom,
+            hireDateTo,
+            status,
+            keysetCursor,
+            size + 1,
+            resolvedSortField,
+            ascending);
+
+    return keysetPaginator.toResponse(
+        employees,
+        size,
+        resolvedSortField,
+        ascending,
+        employee -> sortValue(employee, resolvedSortField),
+        EmployeeDto::id,
+        page -> page,
+        pageCountService.count(countMode, "employees",
+            !criteria.isEmpty(),
+            PageCountService.signature("employees", nameOrEmail, nameSearchMode, employeeNumber,
+                departmentName, position, hireDateFrom, hireDateTo, status),
+            inMemory
+                ? () -> searchService.count(criteria)
+                : () -> employeeRepositoryCustom.countEmployeesByConditions(nameOrEmail,
+                    nameSearchMode, employeeNumber, departmentName, position, hireDateFrom,
+                    hireDateTo, status)));
+  }
 
-    //정렬 필드에 따라 커서 값 설정
-    String nextCursorValue;
-    switch (sortField) {
-      case "name":
-        nextCursorValue = lastEmployee.getName();
-        break;
-      case "employeeNumber":
-        nextCursorValue = lastEmployee.getEmployeeNumber();
-        break;
-      case "hireDate":
-        nextCursorValue = lastEmployee.getHireDate().toString();
-        break;
-      default:
-        nextCursorValue = lastEmployee.getName();
+  // 지원하지 않는 정렬 필드는 이름 정렬 (기본)
+  private static String resolveSortField(String sortField) {
+    if ("employeeNumber".equals(sortField) || "hireDate".equals(sortField)) {
+      return sortField;
     }
+    return "name";
+  }
 
-    List<EmployeeDto> employeeDtos = employees.stream().map(employeeMapper::toDto).toList();
-
-    long totalCount = getEmployeeCount(status, hireDateFrom, hireDateTo);
-
-    return CursorPageResponse.of(employeeDtos, nextCursorValue, hasNext ? lastId : null, size, totalCount, hasNext);
+  private static Object sortValue(EmployeeDto employee, String sortField) {
+    return switch (sortField) {
+      case "employeeNumber" -> employee.employeeNumber();
+      case "hireDate" -> employee.hireDate();
+      default -> employee.name();
+    };
   }
 
   // 직원 분포 조회
@@ -129,10 +169,17 @@ public class EmployeeQueryService {
       }
     }
 
-    return employeeRepositoryCustom.findEmployeeDistribution(groupBy,employeeStatus);
+    // 컬럼 스냅샷 집계 (DB 조회 없음)
+    return employeeAnalyticsService.distribution(groupBy, employeeStatus);
+  }
+
+  // 부서/직함/상태/입사 연도/근속 구간 임의 조합별 직원 수
+  public EmployeeGroupByDto getEmployeeGroupBy(List<String> dimensions, EmployeeStatus status) {
+    return employeeAnalyticsService.groupBy(
+        dimensions.stream().map(EmployeeDimension::from).distinct().toList(), status);
   }
 
-  // 직원 수 추이
+  // 직원 수 추이 (구간 집계는 EmployeeTrendService 에서 쿼리 한 번으로 처리)
   public List<EmployeeTrendDto> getEmployeeTrend(LocalDate from, LocalDate to, String periodType) {
     // 기본값 설정: from과 to가 null일 경우 최근 12개월 데이터 반환
     if (from == null) {
@@ -142,177 +189,35 @@ public class EmployeeQueryService {
       to = LocalDate.now();
     }
 
-    return switch (periodType.toLowerCase()){
-      case "day" -> getDailyStats(from, to);
-      case "week" -> getWeeklyStats(from, to);
-      case "month" -> getMonthlyStats(from, to);
-      case "quarter" -> getQuarterlyStats(from, to);
-      case "year" -> getYearlyStats(from, to);
-      default -> throw new IllegalArgumentException("올바르지 않은 시간 단위입니다:" + periodType);
-    };
-  }
-
-  //일별 통계 조회
-  private List<EmployeeTrendDto> getDailyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> dailyStats = new ArrayList<>();
-    LocalDate current = from;
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextDay = current.plusDays(1);
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextDay);
-
-      // 이전 날의 데이터를 구하기 위한 코드
-      LocalDate previousDay = current.minusDays(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousDay, current);
-
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      dailyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextDay;
-    }
-
-    return dailyStats;
+    return employeeTrendService.getTrend(from, to, periodType);
   }
 
-  // 주별 데이터 처리
-  private List<EmployeeTrendDto> getWeeklyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> weeklyStats = new ArrayList<>();
-    LocalDate current = from;
-    //주 시작일을 수요일로 조정(프로토타입과 일치)
-    current = current.with(DayOfWeek.WEDNESDAY);
-
-    // 주 시작일을 기준으로 진행
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate endOfWeek = current.plusWeeks(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, endOfWeek);
-
-      // 지난주 데이터
-      LocalDate previousWeekStart = current.minusWeeks(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(
-          previousWeekStart, current);
-
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      weeklyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = endOfWeek;
-    }
-
-    return weeklyStats;
+  // 특정 날짜 인원 (변경 이력 누적 시계열)
+  public EmployeeHeadcountDto getEmployeeHeadcount(LocalDate date, Long departmentId,
+      EmployeeStatus status) {
+    return headcountRollupService.getHeadcount(date != null ? date : LocalDate.now(),
+        departmentId, status);
   }
 
-  // 월별 데이터 처리
-  private List<EmployeeTrendDto> getMonthlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> monthlyStats = new ArrayList<>();
-    LocalDate current = from.withDayOfMonth(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextMonth = current.plusMonths(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextMonth);
-
-      // 이전 월의 데이터
-      LocalDate previousMonth = current.minusMonths(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousMonth, current);
-
-      // 변화량 계산
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      monthlyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextMonth;
+  // 구간별 인원과 순증감 (기본 최근 12개월)
+  public List<EmployeeTrendDto> getEmployeeHeadcountTrend(LocalDate from, LocalDate to,
+      String periodType, Long departmentId, EmployeeStatus status) {
+    if (from == null) {
+      from = LocalDate.now().minusMonths(12);
     }
-
-    return monthlyStats;
-  }
-
-  // 분기별 통계 조회
-  private List<EmployeeTrendDto> getQuarterlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> quarterlyStats = new ArrayList<>();
-
-    // 분기의 첫날로 조정
-    int currentQuarter = (from.getMonthValue() - 1) / 3;
-    LocalDate current = from.withMonth(currentQuarter * 3 + 1).withDayOfMonth(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextQuarter = current.plusMonths(3);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextQuarter);
-
-      // 이전 분기의 데이터
-      LocalDate previousQuarter = current.minusMonths(3);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(
-          previousQuarter, current);
-
-      // 변화량 계산
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      quarterlyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextQuarter;
+    if (to == null) {
+      to = LocalDate.now();
     }
-
-    return quarterlyStats;
+    return headcountRollupService.getHeadcountTrend(from, to, periodType, departmentId, status);
   }
 
-
-  // 연도별 통계
-  private List<EmployeeTrendDto> getYearlyStats(LocalDate from, LocalDate to) {
-    List<EmployeeTrendDto> yearlyStats = new ArrayList<>();
-    LocalDate current = from.withDayOfYear(1);
-
-    while (current.isBefore(to) || current.isEqual(to)) {
-      LocalDate nextYear = current.plusYears(1);
-
-      long currentCount = employeeRepository.countEmployeesByHireDateBetween(current, nextYear);
-
-      // 전년도 데이터
-      LocalDate previousYear = current.minusYears(1);
-      long previousCount = employeeRepository.countEmployeesByHireDateBetween(previousYear, current);
-
-      long change = currentCount - previousCount;
-      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
-
-      yearlyStats.add(new EmployeeTrendDto(
-          current.toString(),
-          currentCount,
-          change,
-          Math.round(changeRate * 100) / 100.0
-      ));
-
-      current = nextYear;
-    }
-
-    return yearlyStats;
+  // 상태/부서/직함/입사 연도별 직원 수 (비트맵 교집합으로 한 번에 집계)
+  public EmployeeFacetsDto getEmployeeFacets(EmployeeStatus status, Long departmentId,
+      String position, Integer hireYear) {
+    return employeeFacetService.getFacets(
+        new EmployeeFacetFilter(status, departmentId, position, hireYear));
   }
 
-
   // 직원 수 조회
   public long getEmployeeCount(EmployeeStatus status, LocalDate fromDate, LocalDate toDate) {
     return employeeRepositoryCustom.countByStatusAndHireDateBetween(status, fromDate, toDate);
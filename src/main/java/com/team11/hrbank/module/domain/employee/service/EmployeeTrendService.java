@@ -0,0 +1,184 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.domain.employee.dto.EmployeeTrendDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직원 수 추이 계산
+ * - 구간 생성(generate_series) + 구간별 입사자 수 집계 + 이전 구간 값(LAG)을 쿼리 한 번으로 계산
+ * - 이미 끝난 구간(구간 종료일 <= 오늘)은 결과를 캐시하고, 진행 중인 구간부터만 다시 조회
+ * - 입사일이 바뀌는 변경(생성/수정/삭제/대량 등록)은 커밋 후 해당 구간과 다음 구간 캐시를 제거
+ */
+@Slf4j
+@Service
+public class EmployeeTrendService {
+
+  // 첫 행은 조회 시작 구간의 이전 구간 (LAG 계산용, 응답에서 제외)
+  private static final String TREND_SQL = """
+      WITH buckets AS (
+        SELECT CAST(b AS date) AS bucket_start,
+               CAST(b + CAST(? AS interval) AS date) AS bucket_end
+        FROM generate_series(CAST(? AS timestamp), CAST(? AS timestamp), CAST(? AS interval)) AS b
+      )
+      SELECT bk.bucket_start,
+             COUNT(e.id) AS hired,
+             LAG(COUNT(e.id)) OVER (ORDER BY bk.bucket_start) AS previous_hired
+      FROM buckets bk
+      LEFT JOIN employees e
+        ON e.hire_date >= bk.bucket_start AND e.hire_date < bk.bucket_end
+      GROUP BY bk.bucket_start, bk.bucket_end
+      ORDER BY bk.bucket_start
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int cacheMaxEntries;
+
+  private final Map<TrendKey, EmployeeTrendDto> closedBuckets = new ConcurrentHashMap<>();
+  // 캐시 제거 시마다 증가 - 제거 전에 시작한 조회 결과가 다시 캐시되지 않도록 비교
+  // (세대 비교 + 저장, 세대 증가 + 제거는 cacheLock 안에서 수행해 그 사이에 제거가 끼어들지 않게 함)
+  private final Object cacheLock = new Object();
+  private long generation;
+
+  public EmployeeTrendService(JdbcTemplate jdbcTemplate,
+      @Value("${employee.trend.cache-max-entries:20000}") int cacheMaxEntries) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.cacheMaxEntries = cacheMaxEntries;
+  }
+
+  /**
+   * 구간별 입사자 수와 이전 구간 대비 변화량
+   * @param periodType day, week, month, quarter, year
+   */
+  public List<EmployeeTrendDto> getTrend(LocalDate from, LocalDate to, String periodType) {
+    TrendPeriod period = TrendPeriod.from(periodType);
+
+    List<LocalDate> starts = new ArrayList<>();
+    for (LocalDate current = period.align(from); !current.isAfter(to);
+        current = period.next(current)) {
+      starts.add(current);
+    }
+    if (starts.isEmpty()) {
+      return List.of();
+    }
+
+    List<EmployeeTrendDto> result = new ArrayList<>(starts.size());
+    int index = 0;
+    while (index < starts.size()) {
+      EmployeeTrendDto cached = closedBuckets.get(new TrendKey(period, starts.get(index)));
+      if (cached == null) {
+        break;
+      }
+      result.add(cached);
+      index++;
+    }
+    if (index == starts.size()) {
+      return result;
+    }
+
+    long observedGeneration = currentGeneration();
+    LocalDate queryFrom = period.previous(starts.get(index));
+    LocalDate queryTo = starts.get(starts.size() - 1);
+    List<EmployeeTrendDto> computed = query(period, queryFrom, queryTo);
+
+    LocalDate today = LocalDate.now();
+    Map<TrendKey, EmployeeTrendDto> closed = new LinkedHashMap<>();
+    for (EmployeeTrendDto row : computed) {
+      result.add(row);
+      LocalDate start = LocalDate.parse(row.date());
+      if (!period.next(start).isAfter(today)) {
+        closed.put(new TrendKey(period, start), row);
+      }
+    }
+    cache(closed, observedGeneration);
+    return result;
+  }
+
+  /**
+   * 입사일 기준 캐시 제거 (현재 트랜잭션이 커밋된 후)
+   */
+  public void evictAfterCommit(LocalDate hireDate) {
+    if (hireDate == null) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(hireDate);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict(hireDate);
+      }
+    });
+  }
+
+  // 해당 날짜가 속한 구간(입사자 수)과 다음 구간(변화량) 제거
+  private void evict(LocalDate hireDate) {
+    synchronized (cacheLock) {
+      generation++;
+      closedBuckets.keySet().removeIf(key -> {
+        LocalDate start = key.start();
+        return !start.isAfter(hireDate)
+            && key.period().next(key.period().next(start)).isAfter(hireDate);
+      });
+    }
+  }
+
+  private long currentGeneration() {
+    synchronized (cacheLock) {
+      return generation;
+    }
+  }
+
+  private List<EmployeeTrendDto> query(TrendPeriod period, LocalDate from, LocalDate to) {
+    List<EmployeeTrendDto> rows = jdbcTemplate.query(TREND_SQL, (rs, rowNum) -> {
+      if (rowNum == 0) {
+        return null;
+      }
+      long currentCount = rs.getLong("hired");
+      long previousCount = rs.getLong("previous_hired");
+      long change = currentCount - previousCount;
+      double changeRate = previousCount > 0 ? (double) change / previousCount * 100 : 0.0;
+
+      return new EmployeeTrendDto(
+          rs.getDate("bucket_start").toLocalDate().toString(),
+          currentCount,
+          change,
+          Math.round(changeRate * 100) / 100.0
+      );
+    }, period.interval(), from, to, period.interval());
+    return rows.subList(1, rows.size());
+  }
+
+  // 조회 시작 후 캐시 제거가 있었으면 저장하지 않음 (제거 전 데이터일 수 있음)
+  private void cache(Map<TrendKey, EmployeeTrendDto> rows, long observedGeneration) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    synchronized (cacheLock) {
+      if (generation != observedGeneration) {
+        return;
+      }
+      if (closedBuckets.size() + rows.size() > cacheMaxEntries) {
+        log.debug("직원 추이 캐시 최대 크기 도달 - 초기화: {}", closedBuckets.size());
+        closedBuckets.clear();
+      }
+      closedBuckets.putAll(rows);
+    }
+  }
+
+  private record TrendKey(TrendPeriod period, LocalDate start) {
+  }
+}
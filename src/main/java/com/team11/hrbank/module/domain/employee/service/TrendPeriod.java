@@ -0,0 +1,58 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * 추이 조회 시간 단위 (day, week, month, quarter, year)
+ */
+public enum TrendPeriod {
+  DAY(ChronoUnit.DAYS, 1, date -> date),
+  // 주 시작일은 수요일 (프로토타입과 일치)
+  WEEK(ChronoUnit.WEEKS, 1, date -> date.with(DayOfWeek.WEDNESDAY)),
+  MONTH(ChronoUnit.MONTHS, 1, date -> date.withDayOfMonth(1)),
+  QUARTER(ChronoUnit.MONTHS, 3,
+      date -> date.withMonth((date.getMonthValue() - 1) / 3 * 3 + 1).withDayOfMonth(1)),
+  YEAR(ChronoUnit.YEARS, 1, date -> date.withDayOfYear(1));
+
+  private final ChronoUnit unit;
+  private final int amount;
+  private final UnaryOperator<LocalDate> aligner;
+
+  TrendPeriod(ChronoUnit unit, int amount, UnaryOperator<LocalDate> aligner) {
+    this.unit = unit;
+    this.amount = amount;
+    this.aligner = aligner;
+  }
+
+  public static TrendPeriod from(String periodType) {
+    if (periodType != null) {
+      try {
+        return valueOf(periodType.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException ignored) {
+        // 아래에서 공통 메시지로 처리
+      }
+    }
+    throw new IllegalArgumentException("올바르지 않은 시간 단위입니다:" + periodType);
+  }
+
+  public LocalDate align(LocalDate date) {
+    return aligner.apply(date);
+  }
+
+  public LocalDate next(LocalDate start) {
+    return start.plus(amount, unit);
+  }
+
+  public LocalDate previous(LocalDate start) {
+    return start.minus(amount, unit);
+  }
+
+  // PostgreSQL interval 리터럴 (예: 3 months)
+  public String interval() {
+    return amount + " " + unit.name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,17 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 컬럼 스냅샷에 필요한 직원 컬럼
+ */
+public record AnalyticsRow(
+    long id,
+    Long departmentId,
+    String position,
+    EmployeeStatus status,
+    LocalDate hireDate
+) {
+}
@@ -0,0 +1,193 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDistributionDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeGroupByDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeGroupDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * 직원 group-by 집계 (부서 x 직함 x 상태 x 입사 연도 x 근속 구간 임의 조합)
+ * - EmployeeSnapshotLoader 가 등록되어 있고 구축이 끝났으면 컬럼 스냅샷으로 집계
+ * - 그 외에는 같은 조합을 GROUP BY 쿼리 한 번으로 DB 집계
+ * - 부서명은 결과에 나온 부서만 조회
+ */
+@Service
+public class EmployeeAnalyticsService {
+
+  private static final String NO_DEPARTMENT = "미배정";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectProvider<EmployeeSnapshotLoader> snapshotLoader;
+
+  public EmployeeAnalyticsService(JdbcTemplate jdbcTemplate,
+      ObjectProvider<EmployeeSnapshotLoader> snapshotLoader) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotLoader = snapshotLoader;
+  }
+
+  /**
+   * 기준 조합별 직원 수 (많은 순)
+   */
+  public EmployeeGroupByDto groupBy(List<EmployeeDimension> dimensions, EmployeeStatus status) {
+    if (dimensions.isEmpty()) {
+      throw new IllegalArgumentException("집계 기준을 하나 이상 지정해야 합니다.");
+    }
+    EmployeeColumnarSnapshot.GroupByResult result = groupByResult(dimensions, status);
+    Map<Long, String> departmentNames = findDepartmentNames(dimensions, result.groups());
+
+    List<EmployeeGroupDto> groups = result.groups().stream()
+        .map(group -> new EmployeeGroupDto(
+            labels(dimensions, group.keys(), departmentNames), group.count(),
+            percentage(group.count(), result.total())))
+        .toList();
+    return new EmployeeGroupByDto(
+        dimensions.stream().map(EmployeeAnalyticsService::dimensionName).toList(),
+        result.total(),
+        groups);
+  }
+
+  /**
+   * 기존 분포 조회 (부서 또는 직함 하나 기준, 부서 없는 직원은 전체 수에만 포함)
+   */
+  public List<EmployeeDistributionDto> distribution(String groupBy, EmployeeStatus status) {
+    EmployeeDimension dimension = "department".equals(groupBy)
+        ? EmployeeDimension.DEPARTMENT
+        : EmployeeDimension.POSITION;
+    EmployeeColumnarSnapshot.GroupByResult result = groupByResult(List.of(dimension), status);
+    Map<Long, String> departmentNames = findDepartmentNames(List.of(dimension), result.groups());
+
+    return result.groups().stream()
+        .filter(group -> group.keys().get(0) != null)
+        .map(group -> new EmployeeDistributionDto(
+            label(dimension, group.keys().get(0), departmentNames), group.count(),
+            percentage(group.count(), result.total())))
+        .toList();
+  }
+
+  private EmployeeColumnarSnapshot.GroupByResult groupByResult(List<EmployeeDimension> dimensions,
+      EmployeeStatus status) {
+    EmployeeSnapshotLoader loader = snapshotLoader.getIfAvailable();
+    EmployeeColumnarSnapshot current = loader != null ? loader.current() : null;
+    return current != null
+        ? current.groupBy(dimensions, status, LocalDate.now())
+        : groupByFromDatabase(dimensions, status, LocalDate.now());
+  }
+
+  private EmployeeColumnarSnapshot.GroupByResult groupByFromDatabase(
+      List<EmployeeDimension> dimensions, EmployeeStatus status, LocalDate today) {
+    List<String> columns = new ArrayList<>();
+    List<Object> args = new ArrayList<>();
+    for (EmployeeDimension dimension : dimensions) {
+      columns.add(switch (dimension) {
+        case DEPARTMENT -> "department_id";
+        case POSITION -> "position";
+        case STATUS -> "status";
+        case HIRE_YEAR -> "EXTRACT(YEAR FROM hire_date)::int";
+        case TENURE_BAND -> {
+          args.add(today.minusYears(1));
+          args.add(today.minusYears(3));
+          args.add(today.minusYears(5));
+          args.add(today.minusYears(10));
+          yield "CASE WHEN hire_date > ? THEN 0 WHEN hire_date > ? THEN 1"
+              + " WHEN hire_date > ? THEN 2 WHEN hire_date > ? THEN 3 ELSE 4 END";
+        }
+      });
+    }
+    String select = String.join(", ", columns);
+    String where = "";
+    if (status != null) {
+      where = " WHERE status = ?";
+      args.add(status.name());
+    }
+    // GROUP BY 는 select 순번으로 지정 (근속 구간 식의 바인딩 값을 다시 넘기지 않도록)
+    String groupBy = String.join(", ", IntStream.rangeClosed(1, columns.size())
+        .mapToObj(String::valueOf)
+        .toList());
+    String sql = "SELECT " + select + ", COUNT(*) FROM employees" + where
+        + " GROUP BY " + groupBy + " ORDER BY COUNT(*) DESC";
+
+    List<EmployeeGroup> groups = jdbcTemplate.query(sql, (rs, rowNum) -> {
+      List<Object> keys = new ArrayList<>(dimensions.size());
+      for (int i = 0; i < dimensions.size(); i++) {
+        int column = i + 1;
+        keys.add(switch (dimensions.get(i)) {
+          case DEPARTMENT -> rs.getObject(column, Long.class);
+          case POSITION -> rs.getString(column);
+          case STATUS -> EmployeeStatus.valueOf(rs.getString(column));
+          case HIRE_YEAR -> rs.getInt(column);
+          case TENURE_BAND -> EmployeeColumnarSnapshot.TENURE_BANDS[rs.getInt(column)];
+        });
+      }
+      return new EmployeeGroup(keys, rs.getLong(dimensions.size() + 1));
+    }, args.toArray());
+
+    long total = groups.stream().mapToLong(EmployeeGroup::count).sum();
+    return new EmployeeColumnarSnapshot.GroupByResult(total, groups);
+  }
+
+  // 결과에 나온 부서의 이름 (부서 기준이 없으면 조회하지 않음)
+  private Map<Long, String> findDepartmentNames(List<EmployeeDimension> dimensions,
+      List<EmployeeGroup> groups) {
+    int column = dimensions.indexOf(EmployeeDimension.DEPARTMENT);
+    Map<Long, String> names = new HashMap<>();
+    if (column < 0) {
+      return names;
+    }
+    Long[] ids = groups.stream()
+        .map(group -> (Long) group.keys().get(column))
+        .filter(Objects::nonNull)
+        .distinct()
+        .toArray(Long[]::new);
+    if (ids.length > 0) {
+      jdbcTemplate.query("SELECT id, name FROM departments WHERE id = ANY (?)",
+          rs -> {
+            names.put(rs.getLong("id"), rs.getString("name"));
+          },
+          (Object) ids);
+    }
+    return names;
+  }
+
+  private static List<String> labels(List<EmployeeDimension> dimensions, List<Object> keys,
+      Map<Long, String> departmentNames) {
+    List<String> labels = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      labels.add(label(dimensions.get(i), keys.get(i), departmentNames));
+    }
+    return labels;
+  }
+
+  private static String label(EmployeeDimension dimension, Object key,
+      Map<Long, String> departmentNames) {
+    return switch (dimension) {
+      case DEPARTMENT -> key == null ? NO_DEPARTMENT : departmentNames.get((Long) key);
+      case STATUS -> ((EmployeeStatus) key).getDisplayName();
+      default -> String.valueOf(key);
+    };
+  }
+
+  private static String dimensionName(EmployeeDimension dimension) {
+    return switch (dimension) {
+      case DEPARTMENT -> "department";
+      case POSITION -> "position";
+      case STATUS -> "status";
+      case HIRE_YEAR -> "hireYear";
+      case TENURE_BAND -> "tenureBand";
+    };
+  }
+
+  private static double percentage(long count, long total) {
+    return total == 0 ? 0 : count * 100.0 / total;
+  }
+}
@@ -0,0 +1,367 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 직원 집계용 컬럼 스냅샷
+ * - 컬럼마다 int 배열 하나, 부서/직함/입사 연도는 사전(dictionary) 코드로 저장
+ * - 직원 한 명 = 행 번호 하나, 삭제된 행은 status -1 로 표시하고 번호 재사용
+ * - group-by 는 기준 코드들을 합친 키로 카운트 배열을 채우는 단순 반복 (행이 많으면 구간별 병렬)
+ * 사전 코드는 재구축 전까지 지우지 않음 (삭제된 값은 카운트 0 그룹으로만 남고 결과에서 제외)
+ */
+public class EmployeeColumnarSnapshot {
+
+  public static final String[] TENURE_BANDS = {"1년 미만", "1~3년", "3~5년", "5~10년", "10년 이상"};
+  private static final int[] TENURE_YEARS = {1, 3, 5, 10};
+  private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+  private static final byte EMPTY = -1;
+
+  // 카운트 배열로 집계할 최대 조합 수 (넘으면 HashMap), 병렬 구간은 구간마다 배열을 따로 가짐
+  private static final int DENSE_MAX_GROUPS = 1 << 20;
+  private static final int PARALLEL_MAX_GROUPS = 1 << 16;
+  private static final int PARALLEL_MIN_ROWS = 200_000;
+  private static final int PARALLEL_CHUNK_ROWS = 65_536;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Dictionary<Long> departments = new Dictionary<>();
+  private final Dictionary<String> positions = new Dictionary<>();
+  private final Dictionary<Integer> hireYears = new Dictionary<>();
+
+  private int[] departmentCodes;
+  private int[] positionCodes;
+  private byte[] statuses;
+  private int[] hireYearCodes;
+  private int[] hireDays;
+
+  private final Map<Long, Integer> rowOf = new HashMap<>();
+  private final Deque<Integer> freeRows = new ArrayDeque<>();
+  private int rowCount;
+
+  public record GroupByResult(long total, List<EmployeeGroup> groups) {
+  }
+
+  public EmployeeColumnarSnapshot(Collection<AnalyticsRow> rows) {
+    allocate(Math.max(16, rows.size()));
+    rows.forEach(this::upsert);
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return rowOf.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void upsert(AnalyticsRow row) {
+    lock.writeLock().lock();
+    try {
+      Integer existing = rowOf.get(row.id());
+      int index;
+      if (existing != null) {
+        index = existing;
+      } else {
+        index = freeRows.isEmpty() ? rowCount++ : freeRows.pop();
+        if (index >= statuses.length) {
+          allocate(statuses.length * 2);
+        }
+        rowOf.put(row.id(), index);
+      }
+      departmentCodes[index] = departments.encode(row.departmentId());
+      positionCodes[index] = positions.encode(row.position());
+      statuses[index] = (byte) row.status().ordinal();
+      hireYearCodes[index] = hireYears.encode(row.hireDate().getYear());
+      hireDays[index] = (int) row.hireDate().toEpochDay();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long employeeId) {
+    lock.writeLock().lock();
+    try {
+      Integer index = rowOf.remove(employeeId);
+      if (index != null) {
+        statuses[index] = EMPTY;
+        freeRows.push(index);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 기준별 직원 수 (많은 순)
+   * @param dimensions 집계 기준 (1개 이상)
+   * @param status     상태 필터 (null 이면 전체)
+   * @param today      근속 구간 기준일
+   */
+  public GroupByResult groupBy(List<EmployeeDimension> dimensions, EmployeeStatus status,
+      LocalDate today) {
+    lock.readLock().lock();
+    try {
+      Scan scan = new Scan(dimensions, status, today);
+      long groupCount = scan.groupCount();
+      List<EmployeeGroup> groups = groupCount <= DENSE_MAX_GROUPS
+          ? denseGroups(scan, (int) groupCount)
+          : sparseGroups(scan);
+
+      long total = 0;
+      for (EmployeeGroup group : groups) {
+        total += group.count();
+      }
+      groups.sort(Comparator.comparingLong(EmployeeGroup::count).reversed());
+      return new GroupByResult(total, groups);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 행마다 그룹 키(int)를 컬럼 단위로 계산한 뒤 카운트 배열에 누적
+  private List<EmployeeGroup> denseGroups(Scan scan, int groupCount) {
+    int[] keys = new int[rowCount];
+    int[] counts;
+    if (rowCount >= PARALLEL_MIN_ROWS) {
+      int chunks = (rowCount + PARALLEL_CHUNK_ROWS - 1) / PARALLEL_CHUNK_ROWS;
+      IntStream.range(0, chunks).parallel()
+          .forEach(chunk -> scan.fillKeys(keys, chunk * PARALLEL_CHUNK_ROWS,
+              Math.min(rowCount, (chunk + 1) * PARALLEL_CHUNK_ROWS)));
+      counts = groupCount <= PARALLEL_MAX_GROUPS
+          ? IntStream.range(0, chunks).parallel()
+              .mapToObj(chunk -> countKeys(keys, groupCount, chunk * PARALLEL_CHUNK_ROWS,
+                  Math.min(rowCount, (chunk + 1) * PARALLEL_CHUNK_ROWS)))
+              .reduce(EmployeeColumnarSnapshot::sum)
+              .orElseGet(() -> new int[groupCount])
+          : countKeys(keys, groupCount, 0, rowCount);
+    } else {
+      scan.fillKeys(keys, 0, rowCount);
+      counts = countKeys(keys, groupCount, 0, rowCount);
+    }
+
+    List<EmployeeGroup> groups = new ArrayList<>();
+    for (int key = 0; key < counts.length; key++) {
+      if (counts[key] > 0) {
+        groups.add(new EmployeeGroup(scan.decode(key), counts[key]));
+      }
+    }
+    return groups;
+  }
+
+  private static int[] countKeys(int[] keys, int groupCount, int from, int to) {
+    int[] counts = new int[groupCount];
+    for (int row = from; row < to; row++) {
+      int key = keys[row];
+      if (key >= 0) {
+        counts[key]++;
+      }
+    }
+    return counts;
+  }
+
+  private static int[] sum(int[] a, int[] b) {
+    for (int i = 0; i < a.length; i++) {
+      a[i] += b[i];
+    }
+    return a;
+  }
+
+  // 조합 수가 너무 많으면 실제로 나온 조합만 HashMap 으로 집계
+  private List<EmployeeGroup> sparseGroups(Scan scan) {
+    Map<Long, Long> counts = new HashMap<>();
+    for (int row = 0; row < rowCount; row++) {
+      if (scan.includes(row)) {
+        counts.merge(scan.key(row), 1L, Long::sum);
+      }
+    }
+    List<EmployeeGroup> groups = new ArrayList<>(counts.size());
+    counts.forEach((key, count) -> groups.add(new EmployeeGroup(scan.decode(key), count)));
+    return groups;
+  }
+
+  private void allocate(int capacity) {
+    departmentCodes = departmentCodes == null ? new int[capacity] : Arrays.copyOf(departmentCodes, capacity);
+    positionCodes = positionCodes == null ? new int[capacity] : Arrays.copyOf(positionCodes, capacity);
+    hireYearCodes = hireYearCodes == null ? new int[capacity] : Arrays.copyOf(hireYearCodes, capacity);
+    hireDays = hireDays == null ? new int[capacity] : Arrays.copyOf(hireDays, capacity);
+    int previous = statuses == null ? 0 : statuses.length;
+    statuses = statuses == null ? new byte[capacity] : Arrays.copyOf(statuses, capacity);
+    Arrays.fill(statuses, previous, capacity, EMPTY);
+  }
+
+  // 한 번의 group-by 조회 (read lock 보유 중에만 사용)
+  private final class Scan {
+
+    private final EmployeeDimension[] dimensions;
+    private final int[] radix;
+    private final int statusFilter;
+    // 근속 구간 경계 (입사일 epoch day 가 경계보다 크면 해당 연수 미만)
+    private final int[] tenureCutoffs;
+
+    private Scan(List<EmployeeDimension> dimensions, EmployeeStatus status, LocalDate today) {
+      this.dimensions = dimensions.toArray(EmployeeDimension[]::new);
+      this.radix = new int[this.dimensions.length];
+      for (int i = 0; i < radix.length; i++) {
+        radix[i] = switch (this.dimensions[i]) {
+          case DEPARTMENT -> departments.size();
+          case POSITION -> positions.size();
+          case STATUS -> STATUSES.length;
+          case HIRE_YEAR -> hireYears.size();
+          case TENURE_BAND -> TENURE_BANDS.length;
+        };
+      }
+      this.statusFilter = status != null ? status.ordinal() : EMPTY;
+      this.tenureCutoffs = new int[TENURE_YEARS.length];
+      for (int i = 0; i < TENURE_YEARS.length; i++) {
+        tenureCutoffs[i] = (int) today.minusYears(TENURE_YEARS[i]).toEpochDay();
+      }
+    }
+
+    private long groupCount() {
+      long count = 1;
+      for (int r : radix) {
+        count *= r;
+        if (count > Integer.MAX_VALUE) {
+          return Long.MAX_VALUE;
+        }
+      }
+      return count;
+    }
+
+    private boolean includes(int row) {
+      byte status = statuses[row];
+      return status != EMPTY && (statusFilter == EMPTY || status == statusFilter);
+    }
+
+    // keys[from, to) 채우기 (제외된 행은 -1), 기준마다 한 번씩 컬럼 순회
+    private void fillKeys(int[] keys, int from, int to) {
+      for (int row = from; row < to; row++) {
+        keys[row] = includes(row) ? 0 : -1;
+      }
+      for (int i = 0; i < dimensions.length; i++) {
+        int base = radix[i];
+        switch (dimensions[i]) {
+          case DEPARTMENT -> appendColumn(keys, departmentCodes, base, from, to);
+          case POSITION -> appendColumn(keys, positionCodes, base, from, to);
+          case HIRE_YEAR -> appendColumn(keys, hireYearCodes, base, from, to);
+          case STATUS -> {
+            for (int row = from; row < to; row++) {
+              if (keys[row] >= 0) {
+                keys[row] = keys[row] * base + statuses[row];
+              }
+            }
+          }
+          case TENURE_BAND -> appendTenureBand(keys, hireDays, base, from, to);
+        }
+      }
+    }
+
+    // tenureBand() 를 경계값 지역 변수로 펼친 버전 (행 반복 안에서 배열/메서드 접근 없음)
+    private void appendTenureBand(int[] keys, int[] days, int base, int from, int to) {
+      int c1 = tenureCutoffs[0];
+      int c3 = tenureCutoffs[1];
+      int c5 = tenureCutoffs[2];
+      int c10 = tenureCutoffs[3];
+      for (int row = from; row < to; row++) {
+        int key = keys[row];
+        if (key >= 0) {
+          int day = days[row];
+          int band = 4 - ((c1 - day) >>> 31) - ((c3 - day) >>> 31) - ((c5 - day) >>> 31)
+              - ((c10 - day) >>> 31);
+          keys[row] = key * base + band;
+        }
+      }
+    }
+
+    private static void appendColumn(int[] keys, int[] column, int base, int from, int to) {
+      for (int row = from; row < to; row++) {
+        if (keys[row] >= 0) {
+          keys[row] = keys[row] * base + column[row];
+        }
+      }
+    }
+
+    private long key(int row) {
+      long key = 0;
+      for (int i = 0; i < dimensions.length; i++) {
+        key = key * radix[i] + code(dimensions[i], row);
+      }
+      return key;
+    }
+
+    private int code(EmployeeDimension dimension, int row) {
+      return switch (dimension) {
+        case DEPARTMENT -> departmentCodes[row];
+        case POSITION -> positionCodes[row];
+        case STATUS -> statuses[row];
+        case HIRE_YEAR -> hireYearCodes[row];
+        case TENURE_BAND -> tenureBand(hireDays[row]);
+      };
+    }
+
+    // 경계 이하(그만큼 이상 근속)인 개수 = 구간 번호 (분기 없이 계산)
+    private int tenureBand(int hireDay) {
+      int band = 0;
+      for (int cutoff : tenureCutoffs) {
+        band += 1 - ((cutoff - hireDay) >>> 31);
+      }
+      return band;
+    }
+
+
+    private List<Object> decode(long key) {
+      Object[] keys = new Object[dimensions.length];
+      for (int i = dimensions.length - 1; i >= 0; i--) {
+        int code = (int) (key % radix[i]);
+        key /= radix[i];
+        keys[i] = switch (dimensions[i]) {
+          case DEPARTMENT -> departments.decode(code);
+          case POSITION -> positions.decode(code);
+          case STATUS -> STATUSES[code];
+          case HIRE_YEAR -> hireYears.decode(code);
+          case TENURE_BAND -> TENURE_BANDS[code];
+        };
+      }
+      return Arrays.asList(keys);
+    }
+  }
+
+  // 값 <-> 0 부터 연속된 코드 (null 도 하나의 값)
+  private static final class Dictionary<T> {
+
+    private final Map<T, Integer> codes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    private int encode(T value) {
+      Integer code = codes.get(value);
+      if (code == null) {
+        code = values.size();
+        codes.put(value, code);
+        values.add(value);
+      }
+      return code;
+    }
+
+    private T decode(int code) {
+      return values.get(code);
+    }
+
+    private int size() {
+      return values.size();
+    }
+  }
+}
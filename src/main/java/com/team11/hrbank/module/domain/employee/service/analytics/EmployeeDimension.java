@@ -0,0 +1,27 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import java.util.Locale;
+
+/**
+ * 직원 집계 기준 (group-by 컬럼)
+ * - TENURE_BAND: 조회일 기준 근속 구간 (1년 미만, 1~3년, 3~5년, 5~10년, 10년 이상)
+ */
+public enum EmployeeDimension {
+  DEPARTMENT, POSITION, STATUS, HIRE_YEAR, TENURE_BAND;
+
+  /**
+   * 요청 파라미터 변환 (department, position, status, hireYear, tenureBand)
+   */
+  public static EmployeeDimension from(String value) {
+    if (value != null) {
+      String normalized = value.trim().replace("_", "").toUpperCase(Locale.ROOT);
+      for (EmployeeDimension dimension : values()) {
+        if (dimension.name().replace("_", "").equals(normalized)) {
+          return dimension;
+        }
+      }
+    }
+    throw new IllegalArgumentException(
+        "집계 기준은 department, position, status, hireYear, tenureBand 중 하나여야 합니다: " + value);
+  }
+}
@@ -0,0 +1,10 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import java.util.List;
+
+/**
+ * 집계 결과 한 그룹
+ * @param keys 집계 기준 순서대로의 값 (부서 ID(Long, 부서 없음 null), 직함, EmployeeStatus, 입사 연도(Integer), 근속 구간 라벨)
+ */
+public record EmployeeGroup(List<Object> keys, long count) {
+}
@@ -0,0 +1,66 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.service.EmployeeIndexLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 직원 집계 컬럼 스냅샷 적재/갱신 (employee.analytics.enabled=false 면 등록하지 않고 DB 집계만 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "employee.analytics.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class EmployeeSnapshotLoader
+    extends EmployeeIndexLoader<AnalyticsRow, EmployeeColumnarSnapshot> {
+
+  private static final String SELECT_EMPLOYEES_SQL =
+      "SELECT id, department_id, position, status, hire_date FROM employees";
+
+  private static final RowMapper<AnalyticsRow> ROW_MAPPER = (rs, rowNum) -> new AnalyticsRow(
+      rs.getLong("id"),
+      rs.getObject("department_id", Long.class),
+      rs.getString("position"),
+      EmployeeStatus.valueOf(rs.getString("status")),
+      rs.getObject("hire_date", LocalDate.class)
+  );
+
+  public EmployeeSnapshotLoader(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${employee.analytics.fetch-size:10000}") int fetchSize) {
+    super(jdbcTemplate, transactionTemplate, "직원 집계 스냅샷", SELECT_EMPLOYEES_SQL, "id",
+        ROW_MAPPER, fetchSize);
+  }
+
+  @Override
+  protected EmployeeColumnarSnapshot build(List<AnalyticsRow> rows) {
+    return new EmployeeColumnarSnapshot(rows);
+  }
+
+  @Override
+  protected long idOf(AnalyticsRow row) {
+    return row.id();
+  }
+
+  @Override
+  protected void upsert(EmployeeColumnarSnapshot snapshot, AnalyticsRow row) {
+    snapshot.upsert(row);
+  }
+
+  @Override
+  protected void remove(EmployeeColumnarSnapshot snapshot, long employeeId) {
+    snapshot.remove(employeeId);
+  }
+
+  @Override
+  protected int sizeOf(EmployeeColumnarSnapshot snapshot) {
+    return snapshot.size();
+  }
+}
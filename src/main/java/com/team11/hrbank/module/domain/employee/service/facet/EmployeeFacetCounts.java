@@ -0,0 +1,17 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.util.Map;
+
+/**
+ * 패싯별 값 -> 직원 수 (0 인 값은 제외, 부서 없는 직원은 departments 의 null 키)
+ */
+public record EmployeeFacetCounts(
+    long total,
+    Map<EmployeeStatus, Long> statuses,
+    Map<Long, Long> departments,
+    Map<String, Long> positions,
+    Map<Integer, Long> hireYears
+) {
+}
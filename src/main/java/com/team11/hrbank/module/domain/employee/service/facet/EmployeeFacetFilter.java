@@ -0,0 +1,14 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+/**
+ * 패싯 집계 필터 (지정한 값 모두 일치하는 직원만 집계)
+ */
+public record EmployeeFacetFilter(
+    EmployeeStatus status,
+    Long departmentId,
+    String position,
+    Integer hireYear
+) {
+}
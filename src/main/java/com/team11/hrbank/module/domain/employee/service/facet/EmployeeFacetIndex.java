@@ -0,0 +1,157 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.common.util.CompressedBitmap;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 직원 패싯 인메모리 인덱스
+ * - 직원 한 명 = 순번(ordinal) 하나, 삭제된 순번은 재사용해서 번호를 촘촘하게 유지
+ * - 상태/부서 ID/직함/입사 연도 값마다 해당 순번 비트맵 보관
+ * - 필터 값 비트맵의 교집합을 만든 뒤 패싯 값마다 교집합 개수만 계산
+ */
+public class EmployeeFacetIndex {
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+  private int nextOrdinal;
+
+  private final CompressedBitmap all = new CompressedBitmap();
+  private final Map<EmployeeStatus, CompressedBitmap> statuses = new EnumMap<>(EmployeeStatus.class);
+  // 부서 없는 직원은 null 키
+  private final Map<Long, CompressedBitmap> departments = new HashMap<>();
+  private final Map<String, CompressedBitmap> positions = new HashMap<>();
+  private final Map<Integer, CompressedBitmap> hireYears = new HashMap<>();
+
+  private record Entry(int ordinal, FacetRow row) {
+  }
+
+  public EmployeeFacetIndex(Collection<FacetRow> rows) {
+    rows.forEach(this::upsert);
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void upsert(FacetRow row) {
+    lock.writeLock().lock();
+    try {
+      Entry previous = entries.get(row.id());
+      int ordinal;
+      if (previous != null) {
+        if (previous.row().equals(row)) {
+          return;
+        }
+        ordinal = previous.ordinal();
+        unindex(ordinal, previous.row());
+      } else {
+        ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+      }
+      entries.put(row.id(), new Entry(ordinal, row));
+      index(ordinal, row);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long employeeId) {
+    lock.writeLock().lock();
+    try {
+      Entry previous = entries.remove(employeeId);
+      if (previous != null) {
+        unindex(previous.ordinal(), previous.row());
+        freeOrdinals.push(previous.ordinal());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 필터에 해당하는 직원의 패싯 값별 인원
+   */
+  public EmployeeFacetCounts counts(EmployeeFacetFilter filter) {
+    lock.readLock().lock();
+    try {
+      CompressedBitmap matched = all;
+      matched = narrow(matched, filter.status() != null, statuses.get(filter.status()));
+      matched = narrow(matched, filter.departmentId() != null, departments.get(filter.departmentId()));
+      matched = narrow(matched, filter.position() != null, positions.get(filter.position()));
+      matched = narrow(matched, filter.hireYear() != null, hireYears.get(filter.hireYear()));
+
+      return new EmployeeFacetCounts(
+          matched.cardinality(),
+          count(matched, statuses, new EnumMap<>(EmployeeStatus.class)),
+          count(matched, departments, new LinkedHashMap<>()),
+          count(matched, positions, new LinkedHashMap<>()),
+          count(matched, hireYears, new LinkedHashMap<>()));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static CompressedBitmap narrow(CompressedBitmap current, boolean filtered,
+      CompressedBitmap values) {
+    if (!filtered) {
+      return current;
+    }
+    return values == null ? new CompressedBitmap() : current.and(values);
+  }
+
+  private static <K> Map<K, Long> count(CompressedBitmap matched,
+      Map<K, CompressedBitmap> bitmaps, Map<K, Long> result) {
+    if (matched.isEmpty()) {
+      return result;
+    }
+    bitmaps.forEach((value, bitmap) -> {
+      long count = matched.andCardinality(bitmap);
+      if (count > 0) {
+        result.put(value, count);
+      }
+    });
+    return result;
+  }
+
+  private void index(int ordinal, FacetRow row) {
+    all.add(ordinal);
+    statuses.computeIfAbsent(row.status(), key -> new CompressedBitmap()).add(ordinal);
+    departments.computeIfAbsent(row.departmentId(), key -> new CompressedBitmap()).add(ordinal);
+    positions.computeIfAbsent(row.position(), key -> new CompressedBitmap()).add(ordinal);
+    hireYears.computeIfAbsent(row.hireYear(), key -> new CompressedBitmap()).add(ordinal);
+  }
+
+  private void unindex(int ordinal, FacetRow row) {
+    all.remove(ordinal);
+    removeFrom(statuses, row.status(), ordinal);
+    removeFrom(departments, row.departmentId(), ordinal);
+    removeFrom(positions, row.position(), ordinal);
+    removeFrom(hireYears, row.hireYear(), ordinal);
+  }
+
+  // 비트맵이 비면 값 자체를 제거
+  private static <K> void removeFrom(Map<K, CompressedBitmap> bitmaps, K value, int ordinal) {
+    CompressedBitmap bitmap = bitmaps.get(value);
+    if (bitmap != null) {
+      bitmap.remove(ordinal);
+      if (bitmap.isEmpty()) {
+        bitmaps.remove(value);
+      }
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.service.EmployeeIndexLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 직원 패싯 인덱스 적재/갱신 (employee.facet.enabled=false 면 등록하지 않고 DB 집계만 사용)
+ */
+@Component
+@ConditionalOnProperty(name = "employee.facet.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeFacetIndexLoader extends EmployeeIndexLoader<FacetRow, EmployeeFacetIndex> {
+
+  private static final String SELECT_EMPLOYEES_SQL =
+      "SELECT id, status, department_id, position, hire_date FROM employees";
+
+  private static final RowMapper<FacetRow> ROW_MAPPER = (rs, rowNum) -> new FacetRow(
+      rs.getLong("id"),
+      EmployeeStatus.valueOf(rs.getString("status")),
+      rs.getObject("department_id", Long.class),
+      rs.getString("position"),
+      rs.getObject("hire_date", LocalDate.class).getYear()
+  );
+
+  public EmployeeFacetIndexLoader(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${employee.facet.fetch-size:10000}") int fetchSize) {
+    super(jdbcTemplate, transactionTemplate, "직원 패싯 인덱스", SELECT_EMPLOYEES_SQL, "id",
+        ROW_MAPPER, fetchSize);
+  }
+
+  @Override
+  protected EmployeeFacetIndex build(List<FacetRow> rows) {
+    return new EmployeeFacetIndex(rows);
+  }
+
+  @Override
+  protected long idOf(FacetRow row) {
+    return row.id();
+  }
+
+  @Override
+  protected void upsert(EmployeeFacetIndex index, FacetRow row) {
+    index.upsert(row);
+  }
+
+  @Override
+  protected void remove(EmployeeFacetIndex index, long employeeId) {
+    index.remove(employeeId);
+  }
+
+  @Override
+  protected int sizeOf(EmployeeFacetIndex index) {
+    return index.size();
+  }
+}
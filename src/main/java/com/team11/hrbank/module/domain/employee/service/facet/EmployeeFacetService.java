@@ -0,0 +1,141 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeFacetsDto;
+import com.team11.hrbank.module.domain.employee.dto.FacetCountDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 직원 패싯 집계 (상태/부서/직함/입사 연도별 인원을 한 번에)
+ * - EmployeeFacetIndexLoader 가 등록되어 있고 구축이 끝났으면 인메모리 인덱스로 집계
+ * - 그 외에는 GROUPING SETS 쿼리 한 번으로 DB 집계
+ */
+@Service
+public class EmployeeFacetService {
+
+  // GROUPING(status, department_id, position, hire_year) 비트 (첫 컬럼이 최상위 비트)
+  private static final int STATUS_SET = 0b0111;
+  private static final int DEPARTMENT_SET = 0b1011;
+  private static final int POSITION_SET = 0b1101;
+  private static final int HIRE_YEAR_SET = 0b1110;
+  private static final int TOTAL_SET = 0b1111;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectProvider<EmployeeFacetIndexLoader> indexLoader;
+
+  public EmployeeFacetService(JdbcTemplate jdbcTemplate,
+      ObjectProvider<EmployeeFacetIndexLoader> indexLoader) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.indexLoader = indexLoader;
+  }
+
+  public EmployeeFacetsDto getFacets(EmployeeFacetFilter filter) {
+    EmployeeFacetIndexLoader loader = indexLoader.getIfAvailable();
+    EmployeeFacetIndex current = loader != null ? loader.current() : null;
+    EmployeeFacetCounts counts = current != null ? current.counts(filter) : countFromDatabase(filter);
+    Map<Long, String> departmentNames = findDepartmentNames(counts.departments().keySet());
+
+    return new EmployeeFacetsDto(
+        counts.total(),
+        toFacets(counts.statuses(), Enum::name, EmployeeStatus::getDisplayName,
+            Comparator.comparing(facet -> EmployeeStatus.valueOf(facet.value()))),
+        toFacets(counts.departments(), id -> id != null ? id.toString() : null,
+            id -> id != null ? departmentNames.get(id) : "미배정", byCountDesc()),
+        toFacets(counts.positions(), Function.identity(), Function.identity(), byCountDesc()),
+        toFacets(counts.hireYears(), String::valueOf, String::valueOf,
+            Comparator.comparing(FacetCountDto::value)));
+  }
+
+  private EmployeeFacetCounts countFromDatabase(EmployeeFacetFilter filter) {
+    List<String> conditions = new ArrayList<>();
+    List<Object> args = new ArrayList<>();
+    if (filter.status() != null) {
+      conditions.add("status = ?");
+      args.add(filter.status().name());
+    }
+    if (filter.departmentId() != null) {
+      conditions.add("department_id = ?");
+      args.add(filter.departmentId());
+    }
+    if (filter.position() != null) {
+      conditions.add("position = ?");
+      args.add(filter.position());
+    }
+    if (filter.hireYear() != null) {
+      conditions.add("hire_date >= ? AND hire_date < ?");
+      args.add(LocalDate.of(filter.hireYear(), 1, 1));
+      args.add(LocalDate.of(filter.hireYear() + 1, 1, 1));
+    }
+    String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+
+    String sql = """
+        SELECT status, department_id, position, hire_year,
+               GROUPING(status, department_id, position, hire_year) AS grouping_set,
+               COUNT(*) AS employee_count
+        FROM (SELECT status, department_id, position,
+                     EXTRACT(YEAR FROM hire_date)::int AS hire_year
+              FROM employees%s) e
+        GROUP BY GROUPING SETS ((status), (department_id), (position), (hire_year), ())
+        """.formatted(where);
+
+    long[] total = new long[1];
+    Map<EmployeeStatus, Long> statuses = new EnumMap<>(EmployeeStatus.class);
+    Map<Long, Long> departments = new LinkedHashMap<>();
+    Map<String, Long> positions = new LinkedHashMap<>();
+    Map<Integer, Long> hireYears = new LinkedHashMap<>();
+    jdbcTemplate.query(sql, rs -> {
+      long count = rs.getLong("employee_count");
+      switch (rs.getInt("grouping_set")) {
+        case STATUS_SET -> statuses.put(EmployeeStatus.valueOf(rs.getString("status")), count);
+        case DEPARTMENT_SET -> departments.put(rs.getObject("department_id", Long.class), count);
+        case POSITION_SET -> positions.put(rs.getString("position"), count);
+        case HIRE_YEAR_SET -> hireYears.put(rs.getInt("hire_year"), count);
+        case TOTAL_SET -> total[0] = count;
+        default -> {
+        }
+      }
+    }, args.toArray());
+    return new EmployeeFacetCounts(total[0], statuses, departments, positions, hireYears);
+  }
+
+  private Map<Long, String> findDepartmentNames(Collection<Long> departmentIds) {
+    Long[] ids = departmentIds.stream().filter(Objects::nonNull).toArray(Long[]::new);
+    Map<Long, String> names = new HashMap<>();
+    if (ids.length > 0) {
+      jdbcTemplate.query("SELECT id, name FROM departments WHERE id = ANY (?)",
+          rs -> {
+            names.put(rs.getLong("id"), rs.getString("name"));
+          },
+          (Object) ids);
+    }
+    return names;
+  }
+
+  private static <K> List<FacetCountDto> toFacets(Map<K, Long> counts,
+      Function<K, String> value, Function<K, String> label, Comparator<FacetCountDto> order) {
+    return counts.entrySet().stream()
+        .map(entry -> new FacetCountDto(value.apply(entry.getKey()), label.apply(entry.getKey()),
+            entry.getValue()))
+        .sorted(order)
+        .toList();
+  }
+
+  private static Comparator<FacetCountDto> byCountDesc() {
+    return Comparator.comparingLong(FacetCountDto::count).reversed()
+        .thenComparing(FacetCountDto::label, Comparator.nullsLast(Comparator.naturalOrder()));
+  }
+}
@@ -0,0 +1,15 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+/**
+ * 패싯 인덱스에 필요한 직원 컬럼
+ */
+public record FacetRow(
+    long id,
+    EmployeeStatus status,
+    Long departmentId,
+    String position,
+    int hireYear
+) {
+}
@@ -0,0 +1,71 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변경 이력 ID 공백 처리 (thread-safe 아님, 서비스의 synchronized 안에서 사용)
+ * - ID 가 이어지는 앞부분만 반영 (빈 ID 는 아직 커밋 전인 트랜잭션일 수 있음)
+ * - 공백 뒤 이력이 gap-timeout 보다 오래됐거나, 공백이 gap-timeout 동안 유지되면 건너뜀
+ * - 건너뛴 ID 는 서비스가 따로 보관했다가 늦게 커밋되면 반영 (롤백된 ID 는 보존 기간 후 삭제)
+ */
+class ChangeLogGapTracker {
+
+  /**
+   * 건너뛴 ID 구간 (양 끝 포함)
+   */
+  record Gap(long fromId, long toId) {
+  }
+
+  private final long gapTimeoutMs;
+
+  // 아직 커밋되지 않았을 수 있는 ID 공백 (gapAfterId 다음 ID 가 처음 비어 있던 시각)
+  private long gapAfterId = -1;
+  private long gapSeenAt;
+
+  ChangeLogGapTracker(long gapTimeoutMs) {
+    this.gapTimeoutMs = gapTimeoutMs;
+  }
+
+  /**
+   * 지금 반영할 이력 (ID 순서로 조회한 rows 의 앞부분)
+   */
+  List<ChangeLogRow> ready(long previousId, List<ChangeLogRow> rows, long now) {
+    long lastId = previousId;
+    List<ChangeLogRow> ready = new ArrayList<>(rows.size());
+    for (ChangeLogRow row : rows) {
+      if (row.id() != lastId + 1
+          && row.createdAt().toEpochMilli() > now - gapTimeoutMs
+          && !gapExpired(lastId, now)) {
+        break;
+      }
+      ready.add(row);
+      lastId = row.id();
+    }
+    return ready;
+  }
+
+  /**
+   * ready 결과에서 건너뛴 ID 구간
+   */
+  static List<Gap> gaps(long previousId, List<ChangeLogRow> ready) {
+    List<Gap> gaps = new ArrayList<>();
+    long lastId = previousId;
+    for (ChangeLogRow row : ready) {
+      if (row.id() > lastId + 1) {
+        gaps.add(new Gap(lastId + 1, row.id() - 1));
+      }
+      lastId = row.id();
+    }
+    return gaps;
+  }
+
+  private boolean gapExpired(long afterId, long now) {
+    if (gapAfterId != afterId) {
+      gapAfterId = afterId;
+      gapSeenAt = now;
+      return false;
+    }
+    return now - gapSeenAt >= gapTimeoutMs;
+  }
+}
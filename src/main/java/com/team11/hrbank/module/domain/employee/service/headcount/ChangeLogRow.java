@@ -0,0 +1,26 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 인원 집계에 필요한 변경 이력 컬럼
+ */
+public record ChangeLogRow(
+    long id,
+    HistoryType type,
+    String employeeNumber,
+    Instant createdAt,
+    List<DiffEntry> changes
+) {
+
+  // 이력 생성일 (서버 시간대 기준)
+  public LocalDate day() {
+    return LocalDate.ofInstant(createdAt, ZoneId.systemDefault());
+  }
+}
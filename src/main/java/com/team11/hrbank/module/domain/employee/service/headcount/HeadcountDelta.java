@@ -0,0 +1,16 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 인원 증감 (headcount_daily_deltas 한 행, 부서 없음은 departmentId null)
+ */
+public record HeadcountDelta(
+    LocalDate day,
+    Long departmentId,
+    EmployeeStatus status,
+    long delta
+) {
+}
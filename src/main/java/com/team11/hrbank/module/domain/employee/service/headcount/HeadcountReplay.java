@@ -0,0 +1,193 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 변경 이력을 순서대로 적용해 일별 인원 증감으로 변환 (배치 하나 단위, thread-safe 아님)
+ * - 직원 번호별 현재 (부서, 상태) 를 들고 있다가
+ *   생성은 +1, 삭제는 직전 (부서, 상태) -1, 부서/상태 변경은 이전 -1 / 새 값 +1
+ * - 변경 이력의 부서는 이름으로 기록되어 있어 적용 시점의 부서 ID 로 변환
+ * - 상태를 바꾼 이력마다 이전/이후 상태를 남겨 나중에 역순으로 되돌릴 수 있음
+ */
+class HeadcountReplay {
+
+  static final String DEPARTMENT_PROPERTY = "부서";
+  static final String STATUS_PROPERTY = "상태";
+
+  /**
+   * 직원별 집계 상태
+   * @param seededThrough 시드로 넣은 직원은 이 ID 이하 이력을 이미 반영한 것으로 봄 (일반 직원은 0)
+   */
+  record State(Long departmentId, EmployeeStatus status, long seededThrough) {
+  }
+
+  /**
+   * 생성 이력에 없는 최초 부서/입사일 (서비스에서 미리 조회)
+   */
+  record Origin(Long departmentId, LocalDate hireDate) {
+  }
+
+  /**
+   * 이력 하나로 바뀐 직원 상태
+   * @param day    증감을 기록한 날짜
+   * @param before 생성 이력이면 null
+   * @param after  삭제 이력이면 null
+   */
+  record Transition(long changeLogId, String employeeNumber, LocalDate day, State before,
+      State after) {
+  }
+
+  private record DeltaKey(LocalDate day, Long departmentId, EmployeeStatus status) {
+  }
+
+  private final Map<String, State> states;
+  private final Map<String, Origin> origins;
+  private final Map<String, Long> departmentIds;
+
+  private final Map<DeltaKey, Long> deltas = new LinkedHashMap<>();
+  private final Set<String> touched = new HashSet<>();
+  private final List<Transition> transitions = new ArrayList<>();
+
+  HeadcountReplay(Map<String, State> states, Map<String, Origin> origins,
+      Map<String, Long> departmentIds) {
+    this.states = new HashMap<>(states);
+    this.origins = origins;
+    this.departmentIds = departmentIds;
+  }
+
+  void apply(ChangeLogRow row) {
+    String employeeNumber = row.employeeNumber();
+    State state = states.get(employeeNumber);
+    switch (row.type()) {
+      case CREATED -> {
+        // 같은 직원 생성 이력이 이미 반영됨 (시드 포함)
+        if (state != null) {
+          return;
+        }
+        Origin origin = origins.getOrDefault(employeeNumber, new Origin(null, null));
+        // 입사일이 등록일보다 이르면 입사일부터 집계
+        LocalDate day = origin.hireDate() != null && origin.hireDate().isBefore(row.day())
+            ? origin.hireDate()
+            : row.day();
+        State created = new State(origin.departmentId(), EmployeeStatus.ACTIVE, 0);
+        add(day, created, 1);
+        put(employeeNumber, created);
+        transitions.add(new Transition(row.id(), employeeNumber, day, null, created));
+      }
+      case UPDATED -> {
+        if (state == null || row.id() <= state.seededThrough()) {
+          return;
+        }
+        State updated = updatedState(state, row.changes());
+        if (!Objects.equals(updated.departmentId(), state.departmentId())
+            || updated.status() != state.status()) {
+          add(row.day(), state, -1);
+          add(row.day(), updated, 1);
+          put(employeeNumber, updated);
+          transitions.add(new Transition(row.id(), employeeNumber, row.day(), state, updated));
+        }
+      }
+      case DELETED -> {
+        if (state == null || row.id() <= state.seededThrough()) {
+          return;
+        }
+        add(row.day(), state, -1);
+        states.remove(employeeNumber);
+        touched.add(employeeNumber);
+        transitions.add(new Transition(row.id(), employeeNumber, row.day(), state, null));
+      }
+    }
+  }
+
+  /**
+   * 이전에 반영한 상태 변화를 되돌림 (같은 직원은 반영한 역순으로 호출)
+   */
+  void revert(Transition transition) {
+    String employeeNumber = transition.employeeNumber();
+    if (transition.after() != null) {
+      add(transition.day(), transition.after(), -1);
+    }
+    if (transition.before() != null) {
+      add(transition.day(), transition.before(), 1);
+      put(employeeNumber, transition.before());
+    } else {
+      states.remove(employeeNumber);
+      touched.add(employeeNumber);
+    }
+  }
+
+  List<HeadcountDelta> deltas() {
+    return deltas.entrySet().stream()
+        .filter(entry -> entry.getValue() != 0)
+        .map(entry -> new HeadcountDelta(entry.getKey().day(), entry.getKey().departmentId(),
+            entry.getKey().status(), entry.getValue()))
+        .toList();
+  }
+
+  // 이번에 반영한 상태 변화 (반영 순서)
+  List<Transition> transitions() {
+    return List.copyOf(transitions);
+  }
+
+  // 생성/변경된 직원 상태
+  Map<String, State> changedStates() {
+    Map<String, State> changed = new HashMap<>();
+    for (String employeeNumber : touched) {
+      State state = states.get(employeeNumber);
+      if (state != null) {
+        changed.put(employeeNumber, state);
+      }
+    }
+    return changed;
+  }
+
+  // 삭제된 직원 번호
+  Set<String> removedStates() {
+    Set<String> removed = new HashSet<>(touched);
+    removed.removeAll(states.keySet());
+    return removed;
+  }
+
+  private State updatedState(State state, List<DiffEntry> changes) {
+    Long departmentId = state.departmentId();
+    EmployeeStatus status = state.status();
+    if (changes != null) {
+      for (DiffEntry change : changes) {
+        if (DEPARTMENT_PROPERTY.equals(change.getPropertyName())) {
+          departmentId = departmentId(change.getAfter());
+        } else if (STATUS_PROPERTY.equals(change.getPropertyName())) {
+          status = EmployeeStatus.valueOf(change.getAfter());
+        }
+      }
+    }
+    return new State(departmentId, status, state.seededThrough());
+  }
+
+  // 부서명 -> ID (빈 값 또는 이후 이름이 바뀐 부서는 부서 없음으로 집계)
+  private Long departmentId(String departmentName) {
+    if (departmentName == null || departmentName.isEmpty()) {
+      return null;
+    }
+    return departmentIds.get(departmentName);
+  }
+
+  private void add(LocalDate day, State state, long delta) {
+    deltas.merge(new DeltaKey(day, state.departmentId(), state.status()), delta, Long::sum);
+  }
+
+  private void put(String employeeNumber, State state) {
+    states.put(employeeNumber, state);
+    touched.add(employeeNumber);
+  }
+}
@@ -0,0 +1,542 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeHeadcountDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeTrendDto;
+import com.team11.hrbank.module.domain.employee.service.TrendPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 변경 이력(change_logs + change_log_diffs) 기반 인원 집계
+ * - 이력을 ID 순서로 재생해 (날짜, 부서, 상태)별 인원 증감을 headcount_daily_deltas 에 누적
+ * - 직원별 현재 (부서, 상태) 는 headcount_employee_states, 반영한 마지막 이력 ID 는 headcount_rollup_progress
+ * - 새 이력은 주기적으로 이어서 반영 (write-behind 로 늦게 저장되는 이력 포함)
+ * - ID 공백을 건너뛴 뒤 늦게 커밋된 이력은 headcount_skipped_ids 로 다시 찾아 반영
+ *   (ID 는 시퀀스에서 먼저 받고 커밋은 늦어질 수 있어 같은 직원의 이력도 커밋 순서가 ID 순서와 다름.
+ *   건너뛴 ID 보다 뒤에 반영한 상태 변화는 headcount_transitions 에 남겨 두었다가, 늦은 이력이 오면
+ *   그 직원의 뒤 이력을 되돌린 뒤 늦은 이력과 함께 ID 순서로 다시 반영)
+ * - 조회는 메모리 누적 시계열(HeadcountTimeline)로 기간 수에 비례하는 시간에 계산
+ */
+@Slf4j
+@Service
+public class HeadcountRollupService {
+
+  private static final String INSERT_PROGRESS_SQL =
+      "INSERT INTO headcount_rollup_progress (id, last_change_log_id) VALUES (1, 0) "
+          + "ON CONFLICT (id) DO NOTHING";
+  private static final String LOCK_PROGRESS_SQL =
+      "SELECT last_change_log_id, version FROM headcount_rollup_progress WHERE id = 1 FOR UPDATE";
+  private static final String SELECT_PROGRESS_SQL =
+      "SELECT last_change_log_id, version FROM headcount_rollup_progress WHERE id = 1";
+  private static final String UPDATE_PROGRESS_SQL =
+      "UPDATE headcount_rollup_progress SET last_change_log_id = ?, version = version + 1 "
+          + "WHERE id = 1 RETURNING version";
+
+  // 생성 이력이 없는 기존 직원은 입사일부터 현재 부서/상태로 집계
+  private static final String SEED_STATES_SQL = """
+      INSERT INTO headcount_employee_states (employee_number, department_id, status, seeded_through)
+      SELECT e.employee_number, e.department_id, e.status, (SELECT COALESCE(MAX(id), 0) FROM change_logs)
+      FROM employees e
+      WHERE NOT EXISTS (
+        SELECT 1 FROM change_logs cl
+        WHERE cl.employee_number = e.employee_number AND cl.type = 'CREATED'
+      )
+      """;
+  private static final String SEED_DELTAS_SQL = """
+      INSERT INTO headcount_daily_deltas (day, department_id, status, delta)
+      SELECT e.hire_date, COALESCE(s.department_id, 0), s.status, COUNT(*)
+      FROM headcount_employee_states s
+      JOIN employees e ON e.employee_number = s.employee_number
+      GROUP BY e.hire_date, COALESCE(s.department_id, 0), s.status
+      """;
+
+  private static final String SELECT_CHANGE_LOGS_SQL = """
+      SELECT cl.id, cl.type, cl.employee_number, cl.created_at, d.changes
+      FROM change_logs cl
+      LEFT JOIN change_log_diffs d ON d.change_log_id = cl.id
+      WHERE cl.id > ?
+      ORDER BY cl.id
+      LIMIT ?
+      """;
+  // 건너뛴 ID 중 그 뒤에 커밋된 이력
+  private static final String SELECT_LATE_CHANGE_LOGS_SQL = """
+      SELECT cl.id, cl.type, cl.employee_number, cl.created_at, d.changes
+      FROM headcount_skipped_ids s
+      JOIN change_logs cl ON cl.id = s.change_log_id
+      LEFT JOIN change_log_diffs d ON d.change_log_id = cl.id
+      ORDER BY cl.id
+      LIMIT ?
+      """;
+  // 늦은 이력의 직원별 첫 ID 보다 뒤에 이미 반영한 이력 (아직 건너뛴 상태인 ID 제외)
+  private static final String SELECT_APPLIED_AFTER_SQL = """
+      SELECT cl.id, cl.type, cl.employee_number, cl.created_at, d.changes
+      FROM unnest(CAST(? AS varchar[]), CAST(? AS bigint[])) AS l(employee_number, first_id)
+      JOIN change_logs cl ON cl.employee_number = l.employee_number
+        AND cl.id > l.first_id AND cl.id <= ?
+      LEFT JOIN change_log_diffs d ON d.change_log_id = cl.id
+      WHERE NOT EXISTS (SELECT 1 FROM headcount_skipped_ids s WHERE s.change_log_id = cl.id)
+      ORDER BY cl.id
+      """;
+  private static final String SELECT_MIN_SKIPPED_SQL =
+      "SELECT MIN(change_log_id) FROM headcount_skipped_ids";
+  private static final String INSERT_SKIPPED_SQL =
+      "INSERT INTO headcount_skipped_ids (change_log_id) SELECT generate_series(?, ?) "
+          + "ON CONFLICT (change_log_id) DO NOTHING";
+  private static final String DELETE_SKIPPED_SQL =
+      "DELETE FROM headcount_skipped_ids WHERE change_log_id = ANY (?)";
+  private static final String PRUNE_SKIPPED_SQL =
+      "DELETE FROM headcount_skipped_ids WHERE skipped_at < ?";
+
+  private static final String SELECT_STATES_SQL =
+      "SELECT employee_number, department_id, status, seeded_through "
+          + "FROM headcount_employee_states WHERE employee_number = ANY (?)";
+  private static final String UPSERT_STATE_SQL = """
+      INSERT INTO headcount_employee_states (employee_number, department_id, status, seeded_through)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (employee_number) DO UPDATE
+      SET department_id = EXCLUDED.department_id, status = EXCLUDED.status
+      """;
+  private static final String DELETE_STATE_SQL =
+      "DELETE FROM headcount_employee_states WHERE employee_number = ?";
+
+  // 되돌릴 상태 변화 (직원별 첫 늦은 이력 ID 보다 뒤, 역순)
+  private static final String SELECT_TRANSITIONS_SQL = """
+      SELECT t.change_log_id, t.employee_number, t.day, t.before_department_id, t.before_status,
+             t.after_department_id, t.after_status, t.seeded_through
+      FROM unnest(CAST(? AS varchar[]), CAST(? AS bigint[])) AS l(employee_number, first_id)
+      JOIN headcount_transitions t ON t.employee_number = l.employee_number
+        AND t.change_log_id > l.first_id
+      ORDER BY t.change_log_id DESC
+      """;
+  private static final String INSERT_TRANSITION_SQL = """
+      INSERT INTO headcount_transitions (change_log_id, employee_number, day, before_department_id,
+                                         before_status, after_department_id, after_status,
+                                         seeded_through)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+  private static final String DELETE_TRANSITIONS_SQL =
+      "DELETE FROM headcount_transitions WHERE change_log_id = ANY (?)";
+  // 남은 건너뛴 ID 보다 앞선 상태 변화는 더 이상 되돌릴 일이 없음
+  private static final String PRUNE_TRANSITIONS_SQL =
+      "DELETE FROM headcount_transitions WHERE change_log_id < ?";
+
+  private static final String UPSERT_DELTA_SQL = """
+      INSERT INTO headcount_daily_deltas (day, department_id, status, delta)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (day, department_id, status) DO UPDATE
+      SET delta = headcount_daily_deltas.delta + EXCLUDED.delta
+      """;
+  private static final String SELECT_DELTAS_SQL =
+      "SELECT day, department_id, status, delta FROM headcount_daily_deltas";
+
+  // 생성 이력에는 부서/입사일이 없어 직원 행 -> 첫 부서 이동 이력의 이전 부서 -> 삭제 이력 순으로 조회
+  private static final String SELECT_ORIGINS_SQL = """
+      SELECT n.employee_number, e.department_id, e.hire_date,
+             moved.department_name AS first_department_name,
+             deleted.department_name AS deleted_department_name,
+             deleted.hire_date AS deleted_hire_date
+      FROM unnest(CAST(? AS varchar[])) AS n(employee_number)
+      LEFT JOIN employees e ON e.employee_number = n.employee_number
+      LEFT JOIN LATERAL (
+        SELECT diff ->> 'before' AS department_name
+        FROM change_logs cl
+        JOIN change_log_diffs d ON d.change_log_id = cl.id
+        CROSS JOIN LATERAL jsonb_array_elements(d.changes) AS diff
+        WHERE cl.employee_number = n.employee_number AND cl.type = 'UPDATED'
+          AND diff ->> 'propertyName' = '부서'
+        ORDER BY cl.id
+        LIMIT 1
+      ) moved ON TRUE
+      LEFT JOIN LATERAL (
+        SELECT MAX(diff ->> 'before') FILTER (WHERE diff ->> 'propertyName' = '부서명') AS department_name,
+               MAX(diff ->> 'before') FILTER (WHERE diff ->> 'propertyName' = '입사일') AS hire_date
+        FROM change_logs cl
+        JOIN change_log_diffs d ON d.change_log_id = cl.id
+        CROSS JOIN LATERAL jsonb_array_elements(d.changes) AS diff
+        WHERE cl.employee_number = n.employee_number AND cl.type = 'DELETED'
+      ) deleted ON TRUE
+      """;
+
+  private static final TypeReference<List<DiffEntry>> DIFF_LIST = new TypeReference<>() {
+  };
+
+  private static final RowMapper<Progress> PROGRESS_MAPPER = (rs, rowNum) -> new Progress(
+      rs.getLong("last_change_log_id"),
+      rs.getLong("version")
+  );
+
+  private static final RowMapper<HeadcountReplay.Transition> TRANSITION_MAPPER = (rs, rowNum) -> {
+    long seededThrough = rs.getLong("seeded_through");
+    return new HeadcountReplay.Transition(
+        rs.getLong("change_log_id"),
+        rs.getString("employee_number"),
+        rs.getObject("day", LocalDate.class),
+        toState(rs.getObject("before_department_id", Long.class), rs.getString("before_status"),
+            seededThrough),
+        toState(rs.getObject("after_department_id", Long.class), rs.getString("after_status"),
+            seededThrough));
+  };
+
+  private static final RowMapper<HeadcountDelta> DELTA_MAPPER = (rs, rowNum) -> new HeadcountDelta(
+      rs.getObject("day", LocalDate.class),
+      toDepartmentId(rs.getLong("department_id")),
+      EmployeeStatus.valueOf(rs.getString("status")),
+      rs.getLong("delta")
+  );
+
+  // 상태 미지정 시 재직 인원 (퇴사자 제외)
+  private static final List<EmployeeStatus> EMPLOYED =
+      List.of(EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final int batchSize;
+  private final long skippedRetentionMs;
+  private final ChangeLogGapTracker gapTracker;
+  private final RowMapper<ChangeLogRow> changeLogMapper = (rs, rowNum) -> {
+    Timestamp createdAt = rs.getTimestamp("created_at");
+    return new ChangeLogRow(
+        rs.getLong("id"),
+        HistoryType.valueOf(rs.getString("type")),
+        rs.getString("employee_number"),
+        createdAt != null ? createdAt.toInstant() : Instant.now(),
+        parseChanges(rs.getString("changes")));
+  };
+
+  private volatile HeadcountTimeline timeline;
+  // timeline 에 반영된 마지막 이력 ID / 진행 version (다른 인스턴스가 진행시켰으면 다시 적재)
+  private long timelineThrough;
+  private long timelineVersion;
+
+  private record Progress(long lastId, long version) {
+  }
+
+  private record BatchResult(long previousVersion, Progress progress,
+      List<HeadcountDelta> deltas, boolean hasMore) {
+  }
+
+  public HeadcountRollupService(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      ObjectMapper objectMapper,
+      @Value("${employee.headcount.batch-size:1000}") int batchSize,
+      @Value("${employee.headcount.gap-timeout-ms:60000}") long gapTimeoutMs,
+      @Value("${employee.headcount.skipped-retention-ms:86400000}") long skippedRetentionMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.objectMapper = objectMapper;
+    this.batchSize = batchSize;
+    this.skippedRetentionMs = skippedRetentionMs;
+    this.gapTracker = new ChangeLogGapTracker(gapTimeoutMs);
+  }
+
+  /**
+   * 애플리케이션 시작 시 밀린 이력을 반영하고 누적 시계열 적재
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    long startedAt = System.currentTimeMillis();
+    rollUp();
+    reloadTimeline();
+    log.info("인원 집계 시계열 적재 완료 - 반영 이력 ID: {}, 소요: {}ms",
+        timelineThrough, System.currentTimeMillis() - startedAt);
+  }
+
+  /**
+   * 새 변경 이력 반영 (배치 단위 트랜잭션, 여러 인스턴스는 진행 행 잠금으로 직렬화)
+   */
+  @Scheduled(fixedDelayString = "${employee.headcount.poll-interval-ms:5000}",
+      initialDelayString = "${employee.headcount.poll-interval-ms:5000}")
+  public synchronized void rollUp() {
+    BatchResult result;
+    do {
+      result = transactionTemplate.execute(status -> rollUpBatch());
+      if (timeline != null) {
+        if (result.previousVersion() == timelineVersion) {
+          timeline.apply(result.deltas());
+          timelineThrough = result.progress().lastId();
+          timelineVersion = result.progress().version();
+        } else {
+          reloadTimeline();
+        }
+      }
+    } while (result.hasMore());
+  }
+
+  /**
+   * 해당 날짜 종료 시점 인원
+   * @param status null 이면 재직 + 휴직
+   */
+  public EmployeeHeadcountDto getHeadcount(LocalDate date, Long departmentId,
+      EmployeeStatus status) {
+    long headcount = currentTimeline().headcountAt(date, departmentId, statuses(status));
+    return new EmployeeHeadcountDto(date.toString(), headcount);
+  }
+
+  /**
+   * 구간별 인원(구간 종료 시점)과 구간 동안의 순증감
+   */
+  public List<EmployeeTrendDto> getHeadcountTrend(LocalDate from, LocalDate to, String periodType,
+      Long departmentId, EmployeeStatus status) {
+    TrendPeriod period = TrendPeriod.from(periodType);
+    HeadcountTimeline current = currentTimeline();
+    List<EmployeeStatus> statuses = statuses(status);
+
+    List<EmployeeTrendDto> result = new ArrayList<>();
+    LocalDate start = period.align(from);
+    long previous = current.headcountAt(start.minusDays(1), departmentId, statuses);
+    for (; !start.isAfter(to); start = period.next(start)) {
+      long headcount = current.headcountAt(period.next(start).minusDays(1), departmentId, statuses);
+      long change = headcount - previous;
+      double changeRate = previous > 0 ? (double) change / previous * 100 : 0.0;
+      result.add(new EmployeeTrendDto(start.toString(), headcount, change,
+          Math.round(changeRate * 100) / 100.0));
+      previous = headcount;
+    }
+    return result;
+  }
+
+  private BatchResult rollUpBatch() {
+    if (jdbcTemplate.update(INSERT_PROGRESS_SQL) > 0) {
+      int seeded = jdbcTemplate.update(SEED_STATES_SQL);
+      jdbcTemplate.update(SEED_DELTAS_SQL);
+      log.info("인원 집계 초기화 - 생성 이력 없는 기존 직원 {}명 시드", seeded);
+    }
+    Progress previous = jdbcTemplate.queryForObject(LOCK_PROGRESS_SQL, PROGRESS_MAPPER);
+    long now = System.currentTimeMillis();
+
+    int pruned = jdbcTemplate.update(PRUNE_SKIPPED_SQL, new Timestamp(now - skippedRetentionMs));
+    if (pruned > 0) {
+      log.info("인원 집계 - 보존 기간 동안 커밋되지 않은 이력 ID {}개는 롤백으로 보고 삭제", pruned);
+    }
+    List<ChangeLogRow> late = jdbcTemplate.query(SELECT_LATE_CHANGE_LOGS_SQL, changeLogMapper,
+        batchSize);
+    List<ChangeLogRow> rows = jdbcTemplate.query(SELECT_CHANGE_LOGS_SQL, changeLogMapper,
+        previous.lastId(), batchSize);
+    List<ChangeLogRow> ready = gapTracker.ready(previous.lastId(), rows, now);
+    if (late.isEmpty() && ready.isEmpty()) {
+      return new BatchResult(previous.version(), previous, List.of(), false);
+    }
+    // 늦은 이력의 직원은 그 뒤에 반영한 상태 변화를 되돌리고 뒤 이력을 늦은 이력과 함께 ID 순서로 다시 반영
+    // (건너뛴 ID 와 다시 반영할 ID 는 모두 previous.lastId() 이하라 그 다음 ready 순서가 곧 ID 순서)
+    Map<String, Long> firstLateIds = new HashMap<>();
+    late.forEach(row -> firstLateIds.merge(row.employeeNumber(), row.id(), Math::min));
+    List<HeadcountReplay.Transition> reverted = findTransitionsAfter(firstLateIds);
+    List<ChangeLogRow> reapplied = findAppliedAfter(firstLateIds, previous.lastId());
+    List<ChangeLogRow> applied = new ArrayList<>(late.size() + reapplied.size() + ready.size());
+    applied.addAll(late);
+    applied.addAll(reapplied);
+    applied.sort(Comparator.comparingLong(ChangeLogRow::id));
+    applied.addAll(ready);
+
+    HeadcountReplay replay = new HeadcountReplay(findStates(applied), findOrigins(applied),
+        findDepartmentIds());
+    reverted.forEach(replay::revert);
+    applied.forEach(replay::apply);
+
+    List<HeadcountDelta> deltas = replay.deltas();
+    jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, deltas.stream()
+        .map(delta -> new Object[]{delta.day(), toKey(delta.departmentId()), delta.status().name(),
+            delta.delta()})
+        .toList());
+    jdbcTemplate.batchUpdate(UPSERT_STATE_SQL, replay.changedStates().entrySet().stream()
+        .map(entry -> new Object[]{entry.getKey(), entry.getValue().departmentId(),
+            entry.getValue().status().name(), entry.getValue().seededThrough()})
+        .toList());
+    jdbcTemplate.batchUpdate(DELETE_STATE_SQL, replay.removedStates().stream()
+        .map(employeeNumber -> new Object[]{employeeNumber})
+        .toList());
+
+    if (!late.isEmpty()) {
+      jdbcTemplate.update(DELETE_SKIPPED_SQL,
+          (Object) late.stream().map(ChangeLogRow::id).toArray(Long[]::new));
+      log.info("인원 집계 - 건너뛰었던 이력 {}건 늦게 반영 (뒤 이력 {}건 다시 반영)", late.size(),
+          reapplied.size());
+    }
+    jdbcTemplate.batchUpdate(INSERT_SKIPPED_SQL,
+        ChangeLogGapTracker.gaps(previous.lastId(), ready).stream()
+            .map(gap -> new Object[]{gap.fromId(), gap.toId()})
+            .toList());
+    recordTransitions(reverted, replay.transitions());
+
+    long lastId = ready.isEmpty() ? previous.lastId() : ready.get(ready.size() - 1).id();
+    Long version = jdbcTemplate.queryForObject(UPDATE_PROGRESS_SQL, Long.class, lastId);
+    return new BatchResult(previous.version(), new Progress(lastId, version), deltas,
+        late.size() == batchSize || ready.size() == rows.size() && rows.size() == batchSize);
+  }
+
+  private List<HeadcountReplay.Transition> findTransitionsAfter(Map<String, Long> firstIds) {
+    if (firstIds.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(SELECT_TRANSITIONS_SQL, TRANSITION_MAPPER,
+        firstIds.keySet().toArray(String[]::new), firstIds.values().toArray(Long[]::new));
+  }
+
+  private List<ChangeLogRow> findAppliedAfter(Map<String, Long> firstIds, long lastId) {
+    if (firstIds.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(SELECT_APPLIED_AFTER_SQL, changeLogMapper,
+        firstIds.keySet().toArray(String[]::new), firstIds.values().toArray(Long[]::new), lastId);
+  }
+
+  /**
+   * 남은 건너뛴 ID 보다 뒤의 상태 변화만 보관 (그 ID 가 늦게 커밋되면 되돌릴 대상, 없으면 모두 정리)
+   */
+  private void recordTransitions(List<HeadcountReplay.Transition> reverted,
+      List<HeadcountReplay.Transition> transitions) {
+    if (!reverted.isEmpty()) {
+      jdbcTemplate.update(DELETE_TRANSITIONS_SQL,
+          (Object) reverted.stream().map(HeadcountReplay.Transition::changeLogId).toArray(Long[]::new));
+    }
+    Long minSkipped = jdbcTemplate.queryForObject(SELECT_MIN_SKIPPED_SQL, Long.class);
+    long keepAfter = minSkipped != null ? minSkipped : Long.MAX_VALUE;
+    jdbcTemplate.update(PRUNE_TRANSITIONS_SQL, keepAfter);
+    jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, transitions.stream()
+        .filter(transition -> transition.changeLogId() > keepAfter)
+        .map(transition -> {
+          HeadcountReplay.State before = transition.before();
+          HeadcountReplay.State after = transition.after();
+          return new Object[]{transition.changeLogId(), transition.employeeNumber(),
+              transition.day(),
+              before != null ? before.departmentId() : null,
+              before != null ? before.status().name() : null,
+              after != null ? after.departmentId() : null,
+              after != null ? after.status().name() : null,
+              (after != null ? after : before).seededThrough()};
+        })
+        .toList());
+  }
+
+  private Map<String, HeadcountReplay.State> findStates(List<ChangeLogRow> rows) {
+    Map<String, HeadcountReplay.State> states = new HashMap<>();
+    jdbcTemplate.query(SELECT_STATES_SQL,
+        rs -> {
+          states.put(rs.getString("employee_number"), new HeadcountReplay.State(
+              rs.getObject("department_id", Long.class),
+              EmployeeStatus.valueOf(rs.getString("status")),
+              rs.getLong("seeded_through")));
+        },
+        (Object) employeeNumbers(rows, null));
+    return states;
+  }
+
+  private Map<String, HeadcountReplay.Origin> findOrigins(List<ChangeLogRow> rows) {
+    String[] created = employeeNumbers(rows, HistoryType.CREATED);
+    Map<String, HeadcountReplay.Origin> origins = new HashMap<>();
+    if (created.length == 0) {
+      return origins;
+    }
+    Map<String, Long> departmentIds = findDepartmentIds();
+    jdbcTemplate.query(SELECT_ORIGINS_SQL,
+        rs -> {
+          Long departmentId;
+          String firstDepartmentName = rs.getString("first_department_name");
+          if (firstDepartmentName != null) {
+            departmentId = departmentIds.get(firstDepartmentName);
+          } else if (rs.getObject("hire_date") != null) {
+            departmentId = rs.getObject("department_id", Long.class);
+          } else {
+            departmentId = departmentIds.get(rs.getString("deleted_department_name"));
+          }
+          LocalDate hireDate = rs.getObject("hire_date", LocalDate.class);
+          String deletedHireDate = rs.getString("deleted_hire_date");
+          if (hireDate == null && deletedHireDate != null && !deletedHireDate.isEmpty()) {
+            hireDate = LocalDate.parse(deletedHireDate);
+          }
+          origins.put(rs.getString("employee_number"),
+              new HeadcountReplay.Origin(departmentId, hireDate));
+        },
+        (Object) created);
+    return origins;
+  }
+
+  private Map<String, Long> findDepartmentIds() {
+    Map<String, Long> departmentIds = new HashMap<>();
+    jdbcTemplate.query("SELECT id, name FROM departments", rs -> {
+      departmentIds.put(rs.getString("name"), rs.getLong("id"));
+    });
+    return departmentIds;
+  }
+
+  private synchronized void reloadTimeline() {
+    Progress progress = jdbcTemplate.queryForObject(SELECT_PROGRESS_SQL, PROGRESS_MAPPER);
+    timeline = new HeadcountTimeline(jdbcTemplate.query(SELECT_DELTAS_SQL, DELTA_MAPPER));
+    timelineThrough = progress.lastId();
+    timelineVersion = progress.version();
+  }
+
+  // 적재 전에는 DB 의 누적 증감으로 임시 시계열 구성
+  private HeadcountTimeline currentTimeline() {
+    HeadcountTimeline current = timeline;
+    return current != null
+        ? current
+        : new HeadcountTimeline(jdbcTemplate.query(SELECT_DELTAS_SQL, DELTA_MAPPER));
+  }
+
+  private List<DiffEntry> parseChanges(String changes) {
+    if (changes == null) {
+      return List.of();
+    }
+    try {
+      return objectMapper.readValue(changes, DIFF_LIST);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("변경 이력 내용을 읽을 수 없습니다: " + changes, e);
+    }
+  }
+
+  private static String[] employeeNumbers(List<ChangeLogRow> rows, HistoryType type) {
+    Set<String> employeeNumbers = new HashSet<>();
+    for (ChangeLogRow row : rows) {
+      if (type == null || row.type() == type) {
+        employeeNumbers.add(row.employeeNumber());
+      }
+    }
+    return employeeNumbers.toArray(String[]::new);
+  }
+
+  private static HeadcountReplay.State toState(Long departmentId, String status,
+      long seededThrough) {
+    return status != null
+        ? new HeadcountReplay.State(departmentId, EmployeeStatus.valueOf(status), seededThrough)
+        : null;
+  }
+
+  private static List<EmployeeStatus> statuses(EmployeeStatus status) {
+    return status != null ? List.of(status) : EMPLOYED;
+  }
+
+  // headcount_daily_deltas.department_id 는 PK 컬럼이라 부서 없음을 0 으로 저장
+  private static long toKey(Long departmentId) {
+    return departmentId != null ? departmentId : 0L;
+  }
+
+  private static Long toDepartmentId(long key) {
+    return key != 0 ? key : null;
+  }
+}
@@ -0,0 +1,55 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 일별 증감의 누적 합 (thread-safe 아님)
+ * - 날짜(epoch day) 정렬 배열 + 날짜별 누적 값, 특정 날짜 인원은 이진 탐색 한 번
+ * - 증감은 대부분 오늘 날짜라 배열 끝에 추가되고, 과거 날짜면 이후 누적 값을 함께 보정
+ */
+class HeadcountSeries {
+
+  private long[] days = new long[16];
+  private long[] cumulative = new long[16];
+  private int size;
+
+  void add(LocalDate day, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    long epochDay = day.toEpochDay();
+    int index = Arrays.binarySearch(days, 0, size, epochDay);
+    if (index < 0) {
+      index = -index - 1;
+      insert(index, epochDay, index > 0 ? cumulative[index - 1] : 0);
+    }
+    for (int i = index; i < size; i++) {
+      cumulative[i] += delta;
+    }
+  }
+
+  /**
+   * 해당 날짜까지의 누적 값 (그 날짜 증감 포함)
+   */
+  long valueAt(LocalDate day) {
+    int index = Arrays.binarySearch(days, 0, size, day.toEpochDay());
+    if (index >= 0) {
+      return cumulative[index];
+    }
+    int insertion = -index - 1;
+    return insertion == 0 ? 0 : cumulative[insertion - 1];
+  }
+
+  private void insert(int index, long epochDay, long value) {
+    if (size == days.length) {
+      days = Arrays.copyOf(days, size * 2);
+      cumulative = Arrays.copyOf(cumulative, size * 2);
+    }
+    System.arraycopy(days, index, days, index + 1, size - index);
+    System.arraycopy(cumulative, index, cumulative, index + 1, size - index);
+    days[index] = epochDay;
+    cumulative[index] = value;
+    size++;
+  }
+}
@@ -0,0 +1,70 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부서 x 상태별 인원 누적 시계열
+ * - (부서, 상태) 시계열과 전체 부서 합계 시계열(상태별)을 함께 유지
+ * - 특정 날짜 인원 = 시계열마다 이진 탐색 한 번, 기간 증감 = 기간 끝 인원 - 기간 시작 전날 인원
+ */
+public class HeadcountTimeline {
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 부서 없는 직원은 null 키
+  private final Map<Long, Map<EmployeeStatus, HeadcountSeries>> departments = new HashMap<>();
+  private final Map<EmployeeStatus, HeadcountSeries> total = new EnumMap<>(EmployeeStatus.class);
+
+  public HeadcountTimeline(Collection<HeadcountDelta> deltas) {
+    apply(deltas);
+  }
+
+  public void apply(Collection<HeadcountDelta> deltas) {
+    lock.writeLock().lock();
+    try {
+      for (HeadcountDelta delta : deltas) {
+        departments.computeIfAbsent(delta.departmentId(), key -> new EnumMap<>(EmployeeStatus.class))
+            .computeIfAbsent(delta.status(), key -> new HeadcountSeries())
+            .add(delta.day(), delta.delta());
+        total.computeIfAbsent(delta.status(), key -> new HeadcountSeries())
+            .add(delta.day(), delta.delta());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 해당 날짜 종료 시점 인원
+   * @param departmentId null 이면 전체 부서
+   * @param statuses 합산할 상태
+   */
+  public long headcountAt(LocalDate date, Long departmentId, List<EmployeeStatus> statuses) {
+    lock.readLock().lock();
+    try {
+      Map<EmployeeStatus, HeadcountSeries> series =
+          departmentId == null ? total : departments.get(departmentId);
+      if (series == null) {
+        return 0;
+      }
+      long headcount = 0;
+      for (EmployeeStatus status : statuses) {
+        HeadcountSeries values = series.get(status);
+        if (values != null) {
+          headcount += values.valueAt(date);
+        }
+      }
+      return headcount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
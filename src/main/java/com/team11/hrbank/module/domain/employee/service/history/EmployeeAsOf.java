@@ -0,0 +1,103 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 직원 한 명의 과거 시점 복원 규칙 (조회 결과를 받아 계산만 함)
+ * - 조회 시점 이전 스냅샷이 있으면 그 뒤 변경 이력을 앞으로 적용
+ * - 없으면 이후 스냅샷 -> 현재 정보 -> 삭제 직전 정보 순으로 기준점을 잡고 그 사이 변경 이력을 뒤로 되돌림
+ */
+final class EmployeeAsOf {
+
+  record Snapshot(Instant capturedAt, EmployeeState state) {
+  }
+
+  /**
+   * 생성/삭제 이력 (이력이 없으면 null)
+   * @param deletedState 삭제 이력의 변경 전 값
+   */
+  record Lifecycle(Instant createdAt, Instant deletedAt, List<DiffEntry> deletedState) {
+
+    static final Lifecycle UNKNOWN = new Lifecycle(null, null, null);
+  }
+
+  /**
+   * 복원 기준점
+   * @param forward true 면 capturedAt 이후 이력을 앞으로, false 면 capturedAt 까지의 이력을 뒤로 적용
+   */
+  record Anchor(Instant capturedAt, EmployeeState state, boolean forward) {
+
+    // 적용할 변경 이력 구간 (from, to] 의 from
+    Instant from(Instant at) {
+      return forward ? capturedAt : justBefore(at);
+    }
+
+    Instant to(Instant at) {
+      return forward ? justBefore(at) : capturedAt;
+    }
+  }
+
+  private EmployeeAsOf() {
+  }
+
+  /**
+   * 조회 시점(at 직전)에 존재했는지 - 생성 이력이 없는 기존 직원은 생성 시점 제한 없음
+   */
+  static boolean existedAt(Lifecycle lifecycle, Instant at) {
+    if (lifecycle.createdAt() != null && !lifecycle.createdAt().isBefore(at)) {
+      return false;
+    }
+    return lifecycle.deletedAt() == null || !lifecycle.deletedAt().isBefore(at);
+  }
+
+  /**
+   * @param before 조회 시점 이전 가장 최근 스냅샷 (없으면 null)
+   * @param after 조회 시점 이후 가장 가까운 스냅샷 (없으면 null)
+   * @param current 현재 직원 정보 (삭제됐으면 null)
+   * @return 기준점이 없으면 null
+   */
+  static Anchor anchor(Snapshot before, Snapshot after, EmployeeState current, Instant now,
+      Lifecycle lifecycle) {
+    if (before != null) {
+      return new Anchor(before.capturedAt(), before.state(), true);
+    }
+    if (after != null) {
+      return new Anchor(after.capturedAt(), after.state(), false);
+    }
+    if (current != null) {
+      return new Anchor(now, current, false);
+    }
+    if (lifecycle.deletedState() != null) {
+      return new Anchor(lifecycle.deletedAt(), EmployeeState.ofDeleted(lifecycle.deletedState()),
+          false);
+    }
+    return null;
+  }
+
+  /**
+   * 기준점 상태에 구간 변경 이력 적용
+   * @param changes 구간 안의 수정 이력 (시간 순서)
+   */
+  static EmployeeState replay(Anchor anchor, List<List<DiffEntry>> changes,
+      Map<String, Long> departmentIds) {
+    EmployeeState state = anchor.state();
+    if (anchor.forward()) {
+      changes.forEach(change -> state.apply(change, true, departmentIds));
+    } else {
+      for (int i = changes.size() - 1; i >= 0; i--) {
+        state.apply(changes.get(i), false, departmentIds);
+      }
+    }
+    state.resolveDepartmentId(departmentIds);
+    return state;
+  }
+
+  // 해당 날짜 다음 날 0시 직전까지의 변경 반영
+  private static Instant justBefore(Instant at) {
+    return at.minusNanos(1000);
+  }
+}
@@ -0,0 +1,309 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 과거 시점 직원 정보 조회 (복원 규칙은 EmployeeAsOf)
+ * - 스냅샷은 interval 번 변경마다 기록되므로 이력이 길어도 적용하는 변경은 interval 건 이하
+ * - 여러 직원 조회도 단계별로 한 번씩만 조회 (직원 수와 무관하게 쿼리 7회 이하)
+ * - 스냅샷 기능 이전부터 있던 직원은 schema.sql 적용 시점의 기준 스냅샷부터 시작하므로,
+ *   그 이전 시점은 현재 정보(또는 기준 스냅샷)에서 그 사이 이력을 모두 되돌려 계산
+ *   (기준 스냅샷 이전에 삭제된 직원은 직원 번호를 찾을 수 없어 조회 대상에서 제외)
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeHistoryService {
+
+  // 한 번에 조회할 수 있는 직원 수 (목록 조회)
+  public static final int MAX_IDS = 100;
+
+  private static final String SELECT_CURRENT_SQL = """
+      SELECT e.id, e.employee_number, e.name, e.email, e.department_id,
+             d.name AS department_name, e.position, e.hire_date, e.status
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      WHERE e.id = ANY (?)
+      """;
+  // 삭제된 직원은 스냅샷에 남은 직원 번호로 조회
+  private static final String SELECT_EMPLOYEE_NUMBERS_SQL = """
+      SELECT DISTINCT ON (employee_id) employee_id, employee_number
+      FROM employee_snapshots
+      WHERE employee_id = ANY (?)
+      """;
+  private static final String SELECT_LIFECYCLE_SQL = """
+      SELECT cl.employee_number, cl.type, cl.created_at, d.changes
+      FROM change_logs cl
+      LEFT JOIN change_log_diffs d ON d.change_log_id = cl.id
+      WHERE cl.employee_number = ANY (?) AND cl.type IN ('CREATED', 'DELETED')
+      ORDER BY cl.id
+      """;
+  private static final String SELECT_SNAPSHOTS_BEFORE_SQL = """
+      SELECT n.employee_number, s.captured_at, s.state
+      FROM unnest(CAST(? AS varchar[])) AS n(employee_number)
+      JOIN LATERAL (
+        SELECT captured_at, state FROM employee_snapshots
+        WHERE employee_number = n.employee_number AND captured_at < ?
+        ORDER BY captured_at DESC
+        LIMIT 1
+      ) s ON TRUE
+      """;
+  private static final String SELECT_SNAPSHOTS_AFTER_SQL = """
+      SELECT n.employee_number, s.captured_at, s.state
+      FROM unnest(CAST(? AS varchar[])) AS n(employee_number)
+      JOIN LATERAL (
+        SELECT captured_at, state FROM employee_snapshots
+        WHERE employee_number = n.employee_number AND captured_at >= ?
+        ORDER BY captured_at
+        LIMIT 1
+      ) s ON TRUE
+      """;
+  // 직원별 (from, to] 구간 수정 이력
+  private static final String SELECT_CHANGES_SQL = """
+      SELECT r.employee_number, d.changes
+      FROM unnest(CAST(? AS varchar[]), CAST(? AS timestamptz[]), CAST(? AS timestamptz[]))
+           AS r(employee_number, from_at, to_at)
+      JOIN change_logs cl ON cl.employee_number = r.employee_number AND cl.type = 'UPDATED'
+                         AND cl.created_at > r.from_at AND cl.created_at <= r.to_at
+      JOIN change_log_diffs d ON d.change_log_id = cl.id
+      ORDER BY r.employee_number, cl.created_at, cl.id
+      """;
+
+  private static final TypeReference<List<DiffEntry>> DIFF_LIST = new TypeReference<>() {
+  };
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 해당 날짜 종료 시점의 직원 정보
+   */
+  @Transactional(readOnly = true)
+  public EmployeeDto getEmployeeAsOf(Long id, LocalDate asOf) {
+    List<EmployeeDto> found = findEmployeesAsOf(List.of(id), asOf);
+    if (found.isEmpty()) {
+      throw ResourceNotFoundException.of("Employee", "id", id + " (asOf " + asOf + ")");
+    }
+    return found.get(0);
+  }
+
+  /**
+   * 여러 직원의 해당 날짜 종료 시점 정보 (그 시점에 없던 직원은 제외)
+   */
+  @Transactional(readOnly = true)
+  public List<EmployeeDto> getEmployeesAsOf(List<Long> ids, LocalDate asOf) {
+    Set<Long> distinctIds = new LinkedHashSet<>(ids);
+    if (distinctIds.size() > MAX_IDS) {
+      throw new IllegalArgumentException("한 번에 조회할 수 있는 직원은 " + MAX_IDS + "명까지입니다.");
+    }
+    return findEmployeesAsOf(distinctIds, asOf);
+  }
+
+  private List<EmployeeDto> findEmployeesAsOf(Collection<Long> ids, LocalDate asOf) {
+    Instant now = Instant.now();
+    Instant at = asOf.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+
+    // 직원 ID -> 직원 번호 (현재 직원 + 삭제된 직원)
+    Map<String, EmployeeState> currents = new HashMap<>();
+    Map<Long, String> employeeNumbers = findCurrents(ids, currents);
+    List<Long> deletedIds = ids.stream().filter(id -> !employeeNumbers.containsKey(id)).toList();
+    employeeNumbers.putAll(findDeletedEmployeeNumbers(deletedIds));
+
+    Map<String, EmployeeAsOf.Lifecycle> lifecycles = findLifecycles(employeeNumbers.values());
+    List<String> existing = employeeNumbers.values().stream()
+        .filter(employeeNumber -> EmployeeAsOf.existedAt(
+            lifecycles.getOrDefault(employeeNumber, EmployeeAsOf.Lifecycle.UNKNOWN), at))
+        .toList();
+
+    Map<String, EmployeeAsOf.Snapshot> befores = findSnapshots(SELECT_SNAPSHOTS_BEFORE_SQL,
+        existing, at);
+    Map<String, EmployeeAsOf.Snapshot> afters = findSnapshots(SELECT_SNAPSHOTS_AFTER_SQL,
+        existing.stream().filter(employeeNumber -> !befores.containsKey(employeeNumber)).toList(),
+        at);
+    Map<String, EmployeeAsOf.Anchor> anchors = new LinkedHashMap<>();
+    for (String employeeNumber : existing) {
+      EmployeeAsOf.Anchor anchor = EmployeeAsOf.anchor(befores.get(employeeNumber),
+          afters.get(employeeNumber), currents.get(employeeNumber), now,
+          lifecycles.getOrDefault(employeeNumber, EmployeeAsOf.Lifecycle.UNKNOWN));
+      if (anchor != null) {
+        anchors.put(employeeNumber, anchor);
+      }
+    }
+
+    Map<String, List<List<DiffEntry>>> changes = findChanges(anchors, at);
+    Map<String, Long> departmentIds = findDepartmentIds(changes.values(), anchors.values());
+
+    List<EmployeeDto> result = new ArrayList<>(anchors.size());
+    for (Long id : ids) {
+      String employeeNumber = employeeNumbers.get(id);
+      EmployeeAsOf.Anchor anchor = employeeNumber != null ? anchors.get(employeeNumber) : null;
+      if (anchor != null) {
+        EmployeeState state = EmployeeAsOf.replay(anchor,
+            changes.getOrDefault(employeeNumber, List.of()), departmentIds);
+        result.add(state.toDto(id, employeeNumber));
+      }
+    }
+    return result;
+  }
+
+  private Map<Long, String> findCurrents(Collection<Long> ids,
+      Map<String, EmployeeState> currents) {
+    Map<Long, String> employeeNumbers = new HashMap<>();
+    jdbcTemplate.query(SELECT_CURRENT_SQL, rs -> {
+      String employeeNumber = rs.getString("employee_number");
+      employeeNumbers.put(rs.getLong("id"), employeeNumber);
+      currents.put(employeeNumber, new EmployeeState(
+          rs.getString("name"),
+          rs.getString("email"),
+          rs.getObject("department_id", Long.class),
+          rs.getString("department_name"),
+          rs.getString("position"),
+          rs.getObject("hire_date", LocalDate.class),
+          EmployeeStatus.valueOf(rs.getString("status"))));
+    }, (Object) ids.toArray(Long[]::new));
+    return employeeNumbers;
+  }
+
+  private Map<Long, String> findDeletedEmployeeNumbers(List<Long> ids) {
+    Map<Long, String> employeeNumbers = new HashMap<>();
+    if (!ids.isEmpty()) {
+      jdbcTemplate.query(SELECT_EMPLOYEE_NUMBERS_SQL, rs -> {
+        employeeNumbers.put(rs.getLong("employee_id"), rs.getString("employee_number"));
+      }, (Object) ids.toArray(Long[]::new));
+    }
+    return employeeNumbers;
+  }
+
+  private Map<String, EmployeeAsOf.Lifecycle> findLifecycles(Collection<String> employeeNumbers) {
+    Map<String, EmployeeAsOf.Lifecycle> lifecycles = new HashMap<>();
+    if (employeeNumbers.isEmpty()) {
+      return lifecycles;
+    }
+    jdbcTemplate.query(SELECT_LIFECYCLE_SQL, rs -> {
+      String employeeNumber = rs.getString("employee_number");
+      Timestamp timestamp = rs.getTimestamp("created_at");
+      EmployeeAsOf.Lifecycle lifecycle =
+          lifecycles.getOrDefault(employeeNumber, EmployeeAsOf.Lifecycle.UNKNOWN);
+      if ("CREATED".equals(rs.getString("type"))) {
+        lifecycle = new EmployeeAsOf.Lifecycle(timestamp != null ? timestamp.toInstant() : null,
+            lifecycle.deletedAt(), lifecycle.deletedState());
+      } else {
+        lifecycle = new EmployeeAsOf.Lifecycle(lifecycle.createdAt(),
+            timestamp != null ? timestamp.toInstant() : Instant.now(),
+            parseChanges(rs.getString("changes")));
+      }
+      lifecycles.put(employeeNumber, lifecycle);
+    }, (Object) employeeNumbers.toArray(String[]::new));
+    return lifecycles;
+  }
+
+  private Map<String, EmployeeAsOf.Snapshot> findSnapshots(String sql,
+      List<String> employeeNumbers, Instant at) {
+    Map<String, EmployeeAsOf.Snapshot> snapshots = new HashMap<>();
+    if (employeeNumbers.isEmpty()) {
+      return snapshots;
+    }
+    jdbcTemplate.query(sql, rs -> {
+      snapshots.put(rs.getString("employee_number"), new EmployeeAsOf.Snapshot(
+          rs.getTimestamp("captured_at").toInstant(), readState(rs.getString("state"))));
+    }, employeeNumbers.toArray(String[]::new), Timestamp.from(at));
+    return snapshots;
+  }
+
+  private Map<String, List<List<DiffEntry>>> findChanges(
+      Map<String, EmployeeAsOf.Anchor> anchors, Instant at) {
+    Map<String, List<List<DiffEntry>>> changes = new HashMap<>();
+    if (anchors.isEmpty()) {
+      return changes;
+    }
+    String[] employeeNumbers = new String[anchors.size()];
+    String[] from = new String[anchors.size()];
+    String[] to = new String[anchors.size()];
+    int i = 0;
+    for (Map.Entry<String, EmployeeAsOf.Anchor> entry : anchors.entrySet()) {
+      employeeNumbers[i] = entry.getKey();
+      from[i] = entry.getValue().from(at).toString();
+      to[i] = entry.getValue().to(at).toString();
+      i++;
+    }
+    jdbcTemplate.query(SELECT_CHANGES_SQL, rs -> {
+      changes.computeIfAbsent(rs.getString("employee_number"), key -> new ArrayList<>())
+          .add(parseChanges(rs.getString("changes")));
+    }, employeeNumbers, from, to);
+    return changes;
+  }
+
+  // 이력/삭제 직전 정보에 나온 부서명 -> 부서 ID (이후 이름이 바뀐 부서는 ID 없이 이름만 복원)
+  private Map<String, Long> findDepartmentIds(Collection<List<List<DiffEntry>>> changes,
+      Collection<EmployeeAsOf.Anchor> anchors) {
+    Set<String> names = new HashSet<>();
+    for (List<List<DiffEntry>> employeeChanges : changes) {
+      for (List<DiffEntry> change : employeeChanges) {
+        for (DiffEntry entry : change) {
+          if ("부서".equals(entry.getPropertyName()) || "부서명".equals(entry.getPropertyName())) {
+            names.add(entry.getBefore());
+            names.add(entry.getAfter());
+          }
+        }
+      }
+    }
+    for (EmployeeAsOf.Anchor anchor : anchors) {
+      if (anchor.state().getDepartmentId() == null) {
+        names.add(anchor.state().getDepartmentName());
+      }
+    }
+    names.remove(null);
+    names.remove("");
+    Map<String, Long> departmentIds = new HashMap<>();
+    if (!names.isEmpty()) {
+      jdbcTemplate.query("SELECT id, name FROM departments WHERE name = ANY (?)",
+          rs -> {
+            departmentIds.put(rs.getString("name"), rs.getLong("id"));
+          },
+          (Object) names.toArray(String[]::new));
+    }
+    return departmentIds;
+  }
+
+  private EmployeeState readState(String state) {
+    try {
+      return objectMapper.readValue(state, EmployeeState.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("직원 스냅샷을 읽을 수 없습니다: " + state, e);
+    }
+  }
+
+  private List<DiffEntry> parseChanges(String changes) {
+    if (changes == null) {
+      return List.of();
+    }
+    try {
+      return objectMapper.readValue(changes, DIFF_LIST);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("변경 이력 내용을 읽을 수 없습니다: " + changes, e);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.employee.Employee;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 직원 스냅샷 기록 (과거 시점 조회 시 적용할 변경 이력 수를 interval 이하로 유지)
+ * - 생성 시 한 번, 이후 부서/상태 등 정보 변경 interval 번마다 한 번 (호출한 트랜잭션 안에서 저장)
+ * - 스냅샷 시각은 변경 이력 기록 후 시각이라 해당 변경은 항상 스냅샷에 포함됨
+ * - 직원 삭제 후에도 남겨서 삭제된 직원의 과거 시점 조회에 사용
+ */
+@Service
+public class EmployeeSnapshotService {
+
+  private static final String INSERT_SNAPSHOT_SQL =
+      "INSERT INTO employee_snapshots (employee_id, employee_number, captured_at, state) "
+          + "VALUES (?, ?, ?, CAST(? AS jsonb))";
+
+  // 대량 등록 직후 스냅샷 (EmployeeState JSON 형식, 부서명은 같은 트랜잭션에서 조회)
+  private static final String INSERT_CREATED_SNAPSHOTS_SQL = """
+      INSERT INTO employee_snapshots (employee_id, employee_number, captured_at, state)
+      SELECT e.id, e.employee_number, ?,
+             jsonb_build_object('name', e.name, 'email', e.email,
+                                'departmentId', e.department_id, 'departmentName', d.name,
+                                'position', e.position, 'hireDate', e.hire_date, 'status', e.status)
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      WHERE e.id = ANY (?)
+      """;
+
+  private static final String INCREMENT_COUNTER_SQL = """
+      INSERT INTO employee_snapshot_counters (employee_number, changes) VALUES (?, 1)
+      ON CONFLICT (employee_number) DO UPDATE
+      SET changes = employee_snapshot_counters.changes + 1
+      RETURNING changes
+      """;
+  private static final String RESET_COUNTER_SQL = """
+      INSERT INTO employee_snapshot_counters (employee_number, changes) VALUES (?, 0)
+      ON CONFLICT (employee_number) DO UPDATE SET changes = 0
+      """;
+  private static final String DELETE_COUNTER_SQL =
+      "DELETE FROM employee_snapshot_counters WHERE employee_number = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final int interval;
+
+  public EmployeeSnapshotService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+      @Value("${employee.snapshot.interval:20}") int interval) {
+    if (interval < 1) {
+      throw new IllegalArgumentException("employee.snapshot.interval 은 1 이상이어야 합니다: " + interval);
+    }
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.interval = interval;
+  }
+
+  /**
+   * 직원 생성 직후 스냅샷
+   */
+  public void recordCreated(Employee employee) {
+    snapshot(employee);
+  }
+
+  /**
+   * 대량 등록된 직원들의 생성 직후 스냅샷 (같은 트랜잭션에서 insert 한 뒤 호출)
+   */
+  public void recordCreatedAll(List<Long> employeeIds) {
+    if (employeeIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update(INSERT_CREATED_SNAPSHOTS_SQL, Timestamp.from(Instant.now()),
+        employeeIds.toArray(Long[]::new));
+  }
+
+  /**
+   * 직원 정보 변경 한 건 반영 (변경 이력 기록 후 호출, interval 번째 변경이면 스냅샷)
+   */
+  public void recordChanged(Employee employee) {
+    Integer changes = jdbcTemplate.queryForObject(INCREMENT_COUNTER_SQL, Integer.class,
+        employee.getEmployeeNumber());
+    if (changes != null && changes >= interval) {
+      snapshot(employee);
+    }
+  }
+
+  /**
+   * 직원 삭제 (스냅샷은 유지, 변경 횟수만 정리)
+   */
+  public void recordDeleted(String employeeNumber) {
+    jdbcTemplate.update(DELETE_COUNTER_SQL, employeeNumber);
+  }
+
+  private void snapshot(Employee employee) {
+    String state;
+    try {
+      state = objectMapper.writeValueAsString(EmployeeState.of(employee));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("직원 스냅샷 직렬화 실패: " + employee.getId(), e);
+    }
+    jdbcTemplate.update(INSERT_SNAPSHOT_SQL, employee.getId(), employee.getEmployeeNumber(),
+        Timestamp.from(Instant.now()), state);
+    jdbcTemplate.update(RESET_COUNTER_SQL, employee.getEmployeeNumber());
+  }
+}
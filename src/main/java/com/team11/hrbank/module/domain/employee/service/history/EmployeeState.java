@@ -0,0 +1,95 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 직원 정보 (employee_snapshots.state JSON)
+ * - 변경 이력(DiffEntry)을 앞으로(after 값) 또는 뒤로(before 값) 적용해 시점을 이동
+ * - 프로필 이미지는 이력에 파일명만 남아 복원하지 않음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeState {
+
+  private String name;
+  private String email;
+  private Long departmentId;
+  private String departmentName;
+  private String position;
+  private LocalDate hireDate;
+  private EmployeeStatus status;
+
+  public static EmployeeState of(Employee employee) {
+    return new EmployeeState(
+        employee.getName(),
+        employee.getEmail(),
+        employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+        employee.getDepartment() != null ? employee.getDepartment().getName() : null,
+        employee.getPosition(),
+        employee.getHireDate(),
+        employee.getStatus());
+  }
+
+  /**
+   * 삭제 이력의 이전 값으로 삭제 직전 상태 구성 (부서 ID 는 resolveDepartmentId 로 채움)
+   */
+  public static EmployeeState ofDeleted(List<DiffEntry> changes) {
+    EmployeeState state = new EmployeeState();
+    changes.forEach(change -> state.set(change.getPropertyName(), change.getBefore(), Map.of()));
+    return state;
+  }
+
+  /**
+   * 변경 이력 하나 적용
+   * @param forward true 면 변경 후 값, false 면 변경 전 값으로 되돌림
+   */
+  public void apply(List<DiffEntry> changes, boolean forward, Map<String, Long> departmentIds) {
+    for (DiffEntry change : changes) {
+      set(change.getPropertyName(), forward ? change.getAfter() : change.getBefore(), departmentIds);
+    }
+  }
+
+  /**
+   * 부서명만 있는 경우 현재 같은 이름의 부서 ID (이후 이름이 바뀐 부서는 ID 없이 이름만 유지)
+   */
+  public void resolveDepartmentId(Map<String, Long> departmentIds) {
+    if (departmentId == null && departmentName != null) {
+      departmentId = departmentIds.get(departmentName);
+    }
+  }
+
+  public EmployeeDto toDto(Long id, String employeeNumber) {
+    return new EmployeeDto(id, name, email, employeeNumber, departmentId, departmentName, position,
+        hireDate, status, null);
+  }
+
+  // 이력 항목 이름은 EmployeeCommandService 에서 기록하는 값 (삭제 이력은 부서명)
+  private void set(String propertyName, String value, Map<String, Long> departmentIds) {
+    String normalized = value == null || value.isEmpty() ? null : value;
+    switch (propertyName) {
+      case "이름" -> name = normalized;
+      case "이메일" -> email = normalized;
+      case "부서", "부서명" -> {
+        departmentName = normalized;
+        departmentId = normalized != null ? departmentIds.get(normalized) : null;
+      }
+      case "직함" -> position = normalized;
+      case "입사일" -> hireDate = normalized != null ? LocalDate.parse(normalized) : null;
+      case "상태" -> status = normalized != null ? EmployeeStatus.valueOf(normalized) : null;
+      default -> {
+        // 프로필 이미지, 메모는 복원 대상 아님
+      }
+    }
+  }
+}
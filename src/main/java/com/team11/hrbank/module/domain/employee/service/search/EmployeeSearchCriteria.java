@@ -0,0 +1,35 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
+
+import java.time.LocalDate;
+
+/**
+ * 직원 목록 검색 조건 (DB 조회 조건과 동일한 의미, 문자열은 대소문자 구분 부분 일치)
+ * - nameSearchMode 가 INITIAL 이면 nameOrEmail 은 이름 앞부분 초성 일치
+ */
+public record EmployeeSearchCriteria(
+    String nameOrEmail,
+    NameSearchMode nameSearchMode,
+    String employeeNumber,
+    String departmentName,
+    String position,
+    LocalDate hireDateFrom,
+    LocalDate hireDateTo,
+    EmployeeStatus status
+) {
+
+  public boolean initialSearch() {
+    return nameOrEmail != null && nameSearchMode == NameSearchMode.INITIAL;
+  }
+
+  public boolean hasTextFilter() {
+    return nameOrEmail != null || employeeNumber != null || departmentName != null
+        || position != null;
+  }
+
+  public boolean isEmpty() {
+    return !hasTextFilter() && hireDateFrom == null && hireDateTo == null && status == null;
+  }
+}
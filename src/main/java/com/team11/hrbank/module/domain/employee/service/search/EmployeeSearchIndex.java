@@ -0,0 +1,546 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.util.HangulInitials;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 직원 검색 인메모리 인덱스
+ * - 직원 한 명 = 문서 번호(int) 하나, 컬럼별 배열에 저장
+ * - 이름/이메일/사원번호/직함/부서명 별 trigram + 글자 단위 역색인 (posting = 오름차순 int 목록)
+ *   3글자 이상 검색어는 trigram, 1~2글자 검색어는 글자별 posting 교집합으로 후보를 좁힘
+ * - 초성 검색은 역색인으로 좁힐 수 없어 다른 텍스트 조건이 없으면 정렬 순서대로 전체 순회
+ * - 수정은 기존 문서를 삭제 표시하고 새 번호로 추가 (posting 정렬 유지)
+ * - 정렬 순서(이름/사원번호/입사일)는 생성 시점 스냅샷 + 이후 추가된 문서 구간을 병합해서 순회
+ * - 삭제 표시/추가 문서가 쌓이면 needsRebuild() - 호출 측에서 liveRows() 로 새 인스턴스 생성
+ * 문자열 정렬은 Java String 순서(UTF-16)이므로 DB collation 과 다를 수 있음
+ */
+public class EmployeeSearchIndex {
+
+  private static final int NGRAM = 3;
+  private static final int MIN_REBUILD_THRESHOLD = 4096;
+  private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 문서 컬럼 (0 = 없음)
+  private long[] ids;
+  private String[] names;
+  private String[] emails;
+  private String[] employeeNumbers;
+  private String[] positions;
+  private String[] departmentNames;
+  private long[] departmentIds;
+  private long[] profileImageIds;
+  private int[] hireDays;
+  private byte[] statuses;
+
+  private final BitSet live = new BitSet();
+  private final Map<Long, Integer> docOf = new HashMap<>();
+  private int docCount;
+  private int liveCount;
+
+  private final FieldIndex nameIndex = new FieldIndex();
+  private final FieldIndex emailIndex = new FieldIndex();
+  private final FieldIndex employeeNumberIndex = new FieldIndex();
+  private final FieldIndex positionIndex = new FieldIndex();
+  private final FieldIndex departmentNameIndex = new FieldIndex();
+
+  // 정렬 키별 스냅샷 (생성 시점 문서, 오름차순) - 이후 추가 문서는 [snapshotLimit, docCount)
+  private final int[][] sortedSnapshots = new int[SortKey.values().length][];
+  private final int snapshotLimit;
+
+  public EmployeeSearchIndex(Collection<EmployeeDto> rows) {
+    allocate(rows.size() + MIN_REBUILD_THRESHOLD);
+    rows.forEach(this::append);
+    for (SortKey key : SortKey.values()) {
+      sortedSnapshots[key.ordinal()] = IntStream.range(0, docCount)
+          .boxed()
+          .sorted((a, b) -> compare(key, a, b))
+          .mapToInt(Integer::intValue)
+          .toArray();
+    }
+    this.snapshotLimit = docCount;
+  }
+
+  /**
+   * 조건 검색 (정렬 + keyset 커서)
+   * @param sortField name, employeeNumber, hireDate
+   * @param limit     최대 반환 건수
+   */
+  public List<EmployeeDto> search(EmployeeSearchCriteria criteria, KeysetCursor cursor,
+      int limit, String sortField, boolean ascending) {
+    SortKey key = SortKey.from(sortField);
+    lock.readLock().lock();
+    try {
+      Position position = cursor == null ? null : Position.of(key, cursor);
+      IntList candidates = candidates(criteria);
+      IntList page = candidates != null
+          ? topK(candidates, criteria, key, ascending, position, limit)
+          : scan(criteria, key, ascending, position, limit);
+
+      List<EmployeeDto> result = new ArrayList<>(page.size());
+      for (int i = 0; i < page.size(); i++) {
+        result.add(toDto(page.get(i)));
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 조건에 맞는 직원 수
+   */
+  public long count(EmployeeSearchCriteria criteria) {
+    lock.readLock().lock();
+    try {
+      if (criteria.isEmpty()) {
+        return liveCount;
+      }
+      IntList candidates = candidates(criteria);
+      long count = 0;
+      if (candidates != null) {
+        for (int i = 0; i < candidates.size(); i++) {
+          if (matches(candidates.get(i), criteria)) {
+            count++;
+          }
+        }
+        return count;
+      }
+      for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+        if (matches(doc, criteria)) {
+          count++;
+        }
+      }
+      return count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 직원 추가/수정 (기존 문서는 삭제 표시)
+   */
+  public void upsert(EmployeeDto employee) {
+    lock.writeLock().lock();
+    try {
+      tombstone(employee.id());
+      if (docCount == ids.length) {
+        allocate(docCount + (docCount >> 1) + 1);
+      }
+      append(employee);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long employeeId) {
+    lock.writeLock().lock();
+    try {
+      tombstone(employeeId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 삭제 표시 문서나 스냅샷 밖 문서가 많아져 재생성이 필요한지 여부
+   */
+  public boolean needsRebuild() {
+    lock.readLock().lock();
+    try {
+      int dead = docCount - liveCount;
+      int unsorted = docCount - snapshotLimit;
+      return dead > Math.max(MIN_REBUILD_THRESHOLD, liveCount / 4)
+          || unsorted > Math.max(MIN_REBUILD_THRESHOLD, liveCount / 10);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 현재 유효한 직원 전체 (재생성용)
+   */
+  public List<EmployeeDto> liveRows() {
+    lock.readLock().lock();
+    try {
+      List<EmployeeDto> rows = new ArrayList<>(liveCount);
+      for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+        rows.add(toDto(doc));
+      }
+      return rows;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    return liveCount;
+  }
+
+  // ---- 조회 ----
+
+  /**
+   * trigram 역색인으로 후보 문서 좁히기
+   * @return 후보 목록, 텍스트 검색어가 없어 좁힐 수 없으면 null
+   */
+  private IntList candidates(EmployeeSearchCriteria criteria) {
+    IntList result = null;
+    // 초성 검색은 역색인으로 좁힐 수 없음 (matches 에서 이름 앞부분 비교)
+    if (criteria.nameOrEmail() != null && !criteria.initialSearch()) {
+      IntList byName = nameIndex.candidates(criteria.nameOrEmail());
+      IntList byEmail = emailIndex.candidates(criteria.nameOrEmail());
+      if (byName != null && byEmail != null) {
+        result = IntList.union(byName, byEmail);
+      }
+    }
+    result = narrow(result, employeeNumberIndex.candidates(criteria.employeeNumber()));
+    result = narrow(result, departmentNameIndex.candidates(criteria.departmentName()));
+    result = narrow(result, positionIndex.candidates(criteria.position()));
+    return result;
+  }
+
+  private static IntList narrow(IntList current, IntList other) {
+    if (other == null) {
+      return current;
+    }
+    return current == null ? other : IntList.intersect(current, other);
+  }
+
+  // 후보가 있는 경우: 조건/커서 확인 후 상위 limit 건만 유지
+  private IntList topK(IntList candidates, EmployeeSearchCriteria criteria, SortKey key,
+      boolean ascending, Position position, int limit) {
+    Comparator<Integer> order = comparator(key, ascending);
+    PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order.reversed());
+    for (int i = 0; i < candidates.size(); i++) {
+      int doc = candidates.get(i);
+      if (matches(doc, criteria) && isAfter(doc, key, ascending, position)) {
+        heap.offer(doc);
+        if (heap.size() > limit) {
+          heap.poll();
+        }
+      }
+    }
+    int[] docs = heap.stream().sorted(order).mapToInt(Integer::intValue).toArray();
+    IntList page = new IntList(docs.length);
+    for (int doc : docs) {
+      page.add(doc);
+    }
+    return page;
+  }
+
+  // 후보가 없는 경우: 정렬 스냅샷을 커서 위치부터 순회 (+ 스냅샷 이후 추가 문서 병합)
+  private IntList scan(EmployeeSearchCriteria criteria, SortKey key, boolean ascending,
+      Position position, int limit) {
+    Comparator<Integer> order = comparator(key, ascending);
+    int[] delta = IntStream.range(snapshotLimit, docCount)
+        .filter(doc -> matches(doc, criteria) && isAfter(doc, key, ascending, position))
+        .boxed()
+        .sorted(order)
+        .mapToInt(Integer::intValue)
+        .toArray();
+
+    int[] snapshot = sortedSnapshots[key.ordinal()];
+    int pos = firstAfter(snapshot, key, ascending, position);
+    int deltaPos = 0;
+    IntList page = new IntList(limit);
+    while (page.size() < limit) {
+      while (pos < snapshot.length && !matches(at(snapshot, pos, ascending), criteria)) {
+        pos++;
+      }
+      int snapshotDoc = pos < snapshot.length ? at(snapshot, pos, ascending) : -1;
+      int deltaDoc = deltaPos < delta.length ? delta[deltaPos] : -1;
+      if (snapshotDoc < 0 && deltaDoc < 0) {
+        break;
+      }
+      if (deltaDoc < 0 || (snapshotDoc >= 0 && order.compare(snapshotDoc, deltaDoc) < 0)) {
+        page.add(snapshotDoc);
+        pos++;
+      } else {
+        page.add(deltaDoc);
+        deltaPos++;
+      }
+    }
+    return page;
+  }
+
+  // 정렬 방향 기준 pos 번째 문서
+  private static int at(int[] snapshot, int pos, boolean ascending) {
+    return ascending ? snapshot[pos] : snapshot[snapshot.length - 1 - pos];
+  }
+
+  // 커서 다음 첫 위치 (이진 탐색)
+  private int firstAfter(int[] snapshot, SortKey key, boolean ascending, Position position) {
+    if (position == null) {
+      return 0;
+    }
+    int low = 0;
+    int high = snapshot.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (isAfter(at(snapshot, mid, ascending), key, ascending, position)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private boolean matches(int doc, EmployeeSearchCriteria criteria) {
+    if (!live.get(doc)) {
+      return false;
+    }
+    if (criteria.initialSearch()) {
+      if (!HangulInitials.matchesPrefix(names[doc], criteria.nameOrEmail())) {
+        return false;
+      }
+    } else if (criteria.nameOrEmail() != null
+        && !contains(names[doc], criteria.nameOrEmail())
+        && !contains(emails[doc], criteria.nameOrEmail())) {
+      return false;
+    }
+    if (criteria.employeeNumber() != null
+        && !contains(employeeNumbers[doc], criteria.employeeNumber())) {
+      return false;
+    }
+    if (criteria.departmentName() != null
+        && !contains(departmentNames[doc], criteria.departmentName())) {
+      return false;
+    }
+    if (criteria.position() != null && !contains(positions[doc], criteria.position())) {
+      return false;
+    }
+    if (criteria.hireDateFrom() != null && hireDays[doc] < criteria.hireDateFrom().toEpochDay()) {
+      return false;
+    }
+    if (criteria.hireDateTo() != null && hireDays[doc] > criteria.hireDateTo().toEpochDay()) {
+      return false;
+    }
+    return criteria.status() == null || statuses[doc] == criteria.status().ordinal();
+  }
+
+  private static boolean contains(String value, String term) {
+    return value != null && value.contains(term);
+  }
+
+  private boolean isAfter(int doc, SortKey key, boolean ascending, Position position) {
+    if (position == null) {
+      return true;
+    }
+    int c = switch (key) {
+      case NAME -> compareNullable(names[doc], position.text());
+      case EMPLOYEE_NUMBER -> compareNullable(employeeNumbers[doc], position.text());
+      case HIRE_DATE -> Integer.compare(hireDays[doc], position.day());
+    };
+    if (c == 0) {
+      c = Long.compare(ids[doc], position.id());
+    }
+    return ascending ? c > 0 : c < 0;
+  }
+
+  private Comparator<Integer> comparator(SortKey key, boolean ascending) {
+    Comparator<Integer> order = (a, b) -> compare(key, a, b);
+    return ascending ? order : order.reversed();
+  }
+
+  private int compare(SortKey key, int a, int b) {
+    int c = switch (key) {
+      case NAME -> compareNullable(names[a], names[b]);
+      case EMPLOYEE_NUMBER -> compareNullable(employeeNumbers[a], employeeNumbers[b]);
+      case HIRE_DATE -> Integer.compare(hireDays[a], hireDays[b]);
+    };
+    return c != 0 ? c : Long.compare(ids[a], ids[b]);
+  }
+
+  private static int compareNullable(String a, String b) {
+    if (a == null || b == null) {
+      return a == null ? (b == null ? 0 : -1) : 1;
+    }
+    return a.compareTo(b);
+  }
+
+  private EmployeeDto toDto(int doc) {
+    return new EmployeeDto(
+        ids[doc],
+        names[doc],
+        emails[doc],
+        employeeNumbers[doc],
+        departmentIds[doc] == 0 ? null : departmentIds[doc],
+        departmentNames[doc],
+        positions[doc],
+        LocalDate.ofEpochDay(hireDays[doc]),
+        STATUSES[statuses[doc]],
+        profileImageIds[doc] == 0 ? null : profileImageIds[doc]
+    );
+  }
+
+  // ---- 변경 ----
+
+  private void append(EmployeeDto employee) {
+    int doc = docCount++;
+    ids[doc] = employee.id();
+    names[doc] = employee.name();
+    emails[doc] = employee.email();
+    employeeNumbers[doc] = employee.employeeNumber();
+    positions[doc] = employee.position();
+    departmentNames[doc] = employee.departmentName();
+    departmentIds[doc] = employee.departmentId() == null ? 0 : employee.departmentId();
+    profileImageIds[doc] = employee.profileImageId() == null ? 0 : employee.profileImageId();
+    hireDays[doc] = (int) employee.hireDate().toEpochDay();
+    statuses[doc] = (byte) employee.status().ordinal();
+
+    nameIndex.add(doc, employee.name());
+    emailIndex.add(doc, employee.email());
+    employeeNumberIndex.add(doc, employee.employeeNumber());
+    positionIndex.add(doc, employee.position());
+    departmentNameIndex.add(doc, employee.departmentName());
+
+    live.set(doc);
+    liveCount++;
+    docOf.put(employee.id(), doc);
+  }
+
+  // posting 에서는 지우지 않고 live 비트만 해제 (조회 시 건너뜀)
+  private void tombstone(long employeeId) {
+    Integer doc = docOf.remove(employeeId);
+    if (doc != null) {
+      live.clear(doc);
+      liveCount--;
+    }
+  }
+
+  private void allocate(int capacity) {
+    int current = ids == null ? 0 : ids.length;
+    if (capacity <= current) {
+      return;
+    }
+    ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+    names = names == null ? new String[capacity] : Arrays.copyOf(names, capacity);
+    emails = emails == null ? new String[capacity] : Arrays.copyOf(emails, capacity);
+    employeeNumbers = employeeNumbers == null
+        ? new String[capacity] : Arrays.copyOf(employeeNumbers, capacity);
+    positions = positions == null ? new String[capacity] : Arrays.copyOf(positions, capacity);
+    departmentNames = departmentNames == null
+        ? new String[capacity] : Arrays.copyOf(departmentNames, capacity);
+    departmentIds = departmentIds == null
+        ? new long[capacity] : Arrays.copyOf(departmentIds, capacity);
+    profileImageIds = profileImageIds == null
+        ? new long[capacity] : Arrays.copyOf(profileImageIds, capacity);
+    hireDays = hireDays == null ? new int[capacity] : Arrays.copyOf(hireDays, capacity);
+    statuses = statuses == null ? new byte[capacity] : Arrays.copyOf(statuses, capacity);
+  }
+
+  private enum SortKey {
+    NAME, EMPLOYEE_NUMBER, HIRE_DATE;
+
+    static SortKey from(String sortField) {
+      return switch (sortField) {
+        case "employeeNumber" -> EMPLOYEE_NUMBER;
+        case "hireDate" -> HIRE_DATE;
+        default -> NAME;
+      };
+    }
+  }
+
+  // 커서 위치 (정렬 키를 한 번만 변환)
+  private record Position(String text, int day, long id) {
+
+    static Position of(SortKey key, KeysetCursor cursor) {
+      if (key == SortKey.HIRE_DATE) {
+        return new Position(null, (int) cursor.value(LocalDate.class).toEpochDay(), cursor.id());
+      }
+      return new Position(cursor.value(String.class), 0, cursor.id());
+    }
+  }
+
+  /**
+   * 필드 하나의 trigram + 글자 단위 역색인
+   * - 검색어의 모든 trigram (2글자 이하면 모든 글자) posting 교집합 = 후보
+   *   (실제 포함 여부는 matches() 에서 확인)
+   */
+  private static final class FieldIndex {
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    void add(int doc, String value) {
+      if (value == null) {
+        return;
+      }
+      for (int i = 0; i + NGRAM <= value.length(); i++) {
+        post(gram(value, i), doc);
+      }
+      for (int i = 0; i < value.length(); i++) {
+        post(unigram(value.charAt(i)), doc);
+      }
+    }
+
+    // 같은 값 안에서 반복되는 키는 한 번만
+    private void post(long key, int doc) {
+      IntList posting = postings.computeIfAbsent(key, k -> new IntList());
+      if (posting.size() == 0 || posting.last() != doc) {
+        posting.add(doc);
+      }
+    }
+
+    /**
+     * @return 후보 목록, 검색어가 없거나 빈 문자열이면 null
+     */
+    IntList candidates(String term) {
+      if (term == null || term.isEmpty()) {
+        return null;
+      }
+      List<IntList> lists = new ArrayList<>();
+      if (term.length() >= NGRAM) {
+        for (int i = 0; i + NGRAM <= term.length(); i++) {
+          IntList posting = postings.get(gram(term, i));
+          if (posting == null) {
+            return new IntList();
+          }
+          lists.add(posting);
+        }
+      } else {
+        for (int i = 0; i < term.length(); i++) {
+          IntList posting = postings.get(unigram(term.charAt(i)));
+          if (posting == null) {
+            return new IntList();
+          }
+          lists.add(posting);
+        }
+      }
+      // 짧은 posting 부터 교집합
+      lists.sort(Comparator.comparingInt(IntList::size));
+      IntList result = lists.get(0);
+      for (int i = 1; i < lists.size() && result.size() > 0; i++) {
+        result = IntList.intersect(result, lists.get(i));
+      }
+      return result;
+    }
+
+    private static long gram(String value, int offset) {
+      return ((long) value.charAt(offset) << 32)
+          | ((long) value.charAt(offset + 1) << 16)
+          | value.charAt(offset + 2);
+    }
+
+    // trigram 키(48비트 이내)와 겹치지 않도록 49번째 비트 표시
+    private static long unigram(char c) {
+      return (1L << 48) | c;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.domain.department.service.DepartmentChangedEvent;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.employee.service.EmployeeIndexLoader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * 직원 목록 인메모리 검색 (employee.search-index.enabled=true 인 경우만 등록)
+ * - 시작 시 전체 직원을 읽어 EmployeeSearchIndex 구축, 구축 전에는 DB 조회 사용
+ * - 직원/부서 변경 이벤트를 커밋 후 받아 해당 직원만 DB 에서 다시 읽어 반영
+ * - 삭제 표시가 많이 쌓이면 현재 인덱스 내용으로 새 인덱스를 백그라운드에서 만들어 교체
+ *   (커밋 후 리스너는 재생성을 기다리지 않고, 조회와 변경 반영은 계속 기존 인덱스 사용)
+ * - 재생성 중 반영한 변경은 기록해 두었다가 새 인덱스에도 같은 순서로 반영
+ *   (lock 밖에서 따라잡은 뒤 남은 몇 건만 writeMonitor 안에서 반영하고 교체)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "employee.search-index.enabled", havingValue = "true")
+public class EmployeeSearchService extends EmployeeIndexLoader<EmployeeDto, EmployeeSearchIndex> {
+
+  private static final String SELECT_EMPLOYEES_SQL = """
+      SELECT e.id, e.name, e.email, e.employee_number, e.department_id,
+             d.name AS department_name, e.position, e.hire_date, e.status, e.profile_image_id
+      FROM employees e
+      LEFT JOIN departments d ON d.id = e.department_id
+      """;
+
+  private static final RowMapper<EmployeeDto> ROW_MAPPER = (rs, rowNum) -> new EmployeeDto(
+      rs.getLong("id"),
+      rs.getString("name"),
+      rs.getString("email"),
+      rs.getString("employee_number"),
+      rs.getObject("department_id", Long.class),
+      rs.getString("department_name"),
+      rs.getString("position"),
+      rs.getObject("hire_date", LocalDate.class),
+      EmployeeStatus.valueOf(rs.getString("status")),
+      rs.getObject("profile_image_id", Long.class)
+  );
+
+  // 교체 시 writeMonitor 안에서 반영할 최대 변경 수 (넘으면 lock 밖에서 먼저 따라잡음)
+  private static final int CATCH_UP_THRESHOLD = 256;
+  // 변경이 계속 빠르게 들어와도 이 횟수 안에 교체
+  private static final int MAX_CATCH_UP_ROUNDS = 8;
+
+  private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "employee-search-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+  // 재생성 중 기존 인덱스에 반영한 변경 (writeMonitor, 재생성 중이 아니면 null)
+  private List<Consumer<EmployeeSearchIndex>> changesDuringRebuild;
+
+  public EmployeeSearchService(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${employee.search-index.fetch-size:10000}") int fetchSize) {
+    super(jdbcTemplate, transactionTemplate, "직원 검색 인덱스", SELECT_EMPLOYEES_SQL, "e.id",
+        ROW_MAPPER, fetchSize);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    rebuildExecutor.shutdownNow();
+  }
+
+  public boolean isReady() {
+    return current() != null;
+  }
+
+  public List<EmployeeDto> search(EmployeeSearchCriteria criteria, KeysetCursor cursor,
+      int limit, String sortField, boolean ascending) {
+    return current().search(criteria, cursor, limit, sortField, ascending);
+  }
+
+  public long count(EmployeeSearchCriteria criteria) {
+    return current().count(criteria);
+  }
+
+  // 부서명이 바뀌면 소속 직원 문서의 부서명도 갱신
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDepartmentChanged(DepartmentChangedEvent event) {
+    synchronized (writeMonitor) {
+      upsertAll(jdbcTemplate.query(
+          SELECT_EMPLOYEES_SQL + " WHERE e.department_id = ?", ROW_MAPPER, event.departmentId()));
+    }
+  }
+
+  @Override
+  protected EmployeeSearchIndex build(List<EmployeeDto> rows) {
+    return new EmployeeSearchIndex(rows);
+  }
+
+  @Override
+  protected long idOf(EmployeeDto row) {
+    return row.id();
+  }
+
+  @Override
+  protected void upsert(EmployeeSearchIndex index, EmployeeDto row) {
+    index.upsert(row);
+    if (changesDuringRebuild != null) {
+      changesDuringRebuild.add(rebuilt -> rebuilt.upsert(row));
+    }
+  }
+
+  @Override
+  protected void remove(EmployeeSearchIndex index, long employeeId) {
+    index.remove(employeeId);
+    if (changesDuringRebuild != null) {
+      changesDuringRebuild.add(rebuilt -> rebuilt.remove(employeeId));
+    }
+  }
+
+  @Override
+  protected int sizeOf(EmployeeSearchIndex index) {
+    return index.size();
+  }
+
+  @Override
+  protected void afterApply(EmployeeSearchIndex index) {
+    if (changesDuringRebuild != null || !index.needsRebuild()) {
+      return;
+    }
+    // 지금부터 반영하는 변경은 기록 (liveRows 에 이미 들어간 변경을 다시 반영해도 결과는 같음)
+    changesDuringRebuild = new ArrayList<>();
+    try {
+      rebuildExecutor.execute(() -> rebuild(index));
+    } catch (RejectedExecutionException e) {
+      changesDuringRebuild = null;
+    }
+  }
+
+  // 백그라운드 스레드에서 실행 (인덱스 복사는 인덱스 read lock, 생성은 lock 없이)
+  private void rebuild(EmployeeSearchIndex index) {
+    long startedAt = System.currentTimeMillis();
+    EmployeeSearchIndex rebuilt;
+    try {
+      rebuilt = new EmployeeSearchIndex(index.liveRows());
+    } catch (RuntimeException e) {
+      log.error("직원 검색 인덱스 재생성 실패: {}", e.getMessage(), e);
+      synchronized (writeMonitor) {
+        changesDuringRebuild = null;
+      }
+      return;
+    }
+    // 재생성 중 변경을 lock 밖에서 따라잡고, 남은 변경이 적을 때만 writeMonitor 안에서 반영 후 교체
+    int replayed = 0;
+    for (int round = 1; ; round++) {
+      List<Consumer<EmployeeSearchIndex>> changes;
+      synchronized (writeMonitor) {
+        changes = changesDuringRebuild;
+        if (current() != index) {
+          changesDuringRebuild = null;
+          return;
+        }
+        if (changes.size() <= CATCH_UP_THRESHOLD || round >= MAX_CATCH_UP_ROUNDS) {
+          changes.forEach(change -> change.accept(rebuilt));
+          changesDuringRebuild = null;
+          replace(rebuilt);
+          replayed += changes.size();
+          break;
+        }
+        changesDuringRebuild = new ArrayList<>();
+      }
+      changes.forEach(change -> change.accept(rebuilt));
+      replayed += changes.size();
+    }
+    log.info("직원 검색 인덱스 재생성 완료 - 직원 수: {}, 재생성 중 변경: {}, 소요: {}ms",
+        rebuilt.size(), replayed, System.currentTimeMillis() - startedAt);
+  }
+}
@@ -0,0 +1,85 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import java.util.Arrays;
+
+/**
+ * int 가변 배열 (posting list 용, 박싱 없음)
+ * - 문서 번호는 증가하는 순서로만 추가되므로 항상 오름차순 정렬 상태
+ */
+final class IntList {
+
+  private static final int[] EMPTY = new int[0];
+
+  private int[] values;
+  private int size;
+
+  IntList() {
+    this.values = EMPTY;
+  }
+
+  IntList(int capacity) {
+    this.values = capacity == 0 ? EMPTY : new int[capacity];
+  }
+
+  void add(int value) {
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+    }
+    values[size++] = value;
+  }
+
+  int get(int index) {
+    return values[index];
+  }
+
+  int size() {
+    return size;
+  }
+
+  int last() {
+    return values[size - 1];
+  }
+
+  /**
+   * 정렬된 두 목록의 교집합
+   */
+  static IntList intersect(IntList a, IntList b) {
+    IntList result = new IntList(Math.min(a.size, b.size));
+    int i = 0;
+    int j = 0;
+    while (i < a.size && j < b.size) {
+      int x = a.values[i];
+      int y = b.values[j];
+      if (x == y) {
+        result.add(x);
+        i++;
+        j++;
+      } else if (x < y) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 정렬된 두 목록의 합집합
+   */
+  static IntList union(IntList a, IntList b) {
+    IntList result = new IntList(a.size + b.size);
+    int i = 0;
+    int j = 0;
+    while (i < a.size || j < b.size) {
+      if (j == b.size || (i < a.size && a.values[i] < b.values[j])) {
+        result.add(a.values[i++]);
+      } else if (i == a.size || b.values[j] < a.values[i]) {
+        result.add(b.values[j++]);
+      } else {
+        result.add(a.values[i++]);
+        j++;
+      }
+    }
+    return result;
+  }
+}
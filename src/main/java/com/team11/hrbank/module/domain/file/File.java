@@ -29,4 +29,7 @@ public class File extends BaseEntity {  // BaseEntity 상속받기
     @NotNull
     @Column(name = "size", nullable = false)
     private Long size;  // 파일 크기 추가
+
+    @Column(name = "checksum", length = 64)
+    private String checksum;  // 파일 내용 SHA-256 (hex, 백업 파일)
 }
@@ -0,0 +1,91 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 물리 파일 삭제 큐
+ * - DB 트랜잭션 안에서는 삭제 대상만 등록하고, 실제 삭제는 커밋 후 백그라운드에서 처리
+ * - 삭제 실패 시 최대 재시도 횟수까지 다시 큐에 넣음
+ */
+@Slf4j
+@Component
+public class FileCleanupQueue {
+
+  private final int maxAttempts;
+  private final Queue<CleanupTask> queue = new ConcurrentLinkedQueue<>();
+
+  public FileCleanupQueue(@Value("${file.cleanup.max-attempts:5}") int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * 삭제 대상 등록 (현재 트랜잭션이 커밋된 경우에만 삭제)
+   * 트랜잭션 밖에서 호출하면 바로 등록
+   */
+  public void deleteAfterCommit(String filePath) {
+    if (filePath == null || filePath.isBlank()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      enqueue(filePath);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        enqueue(filePath);
+      }
+    });
+  }
+
+  public void enqueue(String filePath) {
+    if (filePath != null && !filePath.isBlank()) {
+      queue.add(new CleanupTask(filePath, 0));
+    }
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  /**
+   * 큐에 쌓인 파일 삭제
+   */
+  @Scheduled(fixedDelayString = "${file.cleanup.interval-ms:5000}")
+  public void drain() {
+    int count = queue.size();
+    for (int i = 0; i < count; i++) {
+      CleanupTask task = queue.poll();
+      if (task == null) {
+        return;
+      }
+      try {
+        if (Files.deleteIfExists(Paths.get(task.filePath()))) {
+          log.info("파일 삭제 성공: {}", task.filePath());
+        }
+      } catch (IOException e) {
+        int attempts = task.attempts() + 1;
+        if (attempts < maxAttempts) {
+          queue.add(new CleanupTask(task.filePath(), attempts));
+          log.warn("파일 삭제 실패 (재시도 {}/{}): {}", attempts, maxAttempts, task.filePath());
+        } else {
+          log.error("파일 삭제 최종 실패: {}", task.filePath(), e);
+        }
+      }
+    }
+  }
+
+  private record CleanupTask(String filePath, int attempts) {
+  }
+}
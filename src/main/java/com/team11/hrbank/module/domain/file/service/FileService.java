@@ -24,6 +24,7 @@ import java.util.UUID;
 public class FileService {
   private final FileStorageProperties fileStorageProperties;
   private final FileTransactionService fileTransactionService;
+  private final FileCleanupQueue fileCleanupQueue;
 
   /**
    * 파일 업로드 처리
@@ -32,59 +33,74 @@ public class FileService {
    * @throws IOException 파일 저장 중 발생한 예외
    */
   public File uploadFile(MultipartFile file) throws IOException {
-    // 파일 유효성 검증
-    validateFile(file);
-
-    // 실제 파일 저장
-    String filePath = saveActualFile(file);
+    StagedFile stagedFile = stageFile(file);
 
     try {
       // DB에 파일 메타데이터 저장 (트랜잭션)
-      return fileTransactionService.saveFileMetadata(
-          file.getOriginalFilename(),
-          FilenameUtils.getExtension(file.getOriginalFilename()),
-          filePath,
-          file.getSize()
-      );
+      return saveStagedFile(stagedFile);
     } catch (Exception e) {
       // DB 저장 실패 시 실제 파일 삭제
-      log.error("파일 메타데이터 저장 실패 - 파일시스템 실제 파일 삭제 시작, 경로: {}", filePath, e);
-      deleteActualFile(filePath);
+      log.error("파일 메타데이터 저장 실패 - 파일시스템 실제 파일 삭제 시작, 경로: {}", stagedFile.filePath(), e);
+      deleteActualFile(stagedFile.filePath());
       throw e;
     }
   }
 
   /**
-   * 파일 업데이트 처리
-   * 새 파일 업로드 후 이전 파일 삭제
+   * 1단계: 파일을 디스크에만 저장 (DB 트랜잭션 시작 전에 호출)
+   * @param file 업로드할 파일
+   * @return 디스크에 저장된 파일 정보
+   * @throws IOException 파일 저장 중 발생한 예외
    */
-  @Transactional
-  public File updateFile(File oldFile, MultipartFile newFileData) throws IOException {
-    if (newFileData == null || newFileData.isEmpty()) {
-      log.error("업로드할 새 파일이 null이거나 비어있습니다.");
-      throw new IllegalArgumentException("업로드할 새 파일이 비어있습니다.");
-    }
+  public StagedFile stageFile(MultipartFile file) throws IOException {
+    // 파일 유효성 검증
+    validateFile(file);
 
-    log.info("파일 업데이트 시작: oldFile={}, newFile={}",
-        (oldFile != null) ? oldFile.getId() + " - " + oldFile.getFileName() : "없음",
-        newFileData.getOriginalFilename());
+    // 실제 파일 저장
+    String filePath = saveActualFile(file);
+    return new StagedFile(
+        file.getOriginalFilename(),
+        FilenameUtils.getExtension(file.getOriginalFilename()),
+        filePath,
+        file.getSize()
+    );
+  }
 
-    // 1. 새 파일 업로드
-    File newFile = uploadFile(newFileData);
-    log.info("새 파일 업로드 성공: ID={}, 경로={}", newFile.getId(), newFile.getFilePath());
+  /**
+   * 2단계: 디스크에 저장된 파일의 메타데이터 저장 (호출한 트랜잭션에 참여)
+   * @param stagedFile 디스크에 저장된 파일 정보
+   * @return 저장된 파일 엔티티
+   */
+  public File saveStagedFile(StagedFile stagedFile) {
+    return fileTransactionService.saveFileMetadata(
+        stagedFile.originalName(),
+        stagedFile.format(),
+        stagedFile.filePath(),
+        stagedFile.size()
+    );
+  }
 
-    // 2. 이전 파일 삭제
-    if (oldFile != null) {
-      try {
-        deleteFile(oldFile);
-        log.info("이전 파일 삭제 성공: ID={}", oldFile.getId());
-      } catch (Exception e) {
-        log.warn("이전 파일 삭제 실패: id={}, exception={}", oldFile.getId(), e.getMessage());
-        // 이전 파일 삭제 실패 처리 - 일단은 무시
-      }
+  /**
+   * 트랜잭션 실패 시 디스크에 저장해둔 파일 정리
+   * @param stagedFile 디스크에 저장된 파일 정보 (null 이면 무시)
+   */
+  public void discardStagedFile(StagedFile stagedFile) {
+    if (stagedFile != null) {
+      log.info("저장 취소된 파일 정리 예약: {}", stagedFile.filePath());
+      fileCleanupQueue.enqueue(stagedFile.filePath());
     }
+  }
 
-    return newFile;
+  /**
+   * 파일 메타데이터는 현재 트랜잭션에서 삭제하고, 실제 파일은 커밋 후 정리 큐에서 삭제
+   * @param fileEntity 삭제할 파일 엔티티
+   */
+  public void deleteFileAfterCommit(File fileEntity) {
+    if (fileEntity == null) {
+      throw new IllegalArgumentException("삭제 시도한 파일 엔티티가 null 입니다");
+    }
+    fileTransactionService.deleteFileEntity(fileEntity);
+    fileCleanupQueue.deleteAfterCommit(fileEntity.getFilePath());
   }
 
   /**
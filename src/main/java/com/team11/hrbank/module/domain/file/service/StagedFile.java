@@ -0,0 +1,12 @@
+package com.team11.hrbank.module.domain.file.service;
+
+/**
+ * 디스크에 먼저 저장된 파일 (DB 메타데이터 저장 전)
+ */
+public record StagedFile(
+    String originalName,
+    String format,
+    String filePath,
+    long size
+) {
+}
@@ -0,0 +1,96 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 메타데이터 행이 없는 프로필 이미지 파일 정리 (애플리케이션 시작 시)
+ * - 파일은 트랜잭션 전에 디스크에 먼저 저장(stage)되므로, 커밋 전에 프로세스가 종료되면 파일만 남음
+ * - 다른 인스턴스가 업로드 중인 파일을 지우지 않도록 min-age 보다 오래된 파일만 정리 큐에 등록
+ */
+@Slf4j
+@Component
+public class StagedFileSweeper {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final String SELECT_KNOWN_PATHS_SQL =
+      "SELECT file_path FROM files WHERE file_path = ANY (?)";
+
+  private final FileStorageProperties fileStorageProperties;
+  private final JdbcTemplate jdbcTemplate;
+  private final FileCleanupQueue fileCleanupQueue;
+  private final long minAgeMs;
+
+  public StagedFileSweeper(FileStorageProperties fileStorageProperties,
+      JdbcTemplate jdbcTemplate,
+      FileCleanupQueue fileCleanupQueue,
+      @Value("${file.cleanup.orphan-min-age-ms:3600000}") long minAgeMs) {
+    this.fileStorageProperties = fileStorageProperties;
+    this.jdbcTemplate = jdbcTemplate;
+    this.fileCleanupQueue = fileCleanupQueue;
+    this.minAgeMs = minAgeMs;
+  }
+
+  /**
+   * 오래된 파일 중 files 테이블에 없는 파일을 삭제 예약
+   * @return 삭제 예약한 파일 수
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public int sweep() {
+    Path rootPath = Paths.get(fileStorageProperties.getProfileImages());
+    if (!Files.isDirectory(rootPath)) {
+      return 0;
+    }
+    long cutoff = System.currentTimeMillis() - minAgeMs;
+    List<String> candidates = new ArrayList<>();
+    try (Stream<Path> files = Files.list(rootPath)) {
+      files.filter(Files::isRegularFile)
+          .filter(path -> lastModified(path) < cutoff)
+          .forEach(path -> candidates.add(path.toString()));
+    } catch (IOException e) {
+      log.warn("고아 파일 검사 실패: {}", rootPath, e);
+      return 0;
+    }
+
+    int swept = 0;
+    for (int from = 0; from < candidates.size(); from += BATCH_SIZE) {
+      List<String> batch = candidates.subList(from, Math.min(from + BATCH_SIZE, candidates.size()));
+      Set<String> known = new HashSet<>(jdbcTemplate.queryForList(SELECT_KNOWN_PATHS_SQL,
+          String.class, (Object) batch.toArray(String[]::new)));
+      for (String filePath : batch) {
+        if (!known.contains(filePath)) {
+          fileCleanupQueue.enqueue(filePath);
+          swept++;
+        }
+      }
+    }
+    if (swept > 0) {
+      log.info("메타데이터 없는 파일 {}개 삭제 예약 (검사 {}개)", swept, candidates.size());
+    }
+    return swept;
+  }
+
+  // 읽을 수 없는 파일은 최신으로 보고 건너뜀
+  private static long lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+}
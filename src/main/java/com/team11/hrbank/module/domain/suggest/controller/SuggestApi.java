@@ -0,0 +1,34 @@
+package com.team11.hrbank.module.domain.suggest.controller;
+
+import com.team11.hrbank.module.domain.suggest.dto.SuggestionDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@RequestMapping("/api/suggest")
+@Tag(name = "자동완성", description = "자동완성 API")
+public interface SuggestApi {
+
+  @Operation(
+      summary = "자동완성 후보 조회",
+      description = "입력값으로 시작하는 값을 많이 쓰인 순서로 조회합니다. (대소문자 무시)",
+      responses = {
+          @ApiResponse(responseCode = "200", description = "조회 성공"),
+          @ApiResponse(responseCode = "400", description = "지원하지 않는 필드 또는 잘못된 size"),
+          @ApiResponse(responseCode = "500", description = "서버 오류")
+      })
+  @GetMapping
+  ResponseEntity<List<SuggestionDto>> suggest(
+      @Parameter(description = "대상 필드 (name, email, position, departmentName)", required = true)
+      @RequestParam String field,
+      @Parameter(description = "입력값 (앞부분)") @RequestParam(defaultValue = "") String prefix,
+      @Parameter(description = "최대 개수 (suggest.top-k 이하)") @RequestParam(defaultValue = "10") int size
+  );
+}
@@ -0,0 +1,29 @@
+package com.team11.hrbank.module.domain.suggest.controller;
+
+import com.team11.hrbank.module.domain.suggest.dto.SuggestionDto;
+import com.team11.hrbank.module.domain.suggest.service.SuggestField;
+import com.team11.hrbank.module.domain.suggest.service.SuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+@RequiredArgsConstructor
+public class SuggestController implements SuggestApi {
+
+  private final SuggestService suggestService;
+
+  @GetMapping
+  public ResponseEntity<List<SuggestionDto>> suggest(
+      @RequestParam String field,
+      @RequestParam(defaultValue = "") String prefix,
+      @RequestParam(defaultValue = "10") int size) {
+    return ResponseEntity.ok(suggestService.suggest(SuggestField.from(field), prefix, size));
+  }
+}
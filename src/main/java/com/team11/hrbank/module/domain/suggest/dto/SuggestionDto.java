@@ -0,0 +1,7 @@
+package com.team11.hrbank.module.domain.suggest.dto;
+
+public record SuggestionDto(
+    String value,
+    long count
+) {
+}
@@ -0,0 +1,28 @@
+package com.team11.hrbank.module.domain.suggest.service;
+
+import java.util.Locale;
+
+/**
+ * 자동완성 대상 필드
+ * - NAME, EMAIL, POSITION: 직원 (count = 같은 값을 가진 직원 수)
+ * - DEPARTMENT_NAME     : 부서명 (부서명은 유일하므로 count = 1)
+ */
+public enum SuggestField {
+  NAME, EMAIL, POSITION, DEPARTMENT_NAME;
+
+  /**
+   * 요청 파라미터 변환 (name, email, position, departmentName)
+   */
+  public static SuggestField from(String value) {
+    if (value != null) {
+      String normalized = value.trim().replace("_", "").toUpperCase(Locale.ROOT);
+      for (SuggestField field : values()) {
+        if (field.name().replace("_", "").equals(normalized)) {
+          return field;
+        }
+      }
+    }
+    throw new IllegalArgumentException(
+        "field는 name, email, position, departmentName 중 하나여야 합니다: " + value);
+  }
+}
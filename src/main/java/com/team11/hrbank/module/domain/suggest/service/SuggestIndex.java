@@ -0,0 +1,71 @@
+package com.team11.hrbank.module.domain.suggest.service;
+
+import com.team11.hrbank.module.common.util.RadixTrie;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 필드별 자동완성 trie + 직원/부서별 현재 값
+ * - 값이 바뀌면 이전 값 count 감소, 새 값 count 증가
+ * - trie 조회는 thread-safe, 변경은 호출 측에서 직렬화 (SuggestIndexLoader 의 writeMonitor)
+ */
+public class SuggestIndex {
+
+  private final Map<SuggestField, RadixTrie> tries = new EnumMap<>(SuggestField.class);
+  private final Map<Long, SuggestRow> employees = new HashMap<>();
+  private final Map<Long, String> departments = new HashMap<>();
+
+  public SuggestIndex(int topK) {
+    for (SuggestField field : SuggestField.values()) {
+      tries.put(field, new RadixTrie(topK));
+    }
+  }
+
+  public RadixTrie trie(SuggestField field) {
+    return tries.get(field);
+  }
+
+  public void upsertEmployee(SuggestRow employee) {
+    apply(employees.put(employee.id(), employee), employee);
+  }
+
+  public void removeEmployee(long employeeId) {
+    apply(employees.remove(employeeId), null);
+  }
+
+  public void upsertDepartment(long departmentId, String name) {
+    replace(tries.get(SuggestField.DEPARTMENT_NAME), departments.put(departmentId, name), name);
+  }
+
+  public void removeDepartment(long departmentId) {
+    replace(tries.get(SuggestField.DEPARTMENT_NAME), departments.remove(departmentId), null);
+  }
+
+  public int employeeCount() {
+    return employees.size();
+  }
+
+  public int departmentCount() {
+    return departments.size();
+  }
+
+  private void apply(SuggestRow before, SuggestRow after) {
+    replace(tries.get(SuggestField.NAME),
+        before != null ? before.name() : null, after != null ? after.name() : null);
+    replace(tries.get(SuggestField.EMAIL),
+        before != null ? before.email() : null, after != null ? after.email() : null);
+    replace(tries.get(SuggestField.POSITION),
+        before != null ? before.position() : null, after != null ? after.position() : null);
+  }
+
+  private static void replace(RadixTrie trie, String before, String after) {
+    if (Objects.equals(before, after)) {
+      return;
+    }
+    trie.decrement(before);
+    trie.increment(after);
+  }
+}
@@ -0,0 +1,122 @@
+package com.team11.hrbank.module.domain.suggest.service;
+
+import com.team11.hrbank.module.domain.department.service.DepartmentChangedEvent;
+import com.team11.hrbank.module.domain.employee.service.EmployeeIndexLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 trie 적재/갱신 (suggest.enabled=false 면 등록하지 않음)
+ * - 직원은 EmployeeIndexLoader 로 적재/갱신, 부서는 구축 시 전체를 읽고 부서 변경 이벤트로 갱신
+ */
+@Component
+@ConditionalOnProperty(name = "suggest.enabled", havingValue = "true", matchIfMissing = true)
+public class SuggestIndexLoader extends EmployeeIndexLoader<SuggestRow, SuggestIndex> {
+
+  private static final String SELECT_EMPLOYEES_SQL =
+      "SELECT id, name, email, position FROM employees";
+  private static final String SELECT_DEPARTMENTS_SQL = "SELECT id, name FROM departments";
+
+  private static final RowMapper<SuggestRow> ROW_MAPPER = (rs, rowNum) -> new SuggestRow(
+      rs.getLong("id"),
+      rs.getString("name"),
+      rs.getString("email"),
+      rs.getString("position")
+  );
+
+  private final int topK;
+  // 구축 전에 들어온 부서 변경 (writeMonitor)
+  private final Set<Long> pendingDepartmentIds = new HashSet<>();
+
+  public SuggestIndexLoader(JdbcTemplate jdbcTemplate,
+      TransactionTemplate transactionTemplate,
+      @Value("${suggest.top-k:10}") int topK,
+      @Value("${suggest.fetch-size:10000}") int fetchSize) {
+    super(jdbcTemplate, transactionTemplate, "자동완성 trie", SELECT_EMPLOYEES_SQL, "id",
+        ROW_MAPPER, fetchSize);
+    this.topK = topK;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onDepartmentChanged(DepartmentChangedEvent event) {
+    synchronized (writeMonitor) {
+      SuggestIndex index = current();
+      if (index == null) {
+        pendingDepartmentIds.add(event.departmentId());
+        return;
+      }
+      applyDepartments(index, List.of(event.departmentId()));
+    }
+  }
+
+  @Override
+  protected SuggestIndex build(List<SuggestRow> rows) {
+    SuggestIndex index = new SuggestIndex(topK);
+    rows.forEach(index::upsertEmployee);
+    jdbcTemplate.query(SELECT_DEPARTMENTS_SQL, rs -> {
+      index.upsertDepartment(rs.getLong("id"), rs.getString("name"));
+    });
+    return index;
+  }
+
+  @Override
+  protected void onLoaded(SuggestIndex index) {
+    applyDepartments(index, new ArrayList<>(pendingDepartmentIds));
+    pendingDepartmentIds.clear();
+  }
+
+  @Override
+  protected long idOf(SuggestRow row) {
+    return row.id();
+  }
+
+  @Override
+  protected void upsert(SuggestIndex index, SuggestRow row) {
+    index.upsertEmployee(row);
+  }
+
+  @Override
+  protected void remove(SuggestIndex index, long employeeId) {
+    index.removeEmployee(employeeId);
+  }
+
+  @Override
+  protected int sizeOf(SuggestIndex index) {
+    return index.employeeCount();
+  }
+
+  // writeMonitor 보유 상태에서 호출 (조회되지 않은 부서는 삭제된 것)
+  private void applyDepartments(SuggestIndex index, Collection<Long> departmentIds) {
+    if (departmentIds.isEmpty()) {
+      return;
+    }
+    Map<Long, String> current = new HashMap<>();
+    jdbcTemplate.query(SELECT_DEPARTMENTS_SQL + " WHERE id = ANY (?)",
+        rs -> {
+          current.put(rs.getLong("id"), rs.getString("name"));
+        },
+        (Object) departmentIds.toArray(Long[]::new));
+
+    for (Long departmentId : departmentIds) {
+      String name = current.get(departmentId);
+      if (name != null) {
+        index.upsertDepartment(departmentId, name);
+      } else {
+        index.removeDepartment(departmentId);
+      }
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.team11.hrbank.module.domain.suggest.service;
+
+/**
+ * 자동완성 대상 직원 컬럼
+ */
+public record SuggestRow(
+    long id,
+    String name,
+    String email,
+    String position
+) {
+}
@@ -0,0 +1,36 @@
+package com.team11.hrbank.module.domain.suggest.service;
+
+import com.team11.hrbank.module.domain.suggest.dto.SuggestionDto;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 필드별 자동완성 (직원 이름/이메일/직함, 부서명)
+ * - SuggestIndexLoader 가 시작 시 구축한 필드별 RadixTrie 로 조회, DB 를 거치지 않음
+ * - 구축 전이거나 suggest.enabled=false 면 빈 목록 반환
+ */
+@Service
+public class SuggestService {
+
+  private final ObjectProvider<SuggestIndexLoader> indexLoader;
+
+  public SuggestService(ObjectProvider<SuggestIndexLoader> indexLoader) {
+    this.indexLoader = indexLoader;
+  }
+
+  public List<SuggestionDto> suggest(SuggestField field, String prefix, int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+    }
+    SuggestIndexLoader loader = indexLoader.getIfAvailable();
+    SuggestIndex current = loader != null ? loader.current() : null;
+    if (current == null) {
+      return List.of();
+    }
+    return current.trie(field).suggest(prefix, size).stream()
+        .map(entry -> new SuggestionDto(entry.term(), entry.count()))
+        .toList();
+  }
+}
@@ -75,4 +75,218 @@ ALTER TABLE change_logs
     DROP CONSTRAINT IF EXISTS change_logs_employee_id_fkey,
     ALTER COLUMN employee_id DROP NOT NULL,
     ADD CONSTRAINT change_logs_employee_id_fkey
-        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL;
\ No newline at end of file
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE SET NULL;
+
+-- 사원 번호 hi-lo 블록 시퀀스: nextval 이 블록 시작 번호, INCREMENT BY 가 블록 크기 (모든 노드가 DB 의 블록 크기 사용)
+CREATE SEQUENCE IF NOT EXISTS employee_number_block_seq START WITH 1000 INCREMENT BY 1000;
+
+-- keyset 페이지네이션 (정렬 키, id) 인덱스
+CREATE INDEX IF NOT EXISTS idx_employees_name_id ON employees (name, id);
+CREATE INDEX IF NOT EXISTS idx_employees_employee_number_id ON employees (employee_number, id);
+CREATE INDEX IF NOT EXISTS idx_employees_hire_date_id ON employees (hire_date, id);
+CREATE INDEX IF NOT EXISTS idx_change_logs_created_at_id ON change_logs (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_change_logs_ip_address_id ON change_logs (ip_address, id);
+CREATE INDEX IF NOT EXISTS idx_backup_histories_start_at_id ON backup_histories (start_at, id);
+CREATE INDEX IF NOT EXISTS idx_backup_histories_ended_at_id ON backup_histories (ended_at, id);
+
+-- 부서별 소속 직원 수 카운터 (직원 생성/삭제/부서 이동 시 같은 트랜잭션에서 증감)
+-- 초기값은 컬럼을 추가할 때 한 번만 채움 (이후 어긋난 값은 애플리케이션 시작 시/주기적 보정에서 처리)
+DO
+$$
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = current_schema()
+                     AND table_name = 'departments'
+                     AND column_name = 'employee_count') THEN
+        ALTER TABLE departments ADD COLUMN employee_count BIGINT NOT NULL DEFAULT 0;
+        UPDATE departments d
+        SET employee_count = (SELECT COUNT(*) FROM employees e WHERE e.department_id = d.id);
+    END IF;
+END
+$$;
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department_id);
+
+-- 부서명 중복 검사 키 (공백 제거 + 소문자)
+-- 공백은 Department.normalizeName 과 같은 Unicode White_Space 목록 (\s 는 DB 로캘마다 범위가 달라 쓰지 않음)
+ALTER TABLE departments ADD COLUMN IF NOT EXISTS normalized_name VARCHAR(100);
+UPDATE departments SET normalized_name = LOWER(REGEXP_REPLACE(name,
+    '[\t\n\v\f\r \u0085\u00a0\u1680\u2000-\u200a\u2028\u2029\u202f\u205f\u3000]+', '', 'g'))
+WHERE normalized_name IS NULL;
+ALTER TABLE departments ALTER COLUMN normalized_name SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_departments_normalized_name ON departments (normalized_name);
+
+-- 부서 keyset 페이지네이션 (정규화 이름 기준 정렬)
+CREATE INDEX IF NOT EXISTS idx_departments_normalized_name_id ON departments (normalized_name, id);
+CREATE INDEX IF NOT EXISTS idx_departments_established_date_normalized_name_id
+    ON departments (established_date, normalized_name, id);
+
+-- 부분 일치('%검색어%') 검색용 trigram GIN 인덱스
+-- 검색어가 3자 미만이면 trigram 을 만들 수 없어 인덱스를 쓰지 못하고 전체 조회가 된다
+-- CONCURRENTLY: 생성 중에도 쓰기를 막지 않음 (대신 트랜잭션 블록 밖에서 실행해야 하며,
+--   생성이 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS 로 건너뛰므로 DROP INDEX 후 다시 실행)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_name_trgm ON employees USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_email_trgm ON employees USING gin (email gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_employee_number_trgm ON employees USING gin (employee_number gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_employees_position_trgm ON employees USING gin (position gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_name_trgm ON departments USING gin (name gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_lower_name_trgm ON departments USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_departments_lower_description_trgm ON departments USING gin (LOWER(description) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_change_logs_employee_number_trgm ON change_logs USING gin (employee_number gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_change_logs_memo_trgm ON change_logs USING gin (memo gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_change_logs_ip_address_trgm ON change_logs USING gin (HOST(ip_address) gin_trgm_ops);
+
+-- 이름 초성 검색 키 ("김태희" -> "ㄱㅌㅎ", HangulInitials 와 같은 규칙)
+CREATE OR REPLACE FUNCTION hangul_initials(value TEXT) RETURNS TEXT
+    LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE AS
+$$
+SELECT COALESCE(string_agg(
+                    CASE
+                        WHEN ascii(ch) BETWEEN 44032 AND 55203
+                            THEN substr('ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ', (ascii(ch) - 44032) / 588 + 1, 1)
+                        ELSE ch
+                        END, '' ORDER BY ord), '')
+FROM unnest(string_to_array(value, NULL)) WITH ORDINALITY AS t(ch, ord)
+$$;
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS name_initials TEXT
+    GENERATED ALWAYS AS (hangul_initials(name)) STORED;
+CREATE INDEX IF NOT EXISTS idx_employees_name_initials ON employees (name_initials text_pattern_ops);
+
+-- 변경 이력 기반 인원 집계 (HeadcountRollupService)
+-- 일별 (부서, 상태) 인원 증감, 부서 없음은 department_id = 0
+CREATE TABLE IF NOT EXISTS headcount_daily_deltas (
+    day           DATE        NOT NULL,
+    department_id BIGINT      NOT NULL,
+    status        VARCHAR(20) NOT NULL,
+    delta         BIGINT      NOT NULL,
+    PRIMARY KEY (day, department_id, status)
+);
+-- 직원 번호별 마지막으로 반영된 (부서, 상태), seeded_through 이하 이력은 시드에 이미 포함
+CREATE TABLE IF NOT EXISTS headcount_employee_states (
+    employee_number VARCHAR(25) PRIMARY KEY,
+    department_id   BIGINT,
+    status          VARCHAR(20) NOT NULL,
+    seeded_through  BIGINT      NOT NULL DEFAULT 0
+);
+-- 반영한 마지막 change_logs.id (단일 행)
+CREATE TABLE IF NOT EXISTS headcount_rollup_progress (
+    id                 INT PRIMARY KEY CHECK (id = 1),
+    last_change_log_id BIGINT NOT NULL
+);
+-- version 은 배치가 무언가 반영할 때마다 증가 (늦게 반영한 이력도 다른 인스턴스가 시계열을 다시 적재하도록)
+ALTER TABLE headcount_rollup_progress ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+-- 공백이 gap-timeout 을 넘겨 건너뛴 change_logs.id (늦게 커밋되면 다음 배치에서 반영, 보존 기간이 지나면 롤백으로 보고 삭제)
+CREATE TABLE IF NOT EXISTS headcount_skipped_ids (
+    change_log_id BIGINT PRIMARY KEY,
+    skipped_at    TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+-- 남은 건너뛴 ID 보다 뒤에 반영한 이력의 직원 상태 변화 (그 ID 가 늦게 커밋되면 되돌린 뒤 ID 순서로 다시 반영)
+CREATE TABLE IF NOT EXISTS headcount_transitions (
+    change_log_id        BIGINT PRIMARY KEY,
+    employee_number      VARCHAR(25) NOT NULL,
+    day                  DATE        NOT NULL,
+    before_department_id BIGINT,
+    before_status        VARCHAR(20),
+    after_department_id  BIGINT,
+    after_status         VARCHAR(20),
+    seeded_through       BIGINT      NOT NULL DEFAULT 0
+);
+CREATE INDEX IF NOT EXISTS idx_headcount_transitions_employee_number_id ON headcount_transitions (employee_number, change_log_id);
+CREATE INDEX IF NOT EXISTS idx_change_logs_employee_number_id ON change_logs (employee_number, id);
+
+-- 과거 시점 직원 조회용 스냅샷 (생성 시 + 정보 변경 interval 번마다, 삭제 후에도 유지하므로 FK 없음)
+CREATE TABLE IF NOT EXISTS employee_snapshots (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employee_id     BIGINT      NOT NULL,
+    employee_number VARCHAR(25) NOT NULL,
+    captured_at     TIMESTAMPTZ NOT NULL,
+    state           JSONB       NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_employee_snapshots_employee_number_captured_at
+    ON employee_snapshots (employee_number, captured_at);
+CREATE INDEX IF NOT EXISTS idx_employee_snapshots_employee_id ON employee_snapshots (employee_id);
+-- 마지막 스냅샷 이후 정보 변경 횟수
+CREATE TABLE IF NOT EXISTS employee_snapshot_counters (
+    employee_number VARCHAR(25) PRIMARY KEY,
+    changes         INT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_change_logs_employee_number_created_at
+    ON change_logs (employee_number, created_at);
+-- 스냅샷 기능 이전부터 있던 직원의 기준 스냅샷 (EmployeeState JSON 형식, 이후 삭제돼도 과거 시점 조회 가능)
+INSERT INTO employee_snapshots (employee_id, employee_number, captured_at, state)
+SELECT e.id, e.employee_number, NOW(),
+       jsonb_build_object('name', e.name, 'email', e.email,
+                          'departmentId', e.department_id, 'departmentName', d.name,
+                          'position', e.position, 'hireDate', e.hire_date, 'status', e.status)
+FROM employees e
+LEFT JOIN departments d ON d.id = e.department_id
+WHERE NOT EXISTS (SELECT 1 FROM employee_snapshots s WHERE s.employee_number = e.employee_number);
+
+-- 증분 백업 체인 (전체 백업 1개 + 이전 백업 watermark 이후 변경분만 기록한 증분 백업 N개)
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS backup_type VARCHAR(20) NOT NULL DEFAULT 'FULL'
+    CHECK (backup_type IN ('FULL', 'INCREMENTAL'));
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS base_backup_id BIGINT REFERENCES backup_histories (id);
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS previous_backup_id BIGINT REFERENCES backup_histories (id);
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS chain_sequence INT NOT NULL DEFAULT 0;
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS watermark TIMESTAMPTZ;
+-- 증분 백업 변경 직원 조회 (수정 시각, 없으면 생성 시각)
+CREATE INDEX IF NOT EXISTS idx_employees_modified_at ON employees ((COALESCE(updated_at, created_at)));
+-- 부서 삭제 표시 (부서는 변경 이력이 없어 삭제 시 트리거로 기록, 증분 백업의 삭제 섹션에 사용)
+CREATE TABLE IF NOT EXISTS department_deletions (
+    department_id BIGINT PRIMARY KEY,
+    deleted_at    TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_department_deletions_deleted_at ON department_deletions (deleted_at);
+CREATE OR REPLACE FUNCTION record_department_deletion() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO department_deletions (department_id, deleted_at) VALUES (OLD.id, NOW())
+    ON CONFLICT (department_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END
+$$;
+DROP TRIGGER IF EXISTS trg_departments_record_deletion ON departments;
+CREATE TRIGGER trg_departments_record_deletion
+    AFTER DELETE ON departments
+    FOR EACH ROW EXECUTE FUNCTION record_department_deletion();
+-- 직원 삭제 표시 (삭제 이력은 employee_id 가 NULL 로 바뀌어 ID 를 알 수 없으므로 트리거로 기록, 증분 백업의 삭제 섹션에 사용)
+CREATE TABLE IF NOT EXISTS employee_deletions (
+    employee_id BIGINT PRIMARY KEY,
+    deleted_at  TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_employee_deletions_deleted_at ON employee_deletions (deleted_at);
+CREATE OR REPLACE FUNCTION record_employee_deletion() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO employee_deletions (employee_id, deleted_at) VALUES (OLD.id, NOW())
+    ON CONFLICT (employee_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END
+$$;
+DROP TRIGGER IF EXISTS trg_employees_record_deletion ON employees;
+CREATE TRIGGER trg_employees_record_deletion
+    AFTER DELETE ON employees
+    FOR EACH ROW EXECUTE FUNCTION record_employee_deletion();
+-- 트리거 이전 삭제분: 스냅샷에 남은 ID 를 사원 번호로 찾아 삭제 이력 시각으로 기록 (스냅샷이 없는 직원은 알 수 없음)
+INSERT INTO employee_deletions (employee_id, deleted_at)
+SELECT DISTINCT ON (s.employee_id) s.employee_id, cl.created_at
+FROM change_logs cl
+JOIN employee_snapshots s ON s.employee_number = cl.employee_number
+WHERE cl.type = 'DELETED'
+  AND NOT EXISTS (SELECT 1 FROM employees e WHERE e.id = s.employee_id)
+ORDER BY s.employee_id, cl.created_at DESC
+ON CONFLICT (employee_id) DO NOTHING;
+
+-- 변경 이력 write-behind 커밋 표시 (ChangeLogWriteBehindService)
+-- 요청 트랜잭션 안에서 저널 seq 를 기록하고 DB 반영 시 삭제 (저널 COMMIT fsync 전 종료 시 커밋 여부 확인용)
+CREATE TABLE IF NOT EXISTS change_log_journal_commits (
+    seq BIGINT PRIMARY KEY
+);
+
+-- 백업 파일 압축/무결성 (저장된 파일 내용의 SHA-256, 압축 전 크기와 쓰기 시간으로 압축률/처리량 계산)
+ALTER TABLE files ADD COLUMN IF NOT EXISTS checksum VARCHAR(64);
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS original_size BIGINT;
+ALTER TABLE backup_histories ADD COLUMN IF NOT EXISTS write_duration_ms BIGINT;
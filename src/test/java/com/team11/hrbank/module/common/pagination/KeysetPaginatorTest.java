@@ -0,0 +1,82 @@
+package com.team11.hrbank.module.common.pagination;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetPaginatorTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  private record Row(long id, String name, LocalDate hireDate) {
+  }
+
+  private final Map<Long, Row> rows = Map.of(
+      7L, new Row(7L, "김철수", LocalDate.of(2024, 3, 1)));
+
+  @Test
+  void constructor_missingSecretOutsideDevProfiles_fails() {
+    StandardEnvironment prod = new StandardEnvironment();
+    prod.setActiveProfiles("prod");
+
+    assertThrows(IllegalStateException.class, () -> new KeysetPaginator(objectMapper, "", prod));
+  }
+
+  @Test
+  void constructor_missingSecretInDevProfile_usesEphemeralKey() {
+    StandardEnvironment dev = new StandardEnvironment();
+    dev.setActiveProfiles("dev");
+    KeysetPaginator paginator = new KeysetPaginator(objectMapper, " ", dev);
+
+    String cursor = paginator.encode("name", true, "김철수", 7L);
+    KeysetCursor decoded = decode(paginator, cursor, null, "name");
+    assertEquals("김철수", decoded.value());
+    assertEquals(7L, decoded.id());
+  }
+
+  @Test
+  void decode_idAfterWithoutCursor_looksUpRowPosition() {
+    KeysetPaginator paginator = paginator();
+
+    KeysetCursor byName = decode(paginator, null, 7L, "name");
+    assertEquals("김철수", byName.value());
+    assertEquals(7L, byName.id());
+
+    KeysetCursor byHireDate = decode(paginator, null, 7L, "hireDate");
+    assertEquals(LocalDate.of(2024, 3, 1), byHireDate.value(LocalDate.class));
+
+    assertNull(decode(paginator, null, null, "name"));
+    assertThrows(IllegalArgumentException.class, () -> decode(paginator, null, 99L, "name"));
+  }
+
+  @Test
+  void decode_rejectsMismatchedIdAfterSortAndTamperedCursor() {
+    KeysetPaginator paginator = paginator();
+    String cursor = paginator.encode("name", true, "김철수", 7L);
+
+    assertThrows(IllegalArgumentException.class, () -> decode(paginator, cursor, 8L, "name"));
+    assertThrows(IllegalArgumentException.class, () -> decode(paginator, cursor, null, "hireDate"));
+    String tampered = cursor.substring(0, cursor.indexOf('.')) + ".AAAAAAAAAAAAAAAAAAAAAA";
+    assertThrows(IllegalArgumentException.class, () -> decode(paginator, tampered, null, "name"));
+  }
+
+  private KeysetPaginator paginator() {
+    return new KeysetPaginator(objectMapper, "test-secret", new StandardEnvironment());
+  }
+
+  private KeysetCursor decode(KeysetPaginator paginator, String cursor, Long idAfter,
+      String sortField) {
+    return paginator.decode(cursor, idAfter, sortField, true,
+        id -> Optional.ofNullable(rows.get(id)),
+        row -> "hireDate".equals(sortField) ? row.hireDate() : row.name(),
+        row -> null);
+  }
+}
@@ -0,0 +1,81 @@
+package com.team11.hrbank.module.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+  @Test
+  void mightContain_noFalseNegatives() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("member-" + i + "@example.com");
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(filter.mightContain("member-" + i + "@example.com"), "member-" + i);
+    }
+  }
+
+  @Test
+  void mightContain_falsePositiveRateNearTarget() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("member-" + i + "@example.com");
+    }
+
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain("other-" + i + "@example.com")) {
+        falsePositives++;
+      }
+    }
+    // 목표 1%, 해시 편차 감안해 2배까지 허용
+    assertTrue(falsePositives < probes * 0.02, "오탐 " + falsePositives + "건");
+  }
+
+  @Test
+  void mightContain_emptyFilter() {
+    BloomFilter filter = BloomFilter.create(100, 0.01);
+
+    assertFalse(filter.mightContain("a@example.com"));
+    assertFalse(filter.mightContain(""));
+  }
+
+  @Test
+  void put_concurrentWritersKeepAllValues() throws InterruptedException {
+    BloomFilter filter = BloomFilter.create(40_000, 0.01);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int writer = t;
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          filter.put("writer-" + writer + "-" + i);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    for (int t = 0; t < 4; t++) {
+      for (int i = 0; i < 10_000; i++) {
+        assertTrue(filter.mightContain("writer-" + t + "-" + i));
+      }
+    }
+  }
+
+  @Test
+  void create_rejectsInvalidFalsePositiveRate() {
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+  }
+}
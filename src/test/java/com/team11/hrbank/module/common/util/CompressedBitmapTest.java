@@ -0,0 +1,121 @@
+package com.team11.hrbank.module.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedBitmapTest {
+
+  private final Random random = new Random(42);
+
+  @Test
+  void addRemove_matchesReferenceSet() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    Set<Integer> reference = new TreeSet<>();
+
+    // 앞 구간은 ARRAY_MAX(4096) 를 넘나들도록 추가/삭제 비율을 바꿔 가며 반복
+    for (int round = 0; round < 6; round++) {
+      int removePercent = round % 2 == 0 ? 20 : 80;
+      for (int i = 0; i < 20_000; i++) {
+        int value = randomValue();
+        if (random.nextInt(100) < removePercent) {
+          bitmap.remove(value);
+          reference.remove(value);
+        } else {
+          bitmap.add(value);
+          reference.add(value);
+        }
+      }
+      assertSameElements(reference, bitmap);
+    }
+
+    for (Integer value : Set.copyOf(reference)) {
+      bitmap.remove(value);
+    }
+    assertTrue(bitmap.isEmpty());
+    assertEquals(0, bitmap.cardinality());
+  }
+
+  @Test
+  void and_matchesReferenceIntersection() {
+    for (int round = 0; round < 20; round++) {
+      Set<Integer> left = new TreeSet<>();
+      Set<Integer> right = new TreeSet<>();
+      CompressedBitmap leftBitmap = randomBitmap(left, 1 + random.nextInt(12_000));
+      CompressedBitmap rightBitmap = randomBitmap(right, 1 + random.nextInt(12_000));
+      Set<Integer> expected = new TreeSet<>(left);
+      expected.retainAll(right);
+
+      assertEquals(expected.size(), leftBitmap.andCardinality(rightBitmap));
+      assertEquals(expected.size(), rightBitmap.andCardinality(leftBitmap));
+      CompressedBitmap intersection = leftBitmap.and(rightBitmap);
+      assertSameElements(expected, intersection);
+
+      // 교집합 결과도 일반 비트맵처럼 수정 가능
+      int value = randomValue();
+      intersection.add(value);
+      expected.add(value);
+      assertSameElements(expected, intersection);
+    }
+  }
+
+  @Test
+  void and_withEmptyBitmap_isEmpty() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    bitmap.add(1);
+    bitmap.add(70_000);
+
+    assertTrue(bitmap.and(new CompressedBitmap()).isEmpty());
+    assertEquals(0, new CompressedBitmap().andCardinality(bitmap));
+  }
+
+  @Test
+  void add_rejectsNegativeValues() {
+    CompressedBitmap bitmap = new CompressedBitmap();
+
+    assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    assertFalse(bitmap.contains(-1));
+  }
+
+  // 같은 상위 16비트 구간에 몰린 값 / 여러 구간에 흩어진 값 / int 최댓값 근처
+  private int randomValue() {
+    return switch (random.nextInt(4)) {
+      case 0, 1 -> random.nextInt(12_000);
+      case 2 -> (3 << 16) + random.nextInt(200_000);
+      default -> Integer.MAX_VALUE - random.nextInt(1_000);
+    };
+  }
+
+  private CompressedBitmap randomBitmap(Set<Integer> reference, int count) {
+    CompressedBitmap bitmap = new CompressedBitmap();
+    for (int i = 0; i < count; i++) {
+      int value = randomValue();
+      bitmap.add(value);
+      reference.add(value);
+    }
+    return bitmap;
+  }
+
+  private void assertSameElements(Set<Integer> expected, CompressedBitmap actual) {
+    assertEquals(expected.size(), actual.cardinality());
+    assertEquals(expected.isEmpty(), actual.isEmpty());
+    for (Integer value : expected) {
+      assertTrue(actual.contains(value), () -> "누락: " + value);
+    }
+    // 앞 구간은 전부, 나머지는 무작위로 없는 값도 확인
+    for (int value = 0; value < 12_000; value++) {
+      assertEquals(expected.contains(value), actual.contains(value), "값: " + value);
+    }
+    for (int i = 0; i < 2_000; i++) {
+      int value = randomValue();
+      assertEquals(expected.contains(value), actual.contains(value), () -> "값: " + value);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.team11.hrbank.module.common.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * DB 의 hangul_initials() 가 HangulInitials 와 같은 키를 만드는지 (실제 DB 사용)
+ * - name_initials 생성 컬럼은 DB 함수로, 메모리 검색 인덱스는 Java 로 계산하므로 둘이 어긋나면 검색 결과가 달라짐
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HangulInitialsSqlTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @ParameterizedTest
+  @MethodSource("com.team11.hrbank.module.common.util.HangulInitialsTest#cases")
+  void hangulInitials_matchesJava(String value, String expected) {
+    String actual = jdbcTemplate.queryForObject("SELECT hangul_initials(?)", String.class, value);
+
+    assertEquals(expected, actual);
+    assertEquals(HangulInitials.initials(value), actual);
+  }
+}
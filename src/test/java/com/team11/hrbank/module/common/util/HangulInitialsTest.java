@@ -0,0 +1,74 @@
+package com.team11.hrbank.module.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 초성 키 규칙 - 같은 표를 HangulInitialsSqlTest 에서 hangul_initials() 에도 적용
+ */
+class HangulInitialsTest {
+
+  // (입력, 초성 키)
+  static Stream<Arguments> cases() {
+    return Stream.of(
+        Arguments.of("", ""),
+        Arguments.of("김태희", "ㄱㅌㅎ"),
+        // 음절 범위 경계
+        Arguments.of("가", "ㄱ"),
+        Arguments.of("힣", "ㅎ"),
+        Arguments.of("깋", "ㄱ"),
+        Arguments.of("까", "ㄲ"),
+        // 겹받침 - 초성만 남음
+        Arguments.of("닭값읽삶", "ㄷㄱㅇㅅ"),
+        Arguments.of("넓죠앉", "ㄴㅈㅇ"),
+        // 쌍자음 초성
+        Arguments.of("까뚜빠쑤짜", "ㄲㄸㅃㅆㅉ"),
+        // 자모/조합형 자모는 그대로
+        Arguments.of("ㄱㅏㄳ", "ㄱㅏㄳ"),
+        Arguments.of("\u1112\u1161\u11AB", "\u1112\u1161\u11AB"),
+        // 한글 외 문자는 그대로
+        Arguments.of("Kim 3_%", "Kim 3_%"),
+        Arguments.of("김a1 박", "ㄱa1 ㅂ"),
+        Arguments.of("😀김", "😀ㄱ"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("cases")
+  void initials(String value, String expected) {
+    assertEquals(expected, HangulInitials.initials(value));
+  }
+
+  @Test
+  void namePattern_replacesInitialsAndEscapesLikeCharacters() {
+    assertEquals("김_%", HangulInitials.namePattern("김ㅌ"));
+    assertEquals("___%", HangulInitials.namePattern("ㄱㅌㅎ"));
+    assertEquals("a\\_b\\%%", HangulInitials.namePattern("a_b%"));
+  }
+
+  @Test
+  void matchesPrefix() {
+    assertTrue(HangulInitials.matchesPrefix("김태희", "ㄱㅌ"));
+    assertTrue(HangulInitials.matchesPrefix("김태희", "김ㅌ"));
+    assertTrue(HangulInitials.matchesPrefix("김태희", ""));
+    assertFalse(HangulInitials.matchesPrefix("김태희", "ㄱㄷ"));
+    assertFalse(HangulInitials.matchesPrefix("김태희", "ㄲ"));
+    assertFalse(HangulInitials.matchesPrefix("김", "ㄱㅌ"));
+    assertFalse(HangulInitials.matchesPrefix(null, "ㄱ"));
+  }
+
+  @Test
+  void containsInitialConsonant() {
+    assertTrue(HangulInitials.containsInitialConsonant("김ㅌ"));
+    assertFalse(HangulInitials.containsInitialConsonant("김태희"));
+    // 모음/겹자음 자모는 초성이 아님
+    assertFalse(HangulInitials.containsInitialConsonant("ㅏㄳ"));
+  }
+}
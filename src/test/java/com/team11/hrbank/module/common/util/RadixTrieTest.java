@@ -0,0 +1,128 @@
+package com.team11.hrbank.module.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RadixTrieTest {
+
+  private static final String ALPHABET = "abcAB가나";
+  private static final int TOP_K = 3;
+
+  @Test
+  void suggest_afterRandomChanges_matchesReference() {
+    Random random = new Random(7);
+    RadixTrie trie = new RadixTrie(TOP_K);
+    // 소문자 키 -> 원래 표기 + count
+    Map<String, RadixTrie.Entry> reference = new HashMap<>();
+
+    for (int i = 0; i < 5_000; i++) {
+      String term = randomString(random, 1 + random.nextInt(5));
+      long delta = List.of(1L, 1L, 2L, -1L, -3L).get(random.nextInt(5));
+      trie.add(term, delta);
+      applyReference(reference, term, delta);
+
+      if (i % 10 == 0) {
+        String prefix = randomString(random, random.nextInt(4));
+        int limit = 1 + random.nextInt(TOP_K + 1);
+        assertEquals(expected(reference, prefix, limit), trie.suggest(prefix, limit),
+            "prefix=" + prefix + " limit=" + limit);
+        assertEquals(reference.size(), trie.size());
+      }
+    }
+
+    // 전부 제거하면 빈 trie
+    for (RadixTrie.Entry entry : List.copyOf(reference.values())) {
+      trie.add(entry.term(), -entry.count());
+    }
+    assertEquals(0, trie.size());
+    assertEquals(List.of(), trie.suggest("", TOP_K));
+  }
+
+  @Test
+  void suggest_ignoresCaseAndKeepsFirstSpelling() {
+    RadixTrie trie = new RadixTrie(10);
+    trie.increment("Kim");
+    trie.increment("kim");
+    trie.increment("kimchi");
+
+    assertEquals(List.of(new RadixTrie.Entry("Kim", 2), new RadixTrie.Entry("kimchi", 1)),
+        trie.suggest("KI", 10));
+    assertEquals(List.of(new RadixTrie.Entry("kimchi", 1)), trie.suggest("kimc", 10));
+    assertEquals(List.of(), trie.suggest("kimz", 10));
+  }
+
+  @Test
+  void decrement_belowTopK_promotesNextTerm() {
+    RadixTrie trie = new RadixTrie(2);
+    trie.add("aa", 5);
+    trie.add("ab", 4);
+    trie.add("ac", 3);
+
+    trie.add("aa", -5);
+
+    assertEquals(List.of(new RadixTrie.Entry("ab", 4), new RadixTrie.Entry("ac", 3)),
+        trie.suggest("a", 2));
+  }
+
+  @Test
+  void add_ignoresEmptyAndUnknownTerms() {
+    RadixTrie trie = new RadixTrie(3);
+    trie.increment(null);
+    trie.increment("");
+    trie.decrement("missing");
+
+    assertEquals(0, trie.size());
+  }
+
+  @Test
+  void create_rejectsNonPositiveTopK() {
+    assertThrows(IllegalArgumentException.class, () -> new RadixTrie(0));
+  }
+
+  private static void applyReference(Map<String, RadixTrie.Entry> reference, String term,
+      long delta) {
+    String key = term.toLowerCase(Locale.ROOT);
+    RadixTrie.Entry current = reference.get(key);
+    if (current == null) {
+      if (delta > 0) {
+        reference.put(key, new RadixTrie.Entry(term, delta));
+      }
+      return;
+    }
+    long updated = current.count() + delta;
+    if (updated <= 0) {
+      reference.remove(key);
+    } else {
+      reference.put(key, new RadixTrie.Entry(current.term(), updated));
+    }
+  }
+
+  private static List<RadixTrie.Entry> expected(Map<String, RadixTrie.Entry> reference,
+      String prefix, int limit) {
+    String key = prefix.toLowerCase(Locale.ROOT);
+    return reference.entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith(key))
+        .map(Map.Entry::getValue)
+        .sorted(Comparator.comparingLong(RadixTrie.Entry::count).reversed()
+            .thenComparing(RadixTrie.Entry::term))
+        .limit(Math.min(limit, TOP_K))
+        .toList();
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder value = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return value.toString();
+  }
+}
@@ -0,0 +1,88 @@
+package com.team11.hrbank.module.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeNumberGeneratorTest {
+
+  private final AtomicInteger blockRequests = new AtomicInteger();
+
+  @Test
+  void generateEmployeeNumber_rollsOverToNextBlock() {
+    EmployeeNumberGenerator generator = new EmployeeNumberGenerator(sequence(1000, 3));
+    String prefix = "EMP-" + LocalDate.now().getYear() + "-";
+
+    List<String> numbers = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      numbers.add(generator.generateEmployeeNumber());
+    }
+
+    assertEquals(List.of(
+        prefix + "00000000001000", prefix + "00000000001001", prefix + "00000000001002",
+        prefix + "00000000001003", prefix + "00000000001004", prefix + "00000000001005",
+        prefix + "00000000001006"), numbers);
+    assertEquals(3, blockRequests.get());
+  }
+
+  @Test
+  void generateEmployeeNumber_concurrentCallersGetUniqueNumbers() throws InterruptedException {
+    EmployeeNumberGenerator generator = new EmployeeNumberGenerator(sequence(1, 50));
+    Set<String> numbers = ConcurrentHashMap.newKeySet();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      threads.add(new Thread(() -> {
+        for (int i = 0; i < 2_000; i++) {
+          numbers.add(generator.generateEmployeeNumber());
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(16_000, numbers.size());
+    // 블록을 다 쓴 뒤에만 새 블록 요청 (동시에 소진을 본 스레드들도 한 번만 요청)
+    assertEquals(16_000 / 50, blockRequests.get());
+  }
+
+  @Test
+  void generateEmployeeNumber_nodesSharingSequenceNeverOverlap() {
+    JdbcTemplate sequence = sequence(1, 10);
+    EmployeeNumberGenerator node1 = new EmployeeNumberGenerator(sequence);
+    EmployeeNumberGenerator node2 = new EmployeeNumberGenerator(sequence);
+
+    Set<String> numbers = ConcurrentHashMap.newKeySet();
+    for (int i = 0; i < 1_000; i++) {
+      assertTrue(numbers.add(node1.generateEmployeeNumber()));
+      assertTrue(numbers.add(node2.generateEmployeeNumber()));
+      if (i % 3 == 0) {
+        assertTrue(numbers.add(node2.generateEmployeeNumber()));
+      }
+    }
+  }
+
+  // employee_number_block_seq 흉내 (nextval 이 블록 시작 번호, INCREMENT BY 가 블록 크기)
+  private JdbcTemplate sequence(long start, long increment) {
+    AtomicLong next = new AtomicLong(start);
+    return new JdbcTemplate() {
+      @Override
+      public Map<String, Object> queryForMap(String sql) {
+        blockRequests.incrementAndGet();
+        return Map.of("block_start", next.getAndAdd(increment), "block_size", increment);
+      }
+    };
+  }
+}
@@ -0,0 +1,75 @@
+package com.team11.hrbank.module.domain.backup.service;
+
+import com.team11.hrbank.module.domain.backup.BackupHistory;
+import com.team11.hrbank.module.domain.backup.BackupStatus;
+import com.team11.hrbank.module.domain.backup.BackupType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BackupChainPolicyTest {
+
+  private static final Instant WATERMARK = Instant.parse("2025-03-01T10:00:00Z");
+
+  private final BackupChainPolicy policy = new BackupChainPolicy(true, 3, 60_000);
+
+  @Test
+  void next_withoutCompletedBackup_isFull() {
+    assertEquals(BackupPlan.full(), policy.next(null));
+  }
+
+  @Test
+  void next_afterFull_startsChainOnIt() {
+    BackupPlan plan = policy.next(backup(10L, BackupType.FULL, null, 0, WATERMARK));
+
+    assertEquals(new BackupPlan(BackupType.INCREMENTAL, 10L, 10L, 1, WATERMARK.minusSeconds(60)), plan);
+  }
+
+  @Test
+  void next_afterIncremental_keepsBaseAndLinksPrevious() {
+    BackupPlan plan = policy.next(backup(12L, BackupType.INCREMENTAL, 10L, 2, WATERMARK));
+
+    assertEquals(new BackupPlan(BackupType.INCREMENTAL, 10L, 12L, 3, WATERMARK.minusSeconds(60)), plan);
+  }
+
+  @Test
+  void next_whenChainReachesFullEvery_isFull() {
+    assertEquals(BackupPlan.full(), policy.next(backup(13L, BackupType.INCREMENTAL, 10L, 3, WATERMARK)));
+  }
+
+  @Test
+  void next_afterBackupWithoutWatermark_isFull() {
+    // watermark 기록 이전 방식 백업
+    assertEquals(BackupPlan.full(), policy.next(backup(9L, BackupType.FULL, null, 0, null)));
+  }
+
+  @Test
+  void next_whenDisabledOrFullEveryZero_isFull() {
+    BackupHistory full = backup(10L, BackupType.FULL, null, 0, WATERMARK);
+
+    assertEquals(BackupPlan.full(), new BackupChainPolicy(false, 3, 60_000).next(full));
+    assertEquals(BackupPlan.full(), new BackupChainPolicy(true, 0, 60_000).next(full));
+  }
+
+  @Test
+  void negativeSettings_areRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new BackupChainPolicy(true, -1, 60_000));
+    assertThrows(IllegalArgumentException.class, () -> new BackupChainPolicy(true, 3, -1));
+  }
+
+  private static BackupHistory backup(Long id, BackupType type, Long baseBackupId, int chainSequence,
+      Instant watermark) {
+    BackupHistory backup = new BackupHistory();
+    backup.setId(id);
+    backup.setStatus(BackupStatus.COMPLETED);
+    backup.setType(type);
+    backup.setBaseBackupId(baseBackupId);
+    backup.setPreviousBackupId(type == BackupType.FULL ? null : id - 1);
+    backup.setChainSequence(chainSequence);
+    backup.setWatermark(watermark);
+    return backup;
+  }
+}
@@ -0,0 +1,47 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 값 이스케이프가 PostgreSQL COPY (FORMAT csv) 출력 규칙과 같은지
+ * - 쉼표, 쌍따옴표, \n, \r 이 있으면 따옴표로 감싸고 안의 쌍따옴표는 두 번
+ * - 그 외(앞뒤 공백, 역슬래시 포함)는 그대로, null 은 빈 칸
+ * - 빈 문자열은 COPY 가 "" 로 출력하므로 조회 쪽에서 NULLIF 로 null 로 바꿔 맞춤
+ */
+class BackupCsvTest {
+
+  static Stream<Arguments> cases() {
+    return Stream.of(
+        Arguments.of(null, ""),
+        Arguments.of("", ""),
+        Arguments.of("김철수", "김철수"),
+        Arguments.of(" 앞뒤 공백 ", " 앞뒤 공백 "),
+        Arguments.of("a,b", "\"a,b\""),
+        Arguments.of("\"인용\"", "\"\"\"인용\"\"\""),
+        Arguments.of("여러\n줄", "\"여러\n줄\""),
+        Arguments.of("캐리지\r리턴", "\"캐리지\r리턴\""),
+        Arguments.of("윈도우\r\n줄바꿈", "\"윈도우\r\n줄바꿈\""),
+        Arguments.of("역슬래시\\", "역슬래시\\"),
+        Arguments.of("\\.", "\\."),
+        Arguments.of("탭\t문자", "탭\t문자"),
+        Arguments.of("## EMPLOYEES ##", "## EMPLOYEES ##"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("cases")
+  void escape_matchesCopyCsv(String value, String expected) {
+    assertEquals(expected, BackupCsv.escape(value));
+  }
+
+  @ParameterizedTest
+  @MethodSource("cases")
+  void toLine_joinsEscapedValues(String value, String expected) {
+    assertEquals("1," + expected + ",", BackupCsv.toLine(new String[] {"1", value, null}));
+  }
+}
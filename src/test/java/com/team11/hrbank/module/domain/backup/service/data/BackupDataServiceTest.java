@@ -0,0 +1,89 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 백업 추출 힙 사용량 검증 (실제 DB 사용, 대량 테스트 데이터는 롤백)
+ * - 읽은 행을 버리면서 일정 간격으로 GC 후 힙 사용량을 측정
+ * - 전체 행을 메모리에 올리면 행 수에 비례해 늘어나므로 상한을 넘음
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BackupDataService.class)
+class BackupDataServiceTest {
+
+  private static final int EMPLOYEE_COUNT = 300_000;
+  private static final int SAMPLE_INTERVAL = 50_000;
+  private static final String EMAIL_SUFFIX = "@backup-heap-test.example.com";
+  // 30만 건을 String[] 로만 들고 있어도 100MB 이상 (엔티티면 그 몇 배)
+  private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private BackupDataService backupDataService;
+
+  @BeforeEach
+  void setUp() {
+    Long departmentId = jdbcTemplate.queryForObject("""
+        INSERT INTO departments (name, normalized_name, description, established_date)
+        VALUES ('backup-heap-test-dept', 'backup-heap-test-dept', 'backup heap test', DATE '2020-01-01')
+        RETURNING id
+        """, Long.class);
+    jdbcTemplate.update("""
+        INSERT INTO employees (name, email, employee_number, department_id, position, hire_date, status)
+        SELECT 'backup-heap-test-' || g, 'backup-heap-test-' || g || ?, 'BH-' || g, ?, '사원',
+               DATE '2024-01-01' + (g % 365), 'ACTIVE'
+        FROM generate_series(1, ?) AS g
+        """, EMAIL_SUFFIX, departmentId, EMPLOYEE_COUNT);
+  }
+
+  @Test
+  void streamAllDataForBackup_heapStaysConstant() throws IOException {
+    long baseline = usedHeapAfterGc();
+    long[] peak = {baseline};
+
+    int[] counts = backupDataService.streamAllDataForBackup(lines -> {
+      int total = 0;
+      int synthetic = 0;
+      Iterator<String> iterator = lines.iterator();
+      assertEquals("## EMPLOYEES ##", iterator.next());
+      while (iterator.hasNext()) {
+        String line = iterator.next();
+        total++;
+        if (line.contains(EMAIL_SUFFIX)) {
+          synthetic++;
+        }
+        if (total % SAMPLE_INTERVAL == 0) {
+          peak[0] = Math.max(peak[0], usedHeapAfterGc());
+        }
+      }
+      return new int[] {total, synthetic};
+    });
+
+    assertEquals(EMPLOYEE_COUNT, counts[1]);
+    assertTrue(counts[0] >= EMPLOYEE_COUNT + 3);
+    long growth = peak[0] - baseline;
+    assertTrue(growth < MAX_HEAP_GROWTH_BYTES,
+        "백업 추출 중 힙 증가량 " + growth / 1024 / 1024 + "MB (상한 "
+            + MAX_HEAP_GROWTH_BYTES / 1024 / 1024 + "MB)");
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,91 @@
+package com.team11.hrbank.module.domain.backup.service.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupPartPlannerTest {
+
+  private static final BackupPart DEPARTMENTS = new BackupPart(BackupCsv.DEPARTMENTS, 1, null, null);
+
+  @Test
+  void plan_emptyEmployees_isOneWholeTablePart() {
+    assertEquals(List.of(new BackupPart(BackupCsv.EMPLOYEES, 1, null, null), DEPARTMENTS),
+        BackupPartPlanner.plan(0, 0, 0, 4, 100_000));
+  }
+
+  @Test
+  void plan_splitsIdRangeEvenly() {
+    assertEquals(List.of(
+            new BackupPart(BackupCsv.EMPLOYEES, 1, 1L, 250_000L),
+            new BackupPart(BackupCsv.EMPLOYEES, 2, 250_001L, 500_000L),
+            new BackupPart(BackupCsv.EMPLOYEES, 3, 500_001L, 750_000L),
+            new BackupPart(BackupCsv.EMPLOYEES, 4, 750_001L, 1_000_000L),
+            DEPARTMENTS),
+        BackupPartPlanner.plan(1, 1_000_000, 1_000_000, 4, 100_000));
+  }
+
+  @Test
+  void plan_partCountLimitedByRowsPerPart() {
+    assertEquals(List.of(new BackupPart(BackupCsv.EMPLOYEES, 1, 10L, 90_000L), DEPARTMENTS),
+        BackupPartPlanner.plan(10, 90_000, 90_000, 4, 100_000));
+    assertEquals(List.of(
+            new BackupPart(BackupCsv.EMPLOYEES, 1, 1L, 150_000L),
+            new BackupPart(BackupCsv.EMPLOYEES, 2, 150_001L, 300_000L),
+            DEPARTMENTS),
+        BackupPartPlanner.plan(1, 300_000, 250_000, 4, 100_000));
+  }
+
+  @Test
+  void plan_fewIdsThanParts_doesNotCreateEmptyRanges() {
+    assertEquals(List.of(
+            new BackupPart(BackupCsv.EMPLOYEES, 1, 5L, 5L),
+            new BackupPart(BackupCsv.EMPLOYEES, 2, 6L, 6L),
+            DEPARTMENTS),
+        BackupPartPlanner.plan(5, 6, 2, 4, 0));
+    // 간격 4 개를 3 개로 나누면 2 개 간격씩 두 구간으로 끝남
+    assertEquals(List.of(
+            new BackupPart(BackupCsv.EMPLOYEES, 1, 0L, 1L),
+            new BackupPart(BackupCsv.EMPLOYEES, 2, 2L, 3L),
+            DEPARTMENTS),
+        BackupPartPlanner.plan(0, 3, 3, 3, 1));
+  }
+
+  @Test
+  void plan_randomRanges_coverIdsContiguouslyInOrder() {
+    Random random = new Random(25);
+    for (int i = 0; i < 10_000; i++) {
+      long minId = random.nextInt(1_000_000) + 1;
+      long maxId = minId + random.nextInt(random.nextBoolean() ? 20 : 5_000_000);
+      long total = 1 + (long) (random.nextDouble() * (maxId - minId + 1));
+      int maxParts = 1 + random.nextInt(16);
+      long minRowsPerPart = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(500_000);
+      String input = minId + ".." + maxId + " total " + total + " parts " + maxParts + " rows " + minRowsPerPart;
+
+      List<BackupPart> parts = BackupPartPlanner.plan(minId, maxId, total, maxParts, minRowsPerPart);
+
+      List<BackupPart> employees = parts.subList(0, parts.size() - 1);
+      assertEquals(DEPARTMENTS, parts.get(parts.size() - 1), input);
+      assertTrue(!employees.isEmpty() && employees.size() <= maxParts, input);
+      assertTrue(employees.size() <= Math.max(1, total / Math.max(minRowsPerPart, 1)), input);
+      long next = minId;
+      for (int j = 0; j < employees.size(); j++) {
+        BackupPart part = employees.get(j);
+        assertEquals(BackupCsv.EMPLOYEES, part.section(), input);
+        assertEquals(j + 1, part.index(), input);
+        assertEquals(next, (long) part.fromId(), input);
+        assertTrue(part.fromId() <= part.toId(), input);
+        next = part.toId() + 1;
+        if (j > 0) {
+          // 아카이브 항목 이름순이 ID 순서
+          assertTrue(employees.get(j - 1).entryName().compareTo(part.entryName()) < 0, input);
+        }
+      }
+      assertEquals(maxId + 1, next, input);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 백업 엔진 처리량 비교 (CURSOR vs COPY vs PARALLEL, 실제 DB 사용)
+ * - 실행: BACKUP_BENCHMARK=true ./gradlew test --tests '*BackupEngineBenchmarkTest'
+ * - 엔진별로 워밍업 1회 후 번갈아 ROUNDS 회 실행해 평균 시간/처리량을 로그로 출력
+ * - CURSOR, COPY 파일은 바이트 단위로 같고, PARALLEL 아카이브 항목을 이어 붙이면 CURSOR 파일과 같아야 함
+ * - PARALLEL 작업자는 다른 트랜잭션에서 스냅샷을 가져오므로 테스트 데이터를 커밋하고 끝나면 삭제
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.datasource.hikari.maximum-pool-size=" + BackupEngineBenchmarkTest.POOL_SIZE)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BackupDataService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "BACKUP_BENCHMARK", matches = "true")
+class BackupEngineBenchmarkTest {
+
+  static final int POOL_SIZE = 6;
+  private static final int WORKERS = 4;
+  private static final int EMPLOYEE_COUNT = 1_000_000;
+  private static final int DEPARTMENT_COUNT = 200;
+  private static final int ROUNDS = 3;
+  private static final String EMAIL_SUFFIX = "@backup-bench.example.com";
+  private static final Set<BackupEngine> ENGINES =
+      EnumSet.of(BackupEngine.CURSOR, BackupEngine.COPY, BackupEngine.PARALLEL);
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private BackupDataService backupDataService;
+
+  @TempDir
+  private Path backupDir;
+
+  private BackupFileStorageService fileStorageService;
+
+  @BeforeEach
+  void setUp() {
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setBackupFiles(backupDir.resolve("backups").toString());
+    properties.setErrorLogs(backupDir.resolve("logs").toString());
+    // 압축 없이 엔진 자체 처리량만 비교 (PARALLEL 은 직원을 작업자 수만큼 나눔)
+    fileStorageService = new BackupFileStorageService(properties, backupDataService, BackupEngine.CURSOR,
+        BackupCompression.NONE, 6, WORKERS, EMPLOYEE_COUNT / WORKERS, POOL_SIZE);
+
+    // 설명/이름에 쉼표, 따옴표, 줄바꿈이 섞이고 빈 설명, 부서 없는 직원도 포함
+    jdbcTemplate.update("""
+        INSERT INTO departments (name, normalized_name, description, established_date)
+        SELECT 'bench-dept-' || g, 'bench-dept-' || g,
+               (ARRAY['설명, 쉼표', '"인용" 설명', E'여러\\n줄', '', NULL])[1 + g % 5],
+               DATE '2000-01-01' + g
+        FROM generate_series(1, ?) AS g
+        """, DEPARTMENT_COUNT);
+    jdbcTemplate.update("""
+        INSERT INTO employees (name, email, employee_number, department_id, position, hire_date,
+                               status, created_at)
+        SELECT CASE WHEN g % 97 = 0 THEN '홍, "길동" ' || g ELSE 'bench-' || g END,
+               'bench-' || g || ?,
+               'BB-' || g,
+               CASE WHEN g % 50 = 0 THEN NULL ELSE
+                 (SELECT id FROM departments WHERE name = 'bench-dept-' || (1 + g % ?)) END,
+               (ARRAY['사원', '대리', '과장', '차장', '부장'])[1 + g % 5],
+               DATE '2010-01-01' + (g % 5000),
+               (ARRAY['ACTIVE', 'ON_LEAVE', 'RESIGNED'])[1 + g % 3],
+               TIMESTAMPTZ '2024-01-01 00:00:00+00' + g * INTERVAL '1 second'
+                   + (ARRAY[0, 0.123, 0.123456])[1 + g % 3] * INTERVAL '1 second'
+        FROM generate_series(1, ?) AS g
+        """, EMAIL_SUFFIX, DEPARTMENT_COUNT, EMPLOYEE_COUNT);
+  }
+
+  // 삭제 트리거가 남긴 삭제 표시까지 정리
+  @AfterEach
+  void tearDown() {
+    fileStorageService.shutdown();
+    List<Long> employeeIds = jdbcTemplate.queryForList(
+        "DELETE FROM employees WHERE email LIKE ? RETURNING id", Long.class, "%" + EMAIL_SUFFIX);
+    jdbcTemplate.update("DELETE FROM employee_deletions WHERE employee_id = ANY (?)",
+        (Object) employeeIds.toArray(Long[]::new));
+    List<Long> departmentIds = jdbcTemplate.queryForList(
+        "DELETE FROM departments WHERE name LIKE 'bench-dept-%' RETURNING id", Long.class);
+    jdbcTemplate.update("DELETE FROM department_deletions WHERE department_id = ANY (?)",
+        (Object) departmentIds.toArray(Long[]::new));
+  }
+
+  @Test
+  void compareEngines() throws IOException {
+    Map<BackupEngine, Path> files = new EnumMap<>(BackupEngine.class);
+    Map<BackupEngine, Long> elapsedNanos = new EnumMap<>(BackupEngine.class);
+    for (BackupEngine engine : ENGINES) {
+      files.put(engine, run(engine));
+      elapsedNanos.put(engine, 0L);
+    }
+
+    for (int round = 0; round < ROUNDS; round++) {
+      for (BackupEngine engine : ENGINES) {
+        long start = System.nanoTime();
+        run(engine);
+        elapsedNanos.merge(engine, System.nanoTime() - start, Long::sum);
+      }
+    }
+
+    for (BackupEngine engine : ENGINES) {
+      double seconds = elapsedNanos.get(engine) / 1e9 / ROUNDS;
+      long size = Files.size(files.get(engine));
+      log.info("{} - 평균 {} ms, {} rows/s, {} MB/s", engine, Math.round(seconds * 1000),
+          Math.round((EMPLOYEE_COUNT + DEPARTMENT_COUNT) / seconds),
+          Math.round(size / 1024.0 / 1024.0 / seconds));
+    }
+
+    assertEquals(-1L, Files.mismatch(files.get(BackupEngine.CURSOR), files.get(BackupEngine.COPY)));
+    assertEquals(-1L, Files.mismatch(files.get(BackupEngine.CURSOR),
+        concatArchive(files.get(BackupEngine.PARALLEL))));
+  }
+
+  // 파일명이 초 단위라 엔진별 이름으로 옮겨 둠
+  private Path run(BackupEngine engine) throws IOException {
+    Path saved = Path.of(fileStorageService.saveBackup(engine).path());
+    String extension = engine == BackupEngine.PARALLEL ? ".zip" : ".csv";
+    return Files.move(saved, backupDir.resolve(engine.name() + extension), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  // 아카이브 항목(BOM + 헤더 + 행)의 행만 이름순으로 이어 붙여 전체 백업 csv 형식 파일로 만듦
+  // (직원 100만 건이면 파일이 100MB 를 넘으므로 메모리에 올리지 않고 파일로 기록)
+  private Path concatArchive(Path archive) throws IOException {
+    Path concat = backupDir.resolve("PARALLEL-concat.csv");
+    try (ZipFile zip = new ZipFile(archive.toFile());
+         OutputStream out = new BufferedOutputStream(Files.newOutputStream(concat))) {
+      out.write("\uFEFF".getBytes(StandardCharsets.UTF_8));
+      appendSection(out, zip, BackupCsv.EMPLOYEES, backupDataService.getEmployeeHeaders());
+      appendSection(out, zip, BackupCsv.DEPARTMENTS, backupDataService.getDepartmentHeaders());
+    }
+    return concat;
+  }
+
+  private static void appendSection(OutputStream out, ZipFile zip, String section, String[] headers)
+      throws IOException {
+    out.write((section + "\n" + String.join(",", headers) + "\n").getBytes(StandardCharsets.UTF_8));
+    List<? extends ZipEntry> entries = zip.stream()
+        .filter(entry -> entry.getName().startsWith(BackupCsv.archiveEntryPrefix(section)))
+        .sorted(Comparator.comparing(ZipEntry::getName))
+        .toList();
+    for (ZipEntry entry : entries) {
+      try (InputStream in = new BufferedInputStream(zip.getInputStream(entry))) {
+        // 항목의 첫 줄(헤더) 건너뛰기
+        int b = in.read();
+        while (b != -1 && b != '\n') {
+          b = in.read();
+        }
+        in.transferTo(out);
+      }
+    }
+  }
+}
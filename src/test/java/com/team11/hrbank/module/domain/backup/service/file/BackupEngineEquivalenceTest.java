@@ -0,0 +1,82 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.backup.service.data.BackupDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CURSOR 와 COPY 엔진이 바이트 단위로 같은 백업 파일을 만드는지 (실제 DB 사용, 테스트 데이터는 롤백)
+ * - 쉼표, 쌍따옴표, \n, \r, 빈 문자열, 부서 없는 직원, 소수 초 0/3/6자리 생성 시각 포함
+ * - backup.engine 을 COPY 로 바꾸기 전에 대상 DB 에서 이 테스트가 통과해야 함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BackupDataService.class)
+class BackupEngineEquivalenceTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private BackupDataService backupDataService;
+
+  @TempDir
+  private Path backupDir;
+
+  private BackupFileStorageService fileStorageService;
+
+  @BeforeEach
+  void setUp() {
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setBackupFiles(backupDir.resolve("backups").toString());
+    properties.setErrorLogs(backupDir.resolve("logs").toString());
+    fileStorageService = new BackupFileStorageService(properties, backupDataService, BackupEngine.CURSOR,
+        BackupCompression.NONE, 6, 4, 100_000, 10);
+
+    jdbcTemplate.update("""
+        INSERT INTO departments (name, normalized_name, description, established_date)
+        SELECT 'equiv-dept-' || g, 'equiv-dept-' || g,
+               (ARRAY['설명, 쉼표', '"인용" 설명', E'여러\\n줄', E'캐리지\\r리턴', E'윈도우\\r\\n줄바꿈',
+                      '', NULL, E'역슬래시\\\\.', ' 앞뒤 공백 '])[g],
+               DATE '2000-01-01' + g
+        FROM generate_series(1, 9) AS g
+        """);
+    jdbcTemplate.update("""
+        INSERT INTO employees (name, email, employee_number, department_id, position, hire_date,
+                               status, created_at)
+        SELECT (ARRAY['홍, "길동"', E'줄\\r바꿈', '', E'\\\\.', '김철수'])[1 + g % 5],
+               'equiv-' || g || '@backup-equiv.example.com',
+               'EQ-' || g,
+               CASE WHEN g % 4 = 0 THEN NULL ELSE
+                 (SELECT id FROM departments WHERE name = 'equiv-dept-' || (1 + g % 9)) END,
+               (ARRAY['사원', '', E'대리\\n겸 과장'])[1 + g % 3],
+               DATE '2010-01-01' + g,
+               (ARRAY['ACTIVE', 'ON_LEAVE', 'RESIGNED'])[1 + g % 3],
+               TIMESTAMPTZ '2024-01-01 00:00:00+00' + g * INTERVAL '1 second'
+                   + (ARRAY[0, 0.123, 0.123456])[1 + g % 3] * INTERVAL '1 second'
+        FROM generate_series(1, 30) AS g
+        """);
+  }
+
+  @Test
+  void cursorAndCopy_writeSameBytes() throws IOException {
+    // 파일명이 초 단위라 먼저 만든 파일을 옮겨 둠
+    Path cursorFile = Files.move(Path.of(fileStorageService.saveBackup(BackupEngine.CURSOR).path()),
+        backupDir.resolve("CURSOR.csv"));
+    Path copyFile = Path.of(fileStorageService.saveBackup(BackupEngine.COPY).path());
+
+    assertEquals(-1L, Files.mismatch(cursorFile, copyFile));
+  }
+}
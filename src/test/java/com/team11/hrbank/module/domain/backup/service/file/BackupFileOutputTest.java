@@ -0,0 +1,118 @@
+package com.team11.hrbank.module.domain.backup.service.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 압축하며 쓴 파일을 다시 풀었을 때 원본과 같은지, 기록한 해시/크기가 실제 파일과 맞는지
+ */
+class BackupFileOutputTest {
+
+  @TempDir
+  private Path dir;
+
+  @Test
+  void gzip_roundTripsAndHashesStoredBytes() throws IOException {
+    byte[] content = content();
+    for (int level : new int[] {1, 6, 9}) {
+      Path path = dir.resolve("backup_" + level + ".csv.gz");
+
+      BackupFileInfo info = write(path, BackupCompression.GZIP, level, content);
+
+      byte[] stored = Files.readAllBytes(path);
+      byte[] restored;
+      try (InputStream in = BackupCompression.fromFileName(path.toString())
+          .decompress(Files.newInputStream(path))) {
+        restored = in.readAllBytes();
+      }
+      assertArrayEquals(content, restored);
+      assertEquals(sha256(content), sha256(restored));
+      // 기록한 해시는 저장된(압축된) 파일 내용 기준
+      assertEquals(sha256(stored), info.sha256());
+      assertNotEquals(sha256(content), info.sha256());
+      assertEquals(content.length, info.originalSize());
+      assertEquals(stored.length, info.storedSize());
+      assertTrue(info.storedSize() < info.originalSize(), "level " + level);
+    }
+  }
+
+  @Test
+  void none_storesContentAsIs() throws IOException {
+    byte[] content = content();
+    Path path = dir.resolve("backup.csv");
+
+    BackupFileInfo info = write(path, BackupCompression.NONE, 6, content);
+
+    assertArrayEquals(content, Files.readAllBytes(path));
+    assertEquals(sha256(content), info.sha256());
+    assertEquals(content.length, info.originalSize());
+    assertEquals(content.length, info.storedSize());
+  }
+
+  @Test
+  void info_beforeClose_throws() throws IOException {
+    BackupFileOutput output = new BackupFileOutput(dir.resolve("backup.csv.gz"), BackupCompression.GZIP, 6);
+    try {
+      assertThrows(IllegalStateException.class, output::info);
+    } finally {
+      output.close();
+    }
+    // 두 번 닫아도 정보는 그대로
+    String sha256 = output.info().sha256();
+    output.close();
+    assertEquals(sha256, output.info().sha256());
+  }
+
+  private static BackupFileInfo write(Path path, BackupCompression compression, int level, byte[] content)
+      throws IOException {
+    BackupFileOutput output = new BackupFileOutput(path, compression, level);
+    try (output) {
+      OutputStream out = output.stream();
+      // 버퍼 크기를 넘나드는 여러 번의 쓰기
+      for (int offset = 0; offset < content.length; offset += 10_000) {
+        out.write(content, offset, Math.min(10_000, content.length - offset));
+      }
+    }
+    return output.info();
+  }
+
+  // 압축이 되는 csv 형태 행 + 압축이 안 되는 무작위 바이트 (버퍼 크기 몇 배)
+  private static byte[] content() {
+    StringBuilder csv = new StringBuilder();
+    for (int i = 1; i <= 5_000; i++) {
+      csv.append(i).append(",홍길동").append(i).append(",\"개발, 1팀\",2024-01-01\n");
+    }
+    byte[] text = csv.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] noise = new byte[3 * BackupCompression.BUFFER_SIZE];
+    new Random(24).nextBytes(noise);
+    byte[] content = new byte[text.length + noise.length];
+    System.arraycopy(text, 0, content, 0, text.length);
+    System.arraycopy(noise, 0, content, text.length, noise.length);
+    return content;
+  }
+
+  private static String sha256(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
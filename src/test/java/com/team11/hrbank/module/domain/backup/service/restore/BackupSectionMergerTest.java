@@ -0,0 +1,146 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 전체 백업 + 증분 백업 체인 합성 (BackupRestoreService 와 같은 방식으로 reader 구성)
+ */
+class BackupSectionMergerTest {
+
+  @TempDir
+  private Path dir;
+
+  @Test
+  void merge_latestRowWinsAndDeletedIdsAreDropped() throws IOException {
+    Path full = write("full.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        1,김철수
+        2,김영희
+        3,이민수
+        4,박지성
+        """);
+    Path delta1 = write("delta1.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        2,김영희(수정)
+        5,신입
+        ## EMPLOYEES DELETED ##
+        ID
+        3
+        """);
+    Path delta2 = write("delta2.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        2,김영희(재수정)
+        6,"신입, 둘"
+        ## EMPLOYEES DELETED ##
+        ID
+        1
+        5
+        """);
+
+    assertEquals(List.of(
+        List.of("2", "김영희(재수정)"),
+        List.of("4", "박지성"),
+        List.of("6", "신입, 둘")), merge(List.of(full, delta1, delta2)));
+    // 중간 시점 복원
+    assertEquals(List.of(
+        List.of("1", "김철수"),
+        List.of("2", "김영희(수정)"),
+        List.of("4", "박지성"),
+        List.of("5", "신입")), merge(List.of(full, delta1)));
+  }
+
+  @Test
+  void merge_deletedThenWrittenAgainInLaterBackup_keepsLatestRow() throws IOException {
+    Path full = write("full.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        1,김철수
+        """);
+    Path delta1 = write("delta1.csv", """
+        ## EMPLOYEES DELETED ##
+        ID
+        1
+        """);
+    Path delta2 = write("delta2.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        1,김철수(복구)
+        """);
+
+    assertEquals(List.of(List.of("1", "김철수(복구)")), merge(List.of(full, delta1, delta2)));
+  }
+
+  @Test
+  void merge_deletedIdNotInFull_isIgnored() throws IOException {
+    Path full = write("full.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        1,김철수
+        """);
+    Path delta = write("delta.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        ## EMPLOYEES DELETED ##
+        ID
+        9
+        """);
+
+    assertEquals(List.of(List.of("1", "김철수")), merge(List.of(full, delta)));
+  }
+
+  @Test
+  void next_afterLastRow_throws() throws IOException {
+    Path full = write("full.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        """);
+    BackupSectionMerger merger = new BackupSectionMerger(readers(List.of(full)));
+    try {
+      assertThrows(NoSuchElementException.class, merger::next);
+    } finally {
+      merger.close();
+    }
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+  }
+
+  private static List<List<String>> merge(List<Path> files) throws IOException {
+    BackupSectionMerger merger = new BackupSectionMerger(readers(files));
+    List<List<String>> rows = new ArrayList<>();
+    try {
+      merger.forEachRemaining(values -> rows.add(List.of(values)));
+    } finally {
+      merger.close();
+    }
+    return rows;
+  }
+
+  private static List<BackupSectionReader> readers(List<Path> files) throws IOException {
+    List<BackupSectionReader> readers = new ArrayList<>();
+    for (int i = 0; i < files.size(); i++) {
+      readers.add(BackupSectionReader.open(files.get(i), BackupCsv.EMPLOYEES, i, false));
+      if (i > 0) {
+        readers.add(BackupSectionReader.open(files.get(i), BackupCsv.EMPLOYEES_DELETED, i, true));
+      }
+    }
+    return readers;
+  }
+}
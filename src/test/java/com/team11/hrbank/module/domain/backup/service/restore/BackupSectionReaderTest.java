@@ -0,0 +1,188 @@
+package com.team11.hrbank.module.domain.backup.service.restore;
+
+import com.team11.hrbank.module.domain.backup.service.data.BackupCsv;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupSectionReaderTest {
+
+  private static final String BACKUP = """
+      \uFEFF## EMPLOYEES ##
+      ID,이름
+      1,김철수
+      2,"홍, ""길동""\"
+      5,"여러
+      줄"
+      ## DEPARTMENTS ##
+      ID,부서명
+      3,개발팀
+      """ + "4,\"캐리지\r리턴\"\n";
+
+  @TempDir
+  private Path dir;
+
+  @Test
+  void open_readsOnlyRowsOfSection() throws IOException {
+    Path file = write("backup.csv", BACKUP);
+
+    assertEquals(List.of(
+        List.of("1", "김철수"),
+        List.of("2", "홍, \"길동\""),
+        List.of("5", "여러\n줄")), readAll(file, BackupCsv.EMPLOYEES));
+    assertEquals(List.of(
+        List.of("3", "개발팀"),
+        List.of("4", "캐리지\r리턴")), readAll(file, BackupCsv.DEPARTMENTS));
+  }
+
+  @Test
+  void open_gzipFile_decompressesByExtension() throws IOException {
+    Path file = dir.resolve("backup.csv.gz");
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+      out.write(BACKUP.getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals(List.of(
+        List.of("3", "개발팀"),
+        List.of("4", "캐리지\r리턴")), readAll(file, BackupCsv.DEPARTMENTS));
+  }
+
+  @Test
+  void open_missingOrEmptySection_hasNoRows() throws IOException {
+    Path file = write("delta.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        ## EMPLOYEES DELETED ##
+        ID
+        """);
+
+    assertEquals(List.of(), readAll(file, BackupCsv.EMPLOYEES));
+    assertEquals(List.of(), readAll(file, BackupCsv.EMPLOYEES_DELETED));
+    assertEquals(List.of(), readAll(file, BackupCsv.DEPARTMENTS_DELETED));
+  }
+
+  @Test
+  void advance_keepsIdOrderAndFlags() throws IOException {
+    Path file = write("delta.csv", """
+        ## EMPLOYEES DELETED ##
+        ID
+        7
+        """);
+
+    try (BackupSectionReader reader = BackupSectionReader.open(file, BackupCsv.EMPLOYEES_DELETED, 2, true)) {
+      assertTrue(reader.advance());
+      assertEquals(7L, reader.id());
+      assertEquals(2, reader.order());
+      assertTrue(reader.isDeleted());
+      assertArrayEquals(new String[] {"7"}, reader.values());
+      assertFalse(reader.advance());
+      assertFalse(reader.advance());
+    }
+  }
+
+  @Test
+  void advance_idsOutOfOrder_fails() throws IOException {
+    Path file = write("backup.csv", """
+        ## EMPLOYEES ##
+        ID,이름
+        2,김철수
+        2,김영희
+        """);
+
+    try (BackupSectionReader reader = BackupSectionReader.open(file, BackupCsv.EMPLOYEES, 0, false)) {
+      assertTrue(reader.advance());
+      assertThrows(IllegalStateException.class, reader::advance);
+    }
+  }
+
+  @Test
+  void open_archive_readsSectionEntriesInNameOrderSkippingHeaders() throws IOException {
+    Path file = dir.resolve("backup.zip");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file), StandardCharsets.UTF_8)) {
+      // 작업 순서와 다르게 기록되어도 이름순으로 읽음, 항목마다 압축 방식은 확장자로 판단
+      putEntry(zip, "employees_002.csv.gz", gzip("\uFEFFID,이름\n3,\"줄\n바꿈\"\n4,김영희\n"));
+      putEntry(zip, "employees_001.csv", "\uFEFFID,이름\n1,김철수\n2,\"홍, 길동\"\n".getBytes(StandardCharsets.UTF_8));
+      // 행이 없는 구간
+      putEntry(zip, "employees_003.csv", "\uFEFFID,이름\n".getBytes(StandardCharsets.UTF_8));
+      putEntry(zip, "employees_004.csv", "\uFEFFID,이름\n9,박지성\n".getBytes(StandardCharsets.UTF_8));
+      putEntry(zip, "departments_001.csv", "\uFEFFID,부서명\n1,개발팀\n".getBytes(StandardCharsets.UTF_8));
+      putEntry(zip, BackupCsv.ARCHIVE_MANIFEST, "\uFEFF항목\nemployees_001.csv\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals(List.of(
+        List.of("1", "김철수"),
+        List.of("2", "홍, 길동"),
+        List.of("3", "줄\n바꿈"),
+        List.of("4", "김영희"),
+        List.of("9", "박지성")), readAll(file, BackupCsv.EMPLOYEES));
+    assertEquals(List.of(List.of("1", "개발팀")), readAll(file, BackupCsv.DEPARTMENTS));
+    // 아카이브는 전체 백업이므로 삭제 섹션 없음
+    assertEquals(List.of(), readAll(file, BackupCsv.EMPLOYEES_DELETED));
+  }
+
+  @Test
+  void open_archive_idsOverlappingAcrossEntries_fails() throws IOException {
+    Path file = dir.resolve("backup.zip");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file), StandardCharsets.UTF_8)) {
+      putEntry(zip, "employees_001.csv", "ID,이름\n1,김철수\n5,김영희\n".getBytes(StandardCharsets.UTF_8));
+      putEntry(zip, "employees_002.csv", "ID,이름\n4,이민수\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertThrows(IllegalStateException.class, () -> readAll(file, BackupCsv.EMPLOYEES));
+  }
+
+  @Test
+  void open_archiveWithoutSectionEntries_hasNoRows() throws IOException {
+    Path file = dir.resolve("backup.zip");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file), StandardCharsets.UTF_8)) {
+      putEntry(zip, "departments_001.csv", "ID,부서명\n1,개발팀\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    assertEquals(List.of(), readAll(file, BackupCsv.EMPLOYEES));
+  }
+
+  private static void putEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    zip.write(content);
+    zip.closeEntry();
+  }
+
+  private static byte[] gzip(String content) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+    return bytes.toByteArray();
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+  }
+
+  private static List<List<String>> readAll(Path file, String section) throws IOException {
+    List<List<String>> rows = new ArrayList<>();
+    try (BackupSectionReader reader = BackupSectionReader.open(file, section, 0, false)) {
+      while (reader.advance()) {
+        rows.add(List.of(reader.values()));
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,90 @@
+package com.team11.hrbank.module.domain.changelog.repository;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.domain.changelog.ChangeLog;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IP 주소 정렬 조회 (실제 DB 사용) - 값이 있는 필터만 조건으로 붙고, (ip_address, id) keyset 으로 이어지는지
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChangeLogRepositoryCustomImplTest {
+
+  private static final String MEMO = "ip-sort-test";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private ChangeLogRepository changeLogRepository;
+
+  @BeforeEach
+  void setUp() {
+    insert("CREATED", "IPS-1", "10.0.0.9");
+    insert("UPDATED", "IPS-2", "10.0.0.10");
+    insert("UPDATED", "IPS-3", "192.168.0.1");
+    insert("DELETED", "IPS-4", "10.0.0.10");
+    insert("UPDATED", "IPS-5", "9.255.255.255");
+  }
+
+  @Test
+  void findByIpAddressWithCursor_ordersByInetThenId() {
+    List<ChangeLog> rows = changeLogRepository.findByIpAddressWithCursor(
+        null, null, MEMO, null, null, null, null, 10, false);
+
+    // inet 비교 (문자열 비교면 9.x 가 가장 큼)
+    assertEquals(List.of("IPS-3", "IPS-4", "IPS-2", "IPS-1", "IPS-5"), employeeNumbers(rows));
+  }
+
+  @Test
+  void findByIpAddressWithCursor_appliesOnlyPresentFilters() {
+    assertEquals(List.of("IPS-5", "IPS-2", "IPS-3"), employeeNumbers(changeLogRepository
+        .findByIpAddressWithCursor("", HistoryType.UPDATED, MEMO, "", null, null, null, 10, true)));
+    assertEquals(List.of("IPS-2", "IPS-4"), employeeNumbers(changeLogRepository
+        .findByIpAddressWithCursor(null, null, MEMO, "0.0.10", null, null, null, 10, true)));
+    // 검색어의 와일드카드는 문자 그대로 비교
+    assertTrue(changeLogRepository
+        .findByIpAddressWithCursor("IPS-%", null, MEMO, null, null, null, null, 10, true).isEmpty());
+  }
+
+  @Test
+  void findByIpAddressWithCursor_pagesWithKeyset() {
+    List<String> pages = new ArrayList<>();
+    KeysetCursor cursor = null;
+    while (true) {
+      List<ChangeLog> page = changeLogRepository.findByIpAddressWithCursor(
+          null, null, MEMO, null, null, null, cursor, 2, true);
+      page.forEach(changeLog -> pages.add(changeLog.getEmployeeNumber()));
+      if (page.size() < 2) {
+        break;
+      }
+      ChangeLog last = page.get(page.size() - 1);
+      cursor = new KeysetCursor("ipAddress", true, last.getIpAddress(), null, last.getId());
+    }
+
+    assertEquals(List.of("IPS-5", "IPS-1", "IPS-2", "IPS-4", "IPS-3"), pages);
+  }
+
+  private void insert(String type, String employeeNumber, String ipAddress) {
+    jdbcTemplate.update("""
+        INSERT INTO change_logs (type, employee_id, employee_number, memo, ip_address, created_at)
+        VALUES (?, NULL, ?, ?, CAST(? AS inet), NOW())
+        """, type, employeeNumber, MEMO, ipAddress);
+  }
+
+  private static List<String> employeeNumbers(List<ChangeLog> rows) {
+    return rows.stream().map(ChangeLog::getEmployeeNumber).toList();
+  }
+}
@@ -1,7 +1,11 @@
 package com.team11.hrbank.module.domain.changelog.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team11.hrbank.module.common.dto.CursorPageResponse;
 import com.team11.hrbank.module.common.exception.ResourceNotFoundException;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.pagination.KeysetPaginator;
+import com.team11.hrbank.module.common.pagination.PageCountService;
 import com.team11.hrbank.module.domain.changelog.ChangeLog;
 import com.team11.hrbank.module.domain.changelog.ChangeLogDiff;
 import com.team11.hrbank.module.domain.changelog.DiffEntry;
@@ -18,10 +22,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.core.env.StandardEnvironment;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.lang.reflect.Field;
@@ -35,7 +38,9 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -48,6 +53,10 @@ class ChangeLogServiceImplTest {
   private ChangeLogMapper changeLogMapper;
   @Mock
   private DiffMapper diffMapper;
+  @Spy
+  private KeysetPaginator keysetPaginator = new KeysetPaginator(new ObjectMapper().findAndRegisterModules(), "test-secret", new StandardEnvironment());
+  @Spy
+  private PageCountService pageCountService = new PageCountService(null, 0, 0, 100);
   @InjectMocks
   private ChangeLogServiceImpl changeLogService;
 
@@ -68,7 +77,7 @@ class ChangeLogServiceImplTest {
     changeLog1 = ChangeLog.create(employee,
         "EMP-2025-001",
         "직함 변경",
-        InetAddress.getByName("127.0.0.1"),
+        "127.0.0.1",
         HistoryType.UPDATED);
 
     setId(changeLog1, 1L);
@@ -77,7 +86,7 @@ class ChangeLogServiceImplTest {
         employee,
         "EMP-2025-002",
         "부서 변경",
-        InetAddress.getByName("127.0.0.1"),
+        "127.0.0.1",
         HistoryType.UPDATED
     );
 
@@ -147,23 +156,17 @@ class ChangeLogServiceImplTest {
     String sortField = "at";
     String sortDirection = "desc";
 
-    Page<ChangeLog> page = new PageImpl<>(changeLogs);
-
-//    // 부분 일치를 위해 any() 매처 사용-리포지토리는 부분 일치로 구현
-//    when(changeLogRepository.findAllWithFilters(
-//        anyString(), eq(type), anyString(), any(InetAddress.class),
-//        any(Instant.class), any(Instant.class), eq(idAfter), any(Pageable.class)))
-//        .thenReturn(page);
-    // Specification 사용으로 변경
-    when(changeLogRepository.findAll(any(Specification.class), any(Pageable.class)))
-        .thenReturn(page);
+    // Specification + keyset 조회
+    when(changeLogRepository.count(any(Specification.class))).thenReturn(2L);
+    when(changeLogRepository.findBy(any(Specification.class), any()))
+        .thenReturn(changeLogs);
 
     when(changeLogMapper.toDtoList(changeLogs)).thenReturn(changeLogDtos);
 
     // when
     CursorPageResponse<ChangeLogDto> result = changeLogService.getAllChangeLogs(
         employeeNumber, type, memo, ipAddress, atFrom, atTo,
-        idAfter, cursor, size, sortField, sortDirection);
+        idAfter, cursor, size, sortField, sortDirection, CountMode.EXACT);
 
     // then
     assertNotNull(result);
@@ -289,23 +292,23 @@ class ChangeLogServiceImplTest {
     Instant atFrom = Instant.now().minus(30, ChronoUnit.DAYS);
     Instant atTo = Instant.now();
     Long idAfter = 1L;
-    String cursor = "eyJpZCI6MX0="; // {"id":1} Base64 인코딩
     int size = 10;
     String sortField = "at";
     String sortDirection = "desc";
+    // 이전 페이지 응답의 nextCursor (정렬 키 + id 서명 커서)
+    String cursor = keysetPaginator.encode(sortField, false, Instant.now(), idAfter);
 
-    Page<ChangeLog> page = new PageImpl<>(List.of(changeLog2));
-
-    // Specification 사용으로 변경
-    when(changeLogRepository.findAll(any(Specification.class), any(Pageable.class)))
-        .thenReturn(page);
+    // Specification + keyset 조회 (커서 위치 조회 쿼리 없음)
+    when(changeLogRepository.count(any(Specification.class))).thenReturn(1L);
+    when(changeLogRepository.findBy(any(Specification.class), any()))
+        .thenReturn(List.of(changeLog2));
 
     when(changeLogMapper.toDtoList(List.of(changeLog2)))
         .thenReturn(List.of(changeLogDtos.get(1)));
 
     // when
     CursorPageResponse<ChangeLogDto> result = changeLogService.getAllChangeLogs(employeeNumber, type, memo, "127.0.0.1", atFrom, atTo,
-        null, cursor, size, sortField, sortDirection);
+        idAfter, cursor, size, sortField, sortDirection, CountMode.EXACT);
 
     // then
     assertNotNull(result);
@@ -315,6 +318,35 @@ class ChangeLogServiceImplTest {
     assertFalse(result.hasNext());
   }
 
+  @Test
+  void getAllChangeLogs_cursor없이_idAfter만_전달하면_해당_요소_위치부터_조회() {
+    // 기존 클라이언트 호환 - idAfter 요소를 한 번 조회해 (ip_address, id) 위치 계산
+    when(changeLogRepository.findById(1L)).thenReturn(Optional.of(changeLog1));
+    when(changeLogRepository.count(any(Specification.class))).thenReturn(2L);
+    when(changeLogRepository.findByIpAddressWithCursor(
+        isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+        argThat(cursor -> "127.0.0.1".equals(cursor.value()) && cursor.id() == 1L),
+        eq(11), eq(false)))
+        .thenReturn(List.of(changeLog2));
+    when(changeLogMapper.toDtoList(List.of(changeLog2)))
+        .thenReturn(List.of(changeLogDtos.get(1)));
+
+    CursorPageResponse<ChangeLogDto> result = changeLogService.getAllChangeLogs(
+        null, null, null, null, null, null, 1L, null, 10, "ipAddress", "desc", CountMode.EXACT);
+
+    assertEquals(List.of(changeLogDtos.get(1)), result.content());
+    assertFalse(result.hasNext());
+  }
+
+  @Test
+  void getAllChangeLogs_변조된_커서로_예외발생() {
+    String cursor = keysetPaginator.encode("at", false, Instant.now(), 1L);
+    String tampered = cursor.substring(0, cursor.indexOf('.')) + ".AAAAAAAAAAAAAAAAAAAAAA";
+
+    assertThrows(IllegalArgumentException.class, () -> changeLogService.getAllChangeLogs(
+        null, null, null, null, null, null, null, tampered, 10, "at", "desc", CountMode.EXACT));
+  }
+
   @Test
   void getAllChangeLogs_잘못된_정렬필드로_예외발생() throws UnknownHostException {
     // given
@@ -335,7 +367,7 @@ class ChangeLogServiceImplTest {
       // when
       changeLogService.getAllChangeLogs(
           employeeNumber, type, memo, "127.0.0.1", atFrom, atTo,
-          idAfter, cursor, size, sortField, sortDirection);
+          idAfter, cursor, size, sortField, sortDirection, CountMode.EXACT);
     });
   }
 }
\ No newline at end of file
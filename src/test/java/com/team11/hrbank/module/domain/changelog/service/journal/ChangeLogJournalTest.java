@@ -0,0 +1,132 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeLogJournalTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void recoveredRecords_keepsEntryCommitAbortAndAssignInOrder() throws IOException {
+    try (ChangeLogJournal journal = open()) {
+      JournalRecord committed = journal.appendEntry(event("EMP-1"), seq -> { });
+      JournalRecord aborted = journal.appendEntry(event("EMP-2"), seq -> { });
+      journal.appendEntry(event("EMP-3"), seq -> { });  // 트랜잭션 도중 종료
+      journal.appendCommit(committed.seq());
+      journal.appendAbort(aborted.seq());
+      journal.appendAssignments(List.of(JournalRecord.assign(committed.seq(), 42L)));
+    }
+
+    try (ChangeLogJournal journal = open()) {
+      List<JournalRecord> records = journal.recoveredRecords();
+      assertEquals(List.of(
+          JournalRecord.Kind.ENTRY, JournalRecord.Kind.ENTRY, JournalRecord.Kind.ENTRY,
+          JournalRecord.Kind.COMMIT, JournalRecord.Kind.ABORT, JournalRecord.Kind.ASSIGN
+      ), records.stream().map(JournalRecord::kind).toList());
+      assertEquals("EMP-1", records.get(0).event().employeeNumber());
+      assertEquals(1L, records.get(3).seq());
+      assertEquals(Long.valueOf(42L), records.get(5).changeLogId());
+    }
+  }
+
+  @Test
+  void recoveredRecords_skipsRecordsAtOrBelowCheckpoint() throws IOException {
+    try (ChangeLogJournal journal = open()) {
+      for (int i = 1; i <= 4; i++) {
+        JournalRecord entry = journal.appendEntry(event("EMP-" + i), seq -> { });
+        journal.appendCommit(entry.seq());
+      }
+      // seq 3 부터 미반영
+      journal.checkpoint(new TreeSet<>(List.of(3L, 4L)));
+    }
+
+    try (ChangeLogJournal journal = open()) {
+      List<JournalRecord> records = journal.recoveredRecords();
+      assertEquals(List.of(3L, 3L, 4L, 4L), records.stream().map(JournalRecord::seq).toList());
+
+      // 새 seq 는 기존 seq 뒤에서 이어짐
+      JournalRecord next = journal.appendEntry(event("EMP-5"), seq -> { });
+      assertEquals(5L, next.seq());
+    }
+  }
+
+  @Test
+  void compactIfIdle_truncatesOnlyWhenNothingUnresolved() throws IOException {
+    try (ChangeLogJournal journal = open()) {
+      JournalRecord entry = journal.appendEntry(event("EMP-1"), seq -> { });
+      journal.appendCommit(entry.seq());
+
+      assertFalse(journal.compactIfIdle(new TreeSet<>(List.of(entry.seq())), 0));
+      assertTrue(journal.sizeBytes() > 0);
+
+      assertTrue(journal.compactIfIdle(new TreeSet<>(), 0));
+      assertEquals(0L, journal.sizeBytes());
+
+      JournalRecord next = journal.appendEntry(event("EMP-2"), seq -> { });
+      assertEquals(2L, next.seq());
+    }
+
+    try (ChangeLogJournal journal = open()) {
+      // 정리 전 레코드는 watermark 이하라 복구 대상이 아님
+      assertEquals(List.of(2L), journal.recoveredRecords().stream().map(JournalRecord::seq).toList());
+      assertEquals(3L, journal.appendEntry(event("EMP-3"), seq -> { }).seq());
+    }
+  }
+
+  @Test
+  void open_dropsTruncatedTailSoLaterAppendsStayReadable() throws IOException {
+    try (ChangeLogJournal journal = open()) {
+      JournalRecord entry = journal.appendEntry(event("EMP-1"), seq -> { });
+      journal.appendCommit(entry.seq());
+    }
+    // 쓰는 도중 비정상 종료된 것처럼 줄바꿈 없는 반쪽 레코드를 붙임
+    Files.writeString(journalFile(), "{\"seq\":3,\"kind\":\"ENT", StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+
+    try (ChangeLogJournal journal = open()) {
+      assertEquals(2, journal.recoveredRecords().size());
+      JournalRecord entry = journal.appendEntry(event("EMP-2"), seq -> { });
+      journal.appendCommit(entry.seq());
+    }
+
+    try (ChangeLogJournal journal = open()) {
+      List<JournalRecord> records = journal.recoveredRecords();
+      assertEquals(4, records.size());
+      assertEquals("EMP-2", records.get(2).event().employeeNumber());
+      assertEquals(JournalRecord.Kind.COMMIT, records.get(3).kind());
+    }
+    assertTrue(Files.readString(journalFile(), StandardCharsets.UTF_8).endsWith("\n"));
+  }
+
+  private ChangeLogJournal open() throws IOException {
+    return new ChangeLogJournal(directory, objectMapper);
+  }
+
+  private Path journalFile() {
+    return directory.resolve("changelog.journal");
+  }
+
+  private static ChangeLogEvent event(String employeeNumber) {
+    return new ChangeLogEvent(HistoryType.UPDATED, 1L, employeeNumber, "memo", "127.0.0.1",
+        Instant.parse("2025-01-01T00:00:00Z"), null);
+  }
+}
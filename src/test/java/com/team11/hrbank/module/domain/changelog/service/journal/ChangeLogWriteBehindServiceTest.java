@@ -0,0 +1,196 @@
+package com.team11.hrbank.module.domain.changelog.service.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재시작 시 저널 재처리 (COMMIT 이 기록됐거나 DB 커밋 표시가 남은 ENTRY 만 반영)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChangeLogWriteBehindServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @TempDir
+  Path rootPath;
+
+  private final List<Object[]> insertedChangeLogs = new ArrayList<>();
+  // change_log_journal_commits 흉내
+  private final Set<Long> commitMarkers = new HashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    AtomicLong sequence = new AtomicLong(100);
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      if (sql.startsWith("SELECT seq FROM change_log_journal_commits")) {
+        Long[] seqs = invocation.getArgument(2);
+        return Arrays.stream(seqs).filter(commitMarkers::contains).toList();
+      }
+      int count = invocation.getArgument(2);
+      return LongStream.range(0, count).mapToObj(i -> sequence.incrementAndGet()).toList();
+    });
+    when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      Object arg = invocation.getArgument(1);
+      if (sql.startsWith("INSERT INTO change_log_journal_commits")) {
+        commitMarkers.add((Long) arg);
+      } else if (sql.startsWith("DELETE FROM change_log_journal_commits")) {
+        commitMarkers.removeAll(Arrays.asList((Long[]) arg));
+      }
+      return 1;
+    });
+    when(jdbcTemplate.update(anyString())).thenAnswer(invocation -> {
+      commitMarkers.clear();
+      return 1;
+    });
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      List<Object[]> args = invocation.getArgument(1);
+      if (sql.startsWith("INSERT INTO change_logs ")) {
+        insertedChangeLogs.addAll(args);
+      }
+      return new int[args.size()];
+    });
+  }
+
+  @Test
+  void replay_flushesOnlyCommittedEntries() throws Exception {
+    try (ChangeLogJournal journal = new ChangeLogJournal(journalDirectory(), objectMapper)) {
+      JournalRecord committed = journal.appendEntry(event("EMP-1"), seq -> { });
+      journal.appendEntry(event("EMP-2"), seq -> { });  // 롤백 (fsync 되지 않은 ABORT 가 유실된 상황)
+      journal.appendEntry(event("EMP-3"), seq -> { });  // 트랜잭션 도중 종료 (COMMIT/ABORT 없음)
+      JournalRecord assigned = journal.appendEntry(event("EMP-4"), seq -> { });
+      journal.appendCommit(committed.seq());
+      journal.appendCommit(assigned.seq());
+      journal.appendAssignments(List.of(JournalRecord.assign(assigned.seq(), 7L)));
+    }
+
+    ChangeLogWriteBehindService service = newService();
+    service.start();
+    service.stop();
+
+    assertEquals(List.of("EMP-1", "EMP-4"),
+        insertedChangeLogs.stream().map(args -> (String) args[3]).toList());
+    // 이미 할당된 ID 는 재사용, 나머지는 새로 할당
+    assertEquals(List.of(101L, 7L),
+        insertedChangeLogs.stream().map(args -> (Long) args[0]).toList());
+
+    // 재처리 후 저널이 비워져 다시 시작해도 중복 반영되지 않음
+    insertedChangeLogs.clear();
+    ChangeLogWriteBehindService restarted = newService();
+    restarted.start();
+    restarted.stop();
+    assertEquals(0, insertedChangeLogs.size());
+  }
+
+  @Test
+  void replay_flushesEntryWhoseCommitMarkerIsInDb() throws Exception {
+    // DB 는 커밋됐지만 저널 COMMIT fsync 전에 종료된 항목
+    try (ChangeLogJournal journal = new ChangeLogJournal(journalDirectory(), objectMapper)) {
+      JournalRecord committedInDb = journal.appendEntry(event("EMP-1"), seq -> { });
+      journal.appendEntry(event("EMP-2"), seq -> { });  // 롤백되어 커밋 표시도 없음
+      commitMarkers.add(committedInDb.seq());
+    }
+
+    ChangeLogWriteBehindService service = newService();
+    service.start();
+    service.stop();
+
+    assertEquals(List.of("EMP-1"),
+        insertedChangeLogs.stream().map(args -> (String) args[3]).toList());
+    assertTrue(commitMarkers.isEmpty());
+  }
+
+  @Test
+  void enqueue_inCommittedTransaction_writesMarkerAndFlushes() throws Exception {
+    ChangeLogWriteBehindService service = newService();
+    service.start();
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      service.enqueue(event("EMP-1"));
+      assertEquals(1, commitMarkers.size());
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    service.stop();
+
+    assertEquals(List.of("EMP-1"),
+        insertedChangeLogs.stream().map(args -> (String) args[3]).toList());
+    // DB 반영과 함께 커밋 표시 삭제
+    assertTrue(commitMarkers.isEmpty());
+  }
+
+  @Test
+  void enqueue_withoutTransaction_isFlushedAfterReplay() throws Exception {
+    // 이전 실행에서 커밋만 되고 DB 반영 전에 종료된 항목
+    try (ChangeLogJournal journal = new ChangeLogJournal(journalDirectory(), objectMapper)) {
+      JournalRecord entry = journal.appendEntry(event("EMP-1"), seq -> { });
+      journal.appendCommit(entry.seq());
+    }
+
+    ChangeLogWriteBehindService service = newService();
+    service.start();
+    service.enqueue(event("EMP-2"));
+    service.stop();
+
+    assertEquals(List.of("EMP-1", "EMP-2"),
+        insertedChangeLogs.stream().map(args -> (String) args[3]).toList());
+  }
+
+  private ChangeLogWriteBehindService newService() {
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setRootPath(rootPath.toString());
+    return new ChangeLogWriteBehindService(properties, objectMapper, jdbcTemplate,
+        new TransactionTemplate(mock(PlatformTransactionManager.class)), 500, 50, 0);
+  }
+
+  private Path journalDirectory() {
+    return rootPath.resolve("changelog-journal");
+  }
+
+  private static ChangeLogEvent event(String employeeNumber) {
+    return new ChangeLogEvent(HistoryType.UPDATED, 1L, employeeNumber, "memo", "127.0.0.1",
+        Instant.parse("2025-01-01T00:00:00Z"), null);
+  }
+}
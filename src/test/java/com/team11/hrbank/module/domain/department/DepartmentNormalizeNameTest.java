@@ -0,0 +1,69 @@
+package com.team11.hrbank.module.domain.department;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 부서명 정규화 - Java(Department.normalizeName)와 schema.sql 백필(REGEXP_REPLACE)이 같은 키를 만드는지 (실제 DB 사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DepartmentNormalizeNameTest {
+
+  // schema.sql 의 normalized_name 백필 식
+  private static final Pattern BACKFILL = Pattern.compile(
+      "SET normalized_name = LOWER\\(REGEXP_REPLACE\\(name,\\s*'([^']+)', '', 'g'\\)\\)");
+
+  private static final List<String> NAMES = List.of(
+      "개발 팀",
+      "개발\t팀",
+      "개발\n팀",
+      "  Dev\r\nTeam  ",
+      "개발\u000B\f팀",
+      "개발\u00A0팀",
+      "개발\u3000팀",
+      "개발\u2003팀",
+      "개발\u0085\u1680\u2028\u2029\u202F\u205F팀",
+      // 공백이 아닌 문자(zero width space)는 유지
+      "개발\u200B팀",
+      "DevTeam");
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void normalizeName_matchesSchemaBackfill() throws IOException {
+    String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+    Matcher matcher = BACKFILL.matcher(schema);
+    assertTrue(matcher.find(), "schema.sql 에서 normalized_name 백필 식을 찾을 수 없음");
+    String pattern = matcher.group(1);
+
+    for (String name : NAMES) {
+      String backfilled = jdbcTemplate.queryForObject(
+          "SELECT LOWER(REGEXP_REPLACE(?, ?, '', 'g'))", String.class, name, pattern);
+      assertEquals(backfilled, Department.normalizeName(name), () -> "부서명: " + escape(name));
+    }
+    assertEquals("개발팀", Department.normalizeName("개발\u00A0\u3000 \t\n팀"));
+    assertEquals("devteam", Department.normalizeName("  Dev\r\nTeam  "));
+  }
+
+  private static String escape(String name) {
+    StringBuilder escaped = new StringBuilder();
+    name.codePoints().forEach(c -> escaped.append(c < 0x80 && !Character.isISOControl(c)
+        ? String.valueOf((char) c) : String.format("\\u%04X", c)));
+    return escaped.toString();
+  }
+}
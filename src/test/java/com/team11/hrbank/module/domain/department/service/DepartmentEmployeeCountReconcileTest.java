@@ -0,0 +1,113 @@
+package com.team11.hrbank.module.domain.department.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 카운터 보정 중 동시 증감 (실제 DB 사용)
+ * - 보정이 카운터 행 잠금을 기다리는 동안 다른 트랜잭션이 직원 추가 + 증가를 커밋해도 증가분이 남아야 함
+ * - 다른 연결에서 보이도록 테스트 데이터를 커밋하고 끝나면 삭제 (쓰기/보정/대기 확인용 연결 3개)
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.maximum-pool-size=3")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DepartmentEmployeeCountService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DepartmentEmployeeCountReconcileTest {
+
+  private static final String DEPARTMENT_NAME = "reconcile-test-dept";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private DepartmentEmployeeCountService departmentEmployeeCountService;
+
+  private Long departmentId;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM employees WHERE email LIKE 'reconcile-test-%'");
+    jdbcTemplate.update("DELETE FROM departments WHERE name = ?", DEPARTMENT_NAME);
+  }
+
+  @Test
+  void reconcile_keepsIncrementCommittedWhileWaitingForRowLock() throws Exception {
+    departmentId = jdbcTemplate.queryForObject("""
+        INSERT INTO departments (name, normalized_name, description, established_date, employee_count)
+        VALUES (?, ?, '설명', DATE '2020-01-01', 5) RETURNING id
+        """, Long.class, DEPARTMENT_NAME, DEPARTMENT_NAME);
+    // 실제 2명, 카운터 5 (보정 대상)
+    insertEmployee(1);
+    insertEmployee(2);
+
+    CountDownLatch adjusted = new CountDownLatch(1);
+    CountDownLatch commit = new CountDownLatch(1);
+    CompletableFuture<Void> writer = CompletableFuture.runAsync(() ->
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+          insertEmployee(3);
+          departmentEmployeeCountService.increment(departmentId);
+          adjusted.countDown();
+          await(commit);
+        }));
+    assertTrue(adjusted.await(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> reconcile = CompletableFuture.runAsync(
+        departmentEmployeeCountService::reconcile);
+    waitUntilReconcileBlocked();
+    commit.countDown();
+    writer.get(10, TimeUnit.SECONDS);
+    reconcile.get(10, TimeUnit.SECONDS);
+
+    assertEquals(3L, jdbcTemplate.queryForObject(
+        "SELECT employee_count FROM departments WHERE id = ?", Long.class, departmentId));
+  }
+
+  private void insertEmployee(int n) {
+    jdbcTemplate.update("""
+        INSERT INTO employees (name, email, employee_number, department_id, position, hire_date,
+                               status, created_at)
+        VALUES (?, ?, ?, ?, '사원', DATE '2024-01-02', 'ACTIVE', NOW())
+        """, "보정" + n, "reconcile-test-" + n + "@example.com", "RECON-TEST-" + n, departmentId);
+  }
+
+  private void waitUntilReconcileBlocked() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (System.nanoTime() < deadline) {
+      Integer waiting = jdbcTemplate.queryForObject("""
+          SELECT COUNT(*) FROM pg_stat_activity
+          WHERE wait_event_type = 'Lock' AND query LIKE '%UPDATE departments d%'
+          """, Integer.class);
+      if (waiting != null && waiting > 0) {
+        return;
+      }
+      Thread.sleep(20);
+    }
+    throw new AssertionError("보정 쿼리가 카운터 행 잠금을 기다리지 않음");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
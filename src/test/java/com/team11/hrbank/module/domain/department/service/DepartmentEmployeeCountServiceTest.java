@@ -0,0 +1,97 @@
+package com.team11.hrbank.module.domain.department.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * 부서 직원 수 카운터 갱신 순서 (행 잠금 순서를 부서 ID 오름차순으로 고정)
+ */
+@ExtendWith(MockitoExtension.class)
+class DepartmentEmployeeCountServiceTest {
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @InjectMocks
+  private DepartmentEmployeeCountService departmentEmployeeCountService;
+
+  @Test
+  void transfer_toLowerId_updatesLowerIdFirst() {
+    departmentEmployeeCountService.transfer(7L, 3L);
+
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).update(anyString(), eq(1L), eq(3L));
+    inOrder.verify(jdbcTemplate).update(anyString(), eq(-1L), eq(7L));
+    verifyNoMoreInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void transfer_toHigherId_updatesLowerIdFirst() {
+    departmentEmployeeCountService.transfer(3L, 7L);
+
+    InOrder inOrder = inOrder(jdbcTemplate);
+    inOrder.verify(jdbcTemplate).update(anyString(), eq(-1L), eq(3L));
+    inOrder.verify(jdbcTemplate).update(anyString(), eq(1L), eq(7L));
+    verifyNoMoreInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void transfer_withoutPreviousDepartment_incrementsOnlyTarget() {
+    departmentEmployeeCountService.transfer(null, 3L);
+
+    verify(jdbcTemplate).update(anyString(), eq(1L), eq(3L));
+    verifyNoMoreInteractions(jdbcTemplate);
+  }
+
+  @Test
+  void transfer_sameDepartment_doesNothing() {
+    departmentEmployeeCountService.transfer(3L, 3L);
+
+    verifyNoInteractions(jdbcTemplate);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void adjustAll_sortsByIdAndSkipsZeroDeltas() {
+    Map<Long, Long> deltas = new HashMap<>();
+    deltas.put(9L, 2L);
+    deltas.put(2L, 1L);
+    deltas.put(5L, 0L);
+    deltas.put(null, 4L);
+
+    departmentEmployeeCountService.adjustAll(deltas);
+
+    ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+    assertEquals(2, args.getValue().size());
+    assertArrayEquals(new Object[]{1L, 2L}, args.getValue().get(0));
+    assertArrayEquals(new Object[]{2L, 9L}, args.getValue().get(1));
+  }
+
+  @Test
+  void adjustAll_nothingToUpdate_skipsQuery() {
+    departmentEmployeeCountService.adjustAll(Map.of(4L, 0L));
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+}
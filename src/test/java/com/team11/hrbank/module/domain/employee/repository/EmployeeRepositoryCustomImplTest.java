@@ -0,0 +1,99 @@
+package com.team11.hrbank.module.domain.employee.repository;
+
+import com.team11.hrbank.config.JpaConfig;
+import com.team11.hrbank.module.domain.department.Department;
+import com.team11.hrbank.module.domain.employee.Employee;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 직원 목록 조회 statement 수 검증 (실제 DB 사용, 테스트 데이터는 롤백)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, EmployeeRepositoryCustomImpl.class})
+class EmployeeRepositoryCustomImplTest {
+
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private EmployeeRepositoryCustom employeeRepositoryCustom;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    // 부서가 여러 개여야 기존 방식에서 부서별 지연 로딩 쿼리가 발생
+    for (int d = 0; d < 3; d++) {
+      Department department = new Department();
+      department.setName("statement-test-dept-" + d);
+      department.setDescription("statement count test");
+      department.setEstablishedDate(LocalDate.of(2020, 1, 1));
+      entityManager.persist(department);
+
+      for (int e = 0; e < 5; e++) {
+        entityManager.persist(Employee.builder()
+            .name("statement-test-" + d + "-" + e)
+            .email("statement-test-" + d + "-" + e + "@example.com")
+            .employeeNumber("ST-" + d + "-" + e)
+            .department(department)
+            .position("사원")
+            .hireDate(LocalDate.of(2024, 1, 1).plusDays(e))
+            .status(EmployeeStatus.ACTIVE)
+            .build());
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void findEmployeesByConditions_onePagePerStatement() {
+    List<EmployeeDto> page = employeeRepositoryCustom.findEmployeesByConditions(
+        "statement-test-", NameSearchMode.CONTAINS, null, null, null, null, null, null,
+        null, PAGE_SIZE + 1, "name", true);
+
+    assertEquals(PAGE_SIZE + 1, page.size());
+    page.forEach(employee -> assertNotNull(employee.departmentName()));
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+
+  @Test
+  void findEmployeesByConditions_withCountQuery() {
+    List<EmployeeDto> page = employeeRepositoryCustom.findEmployeesByConditions(
+        null, null, null, "statement-test-dept-", null, null, null, EmployeeStatus.ACTIVE,
+        null, PAGE_SIZE + 1, "hireDate", false);
+    long total = employeeRepositoryCustom.countEmployeesByConditions(
+        null, null, null, "statement-test-dept-", null, null, null, EmployeeStatus.ACTIVE);
+
+    assertEquals(PAGE_SIZE + 1, page.size());
+    assertEquals(15, total);
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+}
@@ -0,0 +1,97 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 이메일 중복 검사 시간 비교 (기존 전체 이메일 조회 vs Bloom filter + 유니크 인덱스, 실제 DB 사용)
+ * - 실행: EMAIL_BENCHMARK=true ./gradlew test --tests '*EmployeeEmailRegistryBenchmarkTest'
+ * - 직원 수 10k, 100k, 1M 단계마다 filter 재구축 후 검사 1건당 평균 시간을 로그로 출력
+ * - 새 이메일(대부분 filter 에서 끝남)과 기존 이메일(인덱스 조회)을 따로 측정
+ * - 테스트 트랜잭션 안에서 넣은 데이터는 끝나면 롤백
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmployeeEmailRegistry.class)
+@EnabledIfEnvironmentVariable(named = "EMAIL_BENCHMARK", matches = "true")
+class EmployeeEmailRegistryBenchmarkTest {
+
+  private static final int[] EMPLOYEE_COUNTS = {10_000, 100_000, 1_000_000};
+  private static final int LEGACY_ROUNDS = 5;
+  private static final int NEW_EMAIL_PROBES = 20_000;
+  private static final int EXISTING_EMAIL_PROBES = 2_000;
+  private static final String EMAIL_SUFFIX = "@email-bench.example.com";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private EmployeeRepository employeeRepository;
+  @Autowired
+  private EmployeeEmailRegistry registry;
+
+  @Test
+  void duplicateCheck() {
+    int inserted = 0;
+    for (int count : EMPLOYEE_COUNTS) {
+      insertEmployees(inserted + 1, count);
+      inserted = count;
+
+      long rebuildStart = System.nanoTime();
+      registry.rebuild();
+      double rebuildMillis = (System.nanoTime() - rebuildStart) / 1e6;
+
+      // 기존 방식: 검사마다 전체 이메일을 가져와 비교
+      String legacyProbe = "new-0" + EMAIL_SUFFIX;
+      assertFalse(employeeRepository.findAllEmails().contains(legacyProbe));
+      long legacyStart = System.nanoTime();
+      for (int i = 0; i < LEGACY_ROUNDS; i++) {
+        assertFalse(employeeRepository.findAllEmails().contains("new-" + i + EMAIL_SUFFIX));
+      }
+      double legacyMillis = (System.nanoTime() - legacyStart) / 1e6 / LEGACY_ROUNDS;
+
+      // 새 방식: 새 이메일 (filter 오탐일 때만 DB 조회)
+      int dbLookups = 0;
+      long newStart = System.nanoTime();
+      for (int i = 0; i < NEW_EMAIL_PROBES; i++) {
+        String email = "new-" + i + EMAIL_SUFFIX;
+        if (registry.mightContain(email)) {
+          dbLookups++;
+        }
+        assertFalse(registry.isDuplicate(email));
+      }
+      double newMicros = (System.nanoTime() - newStart) / 1e3 / NEW_EMAIL_PROBES;
+
+      // 새 방식: 기존 이메일 (항상 유니크 인덱스 조회)
+      long existingStart = System.nanoTime();
+      for (int i = 0; i < EXISTING_EMAIL_PROBES; i++) {
+        assertTrue(registry.isDuplicate("bench-" + (1 + (long) i * count / EXISTING_EMAIL_PROBES) + EMAIL_SUFFIX));
+      }
+      double existingMicros = (System.nanoTime() - existingStart) / 1e3 / EXISTING_EMAIL_PROBES;
+
+      log.info("직원 {}명 - 재구축 {} ms, 기존 방식 {} ms/건, 새 이메일 {} us/건 (DB 조회 {}/{}건), 기존 이메일 {} us/건",
+          count, String.format("%.1f", rebuildMillis), String.format("%.1f", legacyMillis),
+          String.format("%.2f", newMicros), dbLookups, NEW_EMAIL_PROBES,
+          String.format("%.1f", existingMicros));
+    }
+  }
+
+  private void insertEmployees(int from, int to) {
+    jdbcTemplate.update("""
+        INSERT INTO employees (name, email, employee_number, position, hire_date, status, created_at)
+        SELECT 'bench-' || g, 'bench-' || g || ?, 'EB-' || g, '사원',
+               DATE '2010-01-01' + (g % 5000), 'ACTIVE', TIMESTAMPTZ '2024-01-01 00:00:00+00'
+        FROM generate_series(?, ?) AS g
+        """, EMAIL_SUFFIX, from, to);
+  }
+}
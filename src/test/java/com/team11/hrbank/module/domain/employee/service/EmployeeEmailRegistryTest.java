@@ -0,0 +1,136 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeEmailRegistryTest {
+
+  @Mock
+  private EmployeeRepository employeeRepository;
+
+  private EmployeeEmailRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new EmployeeEmailRegistry(employeeRepository, 1_000, 0.01, 2);
+  }
+
+  @Test
+  void isDuplicate_unknownEmailSkipsDbLookup() {
+    assertFalse(registry.isDuplicate("new@example.com"));
+    assertFalse(registry.isDuplicate("new@example.com", 1L));
+
+    verifyNoInteractions(employeeRepository);
+  }
+
+  @Test
+  void isDuplicate_registeredEmailChecksDb() {
+    registry.register("kim@example.com");
+    when(employeeRepository.existsByEmail("kim@example.com")).thenReturn(true);
+    when(employeeRepository.existsByEmailAndIdNot("kim@example.com", 1L)).thenReturn(false);
+
+    assertTrue(registry.isDuplicate("kim@example.com"));
+    assertFalse(registry.isDuplicate("kim@example.com", 1L));
+  }
+
+  @Test
+  void isDuplicate_caseSensitiveLikeUniqueConstraint() {
+    registry.register("Kim@example.com");
+
+    assertFalse(registry.isDuplicate("kim@example.com"));
+    verify(employeeRepository, never()).existsByEmail("kim@example.com");
+  }
+
+  @Test
+  void rebuild_loadsAllEmails() {
+    when(employeeRepository.count()).thenReturn(2L);
+    when(employeeRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com", "b@example.com"));
+
+    registry.rebuild();
+
+    assertTrue(registry.mightContain("a@example.com"));
+    assertTrue(registry.mightContain("b@example.com"));
+  }
+
+  @Test
+  void rebuild_keepsEmailRegisteredWhileLoading() {
+    when(employeeRepository.count()).thenReturn(1L);
+    when(employeeRepository.streamAllEmails()).thenReturn(Stream.of("a@example.com")
+        .peek(email -> registry.register("late@example.com")));
+
+    registry.rebuild();
+
+    assertTrue(registry.mightContain("late@example.com"));
+  }
+
+  @Test
+  void rebuild_keepsEmailRegisteredBeforeLoadButCommittedAfter() {
+    // 재구축 조회 시점에는 아직 커밋되지 않은 이메일
+    registry.register("uncommitted@example.com");
+    when(employeeRepository.count()).thenReturn(1L);
+    when(employeeRepository.streamAllEmails()).thenAnswer(invocation -> Stream.of("seed@example.com"));
+
+    registry.rebuild();
+    assertTrue(registry.mightContain("uncommitted@example.com"));
+  }
+
+  @Test
+  void rebuild_concurrentRegisterNeverLost() throws InterruptedException {
+    // 등록 후 커밋되는 DB 를 흉내 (재구축은 조회 시점에 커밋된 이메일만 봄)
+    Set<String> committed = ConcurrentHashMap.newKeySet();
+    committed.add("seed@example.com");
+    when(employeeRepository.count()).thenAnswer(invocation -> (long) committed.size());
+    when(employeeRepository.streamAllEmails())
+        .thenAnswer(invocation -> new ArrayList<>(committed).stream());
+
+    List<String> registered = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      registered.add("user-" + i + "@example.com");
+    }
+    Thread writer = new Thread(() -> registered.forEach(email -> {
+      registry.register(email);
+      committed.add(email);
+    }));
+    writer.start();
+    do {
+      registry.rebuild();
+    } while (writer.isAlive());
+    writer.join();
+
+    for (String email : registered) {
+      assertTrue(registry.mightContain(email), email);
+    }
+  }
+
+  @Test
+  void rebuildIfStale_rebuildsAfterThreshold() {
+    registry.markStale();
+    registry.rebuildIfStale();
+    verify(employeeRepository, never()).streamAllEmails();
+
+    when(employeeRepository.count()).thenReturn(0L);
+    when(employeeRepository.streamAllEmails()).thenReturn(Stream.empty());
+    registry.markStale();
+    registry.rebuildIfStale();
+
+    verify(employeeRepository).streamAllEmails();
+  }
+}
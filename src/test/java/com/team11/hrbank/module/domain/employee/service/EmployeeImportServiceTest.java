@@ -0,0 +1,200 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.EmployeeNumberGenerator;
+import com.team11.hrbank.module.domain.department.repository.DepartmentRepository;
+import com.team11.hrbank.module.domain.department.service.DepartmentEmployeeCountService;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeImportErrorDto;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeImportResultDto;
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepository;
+import com.team11.hrbank.module.domain.employee.service.history.EmployeeSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 정상/오류 행이 섞인 대량 등록 (DB 는 email 유니크 제약만 흉내 낸 메모리 저장소)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmployeeImportServiceTest {
+
+  @Mock
+  private EmployeeRepository employeeRepository;
+  @Mock
+  private DepartmentRepository departmentRepository;
+  @Mock
+  private EmployeeNumberGenerator employeeNumberGenerator;
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private EmployeeTrendService employeeTrendService;
+  @Mock
+  private DepartmentEmployeeCountService departmentEmployeeCountService;
+  @Mock
+  private EmployeeSnapshotService employeeSnapshotService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private EmployeeEmailRegistry employeeEmailRegistry;
+  private final Set<String> storedEmails = new HashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    employeeEmailRegistry = new EmployeeEmailRegistry(employeeRepository, 1_000, 0.01, 1_000);
+    when(departmentRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+    AtomicLong employeeNumber = new AtomicLong();
+    when(employeeNumberGenerator.generateEmployeeNumber())
+        .thenAnswer(invocation -> "EMP-" + employeeNumber.incrementAndGet());
+
+    AtomicLong sequence = new AtomicLong();
+    when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(), any())).thenAnswer(invocation -> {
+      int count = invocation.getArgument(3);
+      long start = sequence.getAndAdd(count) + 1;
+      return LongStream.range(start, start + count).boxed().toList();
+    });
+    // employees batch 는 email 유니크 제약 위반 시 전체 실패 (트랜잭션 롤백과 같게 아무 행도 저장하지 않음)
+    when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+      String sql = invocation.getArgument(0);
+      List<Object[]> rows = invocation.getArgument(1);
+      if (sql.startsWith("INSERT INTO employees")) {
+        Set<String> emails = new HashSet<>();
+        for (Object[] row : rows) {
+          String email = (String) row[2];
+          if (storedEmails.contains(email) || !emails.add(email)) {
+            throw new DuplicateKeyException("duplicate key value violates unique constraint: " + email);
+          }
+        }
+        storedEmails.addAll(emails);
+      }
+      return new int[rows.size()];
+    });
+    when(employeeRepository.findExistingEmails(anyCollection())).thenAnswer(invocation -> {
+      Collection<String> emails = invocation.getArgument(0);
+      return emails.stream().filter(storedEmails::contains).toList();
+    });
+  }
+
+  @Test
+  void importEmployees_ndjsonOnlyInvalidRowsFail() throws IOException {
+    // 이미 있는 이메일 (filter 에 등록됨)
+    storedEmails.add("exists@example.com");
+    employeeEmailRegistry.register("exists@example.com");
+    // filter 에 없지만 DB 에 있는 이메일 -> 청크 저장 실패 후 행 단위 재시도에서 이 행만 실패
+    storedEmails.add("conflict@example.com");
+
+    String input = String.join("\n",
+        row("김하나", "a@example.com", 1),
+        "{\"email\":\"noname@example.com\",\"departmentId\":1,\"position\":\"사원\",\"hireDate\":\"2024-01-01\"}",
+        row("박셋", "dept@example.com", 99),
+        "{not json",
+        row("이다섯", "a@example.com", 1),
+        row("최여섯", "exists@example.com", 2),
+        row("정일곱", "conflict@example.com", 2),
+        row("한여덟", "b@example.com", 2));
+
+    EmployeeImportResultDto result = service(100).importEmployees(stream(input), "ndjson", "127.0.0.1");
+
+    assertEquals(8, result.totalRows());
+    assertEquals(2, result.successCount());
+    assertEquals(6, result.failureCount());
+    Map<Long, String> errors = errorsByRow(result);
+    assertEquals(Set.of(2L, 3L, 4L, 5L, 6L, 7L), errors.keySet());
+    assertEquals("이름은 필수입니다.", errors.get(2L));
+    assertTrue(errors.get(3L).contains("99"));
+    assertTrue(errors.get(4L).startsWith("행 파싱 실패"));
+    assertEquals("파일 내 중복된 이메일입니다.", errors.get(5L));
+    assertTrue(errors.get(6L).contains("이미 존재"));
+    assertTrue(errors.get(7L).startsWith("저장 실패"));
+    assertTrue(storedEmails.containsAll(Set.of("a@example.com", "b@example.com")));
+    assertTrue(employeeEmailRegistry.mightContain("b@example.com"));
+  }
+
+  @Test
+  void importEmployees_duplicateInLaterChunkRejected() throws IOException {
+    String input = String.join("\n",
+        row("김하나", "a@example.com", 1),
+        row("이둘", "b@example.com", 1),
+        row("박셋", "a@example.com", 2),
+        row("최넷", "c@example.com", 2));
+
+    EmployeeImportResultDto result = service(2).importEmployees(stream(input), "ndjson", "127.0.0.1");
+
+    assertEquals(3, result.successCount());
+    assertEquals(1, result.failureCount());
+    assertTrue(errorsByRow(result).get(3L).contains("이미 존재"));
+  }
+
+  @Test
+  void importEmployees_csvParseErrorsDoNotAbort() throws IOException {
+    String input = String.join("\n",
+        "name,email,departmentId,position,hireDate,memo",
+        "김하나,a@example.com,1,사원,2024-01-01,",
+        "이둘,b@example.com,1,사원,2024-13-01,",
+        "박셋,c@example.com,x,사원,2024-01-01,",
+        "최넷,d@example.com,2,대리,2024-02-01,메모");
+
+    EmployeeImportResultDto result = service(100).importEmployees(stream(input), "csv", "127.0.0.1");
+
+    assertEquals(4, result.totalRows());
+    assertEquals(2, result.successCount());
+    assertEquals(2, result.failureCount());
+    assertTrue(result.errors().stream().allMatch(error -> error.message().startsWith("행 파싱 실패")));
+    assertEquals(Set.of("a@example.com", "d@example.com"), storedEmails);
+    // 저장된 직원만 생성 스냅샷
+    verify(employeeSnapshotService).recordCreatedAll(List.of(1L, 2L));
+  }
+
+  private EmployeeImportService service(int batchSize) {
+    return new EmployeeImportService(employeeRepository, departmentRepository, employeeEmailRegistry,
+        employeeNumberGenerator, jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+        new ObjectMapper().findAndRegisterModules(), employeeTrendService, departmentEmployeeCountService,
+        employeeSnapshotService, eventPublisher, batchSize, 100);
+  }
+
+  private static String row(String name, String email, long departmentId) {
+    return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"departmentId\":" + departmentId
+        + ",\"position\":\"사원\",\"hireDate\":\"2024-01-01\"}";
+  }
+
+  private static ByteArrayInputStream stream(String input) {
+    return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<Long, String> errorsByRow(EmployeeImportResultDto result) {
+    return result.errors().stream()
+        .collect(Collectors.toMap(EmployeeImportErrorDto::rowNumber, EmployeeImportErrorDto::message));
+  }
+}
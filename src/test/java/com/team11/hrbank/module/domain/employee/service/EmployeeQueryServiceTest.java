@@ -0,0 +1,100 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.common.dto.CursorPageResponse;
+import com.team11.hrbank.module.common.pagination.CountMode;
+import com.team11.hrbank.module.common.pagination.KeysetPaginator;
+import com.team11.hrbank.module.common.pagination.PageCountService;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.employee.repository.EmployeeRepositoryCustom;
+import com.team11.hrbank.module.domain.employee.service.search.EmployeeSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직원 목록 totalElements - 목록과 같은 조건으로 계산
+ */
+@ExtendWith(MockitoExtension.class)
+class EmployeeQueryServiceTest {
+
+  @Mock
+  private EmployeeRepositoryCustom employeeRepositoryCustom;
+  @Mock
+  private ObjectProvider<EmployeeSearchService> employeeSearchService;
+  @Spy
+  private KeysetPaginator keysetPaginator = new KeysetPaginator(
+      new ObjectMapper().findAndRegisterModules(), "test-secret", new StandardEnvironment());
+  @Spy
+  private PageCountService pageCountService = new PageCountService(null, 0, 0, 100);
+  @InjectMocks
+  private EmployeeQueryService employeeQueryService;
+
+  @Test
+  void getListEmployees_countsWithTextFilters() {
+    EmployeeDto kim = new EmployeeDto(1L, "김철수", "kim@example.com", "EMP-1", 1L, "개발팀",
+        "사원", LocalDate.of(2024, 1, 1), EmployeeStatus.ACTIVE, null);
+    when(employeeSearchService.getIfAvailable()).thenReturn(null);
+    when(employeeRepositoryCustom.findEmployeesByConditions(eq("김"), eq(NameSearchMode.CONTAINS),
+        eq(null), eq("개발"), eq(null), eq(null), eq(null), eq(null), eq(null), anyInt(), any(),
+        anyBoolean()))
+        .thenReturn(List.of(kim));
+    when(employeeRepositoryCustom.countEmployeesByConditions("김", NameSearchMode.CONTAINS, null,
+        "개발", null, null, null, null))
+        .thenReturn(1L);
+
+    CursorPageResponse<EmployeeDto> result = employeeQueryService.getListEmployees("김",
+        NameSearchMode.CONTAINS, null, "개발", null, null, null, null, null, null, 10, "name",
+        "asc", CountMode.EXACT);
+
+    assertEquals(1L, result.totalElements());
+    verify(employeeRepositoryCustom, never()).countByStatusAndHireDateBetween(any(), any(), any());
+  }
+
+  @Test
+  void getListEmployees_estimatedWithTextFilter_doesNotUsePlannerStatistics() {
+    when(employeeSearchService.getIfAvailable()).thenReturn(null);
+    when(employeeRepositoryCustom.countEmployeesByConditions(null, null, null, null, "대리", null,
+        null, null))
+        .thenReturn(3L);
+
+    CursorPageResponse<EmployeeDto> result = employeeQueryService.getListEmployees(null, null,
+        null, null, "대리", null, null, null, null, null, 10, "name", "asc", CountMode.ESTIMATED);
+
+    // 필터가 있으면 테이블 전체 통계(reltuples, JdbcTemplate 없음) 대신 조건 count 사용
+    assertEquals(3L, result.totalElements());
+    assertEquals("estimated", result.countMode());
+  }
+
+  @Test
+  void getListEmployees_countModeNone_returnsNullTotal() {
+    when(employeeSearchService.getIfAvailable()).thenReturn(null);
+
+    CursorPageResponse<EmployeeDto> result = employeeQueryService.getListEmployees(null, null,
+        null, null, null, null, null, null, null, null, 10, "name", "asc", CountMode.NONE);
+
+    assertNull(result.totalElements());
+    verify(employeeRepositoryCustom, never()).countEmployeesByConditions(any(), any(), any(),
+        any(), any(), any(), any(), any());
+  }
+}
@@ -0,0 +1,141 @@
+package com.team11.hrbank.module.domain.employee.service;
+
+import com.team11.hrbank.module.domain.employee.dto.EmployeeTrendDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 종료 구간 캐시 - 조회 도중 캐시 제거가 일어나면 조회 결과를 캐시하지 않음
+ */
+class EmployeeTrendServiceTest {
+
+  private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+  private static final LocalDate TO = LocalDate.of(2024, 3, 1);
+
+  /**
+   * 입사일별 인원만 가진 가짜 DB (TREND_SQL 결과를 Java 로 계산)
+   */
+  private static class FakeTrendJdbcTemplate extends JdbcTemplate {
+
+    final Map<LocalDate, Long> hiredByDate = new ConcurrentHashMap<>();
+    final AtomicInteger queries = new AtomicInteger();
+    volatile Runnable afterRead = () -> { };
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+      queries.incrementAndGet();
+      TrendPeriod period = TrendPeriod.MONTH;
+      LocalDate from = (LocalDate) args[1];
+      LocalDate to = (LocalDate) args[2];
+
+      List<EmployeeTrendDto> rows = new ArrayList<>();
+      rows.add(null);
+      long previous = hired(from, period.next(from));
+      for (LocalDate start = period.next(from); !start.isAfter(to); start = period.next(start)) {
+        long current = hired(start, period.next(start));
+        rows.add(new EmployeeTrendDto(start.toString(), current, current - previous, 0.0));
+        previous = current;
+      }
+      // 조회 결과를 읽은 뒤, 캐시에 넣기 전에 다른 요청의 변경이 커밋된 상황
+      afterRead.run();
+      return (List<T>) rows;
+    }
+
+    private long hired(LocalDate from, LocalDate to) {
+      return hiredByDate.entrySet().stream()
+          .filter(entry -> !entry.getKey().isBefore(from) && entry.getKey().isBefore(to))
+          .mapToLong(Map.Entry::getValue)
+          .sum();
+    }
+  }
+
+  private final FakeTrendJdbcTemplate jdbcTemplate = new FakeTrendJdbcTemplate();
+  private final EmployeeTrendService service = new EmployeeTrendService(jdbcTemplate, 1_000);
+
+  @Test
+  void getTrend_closedBucketsAreCached() {
+    jdbcTemplate.hiredByDate.put(LocalDate.of(2024, 2, 10), 2L);
+
+    List<EmployeeTrendDto> first = service.getTrend(FROM, TO, "month");
+    List<EmployeeTrendDto> second = service.getTrend(FROM, TO, "month");
+
+    assertEquals(first, second);
+    assertEquals(1, jdbcTemplate.queries.get());
+    assertEquals(2L, second.get(1).count());
+  }
+
+  @Test
+  void getTrend_evictionDuringQuery_doesNotCacheStaleRows() {
+    LocalDate hireDate = LocalDate.of(2024, 2, 10);
+    jdbcTemplate.afterRead = () -> {
+      jdbcTemplate.afterRead = () -> { };
+      jdbcTemplate.hiredByDate.put(hireDate, 1L);
+      service.evictAfterCommit(hireDate);
+    };
+
+    List<EmployeeTrendDto> stale = service.getTrend(FROM, TO, "month");
+    assertEquals(0L, stale.get(1).count());
+
+    // 제거 전에 읽은 결과가 캐시에 남았다면 두 번째 조회도 0 이 됨
+    List<EmployeeTrendDto> fresh = service.getTrend(FROM, TO, "month");
+    assertEquals(1L, fresh.get(1).count());
+    assertEquals(-1L, fresh.get(2).change());
+    assertEquals(2, jdbcTemplate.queries.get());
+  }
+
+  @Test
+  void evictAfterCommit_recomputesAffectedBuckets() {
+    service.getTrend(FROM, TO, "month");
+    jdbcTemplate.hiredByDate.put(LocalDate.of(2024, 1, 20), 3L);
+    service.evictAfterCommit(LocalDate.of(2024, 1, 20));
+
+    List<EmployeeTrendDto> trend = service.getTrend(FROM, TO, "month");
+
+    assertEquals(3L, trend.get(0).count());
+    assertEquals(-3L, trend.get(1).change());
+    assertEquals(2, jdbcTemplate.queries.get());
+  }
+
+  @Test
+  void getTrend_concurrentEvictions_finalResultMatchesDatabase() throws InterruptedException {
+    LocalDate from = LocalDate.of(2023, 1, 1);
+    LocalDate to = LocalDate.of(2024, 12, 1);
+    AtomicInteger done = new AtomicInteger();
+    List<Thread> readers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      Thread reader = new Thread(() -> {
+        while (done.get() == 0) {
+          service.getTrend(from, to, "month");
+        }
+      });
+      reader.start();
+      readers.add(reader);
+    }
+
+    for (int i = 0; i < 2_000; i++) {
+      LocalDate hireDate = from.plusDays(i % 700);
+      jdbcTemplate.hiredByDate.merge(hireDate, 1L, Long::sum);
+      service.evictAfterCommit(hireDate);
+    }
+    done.set(1);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+
+    List<EmployeeTrendDto> cached = service.getTrend(from, to, "month");
+    List<EmployeeTrendDto> expected = new EmployeeTrendService(jdbcTemplate, 1_000)
+        .getTrend(from, to, "month");
+    assertEquals(expected, cached);
+  }
+}
@@ -0,0 +1,70 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 컬럼 스냅샷 group-by 처리 시간 (DB 없음, 합성 데이터)
+ * - 실행: ANALYTICS_BENCHMARK=true ./gradlew test --tests '*EmployeeColumnarSnapshotBenchmarkTest'
+ * - 기준 1~5개 조합마다 워밍업 후 ROUNDS 회 평균 시간과 그룹 수를 로그로 출력
+ * - 결과 정확성은 EmployeeColumnarSnapshotTest 에서 확인
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "ANALYTICS_BENCHMARK", matches = "true")
+class EmployeeColumnarSnapshotBenchmarkTest {
+
+  private static final int EMPLOYEE_COUNT = 1_000_000;
+  private static final int DEPARTMENT_COUNT = 200;
+  private static final int POSITION_COUNT = 50;
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int ROUNDS = 20;
+  private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+  private static final List<List<EmployeeDimension>> COMBINATIONS = List.of(
+      List.of(EmployeeDimension.DEPARTMENT),
+      List.of(EmployeeDimension.DEPARTMENT, EmployeeDimension.POSITION),
+      List.of(EmployeeDimension.DEPARTMENT, EmployeeDimension.POSITION, EmployeeDimension.STATUS),
+      List.of(EmployeeDimension.DEPARTMENT, EmployeeDimension.POSITION, EmployeeDimension.STATUS,
+          EmployeeDimension.TENURE_BAND),
+      List.of(EmployeeDimension.DEPARTMENT, EmployeeDimension.POSITION, EmployeeDimension.STATUS,
+          EmployeeDimension.TENURE_BAND, EmployeeDimension.HIRE_YEAR));
+
+  @Test
+  void groupBy() {
+    Random random = new Random(1);
+    List<AnalyticsRow> rows = new ArrayList<>(EMPLOYEE_COUNT);
+    for (long id = 1; id <= EMPLOYEE_COUNT; id++) {
+      rows.add(new AnalyticsRow(id,
+          random.nextInt(50) == 0 ? null : (long) (1 + random.nextInt(DEPARTMENT_COUNT)),
+          "직함-" + random.nextInt(POSITION_COUNT),
+          EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)],
+          TODAY.minusDays(random.nextInt(20 * 365))));
+    }
+    EmployeeColumnarSnapshot snapshot = new EmployeeColumnarSnapshot(rows);
+
+    log.info("직원 {}명, CPU {}개", EMPLOYEE_COUNT, Runtime.getRuntime().availableProcessors());
+    for (List<EmployeeDimension> dimensions : COMBINATIONS) {
+      EmployeeColumnarSnapshot.GroupByResult result = null;
+      for (int i = 0; i < WARMUP_ROUNDS; i++) {
+        result = snapshot.groupBy(dimensions, null, TODAY);
+      }
+      long start = System.nanoTime();
+      for (int i = 0; i < ROUNDS; i++) {
+        result = snapshot.groupBy(dimensions, null, TODAY);
+      }
+      double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+
+      assertEquals(EMPLOYEE_COUNT, result.total());
+      log.info("기준 {}개 {} - 그룹 {}개, 평균 {} ms", dimensions.size(), dimensions,
+          result.groups().size(), String.format("%.1f", millis));
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.team11.hrbank.module.domain.employee.service.analytics;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 컬럼 스냅샷 group-by - 추가/수정/삭제 후 결과가 전체 순회(참조 구현)와 같은지
+ * (기준 조합 전체, 상태 필터, 병렬 구간 집계, 조합 수가 많을 때의 HashMap 집계)
+ */
+class EmployeeColumnarSnapshotTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+  private static final EmployeeDimension[] DIMENSIONS = EmployeeDimension.values();
+
+  private final Random random = new Random(18);
+  private final Map<Long, AnalyticsRow> reference = new HashMap<>();
+
+  @Test
+  void groupBy_afterRandomChanges_matchesReferenceForEveryDimensionSet() {
+    EmployeeColumnarSnapshot snapshot = load(3_000, 12, 6);
+
+    long nextId = reference.size() + 1;
+    for (int i = 0; i < 3_000; i++) {
+      int op = random.nextInt(3);
+      if (op == 0) {
+        AnalyticsRow row = randomRow(nextId++, 12, 6);
+        snapshot.upsert(row);
+        reference.put(row.id(), row);
+      } else {
+        long id = new ArrayList<>(reference.keySet()).get(random.nextInt(reference.size()));
+        if (op == 1) {
+          AnalyticsRow row = randomRow(id, 12, 6);
+          snapshot.upsert(row);
+          reference.put(id, row);
+        } else {
+          snapshot.remove(id);
+          reference.remove(id);
+        }
+      }
+    }
+    assertEquals(reference.size(), snapshot.size());
+
+    // 기준 5개의 공집합이 아닌 모든 조합 x (역순 포함) x 상태 필터
+    for (int mask = 1; mask < 1 << DIMENSIONS.length; mask++) {
+      List<EmployeeDimension> dimensions = new ArrayList<>();
+      for (int i = 0; i < DIMENSIONS.length; i++) {
+        if ((mask & (1 << i)) != 0) {
+          dimensions.add(DIMENSIONS[i]);
+        }
+      }
+      assertMatchesReference(snapshot, dimensions, null);
+      Collections.reverse(dimensions);
+      assertMatchesReference(snapshot, dimensions, EmployeeStatus.ACTIVE);
+    }
+  }
+
+  @Test
+  void groupBy_manyRows_parallelChunksMatchReference() {
+    EmployeeColumnarSnapshot snapshot = load(250_000, 20, 20);
+
+    assertMatchesReference(snapshot, List.of(EmployeeDimension.DEPARTMENT), null);
+    assertMatchesReference(snapshot,
+        List.of(EmployeeDimension.POSITION, EmployeeDimension.TENURE_BAND), EmployeeStatus.ON_LEAVE);
+    // 조합 수가 PARALLEL_MAX_GROUPS(65536) 를 넘으면 카운트 배열 하나로 집계
+    assertMatchesReference(snapshot, List.of(EmployeeDimension.DEPARTMENT,
+        EmployeeDimension.POSITION, EmployeeDimension.HIRE_YEAR, EmployeeDimension.STATUS,
+        EmployeeDimension.TENURE_BAND), null);
+  }
+
+  @Test
+  void groupBy_wideCombination_sparseCountsMatchReference() {
+    // 부서 400 x 직함 300 x 입사 연도 x 상태 x 근속 구간 > DENSE_MAX_GROUPS(2^20)
+    EmployeeColumnarSnapshot snapshot = load(20_000, 400, 300);
+
+    assertMatchesReference(snapshot, List.of(EmployeeDimension.DEPARTMENT,
+        EmployeeDimension.POSITION, EmployeeDimension.HIRE_YEAR, EmployeeDimension.STATUS,
+        EmployeeDimension.TENURE_BAND), null);
+  }
+
+  @Test
+  void groupBy_tenureBandBoundaries() {
+    EmployeeColumnarSnapshot snapshot = new EmployeeColumnarSnapshot(List.of(
+        row(1L, TODAY.minusYears(1).plusDays(1)),
+        row(2L, TODAY.minusYears(1)),
+        row(3L, TODAY.minusYears(3)),
+        row(4L, TODAY.minusYears(5)),
+        row(5L, TODAY.minusYears(10)),
+        row(6L, TODAY)));
+
+    Map<List<Object>, Long> groups = toMap(snapshot.groupBy(
+        List.of(EmployeeDimension.TENURE_BAND), null, TODAY));
+
+    assertEquals(Map.of(
+        List.of("1년 미만"), 2L,
+        List.of("1~3년"), 1L,
+        List.of("3~5년"), 1L,
+        List.of("5~10년"), 1L,
+        List.of("10년 이상"), 1L), groups);
+  }
+
+  private EmployeeColumnarSnapshot load(int rows, int departments, int positions) {
+    List<AnalyticsRow> initial = new ArrayList<>(rows);
+    for (long id = 1; id <= rows; id++) {
+      AnalyticsRow row = randomRow(id, departments, positions);
+      initial.add(row);
+      reference.put(id, row);
+    }
+    return new EmployeeColumnarSnapshot(initial);
+  }
+
+  private void assertMatchesReference(EmployeeColumnarSnapshot snapshot,
+      List<EmployeeDimension> dimensions, EmployeeStatus status) {
+    Map<List<Object>, Long> expected = new HashMap<>();
+    for (AnalyticsRow row : reference.values()) {
+      if (status == null || row.status() == status) {
+        expected.merge(keys(row, dimensions), 1L, Long::sum);
+      }
+    }
+
+    EmployeeColumnarSnapshot.GroupByResult result = snapshot.groupBy(dimensions, status, TODAY);
+
+    assertEquals(expected, toMap(result), dimensions + " " + status);
+    assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), result.total());
+    for (int i = 1; i < result.groups().size(); i++) {
+      assertTrue(result.groups().get(i - 1).count() >= result.groups().get(i).count());
+    }
+  }
+
+  private static Map<List<Object>, Long> toMap(EmployeeColumnarSnapshot.GroupByResult result) {
+    Map<List<Object>, Long> groups = new HashMap<>();
+    for (EmployeeGroup group : result.groups()) {
+      groups.put(group.keys(), group.count());
+    }
+    return groups;
+  }
+
+  // ---- 참조 구현 ----
+
+  private static List<Object> keys(AnalyticsRow row, List<EmployeeDimension> dimensions) {
+    List<Object> keys = new ArrayList<>(dimensions.size());
+    for (EmployeeDimension dimension : dimensions) {
+      keys.add(switch (dimension) {
+        case DEPARTMENT -> row.departmentId();
+        case POSITION -> row.position();
+        case STATUS -> row.status();
+        case HIRE_YEAR -> row.hireDate().getYear();
+        case TENURE_BAND -> EmployeeColumnarSnapshot.TENURE_BANDS[tenureBand(row.hireDate())];
+      });
+    }
+    return keys;
+  }
+
+  private static int tenureBand(LocalDate hireDate) {
+    int[] years = {1, 3, 5, 10};
+    int band = 0;
+    for (int year : years) {
+      if (!hireDate.isAfter(TODAY.minusYears(year))) {
+        band++;
+      }
+    }
+    return band;
+  }
+
+  // ---- 무작위 데이터 ----
+
+  private AnalyticsRow randomRow(long id, int departments, int positions) {
+    return new AnalyticsRow(id,
+        random.nextInt(20) == 0 ? null : (long) (1 + random.nextInt(departments)),
+        "직함-" + random.nextInt(positions),
+        EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)],
+        TODAY.minusDays(random.nextInt(15 * 365)));
+  }
+
+  private static AnalyticsRow row(long id, LocalDate hireDate) {
+    return new AnalyticsRow(id, 1L, "사원", EmployeeStatus.ACTIVE, hireDate);
+  }
+}
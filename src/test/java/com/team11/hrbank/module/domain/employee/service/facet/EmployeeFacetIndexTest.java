@@ -0,0 +1,115 @@
+package com.team11.hrbank.module.domain.employee.service.facet;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 패싯 인덱스 - 추가/수정/삭제 후 집계가 전체 순회(참조 구현)와 같은지
+ */
+class EmployeeFacetIndexTest {
+
+  private static final List<String> POSITIONS = List.of("사원", "대리", "과장", "부장");
+
+  private final Random random = new Random(17);
+  private final Map<Long, FacetRow> reference = new HashMap<>();
+
+  @Test
+  void counts_afterRandomChanges_matchReference() {
+    List<FacetRow> initial = new ArrayList<>();
+    for (long id = 1; id <= 5_000; id++) {
+      FacetRow row = randomRow(id);
+      initial.add(row);
+      reference.put(id, row);
+    }
+    EmployeeFacetIndex index = new EmployeeFacetIndex(initial);
+
+    long nextId = 5_001;
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < 2_000; i++) {
+        int op = random.nextInt(3);
+        if (op == 0 || reference.isEmpty()) {
+          FacetRow row = randomRow(nextId++);
+          index.upsert(row);
+          reference.put(row.id(), row);
+        } else {
+          long id = new ArrayList<>(reference.keySet()).get(random.nextInt(reference.size()));
+          if (op == 1) {
+            FacetRow row = randomRow(id);
+            index.upsert(row);
+            reference.put(id, row);
+          } else {
+            index.remove(id);
+            reference.remove(id);
+          }
+        }
+      }
+
+      assertEquals(reference.size(), index.size());
+      for (int i = 0; i < 50; i++) {
+        EmployeeFacetFilter filter = randomFilter();
+        assertEquals(expected(filter), index.counts(filter), filter::toString);
+      }
+    }
+  }
+
+  @Test
+  void counts_unknownFilterValue_isEmpty() {
+    EmployeeFacetIndex index = new EmployeeFacetIndex(List.of(
+        new FacetRow(1L, EmployeeStatus.ACTIVE, 1L, "사원", 2024)));
+
+    EmployeeFacetCounts counts = index.counts(new EmployeeFacetFilter(null, 99L, null, null));
+
+    assertEquals(new EmployeeFacetCounts(0, Map.of(), Map.of(), Map.of(), Map.of()), counts);
+  }
+
+  private EmployeeFacetCounts expected(EmployeeFacetFilter filter) {
+    List<FacetRow> matched = reference.values().stream()
+        .filter(row -> filter.status() == null || row.status() == filter.status())
+        .filter(row -> filter.departmentId() == null
+            || filter.departmentId().equals(row.departmentId()))
+        .filter(row -> filter.position() == null || filter.position().equals(row.position()))
+        .filter(row -> filter.hireYear() == null || filter.hireYear() == row.hireYear())
+        .toList();
+    return new EmployeeFacetCounts(matched.size(),
+        countBy(matched, FacetRow::status),
+        countBy(matched, FacetRow::departmentId),
+        countBy(matched, FacetRow::position),
+        countBy(matched, FacetRow::hireYear));
+  }
+
+  // null 키(부서 없음)도 그대로 집계
+  private static <K> Map<K, Long> countBy(List<FacetRow> rows, Function<FacetRow, K> key) {
+    Map<K, Long> counts = new HashMap<>();
+    for (FacetRow row : rows) {
+      counts.merge(key.apply(row), 1L, Long::sum);
+    }
+    return counts;
+  }
+
+  private EmployeeFacetFilter randomFilter() {
+    FacetRow sample = randomRow(0);
+    return new EmployeeFacetFilter(
+        random.nextBoolean() ? sample.status() : null,
+        random.nextInt(3) == 0 ? Objects.requireNonNullElse(sample.departmentId(), 99L) : null,
+        random.nextInt(3) == 0 ? sample.position() : null,
+        random.nextInt(3) == 0 ? sample.hireYear() : null);
+  }
+
+  private FacetRow randomRow(long id) {
+    return new FacetRow(id,
+        EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)],
+        random.nextInt(10) == 0 ? null : (long) (1 + random.nextInt(30)),
+        POSITIONS.get(random.nextInt(POSITIONS.size())),
+        2015 + random.nextInt(10));
+  }
+}
@@ -0,0 +1,69 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 이력 ID 공백 - 커밋 대기, 시간 초과 후 건너뛰기, 건너뛴 구간 계산
+ */
+class ChangeLogGapTrackerTest {
+
+  private static final long TIMEOUT_MS = 60_000;
+  private static final long NOW = 1_000_000_000L;
+
+  private final ChangeLogGapTracker tracker = new ChangeLogGapTracker(TIMEOUT_MS);
+
+  @Test
+  void ready_contiguousIds_allReady() {
+    List<ChangeLogRow> rows = List.of(row(11, NOW), row(12, NOW), row(13, NOW));
+
+    assertEquals(rows, tracker.ready(10, rows, NOW));
+    assertEquals(List.of(), ChangeLogGapTracker.gaps(10, rows));
+  }
+
+  @Test
+  void ready_recentGap_waitsUntilTimeoutThenSkips() {
+    List<ChangeLogRow> rows = List.of(row(11, NOW), row(14, NOW), row(15, NOW));
+
+    assertEquals(rows.subList(0, 1), tracker.ready(10, rows, NOW));
+    assertEquals(rows.subList(0, 1), tracker.ready(10, rows, NOW + TIMEOUT_MS - 1));
+
+    List<ChangeLogRow> ready = tracker.ready(10, rows, NOW + TIMEOUT_MS);
+    assertEquals(rows, ready);
+    assertEquals(List.of(new ChangeLogGapTracker.Gap(12, 13)),
+        ChangeLogGapTracker.gaps(10, ready));
+  }
+
+  @Test
+  void ready_gapBeforeOldRow_skipsImmediately() {
+    List<ChangeLogRow> rows = List.of(row(12, NOW - TIMEOUT_MS - 1), row(20, NOW - TIMEOUT_MS - 1),
+        row(21, NOW));
+
+    List<ChangeLogRow> ready = tracker.ready(10, rows, NOW);
+
+    assertEquals(rows, ready);
+    assertEquals(List.of(new ChangeLogGapTracker.Gap(11, 11), new ChangeLogGapTracker.Gap(13, 19)),
+        ChangeLogGapTracker.gaps(10, ready));
+  }
+
+  @Test
+  void ready_newGapRestartsTimer() {
+    tracker.ready(10, List.of(row(12, NOW)), NOW);
+
+    // 다른 위치의 공백은 처음 본 시각부터 다시 대기
+    List<ChangeLogRow> rows = List.of(row(22, NOW + TIMEOUT_MS));
+    assertEquals(List.of(), tracker.ready(20, rows, NOW + TIMEOUT_MS));
+    assertEquals(List.of(), tracker.ready(20, rows, NOW + 2 * TIMEOUT_MS - 1));
+    assertEquals(rows, tracker.ready(20, rows, NOW + 2 * TIMEOUT_MS));
+  }
+
+  private static ChangeLogRow row(long id, long createdAtMs) {
+    return new ChangeLogRow(id, HistoryType.CREATED, "E" + id, Instant.ofEpochMilli(createdAtMs),
+        List.of());
+  }
+}
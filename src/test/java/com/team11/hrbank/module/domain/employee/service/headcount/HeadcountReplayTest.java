@@ -0,0 +1,270 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.changelog.HistoryType;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 변경 이력 재생 - 생성/부서·상태 변경/삭제가 일별 증감과 직원 상태로 바뀌는지
+ */
+class HeadcountReplayTest {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+  private static final Map<String, Long> DEPARTMENTS = Map.of("개발팀", 1L, "기획팀", 2L);
+
+  private long nextId = 1;
+
+  @Test
+  void created_countsFromEarlierHireDateInOriginDepartment() {
+    HeadcountReplay replay = new HeadcountReplay(Map.of(),
+        Map.of("E1", new HeadcountReplay.Origin(1L, DAY.minusDays(30)),
+            "E2", new HeadcountReplay.Origin(null, DAY.plusDays(5))),
+        DEPARTMENTS);
+
+    replay.apply(row(HistoryType.CREATED, "E1", DAY));
+    replay.apply(row(HistoryType.CREATED, "E2", DAY));
+    // 원본 정보를 못 찾은 직원은 부서 없음, 등록일 기준
+    replay.apply(row(HistoryType.CREATED, "E3", DAY));
+
+    assertEquals(List.of(
+        new HeadcountDelta(DAY.minusDays(30), 1L, EmployeeStatus.ACTIVE, 1),
+        new HeadcountDelta(DAY, null, EmployeeStatus.ACTIVE, 2)), replay.deltas());
+    assertEquals(Map.of(
+        "E1", new HeadcountReplay.State(1L, EmployeeStatus.ACTIVE, 0),
+        "E2", new HeadcountReplay.State(null, EmployeeStatus.ACTIVE, 0),
+        "E3", new HeadcountReplay.State(null, EmployeeStatus.ACTIVE, 0)), replay.changedStates());
+  }
+
+  @Test
+  void updated_movesCountBetweenDepartmentsAndStatuses() {
+    HeadcountReplay replay = new HeadcountReplay(
+        Map.of("E1", new HeadcountReplay.State(1L, EmployeeStatus.ACTIVE, 0)),
+        Map.of(), DEPARTMENTS);
+
+    replay.apply(row(HistoryType.UPDATED, "E1", DAY,
+        DiffEntry.of("부서", "개발팀", "기획팀"), DiffEntry.of("상태", "ACTIVE", "ON_LEAVE")));
+    // 집계와 무관한 변경은 무시
+    replay.apply(row(HistoryType.UPDATED, "E1", DAY.plusDays(1),
+        DiffEntry.of("직함", "사원", "대리")));
+    // 이후 이름이 바뀌어 찾을 수 없는 부서는 부서 없음
+    replay.apply(row(HistoryType.UPDATED, "E1", DAY.plusDays(2),
+        DiffEntry.of("부서", "기획팀", "옛이름팀")));
+
+    assertEquals(List.of(
+        new HeadcountDelta(DAY, 1L, EmployeeStatus.ACTIVE, -1),
+        new HeadcountDelta(DAY, 2L, EmployeeStatus.ON_LEAVE, 1),
+        new HeadcountDelta(DAY.plusDays(2), 2L, EmployeeStatus.ON_LEAVE, -1),
+        new HeadcountDelta(DAY.plusDays(2), null, EmployeeStatus.ON_LEAVE, 1)), replay.deltas());
+    assertEquals(Map.of("E1", new HeadcountReplay.State(null, EmployeeStatus.ON_LEAVE, 0)),
+        replay.changedStates());
+  }
+
+  @Test
+  void deleted_removesCurrentStateAndNetsOutSameDay() {
+    HeadcountReplay replay = new HeadcountReplay(
+        Map.of("E1", new HeadcountReplay.State(2L, EmployeeStatus.ON_LEAVE, 0)),
+        Map.of("E2", new HeadcountReplay.Origin(1L, null)), DEPARTMENTS);
+
+    replay.apply(row(HistoryType.DELETED, "E1", DAY));
+    replay.apply(row(HistoryType.CREATED, "E2", DAY));
+    replay.apply(row(HistoryType.DELETED, "E2", DAY));
+    // 모르는 직원 삭제는 무시
+    replay.apply(row(HistoryType.DELETED, "E9", DAY));
+
+    assertEquals(List.of(new HeadcountDelta(DAY, 2L, EmployeeStatus.ON_LEAVE, -1)),
+        replay.deltas());
+    assertEquals(Map.of(), replay.changedStates());
+    assertEquals(Set.of("E1", "E2"), replay.removedStates());
+  }
+
+  @Test
+  void revert_lateRowReplayedInIdOrder_matchesInOrderReplay() {
+    Map<String, HeadcountReplay.State> initial =
+        Map.of("E1", new HeadcountReplay.State(1L, EmployeeStatus.ACTIVE, 0));
+    ChangeLogRow resigned = row(HistoryType.UPDATED, "E1", DAY,
+        DiffEntry.of("상태", "ACTIVE", "RESIGNED"));
+    ChangeLogRow moved = row(HistoryType.UPDATED, "E1", DAY.plusDays(1),
+        DiffEntry.of("부서", "개발팀", "기획팀"));
+    ChangeLogRow deleted = row(HistoryType.DELETED, "E1", DAY.plusDays(2));
+
+    HeadcountReplay inOrder = new HeadcountReplay(initial, Map.of(), DEPARTMENTS);
+    List.of(resigned, moved, deleted).forEach(inOrder::apply);
+
+    // 첫 배치는 resigned 를 건너뛰고 반영
+    HeadcountReplay first = new HeadcountReplay(initial, Map.of(), DEPARTMENTS);
+    first.apply(moved);
+    first.apply(deleted);
+    // 다음 배치: 뒤 상태 변화를 역순으로 되돌린 뒤 ID 순서로 다시 반영
+    HeadcountReplay second = new HeadcountReplay(Map.of(), Map.of(), DEPARTMENTS);
+    reversed(first.transitions()).forEach(second::revert);
+    List.of(resigned, moved, deleted).forEach(second::apply);
+
+    assertEquals(List.of(
+        new HeadcountDelta(DAY, 1L, EmployeeStatus.ACTIVE, -1),
+        new HeadcountDelta(DAY, 1L, EmployeeStatus.RESIGNED, 1),
+        new HeadcountDelta(DAY.plusDays(1), 1L, EmployeeStatus.RESIGNED, -1),
+        new HeadcountDelta(DAY.plusDays(1), 2L, EmployeeStatus.RESIGNED, 1),
+        new HeadcountDelta(DAY.plusDays(2), 2L, EmployeeStatus.RESIGNED, -1)), inOrder.deltas());
+    assertEquals(sum(inOrder.deltas()), sum(first.deltas(), second.deltas()));
+    assertEquals(Set.of("E1"), second.removedStates());
+  }
+
+  @Test
+  void revert_randomLateRows_matchesInOrderReplay() {
+    Random random = new Random(23);
+    List<String> departmentNames = List.of("개발팀", "기획팀", "");
+    Map<String, HeadcountReplay.Origin> origins = new HashMap<>();
+    List<ChangeLogRow> history = new ArrayList<>();
+    for (int i = 0; i < 3_000; i++) {
+      String employeeNumber = "E" + random.nextInt(60);
+      LocalDate day = DAY.plusDays(i / 100);
+      switch (random.nextInt(origins.containsKey(employeeNumber) ? 20 : 1)) {
+        case 0 -> {
+          origins.putIfAbsent(employeeNumber, new HeadcountReplay.Origin(1L, day.minusDays(3)));
+          history.add(row(HistoryType.CREATED, employeeNumber, day));
+        }
+        case 1 -> history.add(row(HistoryType.DELETED, employeeNumber, day));
+        default -> history.add(row(HistoryType.UPDATED, employeeNumber, day,
+            DiffEntry.of("부서", null,
+                departmentNames.get(random.nextInt(departmentNames.size()))),
+            DiffEntry.of("상태", null,
+                EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)].name())));
+      }
+    }
+    HeadcountReplay inOrder = new HeadcountReplay(Map.of(), origins, DEPARTMENTS);
+    history.forEach(inOrder::apply);
+
+    // 약 5% 를 건너뛰고 반영
+    List<ChangeLogRow> late = new ArrayList<>();
+    HeadcountReplay first = new HeadcountReplay(Map.of(), origins, DEPARTMENTS);
+    for (ChangeLogRow row : history) {
+      if (random.nextInt(20) == 0) {
+        late.add(row);
+      } else {
+        first.apply(row);
+      }
+    }
+    // 다음 배치: 늦은 이력 직원의 뒤 상태 변화를 역순으로 되돌리고 뒤 이력과 함께 ID 순서로 다시 반영
+    Map<String, Long> firstLateIds = new HashMap<>();
+    late.forEach(row -> firstLateIds.merge(row.employeeNumber(), row.id(), Math::min));
+    Map<String, HeadcountReplay.State> states = new HashMap<>(first.changedStates());
+    HeadcountReplay second = new HeadcountReplay(states, origins, DEPARTMENTS);
+    reversed(first.transitions()).stream()
+        .filter(transition -> transition.changeLogId()
+            > firstLateIds.getOrDefault(transition.employeeNumber(), Long.MAX_VALUE))
+        .forEach(second::revert);
+    history.stream()
+        .filter(row -> row.id() >= firstLateIds.getOrDefault(row.employeeNumber(), Long.MAX_VALUE))
+        .forEach(second::apply);
+
+    assertTrue(late.size() > 100);
+    assertEquals(sum(inOrder.deltas()), sum(first.deltas(), second.deltas()));
+    states.putAll(second.changedStates());
+    second.removedStates().forEach(states::remove);
+    assertEquals(inOrder.changedStates(), states);
+  }
+
+  @Test
+  void seededState_ignoresHistoryAlreadyInSeed() {
+    nextId = 10;
+    HeadcountReplay replay = new HeadcountReplay(
+        Map.of("E1", new HeadcountReplay.State(1L, EmployeeStatus.ACTIVE, 10)),
+        Map.of(), DEPARTMENTS);
+
+    replay.apply(row(HistoryType.UPDATED, "E1", DAY, DiffEntry.of("부서", "개발팀", "기획팀")));
+    replay.apply(row(HistoryType.CREATED, "E1", DAY));
+    replay.apply(row(HistoryType.UPDATED, "E1", DAY, DiffEntry.of("상태", "ACTIVE", "RESIGNED")));
+
+    assertEquals(List.of(
+        new HeadcountDelta(DAY, 1L, EmployeeStatus.ACTIVE, -1),
+        new HeadcountDelta(DAY, 1L, EmployeeStatus.RESIGNED, 1)), replay.deltas());
+    assertEquals(Map.of("E1", new HeadcountReplay.State(1L, EmployeeStatus.RESIGNED, 10)),
+        replay.changedStates());
+  }
+
+  @Test
+  void randomHistory_deltasSumToFinalStates() {
+    Random random = new Random(19);
+    Map<String, HeadcountReplay.State> initial = new HashMap<>();
+    for (int i = 0; i < 20; i++) {
+      initial.put("S" + i, new HeadcountReplay.State(1 + (long) random.nextInt(2),
+          EmployeeStatus.ACTIVE, 0));
+    }
+    HeadcountReplay replay = new HeadcountReplay(initial, Map.of(), DEPARTMENTS);
+    Map<String, HeadcountReplay.State> current = new HashMap<>(initial);
+    List<String> departmentNames = List.of("개발팀", "기획팀", "");
+
+    for (int i = 0; i < 2_000; i++) {
+      String employeeNumber = (random.nextBoolean() ? "S" : "N") + random.nextInt(40);
+      LocalDate day = DAY.plusDays(random.nextInt(30));
+      switch (random.nextInt(3)) {
+        case 0 -> replay.apply(row(HistoryType.CREATED, employeeNumber, day));
+        case 1 -> replay.apply(row(HistoryType.UPDATED, employeeNumber, day,
+            DiffEntry.of("부서", null,
+                departmentNames.get(random.nextInt(departmentNames.size()))),
+            DiffEntry.of("상태", null,
+                EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)].name())));
+        default -> replay.apply(row(HistoryType.DELETED, employeeNumber, day));
+      }
+    }
+    current.putAll(replay.changedStates());
+    replay.removedStates().forEach(current::remove);
+
+    Map<List<Object>, Long> expected = new HashMap<>();
+    current.values().forEach(state -> expected.merge(key(state.departmentId(), state.status()),
+        1L, Long::sum));
+    Map<List<Object>, Long> actual = new HashMap<>();
+    initial.values().forEach(state -> actual.merge(key(state.departmentId(), state.status()),
+        1L, Long::sum));
+    replay.deltas().forEach(delta -> actual.merge(key(delta.departmentId(), delta.status()),
+        delta.delta(), Long::sum));
+    actual.values().removeIf(count -> count == 0);
+
+    assertEquals(expected, actual);
+    assertTrue(replay.deltas().stream().allMatch(delta -> delta.delta() != 0));
+  }
+
+  private static <T> List<T> reversed(List<T> list) {
+    List<T> reversed = new ArrayList<>(list);
+    Collections.reverse(reversed);
+    return reversed;
+  }
+
+  @SafeVarargs
+  private static Map<List<Object>, Long> sum(List<HeadcountDelta>... batches) {
+    Map<List<Object>, Long> sum = new HashMap<>();
+    for (List<HeadcountDelta> deltas : batches) {
+      deltas.forEach(delta -> sum.merge(List.of(delta.day(), key(delta.departmentId(),
+          delta.status())), delta.delta(), Long::sum));
+    }
+    sum.values().removeIf(count -> count == 0);
+    return sum;
+  }
+
+  private static List<Object> key(Long departmentId, EmployeeStatus status) {
+    List<Object> key = new ArrayList<>();
+    key.add(departmentId);
+    key.add(status);
+    return key;
+  }
+
+  private ChangeLogRow row(HistoryType type, String employeeNumber, LocalDate day,
+      DiffEntry... changes) {
+    return new ChangeLogRow(nextId++, type, employeeNumber,
+        day.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant(), List.of(changes));
+  }
+}
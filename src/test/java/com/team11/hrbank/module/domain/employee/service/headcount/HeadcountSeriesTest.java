@@ -0,0 +1,68 @@
+package com.team11.hrbank.module.domain.employee.service.headcount;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 누적 시계열 - 임의 순서 증감 후 날짜별 값이 단순 합계(참조 구현)와 같은지
+ */
+class HeadcountSeriesTest {
+
+  private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+  @Test
+  void valueAt_afterRandomDeltas_matchesReferenceSum() {
+    Random random = new Random(19);
+    HeadcountSeries series = new HeadcountSeries();
+    Map<LocalDate, Long> reference = new TreeMap<>();
+
+    // 과거 날짜 보정과 배열 확장(초기 16칸)을 함께 확인
+    for (int i = 0; i < 2_000; i++) {
+      LocalDate day = BASE.plusDays(random.nextInt(400));
+      long delta = random.nextInt(7) - 3;
+      series.add(day, delta);
+      reference.merge(day, delta, Long::sum);
+
+      if (i % 50 == 0) {
+        for (int d = -2; d < 404; d++) {
+          LocalDate at = BASE.plusDays(d);
+          assertEquals(expected(reference, at), series.valueAt(at), "날짜: " + at);
+        }
+      }
+    }
+  }
+
+  @Test
+  void valueAt_beforeFirstDay_isZero() {
+    HeadcountSeries series = new HeadcountSeries();
+    series.add(BASE.plusDays(10), 3);
+    series.add(BASE.plusDays(5), 2);
+
+    assertEquals(0, series.valueAt(BASE));
+    assertEquals(2, series.valueAt(BASE.plusDays(5)));
+    assertEquals(2, series.valueAt(BASE.plusDays(9)));
+    assertEquals(5, series.valueAt(BASE.plusDays(10)));
+    assertEquals(5, series.valueAt(BASE.plusYears(10)));
+  }
+
+  @Test
+  void add_zeroDelta_isIgnored() {
+    HeadcountSeries series = new HeadcountSeries();
+    series.add(BASE, 0);
+
+    assertEquals(0, series.valueAt(BASE));
+  }
+
+  private static long expected(Map<LocalDate, Long> reference, LocalDate at) {
+    return reference.entrySet().stream()
+        .filter(entry -> !entry.getKey().isAfter(at))
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+  }
+}
@@ -0,0 +1,193 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 과거 시점 복원 - 스냅샷 + 구간 이력 적용 결과가 실제로 거쳐 간 상태와 같은지
+ */
+class EmployeeAsOfTest {
+
+  private static final Instant CREATED = Instant.parse("2024-01-01T00:00:00Z");
+  private static final Map<String, Long> DEPARTMENTS = Map.of("개발팀", 1L, "기획팀", 2L);
+  private static final List<String> DEPARTMENT_NAMES = List.of("개발팀", "기획팀", "옛이름팀");
+  private static final int CHANGES = 60;
+  private static final int INTERVAL = 7;
+
+  private record Change(Instant at, List<DiffEntry> entries) {
+  }
+
+  private final Random random = new Random(20);
+  // history.get(i) = i 번째 변경 후 상태 (0 은 생성 시)
+  private final List<EmployeeDto> history = new ArrayList<>();
+  private final List<Change> changes = new ArrayList<>();
+  private final List<EmployeeAsOf.Snapshot> snapshots = new ArrayList<>();
+
+  @Test
+  void existedAt() {
+    Instant deleted = CREATED.plusSeconds(100);
+    EmployeeAsOf.Lifecycle lifecycle = new EmployeeAsOf.Lifecycle(CREATED, deleted, List.of());
+
+    assertFalse(EmployeeAsOf.existedAt(lifecycle, CREATED));
+    assertTrue(EmployeeAsOf.existedAt(lifecycle, CREATED.plusSeconds(1)));
+    assertTrue(EmployeeAsOf.existedAt(lifecycle, deleted));
+    assertFalse(EmployeeAsOf.existedAt(lifecycle, deleted.plusSeconds(1)));
+    // 생성 이력이 없는 기존 직원
+    assertTrue(EmployeeAsOf.existedAt(EmployeeAsOf.Lifecycle.UNKNOWN, Instant.EPOCH));
+  }
+
+  @Test
+  void anchor_withoutAnySource_isNull() {
+    assertNull(EmployeeAsOf.anchor(null, null, null, Instant.now(),
+        EmployeeAsOf.Lifecycle.UNKNOWN));
+  }
+
+  @Test
+  void replay_withSnapshotsEveryInterval_matchesHistory() {
+    generate(true);
+    Instant now = changes.get(CHANGES - 1).at().plusSeconds(3_600);
+
+    for (int j = 0; j <= CHANGES; j++) {
+      Instant at = timeOf(j).plusSeconds(1_800);
+      assertEquals(history.get(j), reconstruct(at, current(), now, EmployeeAsOf.Lifecycle.UNKNOWN),
+          "변경 " + j + " 이후");
+    }
+    // 조회 시점(다음 날 0시)과 같은 시각의 변경은 포함하지 않음
+    for (int j = 0; j < CHANGES; j++) {
+      assertEquals(history.get(j),
+          reconstruct(timeOf(j + 1), current(), now, EmployeeAsOf.Lifecycle.UNKNOWN),
+          "변경 " + (j + 1) + " 시각");
+    }
+  }
+
+  @Test
+  void replay_withoutSnapshots_walksBackFromCurrent() {
+    // 스냅샷 기능 이전 직원 (기준 스냅샷 없음)
+    generate(false);
+    Instant now = changes.get(CHANGES - 1).at().plusSeconds(3_600);
+
+    for (int j = 0; j <= CHANGES; j += 5) {
+      Instant at = timeOf(j).plusSeconds(1_800);
+      assertEquals(history.get(j), reconstruct(at, current(), now, EmployeeAsOf.Lifecycle.UNKNOWN),
+          "변경 " + j + " 이후");
+    }
+  }
+
+  @Test
+  void replay_deletedWithoutSnapshots_walksBackFromDeletedState() {
+    generate(false);
+    EmployeeDto last = history.get(CHANGES);
+    Instant deletedAt = changes.get(CHANGES - 1).at().plusSeconds(3_600);
+    EmployeeAsOf.Lifecycle lifecycle = new EmployeeAsOf.Lifecycle(CREATED, deletedAt, List.of(
+        DiffEntry.of("이름", last.name(), null),
+        DiffEntry.of("이메일", last.email(), null),
+        DiffEntry.of("부서명", Objects.toString(last.departmentName(), ""), null),
+        DiffEntry.of("직함", Objects.toString(last.position(), ""), null),
+        DiffEntry.of("입사일", last.hireDate().toString(), null),
+        DiffEntry.of("상태", last.status().name(), null)));
+
+    for (int j = 0; j <= CHANGES; j += 5) {
+      Instant at = timeOf(j).plusSeconds(1_800);
+      assertEquals(history.get(j), reconstruct(at, null, deletedAt.plusSeconds(60), lifecycle),
+          "변경 " + j + " 이후");
+    }
+  }
+
+  // 서비스와 같은 순서: 이전/이후 스냅샷 조회 -> 기준점 -> (from, to] 구간 이력 -> 적용
+  private EmployeeDto reconstruct(Instant at, EmployeeState current, Instant now,
+      EmployeeAsOf.Lifecycle lifecycle) {
+    EmployeeAsOf.Snapshot before = null;
+    EmployeeAsOf.Snapshot after = null;
+    for (EmployeeAsOf.Snapshot snapshot : snapshots) {
+      if (snapshot.capturedAt().isBefore(at)) {
+        before = copy(snapshot);
+      } else if (after == null) {
+        after = copy(snapshot);
+      }
+    }
+    EmployeeAsOf.Anchor anchor = EmployeeAsOf.anchor(before, after, current, now, lifecycle);
+    List<List<DiffEntry>> window = changes.stream()
+        .filter(change -> change.at().isAfter(anchor.from(at))
+            && !change.at().isAfter(anchor.to(at)))
+        .map(Change::entries)
+        .toList();
+    return EmployeeAsOf.replay(anchor, window, DEPARTMENTS).toDto(1L, "E1");
+  }
+
+  // ---- 무작위 이력 ----
+
+  private void generate(boolean withSnapshots) {
+    EmployeeState state = new EmployeeState("이름0", "e0@example.com", 1L, "개발팀", "사원",
+        LocalDate.of(2020, 1, 1), EmployeeStatus.ACTIVE);
+    history.add(state.toDto(1L, "E1"));
+    if (withSnapshots) {
+      snapshots.add(new EmployeeAsOf.Snapshot(CREATED.plusMillis(1), copy(state)));
+    }
+    for (int i = 1; i <= CHANGES; i++) {
+      EmployeeDto previous = history.get(i - 1);
+      List<DiffEntry> entries = new ArrayList<>();
+      if (random.nextBoolean()) {
+        entries.add(DiffEntry.of("이름", previous.name(), "이름" + i));
+      }
+      if (random.nextBoolean()) {
+        entries.add(DiffEntry.of("부서", Objects.toString(previous.departmentName(), ""),
+            random.nextInt(5) == 0 ? ""
+                : DEPARTMENT_NAMES.get(random.nextInt(DEPARTMENT_NAMES.size()))));
+      }
+      if (random.nextBoolean()) {
+        entries.add(DiffEntry.of("직함", Objects.toString(previous.position(), ""),
+            random.nextBoolean() ? "대리" : ""));
+      }
+      if (random.nextBoolean()) {
+        entries.add(DiffEntry.of("입사일", previous.hireDate().toString(),
+            previous.hireDate().plusDays(1 + random.nextInt(30)).toString()));
+      }
+      entries.add(DiffEntry.of("상태", previous.status().name(),
+          EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)].name()));
+
+      Instant at = timeOf(i);
+      changes.add(new Change(at, entries));
+      state.apply(entries, true, DEPARTMENTS);
+      history.add(state.toDto(1L, "E1"));
+      if (withSnapshots && i % INTERVAL == 0) {
+        // 스냅샷은 변경 이력 기록 직후
+        snapshots.add(new EmployeeAsOf.Snapshot(at.plusMillis(1), copy(state)));
+      }
+    }
+  }
+
+  private EmployeeState current() {
+    EmployeeDto last = history.get(CHANGES);
+    return new EmployeeState(last.name(), last.email(), last.departmentId(), last.departmentName(),
+        last.position(), last.hireDate(), last.status());
+  }
+
+  private static Instant timeOf(int change) {
+    return CREATED.plus(Duration.ofHours(change));
+  }
+
+  private static EmployeeAsOf.Snapshot copy(EmployeeAsOf.Snapshot snapshot) {
+    return new EmployeeAsOf.Snapshot(snapshot.capturedAt(), copy(snapshot.state()));
+  }
+
+  private static EmployeeState copy(EmployeeState state) {
+    return new EmployeeState(state.getName(), state.getEmail(), state.getDepartmentId(),
+        state.getDepartmentName(), state.getPosition(), state.getHireDate(), state.getStatus());
+  }
+}
@@ -0,0 +1,74 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 대량 등록 스냅샷 (실제 DB 사용) - 삭제된 직원도 스냅샷의 직원 번호로 과거 시점 조회
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeSnapshotService.class, EmployeeHistoryService.class, JacksonAutoConfiguration.class})
+class EmployeeSnapshotServiceTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private EmployeeSnapshotService employeeSnapshotService;
+  @Autowired
+  private EmployeeHistoryService employeeHistoryService;
+
+  @Test
+  void recordCreatedAll_deletedEmployeeStillResolvesAsOf() {
+    Long departmentId = jdbcTemplate.queryForObject("""
+        INSERT INTO departments (name, normalized_name, description, established_date)
+        VALUES ('snapshot-test-dept', 'snapshot-test-dept', '설명', DATE '2020-01-01') RETURNING id
+        """, Long.class);
+    Long employeeId = jdbcTemplate.queryForObject("""
+        INSERT INTO employees (name, email, employee_number, department_id, position, hire_date,
+                               status, created_at)
+        VALUES ('김스냅', 'snapshot-test@example.com', 'SNAP-TEST-1', ?, '사원', DATE '2024-01-02',
+                'ACTIVE', NOW())
+        RETURNING id
+        """, Long.class, departmentId);
+    Instant createdAt = Instant.now().minus(3, ChronoUnit.DAYS);
+    insertChangeLog("CREATED", employeeId, createdAt);
+
+    employeeSnapshotService.recordCreatedAll(List.of(employeeId));
+
+    insertChangeLog("DELETED", employeeId, Instant.now());
+    jdbcTemplate.update("DELETE FROM employees WHERE id = ?", employeeId);
+
+    EmployeeDto asOf = employeeHistoryService.getEmployeeAsOf(employeeId,
+        LocalDate.now().minusDays(2));
+    assertEquals("SNAP-TEST-1", asOf.employeeNumber());
+    assertEquals("김스냅", asOf.name());
+    assertEquals("snapshot-test@example.com", asOf.email());
+    assertEquals(departmentId, asOf.departmentId());
+    assertEquals("snapshot-test-dept", asOf.departmentName());
+    assertEquals(LocalDate.of(2024, 1, 2), asOf.hireDate());
+    assertEquals(EmployeeStatus.ACTIVE, asOf.status());
+  }
+
+  private void insertChangeLog(String type, Long employeeId, Instant createdAt) {
+    jdbcTemplate.update("""
+        INSERT INTO change_logs (type, employee_id, employee_number, memo, ip_address, created_at)
+        VALUES (?, ?, 'SNAP-TEST-1', NULL, CAST('127.0.0.1' AS inet), ?)
+        """, type, employeeId, Timestamp.from(createdAt));
+  }
+}
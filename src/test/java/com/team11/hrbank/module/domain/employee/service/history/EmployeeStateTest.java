@@ -0,0 +1,83 @@
+package com.team11.hrbank.module.domain.employee.service.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team11.hrbank.module.domain.changelog.DiffEntry;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeStateTest {
+
+  private static final Map<String, Long> DEPARTMENTS = Map.of("개발팀", 1L, "기획팀", 2L);
+  private static final List<DiffEntry> CHANGE = List.of(
+      DiffEntry.of("이름", "김철수", "김영희"),
+      DiffEntry.of("이메일", "a@example.com", "b@example.com"),
+      DiffEntry.of("부서", "개발팀", "기획팀"),
+      DiffEntry.of("직함", "사원", ""),
+      DiffEntry.of("입사일", "2020-01-02", "2021-03-04"),
+      DiffEntry.of("상태", "ACTIVE", "ON_LEAVE"),
+      DiffEntry.of("프로필 이미지", "a.png", "b.png"),
+      DiffEntry.of("메모", null, "변경"));
+
+  @Test
+  void apply_forwardThenBackward_restoresState() {
+    EmployeeState state = new EmployeeState("김철수", "a@example.com", 1L, "개발팀", "사원",
+        LocalDate.of(2020, 1, 2), EmployeeStatus.ACTIVE);
+
+    state.apply(CHANGE, true, DEPARTMENTS);
+    // 빈 값은 null, 프로필 이미지/메모는 무시
+    assertEquals(new EmployeeDto(7L, "김영희", "b@example.com", "E7", 2L, "기획팀", null,
+        LocalDate.of(2021, 3, 4), EmployeeStatus.ON_LEAVE, null), state.toDto(7L, "E7"));
+
+    state.apply(CHANGE, false, DEPARTMENTS);
+    assertEquals(new EmployeeDto(7L, "김철수", "a@example.com", "E7", 1L, "개발팀", "사원",
+        LocalDate.of(2020, 1, 2), EmployeeStatus.ACTIVE, null), state.toDto(7L, "E7"));
+  }
+
+  @Test
+  void apply_renamedDepartment_keepsNameWithoutId() {
+    EmployeeState state = new EmployeeState("김철수", null, 1L, "개발팀", null, null,
+        EmployeeStatus.ACTIVE);
+
+    state.apply(List.of(DiffEntry.of("부서", "개발팀", "옛이름팀")), true, DEPARTMENTS);
+
+    assertEquals(null, state.getDepartmentId());
+    assertEquals("옛이름팀", state.getDepartmentName());
+  }
+
+  @Test
+  void ofDeleted_usesBeforeValuesAndResolvesDepartment() {
+    EmployeeState state = EmployeeState.ofDeleted(List.of(
+        DiffEntry.of("이름", "김철수", null),
+        DiffEntry.of("부서명", "기획팀", null),
+        DiffEntry.of("입사일", "2020-01-02", null),
+        DiffEntry.of("상태", "RESIGNED", null)));
+    state.resolveDepartmentId(DEPARTMENTS);
+
+    assertEquals(new EmployeeDto(3L, "김철수", null, "E3", 2L, "기획팀", null,
+        LocalDate.of(2020, 1, 2), EmployeeStatus.RESIGNED, null), state.toDto(3L, "E3"));
+  }
+
+  @Test
+  void json_readsBaselineSnapshotWrittenBySchemaSql() throws Exception {
+    // schema.sql 의 jsonb_build_object 기준 스냅샷과 같은 형식
+    String json = """
+        {"name": "김철수", "email": "a@example.com", "departmentId": null, "departmentName": null,
+         "position": "사원", "hireDate": "2020-01-02", "status": "ACTIVE"}
+        """;
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    EmployeeState state = objectMapper.readValue(json, EmployeeState.class);
+
+    assertEquals(new EmployeeDto(1L, "김철수", "a@example.com", "E1", null, null, "사원",
+        LocalDate.of(2020, 1, 2), EmployeeStatus.ACTIVE, null), state.toDto(1L, "E1"));
+    assertEquals(state.toDto(1L, "E1"), objectMapper.readValue(
+        objectMapper.writeValueAsString(state), EmployeeState.class).toDto(1L, "E1"));
+  }
+}
@@ -0,0 +1,265 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.common.pagination.KeysetCursor;
+import com.team11.hrbank.module.common.util.HangulInitials;
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.NameSearchMode;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인메모리 검색 인덱스 - 추가/수정/삭제 후 검색/count 결과가 전체 순회(참조 구현)와 같은지
+ */
+class EmployeeSearchIndexTest {
+
+  private static final String SYLLABLES = "김이박최철수민영희지";
+  private static final String LETTERS = "abcde";
+  private static final List<String> POSITIONS = List.of("사원", "대리", "과장", "부장");
+  private static final List<String> DEPARTMENTS = List.of("개발팀", "개발지원팀", "인사팀", "영업팀");
+  private static final List<String> SORT_FIELDS = List.of("name", "employeeNumber", "hireDate");
+
+  private final Random random = new Random(20240101);
+  private final Map<Long, EmployeeDto> reference = new HashMap<>();
+  private long nextId = 1;
+
+  @Test
+  void search_afterRandomChanges_matchesReferenceScan() {
+    List<EmployeeDto> initial = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      EmployeeDto employee = randomEmployee(nextId++);
+      initial.add(employee);
+      reference.put(employee.id(), employee);
+    }
+    EmployeeSearchIndex index = new EmployeeSearchIndex(initial);
+
+    for (int i = 0; i < 600; i++) {
+      int op = random.nextInt(3);
+      if (op == 0 || reference.isEmpty()) {
+        EmployeeDto employee = randomEmployee(nextId++);
+        index.upsert(employee);
+        reference.put(employee.id(), employee);
+      } else {
+        long id = randomExistingId();
+        if (op == 1) {
+          EmployeeDto employee = randomEmployee(id);
+          index.upsert(employee);
+          reference.put(id, employee);
+        } else {
+          index.remove(id);
+          reference.remove(id);
+        }
+      }
+    }
+    // 없는 직원 삭제는 무시
+    index.remove(nextId + 100);
+
+    assertEquals(reference.size(), index.size());
+    assertMatchesReference(index);
+    // 재생성한 인덱스도 같은 결과
+    assertMatchesReference(new EmployeeSearchIndex(index.liveRows()));
+  }
+
+  @Test
+  void search_shortTerms_matchAnywhereInValue() {
+    EmployeeDto kim = employee(1L, "김철수", "kim@example.com");
+    EmployeeDto lee = employee(2L, "이철민", "lee@example.com");
+    EmployeeDto park = employee(3L, "박수", "park@example.com");
+    EmployeeSearchIndex index = new EmployeeSearchIndex(List.of(kim, lee, park));
+
+    assertEquals(List.of(kim, lee), search(index, "철"));
+    assertEquals(List.of(kim), search(index, "철수"));
+    assertEquals(List.of(kim, park), search(index, "수"));
+    assertEquals(List.of(lee), search(index, "ee"));
+    assertEquals(List.of(), search(index, "수김"));
+    assertEquals(List.of(), search(index, "z"));
+  }
+
+  @Test
+  void search_initialConsonants_matchNamePrefix() {
+    EmployeeDto kim = employee(1L, "김태희", "kim@example.com");
+    EmployeeDto kang = employee(2L, "강태오", "kang@example.com");
+    EmployeeDto lee = employee(3L, "이태희", "lee@example.com");
+    EmployeeSearchIndex index = new EmployeeSearchIndex(List.of(kim, kang, lee));
+
+    EmployeeSearchCriteria criteria = new EmployeeSearchCriteria("ㄱㅌ", NameSearchMode.INITIAL,
+        null, null, null, null, null, null);
+    assertEquals(List.of(kang, kim), index.search(criteria, null, 10, "name", true));
+    assertEquals(2, index.count(criteria));
+  }
+
+  private void assertMatchesReference(EmployeeSearchIndex index) {
+    for (int i = 0; i < 300; i++) {
+      EmployeeSearchCriteria criteria = randomCriteria();
+      String sortField = SORT_FIELDS.get(random.nextInt(SORT_FIELDS.size()));
+      boolean ascending = random.nextBoolean();
+      List<EmployeeDto> expected = reference.values().stream()
+          .filter(employee -> matches(employee, criteria))
+          .sorted(order(sortField, ascending))
+          .toList();
+
+      assertEquals(expected.size(), index.count(criteria), criteria::toString);
+      assertEquals(expected, searchAllPages(index, criteria, sortField, ascending),
+          () -> criteria + " " + sortField + " " + ascending);
+    }
+  }
+
+  // 커서로 끝까지 넘기며 모은 결과
+  private static List<EmployeeDto> searchAllPages(EmployeeSearchIndex index,
+      EmployeeSearchCriteria criteria, String sortField, boolean ascending) {
+    List<EmployeeDto> all = new ArrayList<>();
+    KeysetCursor cursor = null;
+    while (true) {
+      List<EmployeeDto> page = index.search(criteria, cursor, 7, sortField, ascending);
+      all.addAll(page);
+      if (page.size() < 7) {
+        return all;
+      }
+      EmployeeDto last = page.get(page.size() - 1);
+      cursor = new KeysetCursor(sortField, ascending,
+          KeysetCursor.format(sortValue(last, sortField)), null, last.id());
+    }
+  }
+
+  private static List<EmployeeDto> search(EmployeeSearchIndex index, String nameOrEmail) {
+    EmployeeSearchCriteria criteria = new EmployeeSearchCriteria(nameOrEmail,
+        NameSearchMode.CONTAINS, null, null, null, null, null, null);
+    return index.search(criteria, null, 10, "name", true);
+  }
+
+  // ---- 참조 구현 ----
+
+  private static boolean matches(EmployeeDto employee, EmployeeSearchCriteria criteria) {
+    if (criteria.initialSearch()) {
+      if (!HangulInitials.matchesPrefix(employee.name(), criteria.nameOrEmail())) {
+        return false;
+      }
+    } else if (criteria.nameOrEmail() != null
+        && !contains(employee.name(), criteria.nameOrEmail())
+        && !contains(employee.email(), criteria.nameOrEmail())) {
+      return false;
+    }
+    return (criteria.employeeNumber() == null
+            || contains(employee.employeeNumber(), criteria.employeeNumber()))
+        && (criteria.departmentName() == null
+            || contains(employee.departmentName(), criteria.departmentName()))
+        && (criteria.position() == null || contains(employee.position(), criteria.position()))
+        && (criteria.hireDateFrom() == null
+            || !employee.hireDate().isBefore(criteria.hireDateFrom()))
+        && (criteria.hireDateTo() == null || !employee.hireDate().isAfter(criteria.hireDateTo()))
+        && (criteria.status() == null || employee.status() == criteria.status());
+  }
+
+  private static boolean contains(String value, String term) {
+    return value != null && value.contains(term);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Comparator<EmployeeDto> order(String sortField, boolean ascending) {
+    Comparator<EmployeeDto> order = Comparator.comparing(
+        employee -> (Comparable) sortValue(employee, sortField),
+        Comparator.nullsFirst(Comparator.naturalOrder()));
+    order = order.thenComparing(EmployeeDto::id);
+    return ascending ? order : order.reversed();
+  }
+
+  private static Object sortValue(EmployeeDto employee, String sortField) {
+    return switch (sortField) {
+      case "employeeNumber" -> employee.employeeNumber();
+      case "hireDate" -> employee.hireDate();
+      default -> employee.name();
+    };
+  }
+
+  // ---- 무작위 데이터 ----
+
+  private EmployeeSearchCriteria randomCriteria() {
+    String nameOrEmail = null;
+    NameSearchMode mode = NameSearchMode.CONTAINS;
+    switch (random.nextInt(4)) {
+      case 0 -> nameOrEmail = term(randomExisting().name());
+      case 1 -> nameOrEmail = term(randomExisting().email());
+      case 2 -> {
+        String name = randomExisting().name();
+        nameOrEmail = HangulInitials.initials(name.substring(0, 1 + random.nextInt(2)));
+        mode = NameSearchMode.INITIAL;
+      }
+      default -> {
+      }
+    }
+    String employeeNumber = random.nextInt(4) == 0 ? term(randomExisting().employeeNumber()) : null;
+    String departmentName = random.nextInt(4) == 0 ? term(pick(DEPARTMENTS)) : null;
+    String position = random.nextInt(4) == 0 ? term(pick(POSITIONS)) : null;
+    LocalDate hireDateFrom = random.nextInt(4) == 0 ? randomDate() : null;
+    LocalDate hireDateTo = random.nextInt(4) == 0 ? randomDate() : null;
+    EmployeeStatus status = random.nextInt(4) == 0
+        ? EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)] : null;
+    return new EmployeeSearchCriteria(nameOrEmail, mode, employeeNumber, departmentName, position,
+        hireDateFrom, hireDateTo, status);
+  }
+
+  // 값의 일부(1~4글자) 또는 가끔 없는 문자열
+  private String term(String value) {
+    if (value == null || random.nextInt(10) == 0) {
+      return "없는값";
+    }
+    int length = Math.min(value.length(), 1 + random.nextInt(4));
+    int start = random.nextInt(value.length() - length + 1);
+    return value.substring(start, start + length);
+  }
+
+  private EmployeeDto randomEmployee(long id) {
+    boolean assigned = random.nextInt(10) > 0;
+    String department = pick(DEPARTMENTS);
+    return new EmployeeDto(id,
+        random.nextInt(20) == 0 ? null : randomString(SYLLABLES, 2 + random.nextInt(3)),
+        randomString(LETTERS, 2 + random.nextInt(4)) + "@example.com",
+        "EMP-" + random.nextInt(1000),
+        assigned ? (long) DEPARTMENTS.indexOf(department) + 1 : null,
+        assigned ? department : null,
+        pick(POSITIONS),
+        randomDate(),
+        EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)],
+        random.nextBoolean() ? id * 10 : null);
+  }
+
+  private EmployeeDto randomExisting() {
+    EmployeeDto employee = reference.get(randomExistingId());
+    return employee.name() != null ? employee : randomExisting();
+  }
+
+  private long randomExistingId() {
+    List<Long> ids = new ArrayList<>(reference.keySet());
+    return ids.get(random.nextInt(ids.size()));
+  }
+
+  private LocalDate randomDate() {
+    return LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500));
+  }
+
+  private String randomString(String alphabet, int length) {
+    StringBuilder value = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return value.toString();
+  }
+
+  private <T> T pick(List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static EmployeeDto employee(long id, String name, String email) {
+    return new EmployeeDto(id, name, email, "EMP-" + id, 1L, "개발팀", "사원",
+        LocalDate.of(2024, 1, 1), EmployeeStatus.ACTIVE, null);
+  }
+}
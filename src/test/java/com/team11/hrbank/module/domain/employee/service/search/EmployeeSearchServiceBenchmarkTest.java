@@ -0,0 +1,94 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.employee.service.EmployeeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직원 변경 반영 지연 시간 (커밋 후 리스너 안에서 걸리는 시간, DB 없음, 합성 데이터)
+ * - 실행: SEARCH_BENCHMARK=true ./gradlew test --tests '*EmployeeSearchServiceBenchmarkTest'
+ * - 직원 EMPLOYEE_COUNT 명 구축 후 한 명씩 UPDATES 회 수정하며 건당 반영 시간을 기록
+ *   (수정 사이 PAUSE_NANOS 만큼 쉬어 요청 간격을 흉내, 도중에 재생성 임계치를 여러 번 넘김)
+ * - p50 / p99 / p99.9 / 최대 지연과 재생성 횟수를 로그로 출력
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "SEARCH_BENCHMARK", matches = "true")
+class EmployeeSearchServiceBenchmarkTest {
+
+  private static final int EMPLOYEE_COUNT = 200_000;
+  private static final int UPDATES = 100_000;
+  private static final int DEPARTMENT_COUNT = 200;
+  private static final long PAUSE_NANOS = 200_000;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void applyLatency() {
+    Random random = new Random(1);
+    List<EmployeeDto> rows = new ArrayList<>(EMPLOYEE_COUNT);
+    for (long id = 1; id <= EMPLOYEE_COUNT; id++) {
+      rows.add(employee(id, random));
+    }
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(rows);
+    // 변경 이벤트 후 다시 읽는 직원 (이번 수정 내용)
+    EmployeeDto[] changed = new EmployeeDto[1];
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+        .thenAnswer(invocation -> List.of(changed[0]));
+
+    EmployeeSearchService service = new EmployeeSearchService(jdbcTemplate, transactionTemplate, 10_000);
+    service.load();
+
+    long[] latencies = new long[UPDATES];
+    int rebuilds = 0;
+    EmployeeSearchIndex previous = service.current();
+    for (int i = 0; i < UPDATES; i++) {
+      changed[0] = employee(1 + random.nextInt(EMPLOYEE_COUNT), random);
+      long started = System.nanoTime();
+      service.onEmployeeChanged(new EmployeeChangedEvent(List.of(changed[0].id())));
+      latencies[i] = System.nanoTime() - started;
+      LockSupport.parkNanos(PAUSE_NANOS);
+      if (service.current() != previous) {
+        previous = service.current();
+        rebuilds++;
+      }
+    }
+    Arrays.sort(latencies);
+
+    log.info("직원 {}명, 수정 {}회, 재생성 {}회 - p50 {} us, p99 {} us, p99.9 {} us, 최대 {} ms",
+        EMPLOYEE_COUNT, UPDATES, rebuilds,
+        latencies[UPDATES / 2] / 1_000, latencies[UPDATES * 99 / 100] / 1_000,
+        latencies[UPDATES * 999 / 1000] / 1_000,
+        String.format("%.1f", latencies[UPDATES - 1] / 1e6));
+  }
+
+  private static EmployeeDto employee(long id, Random random) {
+    return new EmployeeDto(id, "직원" + random.nextInt(1_000_000), "user" + id + "@example.com",
+        "EMP-" + id, (long) (1 + random.nextInt(DEPARTMENT_COUNT)),
+        "부서" + random.nextInt(DEPARTMENT_COUNT), "직함" + random.nextInt(50),
+        LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9000)),
+        EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)], null);
+  }
+}
@@ -0,0 +1,113 @@
+package com.team11.hrbank.module.domain.employee.service.search;
+
+import com.team11.hrbank.module.domain.employee.EmployeeStatus;
+import com.team11.hrbank.module.domain.employee.dto.EmployeeDto;
+import com.team11.hrbank.module.domain.employee.service.EmployeeChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 백그라운드 재생성 - 재생성 중 반영한 변경이 교체된 인덱스에도 남는지 (DB 는 메모리 맵으로 흉내)
+ */
+class EmployeeSearchServiceTest {
+
+  private static final int EMPLOYEE_COUNT = 5_000;
+
+  private final Random random = new Random(7);
+  private final Map<Long, EmployeeDto> database = new TreeMap<>();
+  private EmployeeSearchService service;
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void changesDuringBackgroundRebuild_areKept() throws InterruptedException {
+    for (long id = 1; id <= EMPLOYEE_COUNT; id++) {
+      database.put(id, employee(id));
+    }
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+        ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+        .thenReturn(new ArrayList<>(database.values()));
+    // 변경 이벤트 후 다시 읽기 (없으면 삭제된 직원)
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+        .thenAnswer(invocation -> {
+          Long[] ids = invocation.getArgument(2);
+          List<EmployeeDto> rows = new ArrayList<>();
+          for (Long id : ids) {
+            if (database.containsKey(id)) {
+              rows.add(database.get(id));
+            }
+          }
+          return rows;
+        });
+
+    service = new EmployeeSearchService(jdbcTemplate, transactionTemplate, 1_000);
+    service.load();
+    EmployeeSearchIndex initial = service.current();
+
+    // 재생성 임계치를 넘긴 뒤 교체될 때까지 계속 수정/삭제/추가
+    long nextId = EMPLOYEE_COUNT + 1;
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    int afterSwap = 0;
+    while (afterSwap < 100 && System.nanoTime() < deadline) {
+      long id;
+      int op = random.nextInt(10);
+      if (op == 0) {
+        id = nextId++;
+        database.put(id, employee(id));
+      } else {
+        id = 1 + random.nextInt(EMPLOYEE_COUNT);
+        if (op == 1) {
+          database.remove(id);
+        } else {
+          database.put(id, employee(id));
+        }
+      }
+      service.onEmployeeChanged(EmployeeChangedEvent.of(id));
+      if (service.current() != initial) {
+        afterSwap++;
+      }
+    }
+
+    assertNotSame(initial, service.current());
+    Map<Long, EmployeeDto> indexed = service.current().liveRows().stream()
+        .collect(Collectors.toMap(EmployeeDto::id, Function.identity(), (a, b) -> a, TreeMap::new));
+    assertEquals(database, indexed);
+    assertEquals(database.size(), service.current().size());
+  }
+
+  private EmployeeDto employee(long id) {
+    return new EmployeeDto(id, "직원" + random.nextInt(100_000), "user" + id + "@example.com",
+        "EMP-" + id, (long) (1 + random.nextInt(20)), "부서" + random.nextInt(20),
+        "직함" + random.nextInt(10), LocalDate.of(2010, 1, 1).plusDays(random.nextInt(5000)),
+        EmployeeStatus.values()[random.nextInt(EmployeeStatus.values().length)], null);
+  }
+}
@@ -0,0 +1,119 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import com.team11.hrbank.module.domain.file.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 프로필 이미지 저장/정리 - 디스크 먼저 저장, 실패 시 정리, 메타데이터 삭제는 커밋된 경우에만 실제 파일 삭제
+ */
+class FileServiceTest {
+
+  private static final byte[] CONTENT = "profile-image".getBytes();
+
+  @TempDir
+  private Path storageDir;
+
+  private FileTransactionService fileTransactionService;
+  private FileCleanupQueue fileCleanupQueue;
+  private FileService fileService;
+
+  @BeforeEach
+  void setUp() {
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setProfileImages(storageDir.resolve("profiles").toString());
+    fileTransactionService = mock(FileTransactionService.class);
+    fileCleanupQueue = new FileCleanupQueue(5);
+    fileService = new FileService(properties, fileTransactionService, fileCleanupQueue);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void stageFile_writesToDiskWithoutMetadata() throws IOException {
+    StagedFile staged = fileService.stageFile(image());
+
+    assertEquals("profile.png", staged.originalName());
+    assertEquals("png", staged.format());
+    assertEquals(CONTENT.length, staged.size());
+    assertArrayEquals(CONTENT, Files.readAllBytes(Paths.get(staged.filePath())));
+    verifyNoInteractions(fileTransactionService);
+  }
+
+  @Test
+  void discardStagedFile_deletesFileOnDrain() throws IOException {
+    StagedFile staged = fileService.stageFile(image());
+
+    fileService.discardStagedFile(staged);
+    fileService.discardStagedFile(null);
+    assertTrue(Files.exists(Paths.get(staged.filePath())));
+    fileCleanupQueue.drain();
+
+    assertFalse(Files.exists(Paths.get(staged.filePath())));
+    assertEquals(0, fileCleanupQueue.size());
+  }
+
+  @Test
+  void deleteFileAfterCommit_committed_deletesFile() throws IOException {
+    File file = storedFile();
+
+    TransactionSynchronizationManager.initSynchronization();
+    fileService.deleteFileAfterCommit(file);
+    verify(fileTransactionService).deleteFileEntity(file);
+    // 커밋 전에는 큐에 없음
+    assertEquals(0, fileCleanupQueue.size());
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    fileCleanupQueue.drain();
+
+    assertFalse(Files.exists(Paths.get(file.getFilePath())));
+  }
+
+  @Test
+  void deleteFileAfterCommit_rolledBack_keepsFile() throws IOException {
+    File file = storedFile();
+
+    TransactionSynchronizationManager.initSynchronization();
+    fileService.deleteFileAfterCommit(file);
+    TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    fileCleanupQueue.drain();
+
+    assertEquals(0, fileCleanupQueue.size());
+    assertTrue(Files.exists(Paths.get(file.getFilePath())));
+  }
+
+  private File storedFile() throws IOException {
+    StagedFile staged = fileService.stageFile(image());
+    File file = new File();
+    file.setFilePath(staged.filePath());
+    return file;
+  }
+
+  private static MockMultipartFile image() {
+    return new MockMultipartFile("profile", "profile.png", "image/png", CONTENT);
+  }
+}
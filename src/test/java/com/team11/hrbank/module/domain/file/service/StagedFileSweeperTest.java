@@ -0,0 +1,74 @@
+package com.team11.hrbank.module.domain.file.service;
+
+import com.team11.hrbank.module.common.config.FileStorageProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시작 시 고아 파일 정리 - 메타데이터가 없고 충분히 오래된 파일만 삭제
+ */
+class StagedFileSweeperTest {
+
+  @TempDir
+  private Path profileDir;
+
+  @Test
+  void sweep_deletesOnlyOldFilesWithoutMetadata() throws IOException {
+    Path orphan = file("orphan.png", 2);
+    Path stored = file("stored.png", 2);
+    // 다른 인스턴스가 아직 커밋하지 않은 업로드일 수 있음
+    Path recent = file("recent.png", 0);
+
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+        .thenReturn(List.of(stored.toString()));
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setProfileImages(profileDir.toString());
+    FileCleanupQueue queue = new FileCleanupQueue(5);
+    StagedFileSweeper sweeper = new StagedFileSweeper(properties, jdbcTemplate, queue, 3_600_000);
+
+    assertEquals(1, sweeper.sweep());
+    queue.drain();
+
+    assertFalse(Files.exists(orphan));
+    assertTrue(Files.exists(stored));
+    assertTrue(Files.exists(recent));
+  }
+
+  @Test
+  void sweep_missingDirectory_doesNothing() {
+    FileStorageProperties properties = new FileStorageProperties();
+    properties.setProfileImages(profileDir.resolve("missing").toString());
+    JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    StagedFileSweeper sweeper = new StagedFileSweeper(properties, jdbcTemplate,
+        new FileCleanupQueue(5), 0);
+
+    assertEquals(0, sweeper.sweep());
+  }
+
+  private Path file(String name, int hoursOld) throws IOException {
+    Path path = Files.writeString(profileDir.resolve(name), name);
+    Files.setLastModifiedTime(path,
+        FileTime.from(Instant.now().minus(hoursOld, ChronoUnit.HOURS)));
+    return path;
+  }
+}
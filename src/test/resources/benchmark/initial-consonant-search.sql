@@ -0,0 +1,71 @@
+-- 이름 초성 검색 벤치마크 (한글 이름 100만)
+-- 실행: psql -d <db> -f initial-consonant-search.sql > initial-consonant-search.out
+-- bench 스키마에 운영 테이블 구조만 복제해서 데이터 생성 (운영 데이터 영향 없음, schema.sql 적용 후 실행)
+-- before: 초성 키 인덱스 없이 이름을 그때그때 분해 / after: name_initials text_pattern_ops 인덱스 prefix 조회
+
+\timing on
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+-- name_initials generated column 포함
+CREATE TABLE bench.employees (LIKE public.employees INCLUDING DEFAULTS INCLUDING GENERATED);
+
+-- 성 20개 + 임의 음절 2개 (가~힣 전체에서 고르게)
+SELECT setseed(0.11);
+INSERT INTO bench.employees (id, name, email, employee_number, department_id, position, hire_date, status)
+SELECT g,
+       (ARRAY['김', '이', '박', '최', '정', '강', '조', '윤', '장', '임',
+              '한', '오', '서', '신', '권', '황', '안', '송', '류', '홍'])[1 + g % 20]
+           || chr(44032 + floor(random() * 11172)::int)
+           || chr(44032 + floor(random() * 11172)::int),
+       'user' || g || '@hrbank.com',
+       'EMP-2025-' || lpad(g::text, 8, '0'),
+       NULL,
+       (ARRAY['사원', '대리', '과장', '차장', '부장'])[1 + g % 5],
+       DATE '2010-01-01' + (g % 5000),
+       'ACTIVE'
+FROM generate_series(1, 1000000) AS g;
+
+CREATE INDEX ON bench.employees (name, id);
+ANALYZE bench.employees;
+
+SET search_path = bench;
+
+-- ===== before =====
+\echo '== before: 초성만 (ㄱㅌ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE public.hangul_initials(name) LIKE 'ㄱㅌ%' ORDER BY name, id LIMIT 11;
+\echo '== before: 완성형 + 초성 (김ㅌ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE public.hangul_initials(name) LIKE 'ㄱㅌ%' AND name LIKE '김_%'
+ORDER BY name, id LIMIT 11;
+\echo '== before: 완성형 + 초성 3글자 (김ㅌㅎ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE public.hangul_initials(name) LIKE 'ㄱㅌㅎ%' AND name LIKE '김__%'
+ORDER BY name, id LIMIT 11;
+
+-- ===== 인덱스 생성 (schema.sql 과 동일) =====
+CREATE INDEX ON employees (name_initials text_pattern_ops);
+ANALYZE bench.employees;
+
+-- ===== after (EmployeeRepositoryCustomImpl INITIAL 모드 조건과 동일) =====
+\echo '== after: 초성만 (ㄱㅌ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE name_initials LIKE 'ㄱㅌ%' AND name LIKE '__%' ORDER BY name, id LIMIT 11;
+\echo '== after: 완성형 + 초성 (김ㅌ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE name_initials LIKE 'ㄱㅌ%' AND name LIKE '김_%'
+ORDER BY name, id LIMIT 11;
+\echo '== after: 완성형 + 초성 3글자 (김ㅌㅎ) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees
+WHERE name_initials LIKE 'ㄱㅌㅎ%' AND name LIKE '김__%'
+ORDER BY name, id LIMIT 11;
+
+RESET search_path;
+DROP SCHEMA bench CASCADE;
@@ -0,0 +1,169 @@
+-- 부분 일치 검색 trigram 인덱스 벤치마크 (직원 100만 / 변경 이력 2,000만)
+-- 실행: psql -d <db> -f trigram-search.sql > trigram-search.out
+-- bench 스키마에 운영 테이블 구조만 복제해서 데이터 생성 (운영 데이터 영향 없음)
+-- 각 필터는 trigram GIN 인덱스 생성 전(before) / 후(after) 두 번 EXPLAIN ANALYZE
+-- before 에도 schema.sql 의 정렬용 btree 인덱스는 있으므로 두 결과의 차이는 GIN 인덱스 효과만 반영
+-- 검색어가 3자 미만이면 trigram 이 없어 GIN 인덱스를 쓰지 못함 (short 항목으로 확인)
+-- 마지막 ip sort 항목은 IP 정렬 네이티브 쿼리의 조건 형태만 비교 (GIN 인덱스는 있는 상태)
+-- 결과 기록: 항목별 before/after 의 Execution Time 과 사용한 plan node 를 PR 설명에 남김
+
+\timing on
+\set ON_ERROR_STOP on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.departments (LIKE public.departments INCLUDING DEFAULTS);
+CREATE TABLE bench.employees (LIKE public.employees INCLUDING DEFAULTS);
+CREATE TABLE bench.change_logs (LIKE public.change_logs INCLUDING DEFAULTS);
+
+INSERT INTO bench.departments (id, name, normalized_name, description, established_date, employee_count)
+SELECT g, '부서 ' || g, '부서' || g, 'Department description ' || md5(g::text), DATE '2000-01-01' + g, 0
+FROM generate_series(1, 200) AS g;
+
+INSERT INTO bench.employees (id, name, email, employee_number, department_id, position, hire_date, status)
+SELECT g,
+       (ARRAY['김', '이', '박', '최', '정', '강', '조', '윤'])[1 + g % 8]
+           || (ARRAY['민준', '서연', '도윤', '하은', '시우', '지유', '주원', '서윤'])[1 + (g / 8) % 8]
+           || g,
+       'user' || g || '@' || (ARRAY['hrbank.com', 'example.com', 'team11.io'])[1 + g % 3],
+       'EMP-2025-' || lpad(g::text, 8, '0'),
+       1 + g % 200,
+       (ARRAY['사원', '대리', '과장', '차장', '부장'])[1 + g % 5],
+       DATE '2010-01-01' + (g % 5000),
+       'ACTIVE'
+FROM generate_series(1, 1000000) AS g;
+
+INSERT INTO bench.change_logs (id, employee_id, employee_number, memo, ip_address, type, created_at)
+SELECT g,
+       1 + g % 1000000,
+       'EMP-2025-' || lpad((1 + g % 1000000)::text, 8, '0'),
+       (ARRAY['부서 이동', '직함 변경', '신규 입사', '정보 수정', '휴직 처리'])[1 + g % 5] || ' #' || (g % 10000),
+       ('10.' || (g % 256) || '.' || ((g / 256) % 256) || '.' || ((g / 65536) % 256))::inet,
+       (ARRAY['CREATED', 'UPDATED', 'DELETED'])[1 + g % 3],
+       TIMESTAMPTZ '2020-01-01' + (g || ' seconds')::interval
+FROM generate_series(1, 20000000) AS g;
+
+-- 운영 스키마에 이미 있는 정렬/keyset 용 btree 인덱스 (schema.sql 과 동일, 비교 기준에 포함)
+CREATE INDEX ON bench.employees (name, id);
+CREATE INDEX ON bench.employees (employee_number, id);
+CREATE INDEX ON bench.employees (hire_date, id);
+CREATE INDEX ON bench.departments (normalized_name, id);
+CREATE INDEX ON bench.departments (established_date, normalized_name, id);
+CREATE INDEX ON bench.change_logs (created_at, id);
+CREATE INDEX ON bench.change_logs (ip_address, id);
+CREATE INDEX ON bench.change_logs (employee_number, id);
+
+ANALYZE bench.departments;
+ANALYZE bench.employees;
+ANALYZE bench.change_logs;
+
+SET search_path = bench, public;
+
+-- ===== before =====
+\echo '== before: employees.name / email (nameOrEmail) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE name LIKE '%서연12%' OR email LIKE '%서연12%' ORDER BY name, id LIMIT 11;
+\echo '== before: employees.employee_number =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE employee_number LIKE '%00123%' ORDER BY name, id LIMIT 11;
+\echo '== before: departments lower(name/description) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM departments WHERE LOWER(name) LIKE '%부서 1%' OR LOWER(description) LIKE '%abc%';
+\echo '== before: change_logs.employee_number =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE employee_number LIKE '%0012345%' ORDER BY created_at DESC, id DESC LIMIT 11;
+\echo '== before: change_logs.memo =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE memo LIKE '%휴직 처리 #123%' ORDER BY created_at DESC, id DESC LIMIT 11;
+\echo '== before: change_logs host(ip_address) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE HOST(ip_address) LIKE '%.17.201%' ORDER BY created_at DESC, id DESC LIMIT 11;
+
+\echo '== before: short term (2자) employees.name =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE name LIKE '%서연%' ORDER BY name, id LIMIT 11;
+
+-- ===== trigram GIN 인덱스 생성 (schema.sql 과 동일, 측정 대상) =====
+CREATE INDEX ON employees USING gin (name gin_trgm_ops);
+CREATE INDEX ON employees USING gin (email gin_trgm_ops);
+CREATE INDEX ON employees USING gin (employee_number gin_trgm_ops);
+CREATE INDEX ON departments USING gin (LOWER(name) gin_trgm_ops);
+CREATE INDEX ON departments USING gin (LOWER(description) gin_trgm_ops);
+CREATE INDEX ON change_logs USING gin (employee_number gin_trgm_ops);
+CREATE INDEX ON change_logs USING gin (memo gin_trgm_ops);
+CREATE INDEX ON change_logs USING gin (HOST(ip_address) gin_trgm_ops);
+ANALYZE bench.departments;
+ANALYZE bench.employees;
+ANALYZE bench.change_logs;
+
+-- ===== after =====
+\echo '== after: employees.name / email (nameOrEmail) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE name LIKE '%서연12%' OR email LIKE '%서연12%' ORDER BY name, id LIMIT 11;
+\echo '== after: employees.employee_number =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE employee_number LIKE '%00123%' ORDER BY name, id LIMIT 11;
+\echo '== after: departments lower(name/description) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM departments WHERE LOWER(name) LIKE '%부서 1%' OR LOWER(description) LIKE '%abc%';
+\echo '== after: change_logs.employee_number =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE employee_number LIKE '%0012345%' ORDER BY created_at DESC, id DESC LIMIT 11;
+\echo '== after: change_logs.memo =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE memo LIKE '%휴직 처리 #123%' ORDER BY created_at DESC, id DESC LIMIT 11;
+\echo '== after: change_logs host(ip_address) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM change_logs WHERE HOST(ip_address) LIKE '%.17.201%' ORDER BY created_at DESC, id DESC LIMIT 11;
+\echo '== after: short term (2자) employees.name - GIN 미사용 예상 =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id FROM employees WHERE name LIKE '%서연%' ORDER BY name, id LIMIT 11;
+
+-- ===== IP 정렬 네이티브 쿼리: "(:x IS NULL OR ...)" 형태 vs 값이 있는 필터만 붙인 형태 =====
+-- JDBC prepared statement 가 generic plan 으로 바뀐 뒤를 흉내 (plan_cache_mode = force_generic_plan)
+-- generic plan 은 어떤 필터가 비어 있을지 모르므로 OR 조건을 인덱스 조건으로 쓰지 못함
+SET plan_cache_mode = force_generic_plan;
+PREPARE ip_sort_nullable(text, text, text, text, text, text, text, timestamptz, timestamptz, int) AS
+SELECT id FROM change_logs c
+WHERE ($1 IS NULL OR c.type = $1)
+  AND (c.created_at >= COALESCE($8, '-infinity'::timestamptz))
+  AND (c.created_at <= COALESCE($9, 'infinity'::timestamptz))
+  AND ($2 IS NULL OR c.employee_number LIKE $3)
+  AND ($4 IS NULL OR c.memo LIKE $5)
+  AND ($6 IS NULL OR host(c.ip_address) LIKE $7)
+ORDER BY c.ip_address DESC, c.id DESC
+LIMIT $10;
+PREPARE ip_sort_employee_number(text, int) AS
+SELECT id FROM change_logs c WHERE c.employee_number LIKE $1
+ORDER BY c.ip_address DESC, c.id DESC LIMIT $2;
+PREPARE ip_sort_memo(text, int) AS
+SELECT id FROM change_logs c WHERE c.memo LIKE $1
+ORDER BY c.ip_address DESC, c.id DESC LIMIT $2;
+PREPARE ip_sort_unfiltered(int) AS
+SELECT id FROM change_logs c ORDER BY c.ip_address DESC, c.id DESC LIMIT $1;
+
+\echo '== ip sort: employee_number - IS NULL OR (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_nullable(NULL, '0012345', '%0012345%', NULL, '%', NULL, '%', NULL, NULL, 11);
+\echo '== ip sort: employee_number - 동적 조건 (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_employee_number('%0012345%', 11);
+\echo '== ip sort: memo - IS NULL OR (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_nullable(NULL, NULL, '%', '휴직 처리 #123', '%휴직 처리 #123%', NULL, '%', NULL, NULL, 11);
+\echo '== ip sort: memo - 동적 조건 (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_memo('%휴직 처리 #123%', 11);
+\echo '== ip sort: 필터 없음 - IS NULL OR (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_nullable(NULL, NULL, '%', NULL, '%', NULL, '%', NULL, NULL, 11);
+\echo '== ip sort: 필터 없음 - 동적 조건 (generic) =='
+EXPLAIN (ANALYZE, BUFFERS)
+EXECUTE ip_sort_unfiltered(11);
+DEALLOCATE ALL;
+RESET plan_cache_mode;
+
+RESET search_path;
+DROP SCHEMA bench CASCADE;